@@ -0,0 +1,57 @@
+// Album and review reads at 5k concurrent connections, for comparing the platform and virtual thread modes:
+//   mvn spring-boot:run                      (platform threads)
+//   mvn -Pvirtual-threads spring-boot:run    (virtual threads, Java 21)
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=... -e PASSWORD=... load-test/albums-reviews.js
+// Compare http_req_duration percentiles and http_reqs between the two runs.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 5000);
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const login = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(login, { 'logged in': (r) => r.status === 200 });
+    const params = { headers: { Authorization: `Bearer ${login.json('accessToken')}` } };
+
+    const albums = http.get(`${BASE_URL}/albums/cursor`, params).json('content') || [];
+    if (albums.length === 0) {
+        throw new Error('No albums to read, seed the database first.');
+    }
+    return {
+        token: login.json('accessToken'),
+        albums: albums.map((album) => ({ id: album.id, slug: album.slug, artistSlug: album.artistSlug })),
+    };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const album = data.albums[Math.floor(Math.random() * data.albums.length)];
+
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/albums/cursor`, null, params],
+        ['GET', `${BASE_URL}/albums/${album.artistSlug}/${album.slug}`, null, params],
+        ['GET', `${BASE_URL}/reviews/albums/${album.id}/page/1`, null, params],
+        ['GET', `${BASE_URL}/reviews/cursor`, null, params],
+    ]);
+    responses.forEach((response) => check(response, { 'status 200': (r) => r.status === 200 }));
+}
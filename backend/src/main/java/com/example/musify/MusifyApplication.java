@@ -2,7 +2,10 @@ package com.example.musify;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
 @SpringBootApplication
+@EnableScheduling
 public class MusifyApplication {
 
 	public static void main(String[] args) {
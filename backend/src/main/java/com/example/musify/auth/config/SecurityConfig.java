@@ -2,9 +2,11 @@ package com.example.musify.auth.config;
 
 import com.example.musify.auth.filter.AuthTokenFilter;
 import com.example.musify.auth.service.AuthEntryPointJwt;
+import com.example.musify.auth.service.PooledPasswordEncoder;
 import com.example.musify.auth.service.UserDetailsServiceImpl;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -37,16 +39,21 @@ public class SecurityConfig {
     private final LogoutHandler logoutHandler;
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${ignacio.app.bcryptStrength:10}") int strength,
+            @Value("${ignacio.app.passwordHashingThreads:0}") int threads,
+            @Value("${ignacio.app.passwordHashingQueueCapacity:64}") int queueCapacity) {
+        // Defaults to one hashing thread per core, more would only make each hash slower.
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity);
     }
 
     @Bean
@@ -71,7 +78,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider) throws Exception {
         http.
                 csrf(AbstractHttpConfigurer::disable)
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(authEntryPointJwt))
@@ -86,11 +93,13 @@ public class SecurityConfig {
                                 "/artists/**", "/albums/**",
                                 "/users/**", "/genres/**",
                                 "/album-lists/**", "/album-ratings/**",
-                                "/reviews/**", "/followers/**"
+                                "/reviews/**", "/followers/**",
+                                "/search/**", "/autocomplete/**",
+                                "/recommendations/**", "/feed/**", "/charts/**"
                         )
                         .permitAll().anyRequest().authenticated()
                 );
-        http.authenticationProvider(authenticationProvider());
+        http.authenticationProvider(authenticationProvider);
         http.addFilterBefore(authTokenFilter, UsernamePasswordAuthenticationFilter.class)
                 .logout(logout ->
                         logout.logoutUrl("/auth/logout")
@@ -6,8 +6,8 @@ import com.example.musify.auth.dto.response.LoginDto;
 import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.auth.dto.response.TokenRefreshDto;
 import com.example.musify.auth.service.AuthenticationService;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.ConsumptionProbe;
+import com.example.musify.config.RateLimited;
+import com.example.musify.enumeration.ERateLimitGroup;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -26,15 +26,14 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 
 @Tag(name = "Authentication", description = "Endpoints related to user authentication.")
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
+@RateLimited(ERateLimitGroup.AUTH)
 public class AuthenticationController {
     private final AuthenticationService authenticationService;
-    private final Bucket bucket;
 
     @Operation(summary = "Register a user")
     @ApiResponses(value = {
@@ -88,20 +87,15 @@ public class AuthenticationController {
                     content = {@Content(
                             mediaType = "application/json", schema = @Schema(implementation = TokenRefreshDto.class))
                     }
-            )
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many requests.")
     })
     @PostMapping("/refresh-token")
     public ResponseEntity<TokenRefreshDto> refreshToken(
             HttpServletRequest request, HttpServletResponse response
     ) throws IOException {
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
-        if (probe.isConsumed()) {
-            return ResponseEntity.ok()
-                    .header("X-Rate-Limit-Remaining", Long.toString(probe.getRemainingTokens()))
-                    .body(authenticationService.refreshToken(request, response));
-        }
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-                .header("X-Rate-Limit-Retry-After-Milliseconds", Long.toString(TimeUnit.NANOSECONDS.toMillis(probe.getNanosToWaitForRefill())))
-                .build();
+        return ResponseEntity.ok(authenticationService.refreshToken(request, response));
     }
 }
@@ -1,7 +1,11 @@
 package com.example.musify.auth.filter;
 
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
 import com.example.musify.auth.service.UserDetailsServiceImpl;
 import com.example.musify.repository.TokenRepository;
+import com.example.musify.util.TokenUtils;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +28,8 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsServiceImpl userDetailsService;
     private final TokenRepository tokenRepository;
+    private final TokenPrincipalCache tokenPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(
@@ -37,20 +43,18 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         }
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = tokenPrincipalCache.get(jwt);
+            if (userDetails == null) {
+                userDetails = loadValidatedUser(jwt);
+            }
 
-            var isTokenValid = tokenRepository.findByToken(jwt)
-                    .map(t -> !t.isExpired() && !t.isRevoked())
-                    .orElse(false);
-            if (jwtService.isTokenValid(jwt, userDetails) && isTokenValid) {
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -64,4 +68,32 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails loadValidatedUser(String jwt) {
+        final long generation = tokenPrincipalCache.generation();
+        final Claims claims = jwtService.parseClaims(jwt);
+        final String userEmail = claims.getSubject();
+        // Refresh tokens are only good for new access tokens at /auth/refresh-token.
+        if (userEmail == null || !jwtService.isAccessToken(claims)) {
+            return null;
+        }
+
+        // Tokens carrying the session claims need neither the user nor the tokens table in MEMORY mode.
+        UserDetails userDetails = tokenRevocationService.validatesInMemory() ? jwtService.buildUserDetails(claims) : null;
+        boolean isTokenValid;
+        if (userDetails != null) {
+            isTokenValid = !tokenRevocationService.isRevoked(claims);
+        } else {
+            userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            isTokenValid = tokenRepository.findByTokenHash(TokenUtils.hash(jwt))
+                    .map(t -> !t.isExpired() && !t.isRevoked())
+                    .orElse(false);
+        }
+        if (!jwtService.isTokenValid(claims, userDetails) || !isTokenValid) {
+            return null;
+        }
+
+        tokenPrincipalCache.put(jwt, userDetails, claims.getExpiration().toInstant(), generation);
+        return userDetails;
+    }
 }
@@ -15,8 +15,11 @@ import com.example.musify.repository.RoleRepository;
 import com.example.musify.repository.TokenRepository;
 import com.example.musify.repository.UserRepository;
 import com.example.musify.service.IFileUploadService;
+import com.example.musify.util.TokenUtils;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -33,6 +36,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 
@@ -46,7 +50,9 @@ public class AuthenticationService {
     private final TokenRepository tokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final IFileUploadService fileUploadService;
+    private final TokenRevocationService tokenRevocationService;
 
+    @Transactional
     public MessageDto register(UserRegisterDto userRegisterDto, MultipartFile file) throws IOException {
         validateUser(userRegisterDto);
         User user = createUser(userRegisterDto, file);
@@ -69,10 +75,12 @@ public class AuthenticationService {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
 
         var user = userRepository.findByEmail(request.getEmail()).orElseThrow();
-        var jwt = jwtService.generateRefreshToken(userDetails);
+        int tokenVersion = tokenRevocationService.revokeAllUserTokens(user.getId());
         var refreshToken = jwtService.generateRefreshToken(userDetails);
+        Token storedRefreshToken = saveUserToken(user, refreshToken);
+        var jwt = jwtService.generateToken(
+                jwtService.sessionClaims(userDetails, tokenVersion, storedRefreshToken.getJti()), userDetails);
 
-        revokeAllUserTokens(user);
         saveUserToken(user, jwt);
 
         List<String> roles = userDetails.getAuthorities().stream()
@@ -100,14 +108,18 @@ public class AuthenticationService {
         }
 
         refreshToken = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(refreshToken);
+        Claims claims = jwtService.parseClaims(refreshToken);
+        userEmail = claims.getSubject();
 
-        if (userEmail != null) {
+        // Refresh tokens are stored like access tokens, so a logged-out or superseded one is refused in either
+        // revocation mode. Refreshing keeps the user's token version, which would otherwise revoke the refresh token
+        // itself.
+        if (userEmail != null && jwtService.isRefreshToken(claims) && isStoredTokenValid(refreshToken)) {
             var user = userRepository.findByEmail(userEmail).orElseThrow();
-            UserDetails userDetails = UserDetailsImpl.build(user);
-            if (jwtService.isTokenValid(refreshToken, userDetails)) {
-                var accessToken = jwtService.generateToken(userDetails);
-                revokeAllUserTokens(user);
+            UserDetailsImpl userDetails = UserDetailsImpl.build(user);
+            if (jwtService.isTokenValid(claims, userDetails)) {
+                var accessToken = jwtService.generateToken(jwtService.sessionClaims(userDetails,
+                        user.getTokenVersion(), UUID.fromString(claims.getId())), userDetails);
                 saveUserToken(user, accessToken);
                 return new TokenRefreshDto(accessToken, refreshToken);
             }
@@ -146,8 +158,7 @@ public class AuthenticationService {
                 .build();
 
         if (file != null) {
-            String imageUrl = fileUploadService.uploadUserImageFile(file);
-            user.setImageUrl(imageUrl);
+            fileUploadService.uploadUserImageFile(user, file);
         }
         return user;
     }
@@ -162,24 +173,22 @@ public class AuthenticationService {
         }
     }
 
-    private void revokeAllUserTokens(User user) {
-        var validUserTokens = tokenRepository.findAllValidTokensByUser(user.getId());
-        if (validUserTokens.isEmpty())
-            return;
-        validUserTokens.forEach(token -> {
-            token.setExpired(true);
-            token.setRevoked(true);
-        });
-        tokenRepository.saveAll(validUserTokens);
+    private boolean isStoredTokenValid(String jwtToken) {
+        return tokenRepository.findByTokenHash(TokenUtils.hash(jwtToken))
+                .map(token -> !token.isExpired() && !token.isRevoked())
+                .orElse(false);
     }
 
-    private void saveUserToken(User user, String jwtToken) {
+    private Token saveUserToken(User user, String jwtToken) {
+        Claims claims = jwtService.parseClaims(jwtToken);
         var token = Token.builder()
                 .user(user)
-                .token(jwtToken)
+                .tokenHash(TokenUtils.hash(jwtToken))
+                .jti(UUID.fromString(claims.getId()))
+                .expiresAt(claims.getExpiration().toInstant())
                 .expired(false)
                 .revoked(false)
                 .build();
-        tokenRepository.save(token);
+        return tokenRepository.save(token);
     }
 }
@@ -3,38 +3,96 @@ package com.example.musify.auth.service;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Function;
+import java.util.*;
 
 @Component
-@RequiredArgsConstructor
 public class JwtService {
-    @Value("${ignacio.app.jwtSecret}")
-    private String secretKey;
-    @Value("${ignacio.app.jwtExpirationMs}")
-    private Long jwtExpirationMs;
-    @Value("${ignacio.app.jwtRefreshExpirationMs}")
-    private Long refreshExpirationMs;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String REFRESH_TOKEN_ID_CLAIM = "rti";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private final Key signInKey;
+    private final JwtParser jwtParser;
+    private final Long jwtExpirationMs;
+    private final Long refreshExpirationMs;
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
+    public JwtService(@Value("${ignacio.app.jwtSecret}") String secretKey,
+                      @Value("${ignacio.app.jwtExpirationMs}") Long jwtExpirationMs,
+                      @Value("${ignacio.app.jwtRefreshExpirationMs}") Long refreshExpirationMs) {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.refreshExpirationMs = refreshExpirationMs;
+    }
+
+    public Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseClaims(token).getSubject();
+    }
+
+    // Enough of the user for the filter to authenticate without loading it, plus the version revoking all of the
+    // user's earlier tokens and the refresh token the access token was issued with, which logout revokes too.
+    public Map<String, Object> sessionClaims(UserDetailsImpl userDetails, int tokenVersion, UUID refreshTokenId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, userDetails.getId().toString());
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        claims.put(TOKEN_VERSION_CLAIM, tokenVersion);
+        claims.put(REFRESH_TOKEN_ID_CLAIM, refreshTokenId.toString());
+        return claims;
+    }
+
+    public boolean isAccessToken(Claims claims) {
+        return ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    // Also read from expired access tokens, so logging out with one still revokes its refresh token.
+    public UUID extractRefreshTokenId(String accessToken) {
+        Claims claims;
+        try {
+            claims = parseClaims(accessToken);
+        } catch (ExpiredJwtException e) {
+            claims = e.getClaims();
+        }
+        String refreshTokenId = claims.get(REFRESH_TOKEN_ID_CLAIM, String.class);
+        return refreshTokenId != null ? UUID.fromString(refreshTokenId) : null;
+    }
+
+    // Null for tokens issued without session claims, which have to be checked against the database.
+    public UserDetailsImpl buildUserDetails(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (userId == null || roles == null || claims.getId() == null) {
+            return null;
+        }
+
+        List<SimpleGrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
+        return new UserDetailsImpl(UUID.fromString(userId), null, claims.getSubject(), null, authorities);
     }
 
     public String generateToken(UserDetails userDetails){
@@ -42,46 +100,35 @@ public class JwtService {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims,userDetails,jwtExpirationMs);
+        return buildToken(extraClaims,userDetails,jwtExpirationMs,ACCESS_TOKEN_TYPE);
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
-        return buildToken(new HashMap<>(),userDetails,refreshExpirationMs);
+        return generateRefreshToken(new HashMap<>(), userDetails);
     }
 
-    private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, Long jwtExpirationMs) {
+    public String generateRefreshToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        return buildToken(extraClaims,userDetails,refreshExpirationMs,REFRESH_TOKEN_TYPE);
+    }
+
+    private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, Long jwtExpirationMs,
+                              String tokenType) {
         return Jwts.builder()
                 .setClaims(extraClaims)
+                .claim(TOKEN_TYPE_CLAIM, tokenType)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSignInKey(),SignatureAlgorithm.HS256)
+                .signWith(signInKey,SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails){
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token,Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return isTokenValid(parseClaims(token), userDetails);
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public boolean isTokenValid(Claims claims, UserDetails userDetails){
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 }
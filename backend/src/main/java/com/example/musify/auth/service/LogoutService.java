@@ -1,6 +1,8 @@
 package com.example.musify.auth.service;
 
+import com.example.musify.entity.Token;
 import com.example.musify.repository.TokenRepository;
+import com.example.musify.util.TokenUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -9,10 +11,15 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class LogoutService implements LogoutHandler {
     private final TokenRepository tokenRepository;
+    private final JwtService jwtService;
+    private final TokenPrincipalCache tokenPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void logout(
@@ -26,13 +33,24 @@ public class LogoutService implements LogoutHandler {
             return;
         }
         jwt = authHeader.substring(7);
-        var storedToken = tokenRepository.findByToken(jwt)
+        var storedToken = tokenRepository.findByTokenHash(TokenUtils.hash(jwt))
                 .orElse(null);
         if (storedToken != null) {
-            storedToken.setExpired(true);
-            storedToken.setRevoked(true);
-            tokenRepository.save(storedToken);
+            // Revoked before the eviction, so a request validating the token meanwhile cannot cache it again.
+            revoke(storedToken);
+            UUID refreshTokenId = jwtService.extractRefreshTokenId(jwt);
+            if (refreshTokenId != null) {
+                tokenRepository.findByJti(refreshTokenId).ifPresent(this::revoke);
+            }
+            tokenPrincipalCache.evict(jwt);
             SecurityContextHolder.clearContext();
         }
     }
+
+    private void revoke(Token token) {
+        token.setExpired(true);
+        token.setRevoked(true);
+        tokenRepository.save(token);
+        tokenRevocationService.revokeToken(token.getJti(), token.getExpiresAt());
+    }
 }
@@ -0,0 +1,69 @@
+package com.example.musify.auth.service;
+
+import com.example.musify.util.TokenUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TokenPrincipalCache {
+    private final Cache<String, CachedPrincipal> principals;
+    // Bumped before every eviction. A put whose validation started before an eviction is undone, so a token revoked
+    // while it was being validated is never cached.
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record CachedPrincipal(UserDetails userDetails, Instant tokenExpiresAt) {
+    }
+
+    public TokenPrincipalCache(@Value("${ignacio.app.authCacheMaxSize:10000}") long maxSize,
+                               @Value("${ignacio.app.authCacheTtlMs:60000}") long ttlMs) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    public UserDetails get(String token) {
+        String key = TokenUtils.hash(token);
+        CachedPrincipal cached = principals.getIfPresent(key);
+        if (cached == null) {
+            return null;
+        }
+
+        if (!cached.tokenExpiresAt().isAfter(Instant.now())) {
+            principals.invalidate(key);
+            return null;
+        }
+        return cached.userDetails();
+    }
+
+    // Read before validating the token and passed to put.
+    public long generation() {
+        return evictions.get();
+    }
+
+    public void put(String token, UserDetails userDetails, Instant tokenExpiresAt, long generation) {
+        String key = TokenUtils.hash(token);
+        principals.put(key, new CachedPrincipal(userDetails, tokenExpiresAt));
+        if (evictions.get() != generation) {
+            principals.invalidate(key);
+        }
+    }
+
+    public void evict(String token) {
+        evictions.incrementAndGet();
+        principals.invalidate(TokenUtils.hash(token));
+    }
+
+    public void evictAllByHash(Collection<String> tokenHashes) {
+        evictions.incrementAndGet();
+        principals.invalidateAll(tokenHashes);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.musify.auth.service;
+
+import com.example.musify.repository.TokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class TokenPurgeService {
+    private final TokenRepository tokenRepository;
+    private final int batchSize;
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenPurgeService.class);
+
+    public TokenPurgeService(TokenRepository tokenRepository,
+                             @Value("${ignacio.app.tokenPurgeBatchSize:10000}") int batchSize) {
+        this.tokenRepository = tokenRepository;
+        this.batchSize = batchSize;
+    }
+
+    // Each batch is its own short delete, so the purge never holds locks on a large part of the table.
+    @Scheduled(cron = "${ignacio.app.tokenPurgeCron:0 30 4 * * *}")
+    public long purgeExpiredTokens() {
+        Instant now = Instant.now();
+        Pageable batch = PageRequest.of(0, batchSize);
+        long purged = 0;
+        List<UUID> expiredIds;
+        do {
+            expiredIds = tokenRepository.findExpiredTokenIds(now, batch);
+            if (!expiredIds.isEmpty()) {
+                purged += tokenRepository.deleteByIdIn(expiredIds);
+            }
+        } while (expiredIds.size() == batchSize);
+
+        if (purged > 0) {
+            logger.info("Purged {} expired tokens.", purged);
+        }
+        return purged;
+    }
+}
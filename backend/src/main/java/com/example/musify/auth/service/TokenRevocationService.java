@@ -0,0 +1,208 @@
+package com.example.musify.auth.service;
+
+import com.example.musify.dto.response.RevokedTokenEntryDto;
+import com.example.musify.dto.response.UserRevocationEntryDto;
+import com.example.musify.enumeration.ETokenRevocationMode;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.repository.UserRepository;
+import com.example.musify.util.TransactionUtils;
+import io.jsonwebtoken.Claims;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Revocations kept in memory so the filter can validate tokens without the database in MEMORY mode. Single tokens
+// are revoked by jti, all of a user's tokens by raising the minimum token version the user's JWTs must carry.
+@Service
+public class TokenRevocationService {
+    private final TokenRepository tokenRepository;
+    private final UserRepository userRepository;
+    private final TokenPrincipalCache tokenPrincipalCache;
+    private final ETokenRevocationMode mode;
+    private final Duration maxTokenLifetime;
+    private final int expectedRevocations;
+
+    private final Map<UUID, Instant> revokedJtis = new ConcurrentHashMap<>();
+    private final Map<UUID, UserRevocation> userRevocations = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean loaded;
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private record UserRevocation(int minVersion, Instant until) {
+    }
+
+    public TokenRevocationService(TokenRepository tokenRepository,
+                                  UserRepository userRepository,
+                                  TokenPrincipalCache tokenPrincipalCache,
+                                  @Value("${ignacio.app.tokenRevocationMode:DATABASE}") ETokenRevocationMode mode,
+                                  @Value("${ignacio.app.jwtExpirationMs}") long jwtExpirationMs,
+                                  @Value("${ignacio.app.jwtRefreshExpirationMs}") long refreshExpirationMs,
+                                  @Value("${ignacio.app.tokenRevocationCapacity:100000}") int expectedRevocations) {
+        this.tokenRepository = tokenRepository;
+        this.userRepository = userRepository;
+        this.tokenPrincipalCache = tokenPrincipalCache;
+        this.mode = mode;
+        this.maxTokenLifetime = Duration.ofMillis(Math.max(jwtExpirationMs, refreshExpirationMs));
+        this.expectedRevocations = expectedRevocations;
+        this.bloomFilter = new BloomFilter(expectedRevocations);
+    }
+
+    // Until the revocations are loaded the filter keeps checking the database.
+    public boolean validatesInMemory() {
+        return mode == ETokenRevocationMode.MEMORY && loaded;
+    }
+
+    public boolean isRevoked(Claims claims) {
+        UserRevocation userRevocation = userRevocations.get(
+                UUID.fromString(claims.get(JwtService.USER_ID_CLAIM, String.class)));
+        Integer version = claims.get(JwtService.TOKEN_VERSION_CLAIM, Integer.class);
+        if (userRevocation != null && (version == null || version < userRevocation.minVersion())) {
+            return true;
+        }
+
+        UUID jti = UUID.fromString(claims.getId());
+        return bloomFilter.mightContain(jti) && revokedJtis.containsKey(jti);
+    }
+
+    // Row-locks the user until commit, so concurrent logins of the same user each see their own new version.
+    @Transactional
+    public int revokeAllUserTokens(UUID userId) {
+        List<String> validTokenHashes = tokenRepository.findValidTokenHashesByUser(userId);
+        if (!validTokenHashes.isEmpty()) {
+            tokenRepository.revokeAllByUser(userId);
+        }
+        userRepository.incrementTokenVersion(userId);
+        int tokenVersion = userRepository.findTokenVersion(userId);
+
+        Instant until = Instant.now().plus(maxTokenLifetime);
+        TransactionUtils.afterCommit(() -> {
+            userRevocations.merge(userId, new UserRevocation(tokenVersion, until), (current, revocation) ->
+                    current.minVersion() >= revocation.minVersion() ? current : revocation);
+            tokenPrincipalCache.evictAllByHash(validTokenHashes);
+        });
+        return tokenVersion;
+    }
+
+    public void revokeToken(UUID jti, Instant expiresAt) {
+        if (jti == null) {
+            return;
+        }
+
+        synchronized (this) {
+            // The exact set is written first, so a reader that sees the Bloom filter bits also finds the jti.
+            revokedJtis.put(jti, expiresAt);
+            if (revokedJtis.size() > bloomFilter.capacity()) {
+                bloomFilter = buildBloomFilter();
+            } else {
+                bloomFilter.add(jti);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant now = Instant.now();
+        List<RevokedTokenEntryDto> revokedTokens = tokenRepository.findRevokedTokenEntries(now);
+        List<UserRevocationEntryDto> revokedUsers = tokenRepository.findUserRevocationEntries(now);
+
+        synchronized (this) {
+            for (RevokedTokenEntryDto entry : revokedTokens) {
+                revokedJtis.put(entry.getJti(), entry.getExpiresAt());
+            }
+            // Every token the user still holds unrevoked was issued at the current version.
+            for (UserRevocationEntryDto entry : revokedUsers) {
+                userRevocations.merge(entry.getUserId(),
+                        new UserRevocation(entry.getTokenVersion(), entry.getExpiresAt()),
+                        (current, revocation) -> current.minVersion() >= revocation.minVersion() ? current : revocation);
+            }
+            bloomFilter = buildBloomFilter();
+        }
+        loaded = true;
+
+        logger.info("Loaded {} revoked tokens and {} revoked users.", revokedTokens.size(), revokedUsers.size());
+    }
+
+    // Bloom filters cannot forget, so the expired revocations are dropped by building a fresh one.
+    @Scheduled(fixedDelayString = "${ignacio.app.tokenRevocationPruneDelay:600000}")
+    public void prune() {
+        Instant now = Instant.now();
+        userRevocations.values().removeIf(revocation -> !revocation.until().isAfter(now));
+
+        synchronized (this) {
+            if (revokedJtis.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+                bloomFilter = buildBloomFilter();
+            }
+        }
+    }
+
+    private BloomFilter buildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revokedJtis.size() * 2));
+        revokedJtis.keySet().forEach(rebuilt::add);
+        return rebuilt;
+    }
+
+    // About 1% false positives at capacity with 10 bits and 7 probes per entry.
+    private static final class BloomFilter {
+        private static final int BITS_PER_ENTRY = 10;
+        private static final int PROBES = 7;
+
+        private final AtomicLongArray words;
+        private final int bits;
+        private final int capacity;
+
+        private BloomFilter(int capacity) {
+            this.capacity = Math.max(1, capacity);
+            this.bits = (int) Math.min(Integer.MAX_VALUE - 63L, (long) this.capacity * BITS_PER_ENTRY);
+            this.words = new AtomicLongArray((bits + 63) / 64);
+        }
+
+        private int capacity() {
+            return capacity;
+        }
+
+        private void add(UUID jti) {
+            long h1 = mix(jti.getMostSignificantBits());
+            long h2 = mix(jti.getLeastSignificantBits()) | 1;
+            for (int i = 0; i < PROBES; i++) {
+                int bit = (int) Math.floorMod(h1 + i * h2, (long) bits);
+                words.getAndAccumulate(bit >>> 6, 1L << bit, (word, mask) -> word | mask);
+            }
+        }
+
+        private boolean mightContain(UUID jti) {
+            long h1 = mix(jti.getMostSignificantBits());
+            long h2 = mix(jti.getLeastSignificantBits()) | 1;
+            for (int i = 0; i < PROBES; i++) {
+                int bit = (int) Math.floorMod(h1 + i * h2, (long) bits);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // MurmurHash3 finalizer.
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
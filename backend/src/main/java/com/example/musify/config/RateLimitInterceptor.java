@@ -0,0 +1,122 @@
+package com.example.musify.config;
+
+import com.example.musify.enumeration.ERateLimitGroup;
+import com.example.musify.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// One token bucket per client and group, keyed by the authenticated username or else the remote address. Limits
+// default per group and are overridden with ignacio.app.rateLimit.<group>.capacity and .periodMs, e.g.
+// ignacio.app.rateLimit.search.capacity=300.
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final Map<ERateLimitGroup, GroupLimiter> limiters = new EnumMap<>(ERateLimitGroup.class);
+
+    public RateLimitInterceptor(Environment environment,
+                                @Value("${ignacio.app.rateLimitMaxClients:100000}") long maxClients) {
+        for (ERateLimitGroup group : ERateLimitGroup.values()) {
+            String prefix = "ignacio.app.rateLimit." + group.name().toLowerCase() + ".";
+            long capacity = environment.getProperty(prefix + "capacity", Long.class, defaultCapacity(group));
+            long periodMs = environment.getProperty(prefix + "periodMs", Long.class, 60_000L);
+            limiters.put(group, new GroupLimiter(capacity, Duration.ofMillis(periodMs), maxClients));
+        }
+    }
+
+    private static long defaultCapacity(ERateLimitGroup group) {
+        return switch (group) {
+            case AUTH -> 10;
+            case WRITES -> 60;
+            case SEARCH -> 120;
+        };
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            rateLimited = handlerMethod.getBeanType().getAnnotation(RateLimited.class);
+        }
+        if (rateLimited == null) {
+            return true;
+        }
+
+        GroupLimiter limiter = limiters.get(rateLimited.value());
+        ConsumptionProbe probe = limiter.bucket(clientKey(request)).tryConsumeAndReturnRemaining(1);
+
+        response.setHeader("RateLimit-Limit", Long.toString(limiter.capacity()));
+        response.setHeader("RateLimit-Remaining", Long.toString(probe.getRemainingTokens()));
+        response.setHeader("RateLimit-Reset", Long.toString(toSeconds(probe.getNanosToWaitForReset())));
+        if (!probe.isConsumed()) {
+            response.setHeader("Retry-After", Long.toString(toSeconds(probe.getNanosToWaitForRefill())));
+            throw new TooManyRequestsException("Too many requests, try again later.");
+        }
+        return true;
+    }
+
+    // Behind a proxy the remote address is the client's only when forwarded headers are applied, see
+    // server.forward-headers-strategy.
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    // A client idle for a whole period is back to a full bucket, so dropping its bucket then loses nothing. The size
+    // bound keeps memory flat when many distinct clients show up; eviction favours the frequently seen keys, so a
+    // client hammering an endpoint keeps its drained bucket.
+    private static final class GroupLimiter {
+        private final long capacity;
+        private final Bandwidth bandwidth;
+        private final Cache<String, Bucket> buckets;
+
+        private GroupLimiter(long capacity, Duration period, long maxClients) {
+            this.capacity = capacity;
+            this.bandwidth = Bandwidth.classic(capacity, Refill.greedy(capacity, period));
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxClients)
+                    .expireAfterAccess(period)
+                    .build();
+        }
+
+        private long capacity() {
+            return capacity;
+        }
+
+        private Bucket bucket(String clientKey) {
+            return buckets.get(clientKey, key -> Bucket.builder().addLimit(bandwidth).build());
+        }
+    }
+}
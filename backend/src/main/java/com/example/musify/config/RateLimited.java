@@ -0,0 +1,15 @@
+package com.example.musify.config;
+
+import com.example.musify.enumeration.ERateLimitGroup;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Puts a controller or a single handler method in a rate limit group. A method annotation overrides the controller's.
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    ERateLimitGroup value();
+}
@@ -1,13 +1,16 @@
 package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
+import com.example.musify.config.RateLimited;
 import com.example.musify.dto.request.CreateAlbumDto;
 import com.example.musify.dto.request.RateAlbumDto;
 import com.example.musify.dto.request.UpdateAlbumDto;
 import com.example.musify.dto.request.UserIdDto;
 import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.RecentAlbumDto;
+import com.example.musify.enumeration.ERateLimitGroup;
 import com.example.musify.service.IAlbumService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -54,6 +57,27 @@ public class AlbumController {
         return ResponseEntity.ok(albumService.getAlbums(page));
     }
 
+    @Operation(summary = "Get a cursor page containing all albums.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved a cursor page containing all albums.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageDto.class,
+                                    subTypes = {AlbumDto.class}))
+                    }),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor."
+            )
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<AlbumDto>> getAlbumsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(albumService.getAlbumsByCursor(cursor, includeTotal));
+    }
+
     @Operation(summary = "Get most recent albums.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
@@ -141,6 +165,7 @@ public class AlbumController {
                     description = "Artist not found.")
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @RateLimited(ERateLimitGroup.WRITES)
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<AlbumDto> createAlbum(
             @RequestPart("album") @Parameter(schema = @Schema(type = "string", format = "binary")) @Valid
@@ -166,6 +191,7 @@ public class AlbumController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @RateLimited(ERateLimitGroup.WRITES)
     @PutMapping(value = "/{albumId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<AlbumDto> updateAlbum(
             @PathVariable("albumId") UUID albumId,
@@ -190,6 +216,7 @@ public class AlbumController {
                     description = "Album not found."
             )
     })
+    @RateLimited(ERateLimitGroup.WRITES)
     @PutMapping("/rate/{albumId}")
     public ResponseEntity<AlbumDto> rateAlbum(
             @RequestBody @Valid RateAlbumDto rateAlbumDto,
@@ -198,6 +225,32 @@ public class AlbumController {
         return ResponseEntity.ok(albumService.rateAlbum(rateAlbumDto, albumId));
     }
 
+    @Operation(summary = "Remove a rating from an album.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Removed a rating from an album.",
+                    content = {@Content(
+                            mediaType = "application/json", schema = @Schema(implementation = AlbumDto.class))
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Album not found."
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Album rating not found."
+            )
+    })
+    @RateLimited(ERateLimitGroup.WRITES)
+    @DeleteMapping("/rate/{albumId}")
+    public ResponseEntity<AlbumDto> deleteAlbumRating(
+            @PathVariable("albumId") UUID albumId
+    ) {
+        return ResponseEntity.ok(albumService.deleteAlbumRating(albumId));
+    }
+
     @Operation(summary = "Add an album to a list.")
     @ApiResponses(value = {
             @ApiResponse(
@@ -217,6 +270,7 @@ public class AlbumController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN') or #request.id == authentication.principal.id")
+    @RateLimited(ERateLimitGroup.WRITES)
     @PostMapping("/add/{listId}/{albumId}")
     public ResponseEntity<MessageDto> addAlbumToList(
             @PathVariable("listId") UUID listId,
@@ -245,6 +299,7 @@ public class AlbumController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN') or #request.id == authentication.principal.id")
+    @RateLimited(ERateLimitGroup.WRITES)
     @DeleteMapping("/remove/{listId}/{albumId}")
     public ResponseEntity<MessageDto> removeAlbumFromList(
             @PathVariable("listId") UUID listId,
@@ -269,6 +324,7 @@ public class AlbumController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @RateLimited(ERateLimitGroup.WRITES)
     @DeleteMapping("/{albumId}")
     public ResponseEntity<MessageDto> deleteAlbum(
             @PathVariable("albumId") UUID albumId) {
@@ -1,12 +1,14 @@
 package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
+import com.example.musify.config.RateLimited;
 import com.example.musify.dto.request.AlbumListUserIdDto;
 import com.example.musify.dto.request.CreateAlbumListDto;
 import com.example.musify.dto.request.UpdateAlbumListDto;
 import com.example.musify.dto.response.AlbumListDto;
 import com.example.musify.dto.response.AlbumListNameDto;
 import com.example.musify.dto.response.AlbumListsCountDto;
+import com.example.musify.enumeration.ERateLimitGroup;
 import com.example.musify.service.IAlbumListService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -99,6 +101,7 @@ public class AlbumListController {
                             schema = @Schema(implementation = AlbumListDto.class))
                     })
     })
+    @RateLimited(ERateLimitGroup.WRITES)
     @PostMapping
     public ResponseEntity<AlbumListDto> createAlbumList(
             @RequestBody @Valid CreateAlbumListDto request
@@ -119,6 +122,7 @@ public class AlbumListController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN') or #request.userId == authentication.principal.id")
+    @RateLimited(ERateLimitGroup.WRITES)
     @PutMapping("/{albumListId}")
     public ResponseEntity<AlbumListDto> updateAlbumList(
             @RequestBody @Valid UpdateAlbumListDto request,
@@ -140,6 +144,7 @@ public class AlbumListController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN') or #request.id == authentication.principal.id")
+    @RateLimited(ERateLimitGroup.WRITES)
     @DeleteMapping("/{albumListId}")
     public ResponseEntity<MessageDto> deleteAlbumList(
             @PathVariable("albumListId") UUID albumListId,
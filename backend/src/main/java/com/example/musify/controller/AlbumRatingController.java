@@ -1,24 +1,34 @@
 package com.example.musify.controller;
 
 
+import com.example.musify.config.RateLimited;
+import com.example.musify.dto.request.ImportAlbumRatingDto;
 import com.example.musify.dto.response.*;
+import com.example.musify.enumeration.ERateLimitGroup;
 import com.example.musify.service.IAlbumRatingService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.UUID;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 @Tag(name = "Album Rating", description = "Endpoints related to album ratings.")
@@ -28,6 +38,8 @@ import java.util.UUID;
 @PreAuthorize("hasRole('ROLE_USER')")
 public class AlbumRatingController {
     private final IAlbumRatingService albumRatingService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @Operation(summary = "Get an album rating.")
     @ApiResponses(value = {
@@ -132,4 +144,38 @@ public class AlbumRatingController {
     ) {
         return ResponseEntity.ok(albumRatingService.getAlbumRatingsByUserAndRating(username, rating));
     }
+
+    @Operation(summary = "Import album ratings in bulk.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Imported the album ratings, skipping duplicates and unknown users or albums.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AlbumRatingImportDto.class))
+                    })
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = ImportAlbumRatingDto.class))))
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @RateLimited(ERateLimitGroup.WRITES)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AlbumRatingImportDto> importAlbumRatings(HttpServletRequest request) throws IOException {
+        // The array is read one rating at a time while the service consumes it, so the body is never held in full.
+        try (MappingIterator<ImportAlbumRatingDto> ratings = objectMapper.readerFor(ImportAlbumRatingDto.class)
+                .readValues(request.getInputStream())) {
+            Stream<ImportAlbumRatingDto> stream = StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(ratings, Spliterator.ORDERED), false);
+            return ResponseEntity.ok(albumRatingService.importAlbumRatings(stream.peek(this::validate)));
+        } catch (RuntimeJsonMappingException ex) {
+            throw new IllegalArgumentException("Ratings must be a JSON array of ratings.");
+        }
+    }
+
+    private void validate(ImportAlbumRatingDto rating) {
+        Set<ConstraintViolation<ImportAlbumRatingDto>> violations = validator.validate(rating);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.iterator().next().getMessage());
+        }
+    }
 }
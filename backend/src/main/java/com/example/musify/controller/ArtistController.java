@@ -1,10 +1,13 @@
 package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
+import com.example.musify.config.RateLimited;
 import com.example.musify.dto.request.CreateArtistDto;
 import com.example.musify.dto.request.UpdateArtistDto;
 import com.example.musify.dto.response.*;
+import com.example.musify.enumeration.ERateLimitGroup;
 import com.example.musify.service.IArtistService;
+import com.example.musify.service.ISimilarArtistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,6 +34,7 @@ import java.util.*;
 @PreAuthorize("hasRole('ROLE_USER')")
 public class ArtistController {
     private final IArtistService artistService;
+    private final ISimilarArtistService similarArtistService;
 
     @Operation(summary = "Get a page containing all artists.")
     @ApiResponses(value = {
@@ -49,6 +53,27 @@ public class ArtistController {
         return ResponseEntity.ok(artistService.getArtists(page));
     }
 
+    @Operation(summary = "Get a cursor page containing all artists.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved a cursor page containing all artists.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageDto.class,
+                                    subTypes = {ArtistDto.class}))
+                    }),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor."
+            )
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<ArtistDto>> getArtistsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(artistService.getArtistsByCursor(cursor, includeTotal));
+    }
+
     @Operation(summary = "Get most recent artists.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
@@ -103,6 +128,27 @@ public class ArtistController {
         return ResponseEntity.ok(artistService.getArtist(artistSlug));
     }
 
+    @Operation(summary = "Get the artists most similar to an artist by shared genres and followers.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved the most similar artists.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = SimilarArtistDto.class))
+                    }),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Artist not found."
+            )
+    })
+    @GetMapping("/{artistSlug}/similar")
+    public ResponseEntity<List<SimilarArtistDto>> getSimilarArtists(
+            @PathVariable("artistSlug") String artistSlug,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(similarArtistService.getSimilarArtists(artistSlug, limit));
+    }
+
     @Operation(summary = "Create an artist.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201",
@@ -113,6 +159,7 @@ public class ArtistController {
                     })
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @RateLimited(ERateLimitGroup.WRITES)
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ArtistDto> createArtist(
             @RequestPart("artist") @Valid CreateArtistDto request,
@@ -137,6 +184,7 @@ public class ArtistController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @RateLimited(ERateLimitGroup.WRITES)
     @PutMapping(value = "/{artistId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ArtistDto> updateArtist(
             @PathVariable("artistId") UUID artistId,
@@ -161,6 +209,7 @@ public class ArtistController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @RateLimited(ERateLimitGroup.WRITES)
     @DeleteMapping("/{artistId}")
     public ResponseEntity<MessageDto> deleteArtist(
             @PathVariable("artistId") UUID artistId) {
@@ -0,0 +1,50 @@
+package com.example.musify.controller;
+
+import com.example.musify.config.RateLimited;
+import com.example.musify.dto.response.SuggestionDto;
+import com.example.musify.enumeration.ERateLimitGroup;
+import com.example.musify.enumeration.ESuggestionType;
+import com.example.musify.service.IAutocompleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Autocomplete", description = "Endpoints related to typeahead suggestions.")
+@RestController
+@RequestMapping("/autocomplete")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_USER')")
+@RateLimited(ERateLimitGroup.SEARCH)
+public class AutocompleteController {
+    private final IAutocompleteService autocompleteService;
+
+    @Operation(summary = "Suggest artists, albums and genres whose name or any word in it starts with the query, most popular first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved the most popular matching suggestions.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = SuggestionDto.class))
+                    })
+    })
+    @GetMapping
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam("q") String query,
+            @RequestParam(value = "type", required = false) ESuggestionType type,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(autocompleteService.suggest(query, type, limit));
+    }
+}
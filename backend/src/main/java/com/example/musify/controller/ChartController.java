@@ -0,0 +1,48 @@
+package com.example.musify.controller;
+
+import com.example.musify.dto.response.ChartAlbumDto;
+import com.example.musify.enumeration.EChartWindow;
+import com.example.musify.service.IChartService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Chart", description = "Endpoints related to the top rated album charts.")
+@RestController
+@RequestMapping("/charts")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_USER')")
+public class ChartController {
+    private final IChartService chartService;
+
+    @Operation(summary = "Get the top rated albums of the last week, month or all time, optionally by genre and origin country.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved the top rated albums.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = ChartAlbumDto.class))
+                    })
+    })
+    @GetMapping
+    public ResponseEntity<List<ChartAlbumDto>> getChart(
+            @RequestParam(value = "window", defaultValue = "ALL_TIME") EChartWindow window,
+            @RequestParam(value = "genre", required = false) String genre,
+            @RequestParam(value = "country", required = false) String country,
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(chartService.getChart(window, genre, country, limit));
+    }
+}
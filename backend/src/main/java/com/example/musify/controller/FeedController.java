@@ -0,0 +1,47 @@
+package com.example.musify.controller;
+
+import com.example.musify.dto.response.CursorPageDto;
+import com.example.musify.dto.response.FeedItemDto;
+import com.example.musify.service.IFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Feed", description = "Endpoints related to the activity feed of followed artists.")
+@RestController
+@RequestMapping("/feed")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_USER')")
+public class FeedController {
+    private final IFeedService feedService;
+
+    @Operation(summary = "Get a cursor page of new albums and reviews from the artists the current user follows.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved a cursor page of the current user's feed.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageDto.class,
+                                    subTypes = {FeedItemDto.class}))
+                    }),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor."
+            )
+    })
+    @GetMapping
+    public ResponseEntity<CursorPageDto<FeedItemDto>> getFeed(
+            @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        return ResponseEntity.ok(feedService.getFeed(cursor));
+    }
+}
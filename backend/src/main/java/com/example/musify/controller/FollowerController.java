@@ -1,8 +1,10 @@
 package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
+import com.example.musify.config.RateLimited;
 import com.example.musify.dto.response.FollowerDto;
 import com.example.musify.dto.response.FollowingArtistDto;
+import com.example.musify.enumeration.ERateLimitGroup;
 import com.example.musify.service.IFollowerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -100,6 +102,7 @@ public class FollowerController {
                             schema = @Schema(implementation = FollowerDto.class))
                     })
     })
+    @RateLimited(ERateLimitGroup.WRITES)
     @PostMapping("/follow/{artistId}")
     ResponseEntity<FollowerDto> followArtist(
             @PathVariable("artistId") UUID artistId
@@ -116,6 +119,7 @@ public class FollowerController {
                             schema = @Schema(implementation = FollowerDto.class))
                     })
     })
+    @RateLimited(ERateLimitGroup.WRITES)
     @DeleteMapping("/unfollow/{artistId}")
     ResponseEntity<MessageDto> unFollowArtist(
             @PathVariable("artistId") UUID artistId
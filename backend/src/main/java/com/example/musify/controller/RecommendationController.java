@@ -0,0 +1,59 @@
+package com.example.musify.controller;
+
+import com.example.musify.dto.response.RecommendedAlbumDto;
+import com.example.musify.service.IRecommendationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Recommendation", description = "Endpoints related to album recommendations.")
+@RestController
+@RequestMapping("/recommendations")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_USER')")
+public class RecommendationController {
+    private final IRecommendationService recommendationService;
+
+    @Operation(summary = "Get albums recommended to the current user from their ratings and followed artists.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved the albums recommended to the current user.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = RecommendedAlbumDto.class))
+                    })
+    })
+    @GetMapping
+    public ResponseEntity<List<RecommendedAlbumDto>> getRecommendations(
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(recommendationService.getRecommendations(limit));
+    }
+
+    @Operation(summary = "Get the albums most similarly rated to an album.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved the most similar albums.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = RecommendedAlbumDto.class))
+                    })
+    })
+    @GetMapping("/albums/{albumId}")
+    public ResponseEntity<List<RecommendedAlbumDto>> getSimilarAlbums(
+            @PathVariable("albumId") UUID albumId,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(recommendationService.getSimilarAlbums(albumId, limit));
+    }
+}
@@ -2,11 +2,14 @@ package com.example.musify.controller;
 
 
 import com.example.musify.auth.dto.response.MessageDto;
+import com.example.musify.config.RateLimited;
 import com.example.musify.dto.request.CreateReviewDto;
 import com.example.musify.dto.request.UpdateReviewDto;
 import com.example.musify.dto.request.UserIdDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.ReviewDto;
+import com.example.musify.enumeration.ERateLimitGroup;
 import com.example.musify.service.IReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -66,6 +69,27 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.getReviews(page));
     }
 
+    @Operation(summary = "Get a cursor page containing all reviews.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved a cursor page containing all reviews.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageDto.class,
+                                    subTypes = {ReviewDto.class}))
+                    }),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor."
+            )
+    })
+    @GetMapping("/cursor")
+    ResponseEntity<CursorPageDto<ReviewDto>> getReviewsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(reviewService.getReviewsByCursor(cursor, includeTotal));
+    }
+
     @Operation(summary = "Get a page containing all the reviews from an album.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
@@ -113,6 +137,7 @@ public class ReviewController {
                             schema = @Schema(implementation = ReviewDto.class))
                     })
     })
+    @RateLimited(ERateLimitGroup.WRITES)
     @PostMapping("/albums/{albumId}")
     ResponseEntity<ReviewDto> createReview(
             @RequestBody @Valid CreateReviewDto createReviewDto,
@@ -135,6 +160,7 @@ public class ReviewController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN') or #request.userId == authentication.principal.id")
+    @RateLimited(ERateLimitGroup.WRITES)
     @PutMapping("/{reviewId}")
     ResponseEntity<ReviewDto> updateReview(
             @RequestBody UpdateReviewDto request,
@@ -157,6 +183,7 @@ public class ReviewController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN') or #request.id == authentication.principal.id")
+    @RateLimited(ERateLimitGroup.WRITES)
     @DeleteMapping("/{reviewId}")
     ResponseEntity<MessageDto> deleteReview(
             @PathVariable("reviewId") UUID reviewId,
@@ -0,0 +1,48 @@
+package com.example.musify.controller;
+
+import com.example.musify.config.RateLimited;
+import com.example.musify.dto.response.SearchResultDto;
+import com.example.musify.enumeration.ERateLimitGroup;
+import com.example.musify.service.ISearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Search", description = "Endpoints related to full-text search.")
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_USER')")
+@RateLimited(ERateLimitGroup.SEARCH)
+public class SearchController {
+    private final ISearchService searchService;
+
+    @Operation(summary = "Search albums, artists and reviews, matching the last word as a prefix and tolerating one typo per word.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved the best matching albums, artists and reviews.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = SearchResultDto.class))
+                    })
+    })
+    @GetMapping
+    public ResponseEntity<List<SearchResultDto>> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(searchService.search(query, limit));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.musify.controller;
+
+import com.example.musify.dto.response.CacheStatsDto;
+import com.example.musify.dto.response.UploadStatsDto;
+import com.example.musify.service.ICatalogCacheService;
+import com.example.musify.service.IFileUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Stats", description = "Endpoints related to runtime statistics.")
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class StatsController {
+    private final ICatalogCacheService catalogCacheService;
+    private final IFileUploadService fileUploadService;
+
+    @Operation(summary = "Get hit, miss and eviction counters for the catalog caches.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved the catalog cache statistics.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(type = "array", implementation = CacheStatsDto.class))
+                    })
+    })
+    @GetMapping("/caches")
+    ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(catalogCacheService.getStats());
+    }
+
+    @Operation(summary = "Get upload counters, including content-hash deduplication hits and bytes avoided.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Retrieved the image upload statistics.",
+                    content = {@Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = UploadStatsDto.class))
+                    })
+    })
+    @GetMapping("/uploads")
+    ResponseEntity<UploadStatsDto> getUploadStats() {
+        return ResponseEntity.ok(fileUploadService.getStats());
+    }
+}
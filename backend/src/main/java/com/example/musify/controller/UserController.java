@@ -1,11 +1,13 @@
 package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
+import com.example.musify.config.RateLimited;
 import com.example.musify.dto.request.UpdatePasswordDto;
 import com.example.musify.dto.request.UpdateUserDto;
 import com.example.musify.dto.request.UserRoleDto;
 import com.example.musify.dto.response.UpdatedUserDto;
 import com.example.musify.dto.response.UserDto;
+import com.example.musify.enumeration.ERateLimitGroup;
 import com.example.musify.service.IUserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -78,6 +80,7 @@ public class UserController {
                             schema = @Schema(implementation = UpdatedUserDto.class))
                     })
     })
+    @RateLimited(ERateLimitGroup.WRITES)
     @PutMapping(value = "/update", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<UpdatedUserDto> updateUser(
             @RequestPart(value = "user", required = false) @Parameter(schema = @Schema(type = "string", format = "binary"))
@@ -104,6 +107,7 @@ public class UserController {
                     description = "Passwords don't match."
             )
     })
+    @RateLimited(ERateLimitGroup.WRITES)
     @PutMapping("/update-password")
     public ResponseEntity<MessageDto> updatePassword(
             @RequestBody UpdatePasswordDto request
@@ -125,6 +129,7 @@ public class UserController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @RateLimited(ERateLimitGroup.WRITES)
     @PutMapping("/{userId}/update-role")
     public ResponseEntity<UserDto> updateUserRole(
             @RequestBody @Valid UserRoleDto userRoleDto,
@@ -149,6 +154,7 @@ public class UserController {
             )
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @RateLimited(ERateLimitGroup.WRITES)
     @DeleteMapping("/{userId}")
     public ResponseEntity<MessageDto> deleteUser(
             @PathVariable("userId") UUID userId
@@ -0,0 +1,26 @@
+package com.example.musify.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportAlbumRatingDto {
+    @NotNull(message = "User id must not be null.")
+    private UUID userId;
+    @NotNull(message = "Album id must not be null.")
+    private UUID albumId;
+    @NotNull(message = "Rating must not be null.")
+    @DecimalMin(value = "0.5", message = "Rating must be at least 0.5")
+    @DecimalMax(value = "5.0", message = "Rating must be at most 5.0")
+    private Double rating;
+}
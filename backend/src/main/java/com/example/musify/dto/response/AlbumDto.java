@@ -1,12 +1,14 @@
 package com.example.musify.dto.response;
 
 import com.example.musify.entity.Genre;
+import com.example.musify.enumeration.EImageStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
@@ -21,9 +23,17 @@ public class AlbumDto {
     private Instant releaseDate;
     private Double rating;
     private String albumImage;
+    private EImageStatus imageStatus;
     private String slug;
     private Set<Genre> genres;
     private UUID artistId;
     private String artistName;
     private String artistSlug;
+
+    public AlbumDto(UUID id, String title, String originCountry, Instant releaseDate, Double rating,
+                    String albumImage, EImageStatus imageStatus, String slug, UUID artistId, String artistName,
+                    String artistSlug) {
+        this(id, title, originCountry, releaseDate, rating, albumImage, imageStatus, slug, new HashSet<>(),
+                artistId, artistName, artistSlug);
+    }
 }
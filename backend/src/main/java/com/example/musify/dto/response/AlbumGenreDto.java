@@ -0,0 +1,17 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AlbumGenreDto {
+    private UUID albumId;
+    private UUID genreId;
+    private String name;
+    private String slug;
+}
@@ -0,0 +1,16 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AlbumRatingImportDto {
+    private long received;
+    private long imported;
+    private long duplicates;
+    private long skipped;
+    private long albumsUpdated;
+}
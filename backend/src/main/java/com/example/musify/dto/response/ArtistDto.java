@@ -1,5 +1,6 @@
 package com.example.musify.dto.response;
 
+import com.example.musify.enumeration.EImageStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +20,7 @@ public class ArtistDto {
     private String slug;
     private String originCountry;
     private String image;
+    private EImageStatus imageStatus;
     private Year formedYear;
     private Set<GenreDto> artistGenres;
 }
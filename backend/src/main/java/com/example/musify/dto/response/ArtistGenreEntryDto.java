@@ -0,0 +1,15 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArtistGenreEntryDto {
+    private UUID artistId;
+    private UUID genreId;
+}
@@ -0,0 +1,23 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChartAlbumDto {
+    private UUID id;
+    private String title;
+    private String slug;
+    private String albumImage;
+    private String artistName;
+    private String artistSlug;
+    private String originCountry;
+    private Double rating;
+    private Long ratingCount;
+    private Double score;
+}
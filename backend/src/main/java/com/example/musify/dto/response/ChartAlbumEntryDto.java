@@ -0,0 +1,17 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChartAlbumEntryDto {
+    private UUID id;
+    private String originCountry;
+    private Double ratingSum;
+    private Long ratingCount;
+}
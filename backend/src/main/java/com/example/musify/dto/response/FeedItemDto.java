@@ -0,0 +1,31 @@
+package com.example.musify.dto.response;
+
+import com.example.musify.enumeration.EFeedEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedItemDto {
+    private UUID id;
+    private EFeedEventType type;
+    private Instant createdAt;
+    private UUID artistId;
+    private String artistName;
+    private String artistSlug;
+    private UUID albumId;
+    private String albumTitle;
+    private String albumSlug;
+    private String albumImage;
+    private UUID reviewId;
+    private String reviewTitle;
+    private Double reviewRating;
+    private String reviewerUsername;
+}
@@ -0,0 +1,16 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FollowEntryDto {
+    private UUID id;
+    private UUID userId;
+    private UUID artistId;
+}
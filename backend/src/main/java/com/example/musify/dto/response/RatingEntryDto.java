@@ -0,0 +1,18 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingEntryDto {
+    private UUID id;
+    private UUID userId;
+    private UUID albumId;
+    private UUID artistId;
+    private Double rating;
+}
@@ -0,0 +1,19 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecentRatingEntryDto {
+    private UUID id;
+    private UUID userId;
+    private UUID albumId;
+    private Double rating;
+    private Instant createdAt;
+}
@@ -1,5 +1,6 @@
 package com.example.musify.dto.response;
 
+import com.example.musify.enumeration.EImageStatus;
 import lombok.*;
 
 import java.time.Instant;
@@ -19,4 +20,15 @@ public class ReviewDto {
     private String userImage;
     private AlbumDto album;
     private Instant createdAt;
+
+    public ReviewDto(UUID id, String title, String content, Double rating,
+                     UUID userId, String username, String userImage,
+                     UUID albumId, String albumTitle, String albumOriginCountry, Instant albumReleaseDate,
+                     Double albumRating, String albumImage, EImageStatus albumImageStatus, String albumSlug,
+                     UUID artistId, String artistName, String artistSlug, Instant createdAt) {
+        this(id, title, content, rating, userId, username, userImage,
+                new AlbumDto(albumId, albumTitle, albumOriginCountry, albumReleaseDate, albumRating,
+                        albumImage, albumImageStatus, albumSlug, artistId, artistName, artistSlug),
+                createdAt);
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.musify.dto.response;
+
+import com.example.musify.enumeration.ESearchType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchResultDto {
+    private ESearchType type;
+    private UUID id;
+    private String title;
+    private String subtitle;
+    private String slug;
+    private String artistSlug;
+    private double score;
+}
@@ -0,0 +1,17 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SimilarArtistEntryDto {
+    private UUID artistId;
+    private UUID similarArtistId;
+    private Double score;
+    private Integer position;
+}
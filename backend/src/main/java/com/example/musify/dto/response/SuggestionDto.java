@@ -0,0 +1,20 @@
+package com.example.musify.dto.response;
+
+import com.example.musify.enumeration.ESuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SuggestionDto {
+    private ESuggestionType type;
+    private UUID id;
+    private String name;
+    private String slug;
+    private String artistSlug;
+    private Long popularity;
+}
@@ -1,5 +1,6 @@
 package com.example.musify.dto.response;
 
+import com.example.musify.enumeration.EImageStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,4 +12,5 @@ public class UpdatedUserDto {
     private String username;
     private String email;
     private String imageUrl;
+    private EImageStatus imageStatus;
 }
@@ -0,0 +1,17 @@
+package com.example.musify.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadStatsDto {
+    private long uploadCount;
+    private long dedupeHitCount;
+    private double dedupeHitRate;
+    private long bytesAvoided;
+    private long indexSize;
+    private int queuedUploads;
+}
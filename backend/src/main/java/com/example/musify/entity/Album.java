@@ -1,8 +1,10 @@
 package com.example.musify.entity;
 
+import com.example.musify.enumeration.EImageStatus;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -19,6 +21,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@BatchSize(size = 20)
 @Table(name = "albums")
 public class Album {
     @Id
@@ -29,11 +32,27 @@ public class Album {
     private Instant releaseDate;
     @Column(name = "image")
     private String image;
+    @Column(name = "image_thumbnail")
+    private String imageThumbnail;
+    @Column(name = "image_card")
+    private String imageCard;
+    @Column(name = "image_hash")
+    private String imageHash;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_status")
+    private EImageStatus imageStatus;
     @Column(name = "slug")
     private String slug;
     @Column(name = "origin_country")
     private String originCountry;
+    @Column(updatable = false)
     private Double rating;
+    @Builder.Default
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private Double ratingSum = 0.0;
+    @Builder.Default
+    @Column(name = "rating_count", nullable = false, updatable = false)
+    private Long ratingCount = 0L;
     @CreationTimestamp(source = SourceType.DB)
     @Column(updatable = false)
     private Instant createdAt;
@@ -43,7 +62,9 @@ public class Album {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Artist artist;
 
-    @ManyToMany(fetch = FetchType.EAGER, cascade = {
+    @Builder.Default
+    @BatchSize(size = 20)
+    @ManyToMany(fetch = FetchType.LAZY, cascade = {
             CascadeType.PERSIST,
             CascadeType.MERGE,
     })
@@ -52,6 +73,7 @@ public class Album {
             inverseJoinColumns = {@JoinColumn(name = "genre_id")})
     private Set<Genre> albumGenres = new HashSet<>();
 
+    @Builder.Default
     @ManyToMany(mappedBy = "albums")
     @JsonIgnore
     private Set<AlbumList> lists = new HashSet<>();
@@ -17,7 +17,11 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "album_ratings")
+@Table(name = "album_ratings", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"user_id", "album_id"})
+}, indexes = {
+        @Index(columnList = "created_at")
+})
 public class AlbumRating {
     @Id
     @GeneratedValue
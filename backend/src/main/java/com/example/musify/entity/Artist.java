@@ -1,7 +1,9 @@
 package com.example.musify.entity;
 
+import com.example.musify.enumeration.EImageStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.SourceType;
 
@@ -17,6 +19,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@BatchSize(size = 20)
 @Table(name = "artists")
 public class Artist {
     @Id
@@ -30,13 +33,24 @@ public class Artist {
     private Year formedYear;
     @Column(name = "image")
     private String image;
+    @Column(name = "image_thumbnail")
+    private String imageThumbnail;
+    @Column(name = "image_card")
+    private String imageCard;
+    @Column(name = "image_hash")
+    private String imageHash;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_status")
+    private EImageStatus imageStatus;
     @Column(name = "slug")
     private String slug;
     @CreationTimestamp(source = SourceType.DB)
     @Column(updatable = false)
     private Instant createdAt;
 
-    @ManyToMany(fetch = FetchType.EAGER,
+    @Builder.Default
+    @BatchSize(size = 20)
+    @ManyToMany(fetch = FetchType.LAZY,
             cascade = {
                     CascadeType.PERSIST,
                     CascadeType.MERGE
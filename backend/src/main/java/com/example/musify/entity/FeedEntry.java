@@ -0,0 +1,40 @@
+package com.example.musify.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "feed_entries", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"user_id", "event_id"})
+}, indexes = {
+        @Index(columnList = "user_id, created_at")
+})
+public class FeedEntry {
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private FeedEvent event;
+
+    // Copied from the event so a user's feed pages off a single index.
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
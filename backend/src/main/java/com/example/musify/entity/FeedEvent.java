@@ -0,0 +1,51 @@
+package com.example.musify.entity;
+
+import com.example.musify.enumeration.EFeedEventType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "feed_events", indexes = {
+        @Index(columnList = "artist_id, created_at")
+})
+public class FeedEvent {
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EFeedEventType type;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "artist_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Artist artist;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "album_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Album album;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Review review;
+
+    // False when the artist had too many followers to copy the event into their feeds.
+    @Column(name = "fanned_out", nullable = false)
+    private boolean fannedOut;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
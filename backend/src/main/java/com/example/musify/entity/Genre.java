@@ -24,6 +24,7 @@ public class Genre {
     @Column(name = "slug")
     private String slug;
 
+    @Builder.Default
     @ManyToMany(cascade = {
             CascadeType.PERSIST,
             CascadeType.MERGE
@@ -32,6 +33,7 @@ public class Genre {
     @JsonIgnore
     private Set<Artist> artists = new HashSet<>();
 
+    @Builder.Default
     @ManyToMany(cascade = {
             CascadeType.PERSIST,
             CascadeType.MERGE
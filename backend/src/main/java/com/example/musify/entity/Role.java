@@ -24,7 +24,8 @@ public class Role {
     @Enumerated(EnumType.STRING)
     private ERole name;
 
+    @Builder.Default
     @ManyToMany(mappedBy = "roles")
     @JsonIgnore
-    private Set<User> users =new HashSet<>();
+    private Set<User> users = new HashSet<>();
 }
@@ -0,0 +1,37 @@
+package com.example.musify.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "similar_artists", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"artist_id", "position"})
+})
+public class SimilarArtist {
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "artist_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Artist artist;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "similar_artist_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Artist similarArtist;
+
+    private Double score;
+
+    private Integer position;
+}
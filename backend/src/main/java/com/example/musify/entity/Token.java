@@ -5,6 +5,7 @@ import lombok.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Getter
@@ -13,17 +14,25 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "tokens")
+@Table(name = "tokens", indexes = {
+        @Index(columnList = "user_id"),
+        @Index(columnList = "expires_at")
+})
 public class Token {
     @Id
     @GeneratedValue
     private UUID id;
 
+    @Column(name = "token_hash", unique = true, nullable = false, length = 64)
+    public String tokenHash;
     @Column(unique = true)
-    public String token;
+    public UUID jti;
     public boolean revoked;
     public boolean expired;
 
+    @Column(name = "expires_at", nullable = false)
+    public Instant expiresAt;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     @OnDelete(action = OnDeleteAction.CASCADE)
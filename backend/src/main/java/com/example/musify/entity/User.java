@@ -1,7 +1,9 @@
 package com.example.musify.entity;
 
+import com.example.musify.enumeration.EImageStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.SourceType;
 
@@ -16,6 +18,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@BatchSize(size = 20)
 @Table(name = "users")
 public class User {
     @Id
@@ -28,11 +31,23 @@ public class User {
     private String password;
     @Column(name = "image_url")
     private String imageUrl;
+    @Column(name = "image_thumbnail_url")
+    private String imageThumbnailUrl;
+    @Column(name = "image_hash")
+    private String imageHash;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_status")
+    private EImageStatus imageStatus;
     @CreationTimestamp(source = SourceType.DB)
     @Column(updatable = false)
     private Instant createdAt;
+    @Builder.Default
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @Builder.Default
+    @BatchSize(size = 20)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
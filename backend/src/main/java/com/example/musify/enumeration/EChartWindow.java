@@ -0,0 +1,7 @@
+package com.example.musify.enumeration;
+
+public enum EChartWindow {
+    WEEK,
+    MONTH,
+    ALL_TIME
+}
@@ -0,0 +1,6 @@
+package com.example.musify.enumeration;
+
+public enum EFeedEventType {
+    NEW_ALBUM,
+    NEW_REVIEW
+}
@@ -0,0 +1,7 @@
+package com.example.musify.enumeration;
+
+public enum EImageStatus {
+    PENDING,
+    READY,
+    FAILED
+}
@@ -0,0 +1,17 @@
+package com.example.musify.enumeration;
+
+public enum EImageVariant {
+    THUMBNAIL(160),
+    CARD(480),
+    FULL(1600);
+
+    private final int maxSize;
+
+    EImageVariant(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.musify.enumeration;
+
+public enum ETokenRevocationMode {
+    DATABASE,
+    MEMORY
+}
@@ -0,0 +1,119 @@
+package com.example.musify.mapper;
+
+import com.example.musify.dto.response.*;
+import com.example.musify.entity.*;
+import com.example.musify.enumeration.ERole;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface DtoMapper {
+    @Mapping(target = "albumImage", source = "image")
+    @Mapping(target = "genres", source = "albumGenres")
+    @Mapping(target = "artistId", source = "artist.id")
+    @Mapping(target = "artistName", source = "artist.name")
+    @Mapping(target = "artistSlug", source = "artist.slug")
+    AlbumDto toAlbumDto(Album album);
+
+    @Named("toAlbumCardDto")
+    @Mapping(target = "albumImage", expression = "java(variantOrFull(album.getImageCard(), album.getImage()))")
+    @Mapping(target = "genres", source = "albumGenres")
+    @Mapping(target = "artistId", source = "artist.id")
+    @Mapping(target = "artistName", source = "artist.name")
+    @Mapping(target = "artistSlug", source = "artist.slug")
+    AlbumDto toAlbumCardDto(Album album);
+
+    @Mapping(target = "albumImage", expression = "java(variantOrFull(album.getImageCard(), album.getImage()))")
+    @Mapping(target = "genres", source = "albumGenres")
+    @Mapping(target = "artistName", source = "artist.name")
+    @Mapping(target = "artistSlug", source = "artist.slug")
+    RecentAlbumDto toRecentAlbumDto(Album album);
+
+    @Mapping(target = "albumSlug", source = "slug")
+    @Mapping(target = "image", expression = "java(variantOrFull(album.getImageCard(), album.getImage()))")
+    @Mapping(target = "artistName", source = "artist.name")
+    @Mapping(target = "artistSlug", source = "artist.slug")
+    ListAlbumDto toListAlbumDto(Album album);
+
+    ArtistDto toArtistDto(Artist artist);
+
+    @Named("toArtistCardDto")
+    @Mapping(target = "image", expression = "java(variantOrFull(artist.getImageCard(), artist.getImage()))")
+    ArtistDto toArtistCardDto(Artist artist);
+
+    @Mapping(target = "image", expression = "java(variantOrFull(artist.getImageCard(), artist.getImage()))")
+    RecentArtistDto toRecentArtistDto(Artist artist);
+
+    @Mapping(target = "image", expression = "java(variantOrFull(artist.getImageThumbnail(), artist.getImage()))")
+    FollowingArtistDto toFollowingArtistDto(Artist artist);
+
+    GenreDto toGenreDto(Genre genre);
+
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "username", source = "user.username")
+    AlbumListDto toAlbumListDto(AlbumList albumList);
+
+    AlbumListNameDto toAlbumListNameDto(AlbumList albumList);
+
+    @Mapping(target = "albumTitle", source = "album.title")
+    @Mapping(target = "artistName", source = "album.artist.name")
+    @Mapping(target = "albumImage", source = "album", qualifiedByName = "albumCardImage")
+    @Mapping(target = "albumSlug", source = "album.slug")
+    @Mapping(target = "artistSlug", source = "album.artist.slug")
+    @Mapping(target = "releaseDate", source = "album.releaseDate")
+    @Mapping(target = "ratedDate", source = "createdAt")
+    AlbumRatingCollectionDto toAlbumRatingCollectionDto(AlbumRating albumRating);
+
+    @Mapping(target = "albumTitle", source = "album.title")
+    @Mapping(target = "artistName", source = "album.artist.name")
+    @Mapping(target = "albumSlug", source = "album.slug")
+    @Mapping(target = "artistSlug", source = "album.artist.slug")
+    @Mapping(target = "albumImage", source = "album", qualifiedByName = "albumCardImage")
+    @Mapping(target = "releaseDate", source = "album.releaseDate")
+    AlbumRatingSummaryDto toAlbumRatingSummaryDto(AlbumRating albumRating);
+
+    @Mapping(target = "artistName", source = "album.artist.name")
+    @Mapping(target = "artistSlug", source = "album.artist.slug")
+    @Mapping(target = "albumTitle", source = "album.title")
+    @Mapping(target = "albumImage", source = "album", qualifiedByName = "albumThumbnailImage")
+    @Mapping(target = "albumSlug", source = "album.slug")
+    @Mapping(target = "username", source = "user.username")
+    @Mapping(target = "releaseDate", source = "album.releaseDate")
+    RecentAlbumRatingDto toRecentAlbumRatingDto(AlbumRating albumRating);
+
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "username", source = "user.username")
+    @Mapping(target = "userImage", source = "user", qualifiedByName = "userThumbnailImage")
+    @Mapping(target = "album", qualifiedByName = "toAlbumCardDto")
+    ReviewDto toReviewDto(Review review);
+
+    UserDto toUserDto(User user);
+
+    FollowerDto toFollowerDto(Follower follower);
+
+    default ERole toRoleName(Role role) {
+        return role.getName();
+    }
+
+    @Named("albumCardImage")
+    default String albumCardImage(Album album) {
+        return album != null ? variantOrFull(album.getImageCard(), album.getImage()) : null;
+    }
+
+    @Named("albumThumbnailImage")
+    default String albumThumbnailImage(Album album) {
+        return album != null ? variantOrFull(album.getImageThumbnail(), album.getImage()) : null;
+    }
+
+    @Named("userThumbnailImage")
+    default String userThumbnailImage(User user) {
+        return user != null ? variantOrFull(user.getImageThumbnailUrl(), user.getImageUrl()) : null;
+    }
+
+    // Images uploaded before variants were generated only have the full-size URL.
+    default String variantOrFull(String variant, String full) {
+        return variant != null ? variant : full;
+    }
+}
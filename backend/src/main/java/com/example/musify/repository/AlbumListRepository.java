@@ -2,6 +2,7 @@ package com.example.musify.repository;
 
 import com.example.musify.entity.AlbumList;
 import com.example.musify.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,6 +13,10 @@ import java.util.Optional;
 import java.util.UUID;
 
 public interface AlbumListRepository extends JpaRepository<AlbumList, UUID> {
+    @EntityGraph(attributePaths = {"user", "albums", "albums.artist"})
+    Optional<AlbumList> findById(UUID id);
+
+    @EntityGraph(attributePaths = {"user", "albums", "albums.artist"})
     @Query("SELECT DISTINCT al FROM AlbumList al WHERE al.user.id = :userId")
     List<AlbumList> findAlbumListsByUser(@Param("userId") UUID userId);
 
@@ -22,6 +27,7 @@ public interface AlbumListRepository extends JpaRepository<AlbumList, UUID> {
     @Query("DELETE FROM AlbumList al WHERE al.id = :id")
     void deleteAlbumList(@Param("id") UUID id);
 
+    @EntityGraph(attributePaths = {"albums", "albums.artist"})
     @Query("SELECT al FROM AlbumList al JOIN FETCH " +
             "al.user u WHERE al.name = :listName AND u.username = :username")
     Optional<AlbumList> findByNameAndUserUsername(@Param("listName") String listName, @Param("username") String username);
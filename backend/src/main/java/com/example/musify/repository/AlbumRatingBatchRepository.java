@@ -0,0 +1,9 @@
+package com.example.musify.repository;
+
+import com.example.musify.dto.request.ImportAlbumRatingDto;
+
+import java.util.List;
+
+public interface AlbumRatingBatchRepository {
+    int upsertRatings(List<ImportAlbumRatingDto> ratings);
+}
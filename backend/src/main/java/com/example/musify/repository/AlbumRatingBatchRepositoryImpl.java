@@ -0,0 +1,45 @@
+package com.example.musify.repository;
+
+import com.example.musify.dto.request.ImportAlbumRatingDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class AlbumRatingBatchRepositoryImpl implements AlbumRatingBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 1000;
+
+    // Standard MERGE runs on PostgreSQL 15+ and H2 alike. Callers hold the album row locks, which keeps concurrent
+    // writers from inserting the same (user, album) pair between the match and the insert.
+    private static final String UPSERT_RATING_SQL =
+            "MERGE INTO album_ratings ar " +
+            "USING (SELECT CAST(? AS uuid) AS id, CAST(? AS uuid) AS album_id, CAST(? AS uuid) AS user_id, " +
+            "CAST(? AS double precision) AS rating) r " +
+            "ON ar.user_id = r.user_id AND ar.album_id = r.album_id " +
+            "WHEN MATCHED THEN UPDATE SET rating = r.rating " +
+            "WHEN NOT MATCHED THEN INSERT (id, album_id, user_id, rating, created_at) " +
+            "VALUES (r.id, r.album_id, r.user_id, r.rating, CURRENT_TIMESTAMP)";
+
+    @Override
+    public int upsertRatings(List<ImportAlbumRatingDto> ratings) {
+        int[][] results = jdbcTemplate.batchUpdate(UPSERT_RATING_SQL, ratings, BATCH_SIZE, (ps, rating) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, rating.getAlbumId());
+            ps.setObject(3, rating.getUserId());
+            ps.setDouble(4, rating.getRating());
+        });
+
+        int written = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                written += count > 0 || count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+            }
+        }
+        return written;
+    }
+}
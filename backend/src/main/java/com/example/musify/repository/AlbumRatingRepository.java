@@ -1,18 +1,26 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.AlbumRatingAggregateDto;
+import com.example.musify.dto.response.AlbumRatingSummaryDto;
 import com.example.musify.dto.response.GenreAlbumCountDto;
+import com.example.musify.dto.response.RatingEntryDto;
+import com.example.musify.dto.response.RecentAlbumRatingDto;
+import com.example.musify.dto.response.RecentRatingEntryDto;
 import com.example.musify.entity.Album;
 import com.example.musify.entity.AlbumRating;
 import com.example.musify.entity.User;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
-public interface AlbumRatingRepository extends JpaRepository<AlbumRating, UUID> {
+public interface AlbumRatingRepository extends JpaRepository<AlbumRating, UUID>, AlbumRatingBatchRepository {
     @Query("SELECT ar from AlbumRating ar WHERE ar.album = :album and ar.user = :user")
     AlbumRating findByAlbumAndUser(@Param("album") Album album, @Param("user") User user);
 
@@ -22,20 +30,35 @@ public interface AlbumRatingRepository extends JpaRepository<AlbumRating, UUID>
     @Query("SELECT COUNT(ar) FROM AlbumRating ar WHERE ar.album = :album")
     Long countAlbumRatingsByAlbum(@Param("album") Album album);
 
+    @EntityGraph(attributePaths = {"album", "album.artist"})
     @Query("SELECT ar from AlbumRating ar WHERE ar.user.id = :userId ORDER BY ar.createdAt DESC")
     List<AlbumRating> findByUser(@Param("userId") UUID userId);
 
+    @Query("SELECT new com.example.musify.dto.response.AlbumRatingSummaryDto(ar.id, a.title, art.name, " +
+            "a.slug, art.slug, COALESCE(a.imageCard, a.image), a.releaseDate, ar.rating, ar.createdAt) " +
+            "FROM AlbumRating ar JOIN ar.album a JOIN a.artist art " +
+            "WHERE ar.user.id = :userId ORDER BY ar.createdAt DESC")
+    List<AlbumRatingSummaryDto> findSummariesByUser(@Param("userId") UUID userId);
+
     @Query("SELECT ar.rating from AlbumRating ar WHERE ar.user.id = :userId and ar.album.id = :albumId")
     Double findRatingByUserAndAlbum(@Param("userId") UUID userId, @Param("albumId") UUID albumId);
 
+    @EntityGraph(attributePaths = {"album", "album.artist"})
     @Query("SELECT ar FROM AlbumRating ar " +
             "WHERE ar.user.username = :username AND ar.rating = :rating " +
             "ORDER BY ar.album.title")
     List<AlbumRating> findByUserAndRating(@Param("username") String username, @Param("rating") Double rating);
 
+    @EntityGraph(attributePaths = {"user", "album", "album.artist"})
     @Query("SELECT ar FROM AlbumRating ar ORDER BY ar.createdAt DESC")
     List<AlbumRating> findMostRecentRatings(Pageable pageable);
 
+    @Query("SELECT new com.example.musify.dto.response.RecentAlbumRatingDto(ar.id, art.name, art.slug, " +
+            "a.title, COALESCE(a.imageThumbnail, a.image), a.slug, ar.rating, u.username, a.releaseDate, ar.createdAt) " +
+            "FROM AlbumRating ar JOIN ar.album a JOIN a.artist art JOIN ar.user u " +
+            "ORDER BY ar.createdAt DESC")
+    List<RecentAlbumRatingDto> findMostRecentRatingDtos(Pageable pageable);
+
     @Query("SELECT new com.example.musify.dto.response.GenreAlbumCountDto(g.name, COUNT(a.id)) " +
             "FROM AlbumRating ar " +
             "JOIN ar.album a " +
@@ -45,4 +68,55 @@ public interface AlbumRatingRepository extends JpaRepository<AlbumRating, UUID>
             "ORDER BY COUNT(a.id) DESC")
     List<GenreAlbumCountDto> getUserGenreOverview(@Param("username") String username, Pageable pageable);
 
+    // The stored sum is built up one delta at a time, so it only matches SUM() up to floating point rounding.
+    @Query("SELECT new com.example.musify.dto.response.AlbumRatingAggregateDto(a.id, COUNT(ar.id), COALESCE(SUM(ar.rating), 0.0)) " +
+            "FROM Album a " +
+            "LEFT JOIN AlbumRating ar ON ar.album = a " +
+            "GROUP BY a.id, a.ratingCount, a.ratingSum " +
+            "HAVING COUNT(ar.id) <> a.ratingCount OR ABS(COALESCE(SUM(ar.rating), 0.0) - a.ratingSum) > 0.000001")
+    List<AlbumRatingAggregateDto> findMismatchedRatingAggregates();
+
+    @Query("SELECT new com.example.musify.dto.response.RatingEntryDto(ar.id, ar.user.id, a.id, a.artist.id, ar.rating) " +
+            "FROM AlbumRating ar JOIN ar.album a ORDER BY ar.id")
+    List<RatingEntryDto> findFirstRatingEntries(Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.RatingEntryDto(ar.id, ar.user.id, a.id, a.artist.id, ar.rating) " +
+            "FROM AlbumRating ar JOIN ar.album a WHERE ar.id > :id ORDER BY ar.id")
+    List<RatingEntryDto> findRatingEntriesAfter(@Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.RecentRatingEntryDto(ar.id, ar.user.id, ar.album.id, " +
+            "ar.rating, ar.createdAt) FROM AlbumRating ar WHERE ar.createdAt >= :since ORDER BY ar.id")
+    List<RecentRatingEntryDto> findFirstRecentRatingEntries(@Param("since") Instant since, Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.RecentRatingEntryDto(ar.id, ar.user.id, ar.album.id, " +
+            "ar.rating, ar.createdAt) FROM AlbumRating ar WHERE ar.createdAt >= :since AND ar.id > :id ORDER BY ar.id")
+    List<RecentRatingEntryDto> findRecentRatingEntriesAfter(@Param("since") Instant since, @Param("id") UUID id,
+                                                            Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE AlbumRating ar SET ar.rating = :rating WHERE ar.album.id = :albumId AND ar.user.id = :userId")
+    int updateRating(@Param("albumId") UUID albumId, @Param("userId") UUID userId, @Param("rating") Double rating);
+
+    @Modifying
+    @Query(value = "INSERT INTO album_ratings (id, album_id, user_id, rating, created_at) " +
+            "VALUES (:id, :albumId, :userId, :rating, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertRating(@Param("id") UUID id,
+                     @Param("albumId") UUID albumId,
+                     @Param("userId") UUID userId,
+                     @Param("rating") Double rating);
+
+    @Modifying
+    @Query("DELETE FROM AlbumRating ar WHERE ar.album.id = :albumId AND ar.user.id = :userId")
+    int deleteRating(@Param("albumId") UUID albumId, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query("UPDATE Album a SET " +
+            "a.ratingSum = a.ratingSum - (SELECT ar.rating FROM AlbumRating ar " +
+            "WHERE ar.album.id = a.id AND ar.user.id = :userId), " +
+            "a.ratingCount = a.ratingCount - 1, " +
+            "a.rating = CASE WHEN a.ratingCount > 1 THEN (a.ratingSum - (SELECT ar.rating FROM AlbumRating ar " +
+            "WHERE ar.album.id = a.id AND ar.user.id = :userId)) / (a.ratingCount - 1) END " +
+            "WHERE a.id IN (SELECT ar.album.id FROM AlbumRating ar WHERE ar.user.id = :userId)")
+    void removeUserRatingsFromAlbums(@Param("userId") UUID userId);
+
 }
@@ -1,27 +1,134 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.AlbumGenreDto;
+import com.example.musify.dto.response.AlbumGenreEntryDto;
+import com.example.musify.dto.response.ChartAlbumDto;
+import com.example.musify.dto.response.ChartAlbumEntryDto;
+import com.example.musify.dto.response.RecommendedAlbumDto;
+import com.example.musify.dto.response.SuggestionDto;
 import com.example.musify.entity.Album;
 import com.example.musify.entity.Artist;
+import com.example.musify.entity.Genre;
+import com.example.musify.enumeration.EImageStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public interface AlbumRepository extends JpaRepository<Album, UUID> {
-    @Query("SELECT DISTINCT a FROM Album a " +
-            "LEFT JOIN FETCH a.albumGenres " +
-            "ORDER BY a.rating DESC")
-    Page<Album> findAll(Pageable p);
+    @Query(value = "SELECT new com.example.musify.dto.response.AlbumDto(a.id, a.title, a.originCountry, " +
+            "a.releaseDate, a.rating, COALESCE(a.imageCard, a.image), a.imageStatus, a.slug, ar.id, ar.name, ar.slug) " +
+            "FROM Album a JOIN a.artist ar ORDER BY a.rating DESC, a.id",
+            countQuery = "SELECT COUNT(a) FROM Album a")
+    Page<AlbumDto> findAlbumDtos(Pageable p);
 
+    @Query("SELECT new com.example.musify.dto.response.AlbumDto(a.id, a.title, a.originCountry, " +
+            "a.releaseDate, a.rating, COALESCE(a.imageCard, a.image), a.imageStatus, a.slug, ar.id, ar.name, ar.slug) " +
+            "FROM Album a JOIN a.artist ar ORDER BY a.id")
+    List<AlbumDto> findFirstAlbumDtos(Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.AlbumDto(a.id, a.title, a.originCountry, " +
+            "a.releaseDate, a.rating, COALESCE(a.imageCard, a.image), a.imageStatus, a.slug, ar.id, ar.name, ar.slug) " +
+            "FROM Album a JOIN a.artist ar WHERE a.id > :id ORDER BY a.id")
+    List<AlbumDto> findAlbumDtosAfter(@Param("id") UUID id, Pageable pageable);
+
+    @Query(value = "SELECT new com.example.musify.dto.response.SuggestionDto(" +
+            "com.example.musify.enumeration.ESuggestionType.ALBUM, a.id, a.title, a.slug, ar.slug, a.ratingCount) " +
+            "FROM Album a JOIN a.artist ar ORDER BY a.id",
+            countQuery = "SELECT COUNT(a) FROM Album a")
+    Page<SuggestionDto> findSuggestions(Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.SuggestionDto(" +
+            "com.example.musify.enumeration.ESuggestionType.ALBUM, a.id, a.title, a.slug, ar.slug, a.ratingCount) " +
+            "FROM Album a JOIN a.artist ar WHERE a.id IN :ids")
+    List<SuggestionDto> findSuggestionsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.example.musify.dto.response.RecommendedAlbumDto(a.id, a.title, a.slug, " +
+            "COALESCE(a.imageCard, a.image), ar.name, ar.slug, a.rating, a.ratingCount, CAST(NULL AS Double)) " +
+            "FROM Album a JOIN a.artist ar WHERE a.id IN :ids")
+    List<RecommendedAlbumDto> findRecommendedAlbumsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.example.musify.dto.response.ChartAlbumDto(a.id, a.title, a.slug, " +
+            "COALESCE(a.imageCard, a.image), ar.name, ar.slug, a.originCountry, a.rating, a.ratingCount, " +
+            "CAST(NULL AS Double)) " +
+            "FROM Album a JOIN a.artist ar WHERE a.id IN :ids")
+    List<ChartAlbumDto> findChartAlbumsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.example.musify.dto.response.ChartAlbumEntryDto(a.id, a.originCountry, a.ratingSum, " +
+            "a.ratingCount) FROM Album a WHERE a.ratingCount > 0 ORDER BY a.id")
+    List<ChartAlbumEntryDto> findFirstChartAlbumEntries(Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.ChartAlbumEntryDto(a.id, a.originCountry, a.ratingSum, " +
+            "a.ratingCount) FROM Album a WHERE a.ratingCount > 0 AND a.id > :id ORDER BY a.id")
+    List<ChartAlbumEntryDto> findChartAlbumEntriesAfter(@Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.AlbumGenreEntryDto(a.id, g.slug) " +
+            "FROM Album a JOIN a.albumGenres g WHERE a.ratingCount > 0")
+    List<AlbumGenreEntryDto> findRatedAlbumGenreEntries();
+
+    @Query("SELECT new com.example.musify.dto.response.AlbumGenreDto(a.id, g.id, g.name, g.slug) " +
+            "FROM Album a JOIN a.albumGenres g WHERE a.id IN :albumIds")
+    List<AlbumGenreDto> findGenresByAlbumIdIn(@Param("albumIds") Collection<UUID> albumIds);
+
+    default void fillGenres(Collection<AlbumDto> albums) {
+        if (albums.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<AlbumDto>> albumsById = albums.stream()
+                .collect(Collectors.groupingBy(AlbumDto::getId));
+        for (AlbumGenreDto row : findGenresByAlbumIdIn(albumsById.keySet())) {
+            Genre genre = Genre.builder()
+                    .id(row.getGenreId())
+                    .name(row.getName())
+                    .slug(row.getSlug())
+                    .build();
+            albumsById.get(row.getAlbumId()).forEach(album -> album.getGenres().add(genre));
+        }
+    }
+
+    @Query(value = "SELECT a.id FROM Album a ORDER BY a.rating DESC, a.id",
+            countQuery = "SELECT COUNT(a) FROM Album a")
+    Page<UUID> findPageIds(Pageable p);
+
+    @Query("SELECT DISTINCT a FROM Album a JOIN FETCH a.artist LEFT JOIN FETCH a.albumGenres WHERE a.id IN :ids")
+    List<Album> findWithGenresByIdIn(@Param("ids") Collection<UUID> ids);
+
+    default Page<Album> findAll(Pageable p) {
+        return findPage(findPageIds(p));
+    }
+
+    private Page<Album> findPage(Page<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        }
+
+        Map<UUID, Album> albums = findWithGenresByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Album::getId, Function.identity()));
+        return ids.map(albums::get);
+    }
+
+    @EntityGraph(attributePaths = {"albumGenres"})
     @Query("SELECT DISTINCT a FROM Album a WHERE a.artist = :artist ORDER BY a.releaseDate asc")
     List<Album> findByArtist(@Param("artist") Artist artist);
 
+    @EntityGraph(attributePaths = {"artist"})
     @Query("SELECT a FROM Album a ORDER BY a.createdAt DESC")
     List<Album> findMostRecentAlbums(Pageable pageable);
 
@@ -33,9 +140,72 @@ public interface AlbumRepository extends JpaRepository<Album, UUID> {
     @Query("DELETE FROM Album a WHERE a.artist.id = :artistId")
     void deleteByArtist(@Param("artistId") UUID artistId);
 
+    @EntityGraph(attributePaths = {"artist", "albumGenres"})
     @Query("SELECT a FROM Album a WHERE a.artist.slug = :artistSlug AND a.slug = :albumSlug")
     Optional<Album> findByArtistSlugAndAlbumSlug(String artistSlug, String albumSlug);
 
-    @Query("SELECT DISTINCT a FROM Album a JOIN a.albumGenres g WHERE g.slug = :slug ORDER BY a.rating DESC")
-    Page<Album> findByGenreSlug(@Param("slug") String slug, Pageable p);
+    @Query(value = "SELECT a.id FROM Album a JOIN a.albumGenres g WHERE g.slug = :slug ORDER BY a.rating DESC, a.id",
+            countQuery = "SELECT COUNT(a) FROM Album a JOIN a.albumGenres g WHERE g.slug = :slug")
+    Page<UUID> findPageIdsByGenreSlug(@Param("slug") String slug, Pageable p);
+
+    default Page<Album> findByGenreSlug(String slug, Pageable p) {
+        return findPage(findPageIdsByGenreSlug(slug, p));
+    }
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Album a WHERE a.id = :id")
+    Optional<Album> findByIdForUpdate(@Param("id") UUID id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Album a SET a.ratingSum = a.ratingSum + CAST(:ratingDelta AS Double), " +
+            "a.ratingCount = a.ratingCount + :countDelta, " +
+            "a.rating = CASE WHEN a.ratingCount + :countDelta > 0 " +
+            "THEN (a.ratingSum + :ratingDelta) / (a.ratingCount + :countDelta) END " +
+            "WHERE a.id = :albumId")
+    void incrementRatingAggregate(@Param("albumId") UUID albumId,
+                                  @Param("ratingDelta") Double ratingDelta,
+                                  @Param("countDelta") Long countDelta);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Album a SET " +
+            "a.ratingCount = (SELECT COUNT(ar) FROM AlbumRating ar WHERE ar.album.id = a.id), " +
+            "a.ratingSum = (SELECT COALESCE(SUM(ar.rating), 0.0) FROM AlbumRating ar WHERE ar.album.id = a.id), " +
+            "a.rating = (SELECT AVG(ar.rating) FROM AlbumRating ar WHERE ar.album.id = a.id) " +
+            "WHERE a.id IN :albumIds")
+    void recomputeRatingAggregates(@Param("albumIds") Collection<UUID> albumIds);
+
+    @Query("SELECT a.id FROM Album a WHERE a.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id FROM Album a WHERE a.id IN :ids ORDER BY a.id")
+    List<UUID> findExistingIdsForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = {"artist"})
+    @Query("SELECT a FROM Album a ORDER BY a.rating DESC NULLS LAST, a.id DESC")
+    List<Album> findFirstByRatingCursor(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"artist"})
+    @Query("SELECT a FROM Album a " +
+            "WHERE a.rating < :rating OR (a.rating = :rating AND a.id < :id) OR a.rating IS NULL " +
+            "ORDER BY a.rating DESC NULLS LAST, a.id DESC")
+    List<Album> findAfterRatingCursor(@Param("rating") Double rating, @Param("id") UUID id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"artist"})
+    @Query("SELECT a FROM Album a WHERE a.rating IS NULL AND a.id < :id ORDER BY a.id DESC")
+    List<Album> findAfterUnratedCursor(@Param("id") UUID id, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Album a SET a.image = :image, a.imageThumbnail = :thumbnail, a.imageCard = :card, " +
+            "a.imageStatus = :status WHERE a.id = :albumId AND a.imageHash = :hash")
+    void updateImage(@Param("albumId") UUID albumId, @Param("hash") String hash, @Param("image") String image,
+                     @Param("thumbnail") String thumbnail, @Param("card") String card,
+                     @Param("status") EImageStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Album a SET a.imageStatus = :status WHERE a.id = :albumId AND a.imageHash = :hash")
+    void updateImageStatus(@Param("albumId") UUID albumId, @Param("hash") String hash,
+                           @Param("status") EImageStatus status);
 }
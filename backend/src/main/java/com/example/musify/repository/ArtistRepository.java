@@ -1,30 +1,104 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.ArtistGenreEntryDto;
+import com.example.musify.dto.response.SuggestionDto;
 import com.example.musify.entity.Artist;
+import com.example.musify.enumeration.EImageStatus;
+import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public interface ArtistRepository extends JpaRepository<Artist, UUID> {
-    @Query("SELECT DISTINCT a FROM Artist a LEFT JOIN FETCH a.artistGenres ORDER BY a.name ASC, a.formedYear ASC")
-    Page<Artist> findAll(Pageable p);
+    @Query(value = "SELECT a.id FROM Artist a ORDER BY a.name ASC, a.formedYear ASC, a.id",
+            countQuery = "SELECT COUNT(a) FROM Artist a")
+    Page<UUID> findPageIds(Pageable p);
 
-    @Query("SELECT DISTINCT a FROM Artist a JOIN FETCH a.artistGenres g WHERE g.slug = :slug " +
-            "ORDER BY a.formedYear asc")
-    Page<Artist>findByGenre(@Param("slug")String slug,Pageable p);
+    @Query(value = "SELECT a.id FROM Artist a JOIN a.artistGenres g WHERE g.slug = :slug " +
+            "ORDER BY a.formedYear ASC, a.id",
+            countQuery = "SELECT COUNT(a) FROM Artist a JOIN a.artistGenres g WHERE g.slug = :slug")
+    Page<UUID> findPageIdsByGenre(@Param("slug") String slug, Pageable p);
+
+    @Query("SELECT DISTINCT a FROM Artist a LEFT JOIN FETCH a.artistGenres WHERE a.id IN :ids")
+    List<Artist> findWithGenresByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT a.id FROM Artist a ORDER BY a.id")
+    List<UUID> findFirstIds(Pageable pageable);
+
+    @Query("SELECT a.id FROM Artist a WHERE a.id > :id ORDER BY a.id")
+    List<UUID> findIdsAfter(@Param("id") UUID id, Pageable pageable);
+
+    default Page<Artist> findAll(Pageable p) {
+        return findPage(findPageIds(p));
+    }
+
+    default Page<Artist> findByGenre(String slug, Pageable p) {
+        return findPage(findPageIdsByGenre(slug, p));
+    }
+
+    private Page<Artist> findPage(Page<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        }
+
+        Map<UUID, Artist> artists = findWithGenresByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Artist::getId, Function.identity()));
+        return ids.map(artists::get);
+    }
+
+    @Query(value = "SELECT new com.example.musify.dto.response.SuggestionDto(" +
+            "com.example.musify.enumeration.ESuggestionType.ARTIST, a.id, a.name, a.slug, a.slug, COUNT(f.id)) " +
+            "FROM Artist a LEFT JOIN Follower f ON f.artist = a " +
+            "GROUP BY a.id, a.name, a.slug ORDER BY a.id",
+            countQuery = "SELECT COUNT(a) FROM Artist a")
+    Page<SuggestionDto> findSuggestions(Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.ArtistGenreEntryDto(a.id, g.id) " +
+            "FROM Artist a JOIN a.artistGenres g")
+    List<ArtistGenreEntryDto> findArtistGenreEntries();
 
     @Query("SELECT a FROM Artist a WHERE a.name = :artistName")
     Optional<Artist> findByName(@Param("artistName") String artistName);
 
+    @EntityGraph(attributePaths = {"artistGenres"})
     @Query("SELECT a FROM Artist a WHERE a.slug = :artistSlug")
     Optional<Artist> findBySlug(@Param("artistSlug") String artistSlug);
 
     @Query("SELECT a FROM Artist a ORDER BY a.createdAt DESC")
     List<Artist> findMostRecentArtists(Pageable pageable);
+
+    @Query("SELECT a FROM Artist a ORDER BY a.name ASC, a.id ASC")
+    List<Artist> findFirstByNameCursor(Pageable pageable);
+
+    @Query("SELECT a FROM Artist a " +
+            "WHERE a.name > :name OR (a.name = :name AND a.id > :id) " +
+            "ORDER BY a.name ASC, a.id ASC")
+    List<Artist> findAfterNameCursor(@Param("name") String name, @Param("id") UUID id, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artist a SET a.image = :image, a.imageThumbnail = :thumbnail, a.imageCard = :card, " +
+            "a.imageStatus = :status WHERE a.id = :artistId AND a.imageHash = :hash")
+    void updateImage(@Param("artistId") UUID artistId, @Param("hash") String hash, @Param("image") String image,
+                     @Param("thumbnail") String thumbnail, @Param("card") String card,
+                     @Param("status") EImageStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artist a SET a.imageStatus = :status WHERE a.id = :artistId AND a.imageHash = :hash")
+    void updateImageStatus(@Param("artistId") UUID artistId, @Param("hash") String hash,
+                           @Param("status") EImageStatus status);
 }
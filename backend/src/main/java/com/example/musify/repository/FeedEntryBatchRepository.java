@@ -0,0 +1,9 @@
+package com.example.musify.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface FeedEntryBatchRepository {
+    int insertFeedEntries(UUID eventId, Instant createdAt, List<UUID> userIds);
+}
@@ -0,0 +1,39 @@
+package com.example.musify.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class FeedEntryBatchRepositoryImpl implements FeedEntryBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_ENTRY_SQL =
+            "INSERT INTO feed_entries (id, user_id, event_id, created_at) VALUES (?, ?, ?, ?)";
+
+    @Override
+    public int insertFeedEntries(UUID eventId, Instant createdAt, List<UUID> userIds) {
+        Timestamp timestamp = Timestamp.from(createdAt);
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, userIds, BATCH_SIZE, (ps, userId) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, userId);
+            ps.setObject(3, eventId);
+            ps.setTimestamp(4, timestamp);
+        });
+
+        int written = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                written += count > 0 || count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+            }
+        }
+        return written;
+    }
+}
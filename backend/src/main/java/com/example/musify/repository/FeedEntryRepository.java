@@ -0,0 +1,22 @@
+package com.example.musify.repository;
+
+import com.example.musify.entity.FeedEntry;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, UUID>, FeedEntryBatchRepository {
+    @Modifying
+    @Query("DELETE FROM FeedEntry fe WHERE fe.user.id = :userId " +
+            "AND fe.event.id IN (SELECT e.id FROM FeedEvent e WHERE e.artist.id = :artistId)")
+    void deleteByUserIdAndArtistId(@Param("userId") UUID userId, @Param("artistId") UUID artistId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FeedEntry fe WHERE fe.event.id = :eventId")
+    void deleteByEventId(@Param("eventId") UUID eventId);
+}
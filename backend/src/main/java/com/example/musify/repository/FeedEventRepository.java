@@ -0,0 +1,64 @@
+package com.example.musify.repository;
+
+import com.example.musify.dto.response.FeedItemDto;
+import com.example.musify.entity.FeedEvent;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface FeedEventRepository extends JpaRepository<FeedEvent, UUID> {
+    @Query("SELECT new com.example.musify.dto.response.FeedItemDto(e.id, e.type, e.createdAt, " +
+            "ar.id, ar.name, ar.slug, al.id, al.title, al.slug, COALESCE(al.imageCard, al.image), " +
+            "r.id, r.title, r.rating, u.username) " +
+            "FROM FeedEntry fe JOIN fe.event e " +
+            "JOIN e.artist ar JOIN e.album al LEFT JOIN e.review r LEFT JOIN r.user u " +
+            "WHERE fe.user.id = :userId " +
+            "ORDER BY fe.createdAt DESC, e.id DESC")
+    List<FeedItemDto> findFirstFeedItems(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.FeedItemDto(e.id, e.type, e.createdAt, " +
+            "ar.id, ar.name, ar.slug, al.id, al.title, al.slug, COALESCE(al.imageCard, al.image), " +
+            "r.id, r.title, r.rating, u.username) " +
+            "FROM FeedEntry fe JOIN fe.event e " +
+            "JOIN e.artist ar JOIN e.album al LEFT JOIN e.review r LEFT JOIN r.user u " +
+            "WHERE fe.user.id = :userId " +
+            "AND (fe.createdAt < :createdAt OR (fe.createdAt = :createdAt AND e.id < :id)) " +
+            "ORDER BY fe.createdAt DESC, e.id DESC")
+    List<FeedItemDto> findFeedItemsAfter(@Param("userId") UUID userId, @Param("createdAt") Instant createdAt,
+                                         @Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.FeedItemDto(e.id, e.type, e.createdAt, " +
+            "ar.id, ar.name, ar.slug, al.id, al.title, al.slug, COALESCE(al.imageCard, al.image), " +
+            "r.id, r.title, r.rating, u.username) " +
+            "FROM FeedEvent e " +
+            "JOIN e.artist ar JOIN e.album al LEFT JOIN e.review r LEFT JOIN r.user u " +
+            "WHERE e.artist.id = :artistId AND e.fannedOut = false " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<FeedItemDto> findFirstTimelineItems(@Param("artistId") UUID artistId, Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.FeedItemDto(e.id, e.type, e.createdAt, " +
+            "ar.id, ar.name, ar.slug, al.id, al.title, al.slug, COALESCE(al.imageCard, al.image), " +
+            "r.id, r.title, r.rating, u.username) " +
+            "FROM FeedEvent e " +
+            "JOIN e.artist ar JOIN e.album al LEFT JOIN e.review r LEFT JOIN r.user u " +
+            "WHERE e.artist.id = :artistId AND e.fannedOut = false " +
+            "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<FeedItemDto> findTimelineItemsAfter(@Param("artistId") UUID artistId, @Param("createdAt") Instant createdAt,
+                                             @Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT DISTINCT e.artist.id FROM FeedEvent e WHERE e.fannedOut = false")
+    List<UUID> findPullArtistIds();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FeedEvent e SET e.fannedOut = false WHERE e.id = :id")
+    void markPulled(@Param("id") UUID id);
+}
@@ -1,8 +1,10 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.FollowEntryDto;
 import com.example.musify.entity.Artist;
 import com.example.musify.entity.Follower;
 import com.example.musify.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -22,6 +24,12 @@ public interface FollowerRepository extends JpaRepository<Follower, UUID> {
     @Query("SELECT COUNT(f) FROM Follower f WHERE f.artist.id = :artistId")
     Long countArtistFollowers(@Param("artistId") UUID artistId);
 
+    @Query("SELECT f.user.id FROM Follower f WHERE f.artist.id = :artistId")
+    List<UUID> findFollowerIds(@Param("artistId") UUID artistId);
+
+    @Query("SELECT f.artist.id FROM Follower f WHERE f.user.id = :userId")
+    List<UUID> findFollowedArtistIds(@Param("userId") UUID userId);
+
     @Query("SELECT CASE WHEN COUNT(f) > 0 THEN TRUE ELSE FALSE END " +
             "FROM Follower f WHERE f.artist = :artist AND f.user = :user")
     Boolean isUserFollowing(@Param("artist") Artist artist, @Param("user") User user);
@@ -29,6 +37,14 @@ public interface FollowerRepository extends JpaRepository<Follower, UUID> {
     @Query("SELECT f FROM Follower f WHERE f.artist.id = :artistId AND f.user.id = :userId")
     Optional<Follower> findByArtistIdAndUserId(@Param("artistId") UUID artistId, @Param("userId") UUID userId);
 
+    @Query("SELECT new com.example.musify.dto.response.FollowEntryDto(f.id, f.user.id, f.artist.id) " +
+            "FROM Follower f ORDER BY f.id")
+    List<FollowEntryDto> findFirstFollowEntries(Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.FollowEntryDto(f.id, f.user.id, f.artist.id) " +
+            "FROM Follower f WHERE f.id > :id ORDER BY f.id")
+    List<FollowEntryDto> findFollowEntriesAfter(@Param("id") UUID id, Pageable pageable);
+
     @Modifying
     @Query("DELETE FROM Follower f WHERE f.artist.id = :artistId AND f.user.id = :userId")
     void deleteByArtistIdAndUserId(@Param("artistId") UUID artistId, @Param("userId") UUID userId);
@@ -1,5 +1,6 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.SuggestionDto;
 import com.example.musify.entity.Genre;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,6 +18,12 @@ public interface GenreRepository extends JpaRepository<Genre, UUID> {
     @Query("SELECT g FROM Genre g WHERE g.slug = :slug")
     Optional<Genre> findBySlug(String slug);
 
+    @Query("SELECT new com.example.musify.dto.response.SuggestionDto(" +
+            "com.example.musify.enumeration.ESuggestionType.GENRE, g.id, g.name, g.slug, CAST(NULL AS String), " +
+            "COUNT(a.id)) " +
+            "FROM Genre g LEFT JOIN g.albums a GROUP BY g.id, g.name, g.slug")
+    List<SuggestionDto> findSuggestions();
+
     @Query("SELECT g FROM Genre g WHERE g.name IN :genreNames")
     List<Genre> findByNameIn(@Param("genreNames") Set<String> genreNames);
 }
@@ -1,19 +1,23 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.ReviewDto;
 import com.example.musify.entity.Album;
 import com.example.musify.entity.Review;
 import com.example.musify.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface ReviewRepository extends JpaRepository<Review, UUID> {
+    @EntityGraph(attributePaths = {"user", "album", "album.artist"})
     @Query("SELECT DISTINCT r FROM Review r WHERE r.user.id = :userId ORDER BY r.createdAt desc")
     Page<Review> findByUser(@Param("userId") UUID userId, Pageable p);
 
@@ -21,11 +25,49 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
             "FROM Review r WHERE r.album= :album AND r.user = :user")
     Boolean existsReviewByAlbumAndUser(@Param("album") Album album, @Param("user") User user);
 
+    @EntityGraph(attributePaths = {"user", "album", "album.artist"})
     @Query("SELECT DISTINCT r FROM Review r WHERE r.album = :album")
     Page<Review> findByAlbum(@Param("album") Album album, Pageable of);
 
+    @EntityGraph(attributePaths = {"user", "album", "album.artist"})
     @Query("SELECT r FROM Review r ORDER BY r.createdAt DESC")
     Page<Review> findAll(Pageable pageable);
 
+    @Query(value = "SELECT new com.example.musify.dto.response.ReviewDto(r.id, r.title, r.content, r.rating, " +
+            "u.id, u.username, COALESCE(u.imageThumbnailUrl, u.imageUrl), " +
+            "a.id, a.title, a.originCountry, a.releaseDate, a.rating, COALESCE(a.imageCard, a.image), a.imageStatus, a.slug, " +
+            "ar.id, ar.name, ar.slug, r.createdAt) " +
+            "FROM Review r JOIN r.user u JOIN r.album a JOIN a.artist ar " +
+            "ORDER BY r.createdAt DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r")
+    Page<ReviewDto> findReviewDtos(Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.ReviewDto(r.id, r.title, r.content, r.rating, " +
+            "u.id, u.username, COALESCE(u.imageThumbnailUrl, u.imageUrl), " +
+            "a.id, a.title, a.originCountry, a.releaseDate, a.rating, COALESCE(a.imageCard, a.image), a.imageStatus, a.slug, " +
+            "ar.id, ar.name, ar.slug, r.createdAt) " +
+            "FROM Review r JOIN r.user u JOIN r.album a JOIN a.artist ar " +
+            "ORDER BY r.id")
+    List<ReviewDto> findFirstReviewDtos(Pageable pageable);
+
+    @Query("SELECT new com.example.musify.dto.response.ReviewDto(r.id, r.title, r.content, r.rating, " +
+            "u.id, u.username, COALESCE(u.imageThumbnailUrl, u.imageUrl), " +
+            "a.id, a.title, a.originCountry, a.releaseDate, a.rating, COALESCE(a.imageCard, a.image), a.imageStatus, a.slug, " +
+            "ar.id, ar.name, ar.slug, r.createdAt) " +
+            "FROM Review r JOIN r.user u JOIN r.album a JOIN a.artist ar " +
+            "WHERE r.id > :id ORDER BY r.id")
+    List<ReviewDto> findReviewDtosAfter(@Param("id") UUID id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "album", "album.artist"})
     Page<Review> findByUserUsername(String username, Pageable p);
+
+    @EntityGraph(attributePaths = {"user", "album", "album.artist"})
+    @Query("SELECT r FROM Review r ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findFirstByCreatedAtCursor(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "album", "album.artist"})
+    @Query("SELECT r FROM Review r " +
+            "WHERE r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findAfterCreatedAtCursor(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Pageable pageable);
 }
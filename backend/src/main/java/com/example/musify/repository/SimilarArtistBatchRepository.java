@@ -0,0 +1,16 @@
+package com.example.musify.repository;
+
+import com.example.musify.dto.response.SimilarArtistEntryDto;
+import jakarta.transaction.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface SimilarArtistBatchRepository {
+    @Transactional
+    void replaceAllSimilarArtists(List<SimilarArtistEntryDto> entries);
+
+    @Transactional
+    void replaceSimilarArtists(Collection<UUID> artistIds, List<SimilarArtistEntryDto> entries);
+}
@@ -0,0 +1,46 @@
+package com.example.musify.repository;
+
+import com.example.musify.dto.response.SimilarArtistEntryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class SimilarArtistBatchRepositoryImpl implements SimilarArtistBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM similar_artists";
+
+    private static final String DELETE_ARTIST_SQL = "DELETE FROM similar_artists WHERE artist_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO similar_artists (id, artist_id, similar_artist_id, score, position) VALUES (?, ?, ?, ?, ?)";
+
+    @Override
+    public void replaceAllSimilarArtists(List<SimilarArtistEntryDto> entries) {
+        jdbcTemplate.update(DELETE_ALL_SQL);
+        insert(entries);
+    }
+
+    @Override
+    public void replaceSimilarArtists(Collection<UUID> artistIds, List<SimilarArtistEntryDto> entries) {
+        jdbcTemplate.batchUpdate(DELETE_ARTIST_SQL, artistIds, BATCH_SIZE,
+                (ps, artistId) -> ps.setObject(1, artistId));
+        insert(entries);
+    }
+
+    private void insert(List<SimilarArtistEntryDto> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, entry.getArtistId());
+            ps.setObject(3, entry.getSimilarArtistId());
+            ps.setDouble(4, entry.getScore());
+            ps.setInt(5, entry.getPosition());
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.musify.repository;
+
+import com.example.musify.dto.response.SimilarArtistDto;
+import com.example.musify.entity.SimilarArtist;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SimilarArtistRepository extends JpaRepository<SimilarArtist, UUID>, SimilarArtistBatchRepository {
+    @Query("SELECT new com.example.musify.dto.response.SimilarArtistDto(s.id, s.name, s.slug, " +
+            "COALESCE(s.imageCard, s.image), sa.score) " +
+            "FROM SimilarArtist sa JOIN sa.similarArtist s " +
+            "WHERE sa.artist.slug = :artistSlug ORDER BY sa.position")
+    List<SimilarArtistDto> findSimilarArtists(@Param("artistSlug") String artistSlug, Pageable pageable);
+}
@@ -1,22 +1,52 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.RevokedTokenEntryDto;
+import com.example.musify.dto.response.UserRevocationEntryDto;
 import com.example.musify.entity.Token;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface TokenRepository extends JpaRepository<Token, UUID> {
-    @Query(value = """
-            SELECT t FROM Token t INNER JOIN User u\s
-            ON t.user.id = u.id\s
-            WHERE u.id = :id AND (t.expired = false or t.revoked = false)\s
-            """)
-    List<Token> findAllValidTokensByUser(UUID id);
-
-    @Query("SELECT t FROM Token t where t.token = :token")
-    Optional<Token> findByToken(@Param("token") String token);
+    @Query("SELECT t.tokenHash FROM Token t WHERE t.user.id = :userId AND t.revoked = false")
+    List<String> findValidTokenHashesByUser(@Param("userId") UUID userId);
+
+    @Query("SELECT t FROM Token t WHERE t.tokenHash = :tokenHash")
+    Optional<Token> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Query("SELECT t FROM Token t WHERE t.jti = :jti")
+    Optional<Token> findByJti(@Param("jti") UUID jti);
+
+    // Revoked tokens keep their expiry, so they are known to the revocation list until the JWT itself expires.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Token t SET t.revoked = true, t.expired = true WHERE t.user.id = :userId AND t.revoked = false")
+    int revokeAllByUser(@Param("userId") UUID userId);
+
+    @Query("SELECT new com.example.musify.dto.response.RevokedTokenEntryDto(t.jti, t.expiresAt) FROM Token t " +
+            "WHERE t.revoked = true AND t.jti IS NOT NULL AND t.expiresAt > :now")
+    List<RevokedTokenEntryDto> findRevokedTokenEntries(@Param("now") Instant now);
+
+    @Query("SELECT new com.example.musify.dto.response.UserRevocationEntryDto(u.id, u.tokenVersion, MAX(t.expiresAt)) " +
+            "FROM Token t JOIN t.user u " +
+            "WHERE t.revoked = true AND t.expiresAt > :now " +
+            "GROUP BY u.id, u.tokenVersion")
+    List<UserRevocationEntryDto> findUserRevocationEntries(@Param("now") Instant now);
+
+    @Query("SELECT t.id FROM Token t WHERE t.expiresAt < :now")
+    List<UUID> findExpiredTokenIds(@Param("now") Instant now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Token t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
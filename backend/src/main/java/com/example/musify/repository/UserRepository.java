@@ -1,16 +1,26 @@
 package com.example.musify.repository;
 
 import com.example.musify.entity.User;
+import com.example.musify.enumeration.EImageStatus;
+import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
+    @EntityGraph(attributePaths = {"roles"})
+    Optional<User> findById(UUID id);
+
+    @EntityGraph(attributePaths = {"roles"})
     @Query("SELECT u FROM User u WHERE u.username = :username")
     Optional<User> findByUsername(@Param("username") String username);
 
@@ -23,4 +33,28 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     @Query("SELECT DISTINCT u FROM User u ORDER BY u.username DESC")
     Page<User> findAll(Pageable p);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.imageUrl = :image, u.imageThumbnailUrl = :thumbnail, u.imageStatus = :status " +
+            "WHERE u.id = :userId AND u.imageHash = :hash")
+    void updateImage(@Param("userId") UUID userId, @Param("hash") String hash, @Param("image") String image,
+                     @Param("thumbnail") String thumbnail, @Param("status") EImageStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    void incrementTokenVersion(@Param("userId") UUID userId);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :userId")
+    Integer findTokenVersion(@Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.imageStatus = :status WHERE u.id = :userId AND u.imageHash = :hash")
+    void updateImageStatus(@Param("userId") UUID userId, @Param("hash") String hash,
+                           @Param("status") EImageStatus status);
 }
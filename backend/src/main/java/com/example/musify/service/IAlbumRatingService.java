@@ -1,9 +1,11 @@
 package com.example.musify.service;
 
+import com.example.musify.dto.request.ImportAlbumRatingDto;
 import com.example.musify.dto.response.*;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface IAlbumRatingService {
     AlbumRatingStatsDto getAlbumRating(UUID albumId);
@@ -14,4 +16,8 @@ public interface IAlbumRatingService {
 
     List<AlbumRatingCollectionDto> getAlbumRatingsByUserAndRating(String username, Double rating);
     List<GenreAlbumCountDto>getUserGenreOverview(String userId);
+
+    int reconcileAlbumRatings();
+
+    AlbumRatingImportDto importAlbumRatings(Stream<ImportAlbumRatingDto> ratings);
 }
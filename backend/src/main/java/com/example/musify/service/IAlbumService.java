@@ -6,6 +6,7 @@ import com.example.musify.dto.request.RateAlbumDto;
 import com.example.musify.dto.request.UpdateAlbumDto;
 import com.example.musify.dto.request.UserIdDto;
 import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.RecentAlbumDto;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,6 +18,8 @@ import java.util.UUID;
 public interface IAlbumService {
     PageDto<AlbumDto> getAlbums(int page);
 
+    CursorPageDto<AlbumDto> getAlbumsByCursor(String cursor, boolean includeTotal);
+
     AlbumDto getAlbum(String artistSlug, String albumSlug);
 
     List<RecentAlbumDto> getMostRecentAlbums();
@@ -29,6 +32,8 @@ public interface IAlbumService {
 
     AlbumDto rateAlbum(RateAlbumDto rateAlbumDto, UUID albumId);
 
+    AlbumDto deleteAlbumRating(UUID albumId);
+
     AlbumDto updateAlbum(UpdateAlbumDto updateAlbumDto, MultipartFile file, UUID albumId) throws IOException;
 
     MessageDto addAlbumToList(UUID listId, UUID albumId, UserIdDto request);
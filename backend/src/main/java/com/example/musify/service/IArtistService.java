@@ -4,6 +4,7 @@ import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.dto.request.CreateArtistDto;
 import com.example.musify.dto.request.UpdateArtistDto;
 import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.RecentArtistDto;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,6 +16,7 @@ import java.util.UUID;
 public interface IArtistService {
 
     PageDto<ArtistDto> getArtists(int page);
+    CursorPageDto<ArtistDto> getArtistsByCursor(String cursor, boolean includeTotal);
     List<RecentArtistDto> getMostRecentArtists();
     PageDto<ArtistDto>getArtistsByGenre(String slug, int page);
     ArtistDto getArtist(String artistSlug);
@@ -0,0 +1,27 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.SuggestionDto;
+import com.example.musify.enumeration.ESuggestionType;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IAutocompleteService {
+    List<SuggestionDto> suggest(String query, ESuggestionType type, int limit);
+
+    void indexArtist(ArtistDto artist);
+
+    void indexAlbum(AlbumDto album);
+
+    void removeArtist(UUID artistId);
+
+    void removeAlbum(UUID albumId);
+
+    void adjustPopularity(ESuggestionType type, UUID id, long delta);
+
+    void setPopularity(ESuggestionType type, UUID id, long popularity);
+
+    void rebuild();
+}
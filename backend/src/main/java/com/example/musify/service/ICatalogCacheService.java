@@ -0,0 +1,24 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.CacheStatsDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public interface ICatalogCacheService {
+    AlbumDto getAlbum(String artistSlug, String albumSlug, Supplier<AlbumDto> loader);
+
+    ArtistDto getArtist(String artistSlug, Supplier<ArtistDto> loader);
+
+    void evictAlbum(String artistSlug, String albumSlug);
+
+    void evictAlbums(Collection<UUID> albumIds);
+
+    void evictArtist(String artistSlug);
+
+    List<CacheStatsDto> getStats();
+}
@@ -0,0 +1,24 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.ChartAlbumDto;
+import com.example.musify.entity.Album;
+import com.example.musify.enumeration.EChartWindow;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IChartService {
+    List<ChartAlbumDto> getChart(EChartWindow window, String genre, String country, int limit);
+
+    void recordRating(Album album, UUID userId, Double rating, boolean added);
+
+    void removeRating(Album album, UUID userId);
+
+    void indexAlbum(Album album);
+
+    void removeAlbum(UUID albumId);
+
+    void rebuild();
+
+    void slide();
+}
@@ -0,0 +1,20 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.CursorPageDto;
+import com.example.musify.dto.response.FeedItemDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Review;
+
+import java.util.UUID;
+
+public interface IFeedService {
+    CursorPageDto<FeedItemDto> getFeed(String cursor);
+
+    void publishAlbum(Album album);
+
+    void publishReview(Review review);
+
+    void removeFollow(UUID userId, UUID artistId);
+
+    void evictTimeline(UUID artistId);
+}
@@ -1,11 +1,16 @@
 package com.example.musify.service;
 
+import com.example.musify.dto.response.UploadStatsDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Artist;
+import com.example.musify.entity.User;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 
 public interface IFileUploadService {
-    String uploadUserImageFile(MultipartFile multipartFile) throws IOException;
-    String uploadArtistImageFile(MultipartFile multipartFile) throws IOException;
-    String uploadAlbumImageFile(MultipartFile multipartFile) throws IOException;
+    void uploadUserImageFile(User user, MultipartFile multipartFile) throws IOException;
+    void uploadArtistImageFile(Artist artist, MultipartFile multipartFile) throws IOException;
+    void uploadAlbumImageFile(Album album, MultipartFile multipartFile) throws IOException;
+    UploadStatsDto getStats();
 }
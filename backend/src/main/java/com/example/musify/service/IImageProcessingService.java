@@ -0,0 +1,12 @@
+package com.example.musify.service;
+
+import com.example.musify.enumeration.EImageVariant;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+public interface IImageProcessingService {
+    Map<EImageVariant, Path> createVariants(Path source, Set<EImageVariant> variants) throws IOException;
+}
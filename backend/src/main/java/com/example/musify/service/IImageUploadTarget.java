@@ -0,0 +1,8 @@
+package com.example.musify.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface IImageUploadTarget {
+    String upload(Path file, String folder) throws IOException;
+}
@@ -0,0 +1,22 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.RecommendedAlbumDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IRecommendationService {
+    List<RecommendedAlbumDto> getSimilarAlbums(UUID albumId, int limit);
+
+    List<RecommendedAlbumDto> getRecommendations(int limit);
+
+    void recordRating(UUID userId, UUID albumId, UUID artistId, Double rating);
+
+    void removeRating(UUID userId, UUID albumId);
+
+    void recordFollow(UUID userId, UUID artistId);
+
+    void removeFollow(UUID userId, UUID artistId);
+
+    void rebuild();
+}
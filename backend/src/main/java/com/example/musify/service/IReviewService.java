@@ -4,6 +4,7 @@ import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.dto.request.CreateReviewDto;
 import com.example.musify.dto.request.UpdateReviewDto;
 import com.example.musify.dto.request.UserIdDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.ReviewDto;
 import org.springframework.data.domain.Page;
@@ -16,6 +17,8 @@ public interface IReviewService {
 
     PageDto<ReviewDto> getReviews(int page);
 
+    CursorPageDto<ReviewDto> getReviewsByCursor(String cursor, boolean includeTotal);
+
     PageDto<ReviewDto> getAlbumReviews(UUID albumId, int page);
 
     boolean existsReview(UUID albumId);
@@ -0,0 +1,27 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.ReviewDto;
+import com.example.musify.dto.response.SearchResultDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ISearchService {
+    List<SearchResultDto> search(String query, int limit);
+
+    void indexAlbum(AlbumDto album);
+
+    void indexArtist(ArtistDto artist);
+
+    void indexReview(ReviewDto review);
+
+    void removeAlbum(UUID albumId);
+
+    void removeArtist(UUID artistId);
+
+    void removeReview(UUID reviewId);
+
+    void rebuild();
+}
@@ -0,0 +1,20 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.SimilarArtistDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ISimilarArtistService {
+    List<SimilarArtistDto> getSimilarArtists(String artistSlug, int limit);
+
+    void recordFollow(UUID userId, UUID artistId);
+
+    void removeFollow(UUID userId, UUID artistId);
+
+    void removeArtist(UUID artistId);
+
+    void rebuild();
+
+    void flush();
+}
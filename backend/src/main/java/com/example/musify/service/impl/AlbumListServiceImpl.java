@@ -10,13 +10,13 @@ import com.example.musify.dto.response.AlbumListsCountDto;
 import com.example.musify.entity.AlbumList;
 import com.example.musify.entity.User;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.AlbumListRepository;
 import com.example.musify.repository.UserRepository;
 import com.example.musify.service.IAlbumListService;
 import com.example.musify.service.IUtilService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -28,7 +28,7 @@ public class AlbumListServiceImpl implements IAlbumListService {
     private final AlbumListRepository albumListRepository;
     private final UserRepository userRepository;
     private final IUtilService utilService;
-    private final ModelMapper modelMapper;
+    private final DtoMapper dtoMapper;
 
     @Override
     public AlbumListsCountDto getUserListsCount(String username) {
@@ -47,8 +47,7 @@ public class AlbumListServiceImpl implements IAlbumListService {
 
         List<AlbumList> albumLists = albumListRepository.findAlbumListsByUser(user.getId());
 
-        return albumLists.stream().map(albumList ->
-                modelMapper.map(albumList, AlbumListNameDto.class)).toList();
+        return albumLists.stream().map(dtoMapper::toAlbumListNameDto).toList();
     }
 
     @Override
@@ -56,7 +55,7 @@ public class AlbumListServiceImpl implements IAlbumListService {
         AlbumList albumList = albumListRepository.findByNameAndUserUsername(listName, username)
                 .orElseThrow(() -> new ResourceNotFoundException("Album List not found."));
 
-        return modelMapper.map(albumList, AlbumListDto.class);
+        return dtoMapper.toAlbumListDto(albumList);
     }
 
     @Override
@@ -70,7 +69,7 @@ public class AlbumListServiceImpl implements IAlbumListService {
 
         albumListRepository.save(albumList);
 
-        return modelMapper.map(albumList, AlbumListDto.class);
+        return dtoMapper.toAlbumListDto(albumList);
     }
 
     @Override
@@ -83,7 +82,7 @@ public class AlbumListServiceImpl implements IAlbumListService {
             albumList.setName(request.getName());
         }
 
-        return modelMapper.map(albumList, AlbumListDto.class);
+        return dtoMapper.toAlbumListDto(albumList);
     }
 
     @Override
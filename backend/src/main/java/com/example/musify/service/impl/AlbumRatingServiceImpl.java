@@ -1,23 +1,32 @@
 package com.example.musify.service.impl;
 
+import com.example.musify.dto.request.ImportAlbumRatingDto;
 import com.example.musify.dto.response.*;
 import com.example.musify.entity.Album;
 import com.example.musify.entity.AlbumRating;
 import com.example.musify.entity.User;
+import com.example.musify.enumeration.ESuggestionType;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.AlbumRatingRepository;
 import com.example.musify.repository.AlbumRepository;
 import com.example.musify.repository.UserRepository;
 import com.example.musify.service.IAlbumRatingService;
+import com.example.musify.service.IAutocompleteService;
+import com.example.musify.service.ICatalogCacheService;
 import com.example.musify.service.IUtilService;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -26,33 +35,35 @@ public class AlbumRatingServiceImpl implements IAlbumRatingService {
     private final AlbumRepository albumRepository;
     private final UserRepository userRepository;
     private final IUtilService utilService;
-    private final ModelMapper modelMapper;
+    private final ICatalogCacheService catalogCacheService;
+    private final IAutocompleteService autocompleteService;
+    private final DtoMapper dtoMapper;
+
+    private static final Logger logger = LoggerFactory.getLogger(AlbumRatingServiceImpl.class);
+
+    private static final int IMPORT_CHUNK_SIZE = 1000;
+
+    private record RatingKey(UUID userId, UUID albumId) {
+    }
 
     @Override
     public AlbumRatingStatsDto getAlbumRating(UUID albumId) {
         Album album = albumRepository.findById(albumId)
                 .orElseThrow(() -> new ResourceNotFoundException("Album not found."));
 
-        Long totalRatings = albumRatingRepository.countAlbumRatingsByAlbum(album);
-        Double averageRating = albumRatingRepository.averageAlbumRatingByAlbum(album);
-
-        return new AlbumRatingStatsDto(averageRating, totalRatings);
+        return new AlbumRatingStatsDto(album.getRating(), album.getRatingCount());
     }
 
     @Override
     public List<RecentAlbumRatingDto> getMostRecentAlbumRatings() {
         Pageable pageable = PageRequest.of(0, 4);
 
-        return albumRatingRepository.findMostRecentRatings(pageable).stream().map(
-                albumRating -> modelMapper.map(albumRating, RecentAlbumRatingDto.class)).toList();
+        return albumRatingRepository.findMostRecentRatingDtos(pageable);
     }
 
     @Override
     public List<AlbumRatingSummaryDto> getAlbumRatingsByUser(UUID userId) {
-        List<AlbumRating> albumRatings = albumRatingRepository.findByUser(userId);
-
-        return albumRatings.stream().map(albumRating ->
-                modelMapper.map(albumRating, AlbumRatingSummaryDto.class)).toList();
+        return albumRatingRepository.findSummariesByUser(userId);
     }
 
     @Override
@@ -69,8 +80,7 @@ public class AlbumRatingServiceImpl implements IAlbumRatingService {
     public List<AlbumRatingCollectionDto> getAlbumRatingsByUserAndRating(String username, Double rating) {
         List<AlbumRating> albumRatingList = albumRatingRepository.findByUserAndRating(username, rating);
 
-        return albumRatingList.stream().map(albumRating ->
-                modelMapper.map(albumRating, AlbumRatingCollectionDto.class)).toList();
+        return albumRatingList.stream().map(dtoMapper::toAlbumRatingCollectionDto).toList();
     }
 
     @Override
@@ -82,4 +92,92 @@ public class AlbumRatingServiceImpl implements IAlbumRatingService {
 
         return albumRatingRepository.getUserGenreOverview(username, pageable);
     }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${ignacio.app.ratingReconciliationCron:0 0 4 * * *}")
+    public int reconcileAlbumRatings() {
+        List<AlbumRatingAggregateDto> mismatches = albumRatingRepository.findMismatchedRatingAggregates();
+
+        for (AlbumRatingAggregateDto aggregate : mismatches) {
+            logger.warn("Album {} rating aggregate out of sync, expected {} ratings with sum {}.",
+                    aggregate.getAlbumId(), aggregate.getRatingCount(), aggregate.getRatingSum());
+        }
+
+        if (!mismatches.isEmpty()) {
+            List<UUID> albumIds = mismatches.stream()
+                    .map(AlbumRatingAggregateDto::getAlbumId)
+                    .toList();
+            albumRepository.recomputeRatingAggregates(albumIds);
+            catalogCacheService.evictAlbums(albumIds);
+            refreshAlbumPopularity(albumIds);
+        }
+
+        return mismatches.size();
+    }
+
+    @Override
+    @Transactional
+    public AlbumRatingImportDto importAlbumRatings(Stream<ImportAlbumRatingDto> ratings) {
+        Map<RatingKey, ImportAlbumRatingDto> dedupedRatings = new LinkedHashMap<>();
+        long received = 0;
+
+        Iterator<ImportAlbumRatingDto> iterator = ratings.iterator();
+        while (iterator.hasNext()) {
+            ImportAlbumRatingDto rating = iterator.next();
+            dedupedRatings.put(new RatingKey(rating.getUserId(), rating.getAlbumId()), rating);
+            received++;
+        }
+
+        Set<UUID> existingUserIds = findExistingIds(dedupedRatings.keySet().stream()
+                .map(RatingKey::userId), userRepository::findExistingIds);
+        // Single rating writes lock their album row, so locking the albums up front keeps the upsert from racing
+        // them. Taking the locks in id order keeps two imports from deadlocking.
+        Set<UUID> existingAlbumIds = findExistingIds(dedupedRatings.keySet().stream()
+                .map(RatingKey::albumId).sorted(), albumRepository::findExistingIdsForUpdate);
+
+        List<ImportAlbumRatingDto> validRatings = dedupedRatings.values().stream()
+                .filter(rating -> existingUserIds.contains(rating.getUserId())
+                        && existingAlbumIds.contains(rating.getAlbumId()))
+                .toList();
+
+        int imported = validRatings.isEmpty() ? 0 : albumRatingRepository.upsertRatings(validRatings);
+
+        List<UUID> affectedAlbumIds = validRatings.stream()
+                .map(ImportAlbumRatingDto::getAlbumId)
+                .distinct()
+                .toList();
+        for (List<UUID> albumIds : chunk(affectedAlbumIds)) {
+            albumRepository.recomputeRatingAggregates(albumIds);
+            refreshAlbumPopularity(albumIds);
+        }
+        catalogCacheService.evictAlbums(affectedAlbumIds);
+
+        long duplicates = received - dedupedRatings.size();
+        long skipped = dedupedRatings.size() - validRatings.size();
+
+        return new AlbumRatingImportDto(received, imported, duplicates, skipped, affectedAlbumIds.size());
+    }
+
+    private void refreshAlbumPopularity(List<UUID> albumIds) {
+        for (SuggestionDto album : albumRepository.findSuggestionsByIdIn(albumIds)) {
+            autocompleteService.setPopularity(ESuggestionType.ALBUM, album.getId(), album.getPopularity());
+        }
+    }
+
+    private Set<UUID> findExistingIds(Stream<UUID> ids, Function<List<UUID>, List<UUID>> finder) {
+        Set<UUID> existingIds = new HashSet<>();
+        for (List<UUID> chunk : chunk(ids.distinct().toList())) {
+            existingIds.addAll(finder.apply(chunk));
+        }
+        return existingIds;
+    }
+
+    private static List<List<UUID>> chunk(List<UUID> ids) {
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += IMPORT_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + IMPORT_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
 }
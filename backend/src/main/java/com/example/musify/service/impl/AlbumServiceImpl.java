@@ -6,17 +6,28 @@ import com.example.musify.dto.request.RateAlbumDto;
 import com.example.musify.dto.request.UpdateAlbumDto;
 import com.example.musify.dto.request.UserIdDto;
 import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.RecentAlbumDto;
 import com.example.musify.entity.*;
+import com.example.musify.enumeration.ESuggestionType;
+import com.example.musify.exception.ResourceAlreadyExistsException;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.*;
 import com.example.musify.service.IAlbumService;
+import com.example.musify.service.IAutocompleteService;
+import com.example.musify.service.ICatalogCacheService;
+import com.example.musify.service.IChartService;
+import com.example.musify.service.IFeedService;
 import com.example.musify.service.IFileUploadService;
+import com.example.musify.service.IRecommendationService;
+import com.example.musify.service.ISearchService;
 import com.example.musify.service.IUtilService;
+import com.example.musify.util.CursorUtils;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,26 +49,57 @@ public class AlbumServiceImpl implements IAlbumService {
     private final GenreRepository genreRepository;
     private final IFileUploadService fileUploadService;
     private final IUtilService utilService;
-    private final ModelMapper modelMapper;
+    private final ICatalogCacheService catalogCacheService;
+    private final ISearchService searchService;
+    private final IAutocompleteService autocompleteService;
+    private final IRecommendationService recommendationService;
+    private final IFeedService feedService;
+    private final IChartService chartService;
+    private final DtoMapper dtoMapper;
 
     @Override
     public PageDto<AlbumDto> getAlbums(int page) {
-        Page<Album> pageRequest = albumRepository.findAll(PageRequest.of(page - 1, 20));
+        Page<AlbumDto> pageRequest = albumRepository.findAlbumDtos(PageRequest.of(page - 1, 20));
         int totalPages = pageRequest.getTotalPages();
         int currentPage = pageRequest.getNumber() + 1;
         Long totalElements = pageRequest.getTotalElements();
 
-        List<AlbumDto> content = pageRequest.getContent().stream().
-                map(tutorial -> modelMapper.map(tutorial, AlbumDto.class)).toList();
+        List<AlbumDto> content = pageRequest.getContent();
+        albumRepository.fillGenres(content);
         return new PageDto<>(content, totalPages, currentPage, totalElements);
     }
 
     @Override
-    public AlbumDto getAlbum(String artistSlug, String albumSlug) {
-        Album album = albumRepository.findByArtistSlugAndAlbumSlug(artistSlug, albumSlug)
-                .orElseThrow(() -> new ResourceNotFoundException("Album not found."));
+    public CursorPageDto<AlbumDto> getAlbumsByCursor(String cursor, boolean includeTotal) {
+        Pageable pageable = PageRequest.of(0, CursorUtils.PAGE_SIZE + 1);
+        List<Album> albums;
 
-        return modelMapper.map(album, AlbumDto.class);
+        if (cursor == null) {
+            albums = albumRepository.findFirstByRatingCursor(pageable);
+        } else {
+            CursorUtils.Cursor position = CursorUtils.decode(cursor);
+            albums = position.value() == null
+                    ? albumRepository.findAfterUnratedCursor(position.id(), pageable)
+                    : albumRepository.findAfterRatingCursor(position.doubleValue(), position.id(), pageable);
+        }
+
+        boolean hasNext = albums.size() > CursorUtils.PAGE_SIZE;
+        List<Album> pageContent = hasNext ? albums.subList(0, CursorUtils.PAGE_SIZE) : albums;
+        Album last = hasNext ? pageContent.get(pageContent.size() - 1) : null;
+        String nextCursor = last != null ? CursorUtils.encode(last.getRating(), last.getId()) : null;
+        Long totalElements = includeTotal ? albumRepository.count() : null;
+
+        List<AlbumDto> content = pageContent.stream()
+                .map(dtoMapper::toAlbumCardDto).toList();
+        return new CursorPageDto<>(content, nextCursor, hasNext, totalElements);
+    }
+
+    @Override
+    public AlbumDto getAlbum(String artistSlug, String albumSlug) {
+        return catalogCacheService.getAlbum(artistSlug, albumSlug, () ->
+                albumRepository.findByArtistSlugAndAlbumSlug(artistSlug, albumSlug)
+                        .map(dtoMapper::toAlbumDto)
+                        .orElseThrow(() -> new ResourceNotFoundException("Album not found.")));
     }
 
     @Override
@@ -66,7 +108,7 @@ public class AlbumServiceImpl implements IAlbumService {
 
         List<Album> albums = albumRepository.findMostRecentAlbums(pageable);
 
-        return albums.stream().map(album -> modelMapper.map(album, RecentAlbumDto.class)).toList();
+        return albums.stream().map(dtoMapper::toRecentAlbumDto).toList();
     }
 
     @Override
@@ -76,7 +118,7 @@ public class AlbumServiceImpl implements IAlbumService {
 
         List<Album> albums = albumRepository.findByArtist(artist);
 
-        return albums.stream().map(comment -> modelMapper.map(comment, AlbumDto.class)).toList();
+        return albums.stream().map(dtoMapper::toAlbumCardDto).toList();
     }
 
     @Override
@@ -92,12 +134,13 @@ public class AlbumServiceImpl implements IAlbumService {
         Long totalElements = pageRequest.getTotalElements();
 
         List<AlbumDto> content = pageRequest.getContent().stream().
-                map(tutorial -> modelMapper.map(tutorial, AlbumDto.class)).toList();
+                map(dtoMapper::toAlbumCardDto).toList();
 
         return new PageDto<>(content, totalPages, currentPage, totalElements);
     }
 
     @Override
+    @Transactional
     public AlbumDto createAlbum(CreateAlbumDto request, MultipartFile file) throws IOException {
         Artist artist = artistRepository.findByName(request.getArtistName())
                 .orElseThrow(() -> new ResourceNotFoundException("Artist not found."));
@@ -136,45 +179,85 @@ public class AlbumServiceImpl implements IAlbumService {
         }
 
         if (file != null) {
-            String albumImage = fileUploadService.uploadAlbumImageFile(file);
-            album.setImage(albumImage);
+            fileUploadService.uploadAlbumImageFile(album, file);
         }
 
         album.setAlbumGenres(genres);
 
         Album savedAlbum = albumRepository.save(album);
+        feedService.publishAlbum(savedAlbum);
 
-        return modelMapper.map(savedAlbum, AlbumDto.class);
+        AlbumDto albumDto = dtoMapper.toAlbumDto(savedAlbum);
+        searchService.indexAlbum(albumDto);
+        autocompleteService.indexAlbum(albumDto);
+        return albumDto;
     }
 
     @Override
     @Transactional
     public AlbumDto rateAlbum(RateAlbumDto request, UUID albumId) {
-        Album album = albumRepository.findById(albumId)
+        Album album = albumRepository.findByIdForUpdate(albumId)
                 .orElseThrow(() -> new ResourceNotFoundException("Album not found."));
 
         User user = utilService.getCurrentUser();
 
-        AlbumRating albumRating = albumRatingRepository.findByAlbumAndUser(album, user);
+        long addedRatings = upsertAlbumRating(albumId, user.getId(), request.getRating());
+        evictAlbum(album);
+        if (addedRatings > 0) {
+            autocompleteService.adjustPopularity(ESuggestionType.ALBUM, albumId, addedRatings);
+        }
+        recommendationService.recordRating(user.getId(), albumId, album.getArtist().getId(), request.getRating());
 
-        if (albumRating != null) {
-            albumRating.setRating(request.getRating());
-        } else {
-            AlbumRating newRating = AlbumRating.builder()
-                    .album(album)
-                    .user(user)
-                    .rating(request.getRating())
-                    .build();
+        Album ratedAlbum = albumRepository.findById(albumId)
+                .orElseThrow(() -> new ResourceNotFoundException("Album not found."));
+        chartService.recordRating(ratedAlbum, user.getId(), request.getRating(), addedRatings > 0);
+        return dtoMapper.toAlbumDto(ratedAlbum);
+    }
 
-            albumRatingRepository.save(newRating);
+    // Returns how many ratings were added, so 0 when an existing rating was changed. The caller holds the album's row
+    // lock, so no other rating write on the album runs between the read and the write.
+    private long upsertAlbumRating(UUID albumId, UUID userId, Double rating) {
+        Double previousRating = albumRatingRepository.findRatingByUserAndAlbum(userId, albumId);
+        if (previousRating != null) {
+            albumRatingRepository.updateRating(albumId, userId, rating);
+            albumRepository.incrementRatingAggregate(albumId, rating - previousRating, 0L);
+            return 0L;
         }
 
-        Double averageRating = albumRatingRepository.averageAlbumRatingByAlbum(album);
-        album.setRating(averageRating);
+        try {
+            albumRatingRepository.insertRating(UUID.randomUUID(), albumId, userId, rating);
+        } catch (DataIntegrityViolationException ex) {
+            // The bulk import writes ratings without the album lock.
+            throw new ResourceAlreadyExistsException("Album rating was changed by another request, please try again.");
+        }
+        albumRepository.incrementRatingAggregate(albumId, rating, 1L);
+        return 1L;
+    }
+
+    @Override
+    @Transactional
+    public AlbumDto deleteAlbumRating(UUID albumId) {
+        Album album = albumRepository.findByIdForUpdate(albumId)
+                .orElseThrow(() -> new ResourceNotFoundException("Album not found."));
+
+        User user = utilService.getCurrentUser();
 
-        albumRepository.save(album);
+        Double removedRating = albumRatingRepository.findRatingByUserAndAlbum(user.getId(), albumId);
 
-        return modelMapper.map(album, AlbumDto.class);
+        if (removedRating == null) {
+            throw new ResourceNotFoundException("Album rating not found.");
+        }
+
+        albumRatingRepository.deleteRating(albumId, user.getId());
+        albumRepository.incrementRatingAggregate(albumId, -removedRating, -1L);
+        evictAlbum(album);
+        autocompleteService.adjustPopularity(ESuggestionType.ALBUM, albumId, -1L);
+        recommendationService.removeRating(user.getId(), albumId);
+
+        Album ratedAlbum = albumRepository.findById(albumId)
+                .orElseThrow(() -> new ResourceNotFoundException("Album not found."));
+        chartService.removeRating(ratedAlbum, user.getId());
+        return dtoMapper.toAlbumDto(ratedAlbum);
     }
 
     @Override
@@ -210,6 +293,7 @@ public class AlbumServiceImpl implements IAlbumService {
     public AlbumDto updateAlbum(UpdateAlbumDto request, MultipartFile file, UUID albumId) throws IOException {
         Album albumToUpdate = albumRepository.findById(albumId)
                 .orElseThrow(() -> new ResourceNotFoundException("Album not found."));
+        evictAlbum(albumToUpdate);
 
         Set<Genre> genres = new HashSet<>();
         List<Genre> newGenres = new ArrayList<>();
@@ -240,8 +324,7 @@ public class AlbumServiceImpl implements IAlbumService {
         }
 
         if (file != null) {
-            String imageUrl = fileUploadService.uploadAlbumImageFile(file);
-            albumToUpdate.setImage(imageUrl);
+            fileUploadService.uploadAlbumImageFile(albumToUpdate, file);
         }
 
         if (!request.getTitle().equals(albumToUpdate.getTitle())) {
@@ -257,17 +340,30 @@ public class AlbumServiceImpl implements IAlbumService {
             albumToUpdate.setSlug(request.getSlug());
         }
 
-        return modelMapper.map(albumToUpdate, AlbumDto.class);
+        AlbumDto albumDto = dtoMapper.toAlbumDto(albumToUpdate);
+        searchService.indexAlbum(albumDto);
+        autocompleteService.indexAlbum(albumDto);
+        chartService.indexAlbum(albumToUpdate);
+        return albumDto;
     }
 
     @Override
     @Transactional
     public MessageDto deleteAlbum(UUID albumId) {
-        albumRepository.findById(albumId)
+        Album album = albumRepository.findById(albumId)
                 .orElseThrow(() -> new ResourceNotFoundException("Album not found."));
 
         albumRepository.deleteById(albumId);
+        evictAlbum(album);
+        searchService.removeAlbum(albumId);
+        autocompleteService.removeAlbum(albumId);
+        chartService.removeAlbum(albumId);
 
         return new MessageDto("Album deleted.");
     }
+
+    private void evictAlbum(Album album) {
+        catalogCacheService.evictAlbum(album.getArtist().getSlug(), album.getSlug());
+        feedService.evictTimeline(album.getArtist().getId());
+    }
 }
@@ -4,21 +4,28 @@ import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.dto.request.CreateArtistDto;
 import com.example.musify.dto.request.UpdateArtistDto;
 import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.RecentArtistDto;
 import com.example.musify.entity.Album;
 import com.example.musify.entity.Artist;
 import com.example.musify.entity.Genre;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.AlbumListRepository;
 import com.example.musify.repository.AlbumRepository;
 import com.example.musify.repository.ArtistRepository;
 import com.example.musify.repository.GenreRepository;
 import com.example.musify.service.IArtistService;
+import com.example.musify.service.IAutocompleteService;
+import com.example.musify.service.ICatalogCacheService;
+import com.example.musify.service.IFeedService;
 import com.example.musify.service.IFileUploadService;
+import com.example.musify.service.ISearchService;
+import com.example.musify.service.ISimilarArtistService;
+import com.example.musify.util.CursorUtils;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,7 +45,12 @@ public class ArtistServiceImpl implements IArtistService {
     private final AlbumListRepository albumListRepository;
     private final IFileUploadService fileUploadService;
     private final AlbumRepository albumRepository;
-    private final ModelMapper modelMapper;
+    private final ICatalogCacheService catalogCacheService;
+    private final ISearchService searchService;
+    private final IAutocompleteService autocompleteService;
+    private final ISimilarArtistService similarArtistService;
+    private final IFeedService feedService;
+    private final DtoMapper dtoMapper;
 
     @Override
     public PageDto<ArtistDto> getArtists(int page) {
@@ -48,16 +60,39 @@ public class ArtistServiceImpl implements IArtistService {
         Long totalElements = pageRequest.getTotalElements();
 
         List<ArtistDto> content = pageRequest.getContent().stream().
-                map(artist -> modelMapper.map(artist, ArtistDto.class)).toList();
+                map(dtoMapper::toArtistCardDto).toList();
         return new PageDto<>(content, totalPages, currentPage, totalElements);
     }
 
+    @Override
+    public CursorPageDto<ArtistDto> getArtistsByCursor(String cursor, boolean includeTotal) {
+        Pageable pageable = PageRequest.of(0, CursorUtils.PAGE_SIZE + 1);
+        List<Artist> artists;
+
+        if (cursor == null) {
+            artists = artistRepository.findFirstByNameCursor(pageable);
+        } else {
+            CursorUtils.Cursor position = CursorUtils.decode(cursor);
+            artists = artistRepository.findAfterNameCursor(position.value(), position.id(), pageable);
+        }
+
+        boolean hasNext = artists.size() > CursorUtils.PAGE_SIZE;
+        List<Artist> pageContent = hasNext ? artists.subList(0, CursorUtils.PAGE_SIZE) : artists;
+        Artist last = hasNext ? pageContent.get(pageContent.size() - 1) : null;
+        String nextCursor = last != null ? CursorUtils.encode(last.getName(), last.getId()) : null;
+        Long totalElements = includeTotal ? artistRepository.count() : null;
+
+        List<ArtistDto> content = pageContent.stream()
+                .map(dtoMapper::toArtistCardDto).toList();
+        return new CursorPageDto<>(content, nextCursor, hasNext, totalElements);
+    }
+
     @Override
     public List<RecentArtistDto> getMostRecentArtists() {
         Pageable pageable = PageRequest.of(0, 4);
 
         return artistRepository.findMostRecentArtists(pageable).stream().map(
-                artist -> modelMapper.map(artist, RecentArtistDto.class)).toList();
+                dtoMapper::toRecentArtistDto).toList();
     }
 
     @Override
@@ -68,19 +103,19 @@ public class ArtistServiceImpl implements IArtistService {
         Long totalElements = pageRequest.getTotalElements();
 
         List<ArtistDto> content = pageRequest.getContent().stream().
-                map(artist -> modelMapper.map(artist, ArtistDto.class)).toList();
+                map(dtoMapper::toArtistCardDto).toList();
         return new PageDto<>(content, totalPages, currentPage, totalElements);
     }
 
     @Override
     public ArtistDto getArtist(String artistSlug) {
-        Artist artist = artistRepository.findBySlug(artistSlug)
-                .orElseThrow(() -> new ResourceNotFoundException("Artist not found."));
-
-        return modelMapper.map(artist, ArtistDto.class);
+        return catalogCacheService.getArtist(artistSlug, () -> artistRepository.findBySlug(artistSlug)
+                .map(dtoMapper::toArtistDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Artist not found.")));
     }
 
     @Override
+    @Transactional
     public ArtistDto createArtist(CreateArtistDto request, MultipartFile file) throws IOException {
         Artist artist = Artist.builder()
                 .name(request.getName())
@@ -114,14 +149,16 @@ public class ArtistServiceImpl implements IArtistService {
         }
 
         if (file != null) {
-            String artistImage = fileUploadService.uploadArtistImageFile(file);
-            artist.setImage(artistImage);
+            fileUploadService.uploadArtistImageFile(artist, file);
         }
 
         artist.setArtistGenres(genres);
         Artist savedArtist = artistRepository.save(artist);
 
-        return modelMapper.map(savedArtist, ArtistDto.class);
+        ArtistDto artistDto = dtoMapper.toArtistDto(savedArtist);
+        searchService.indexArtist(artistDto);
+        autocompleteService.indexArtist(artistDto);
+        return artistDto;
     }
 
     @Override
@@ -129,6 +166,8 @@ public class ArtistServiceImpl implements IArtistService {
     public ArtistDto updateArtist(UpdateArtistDto request, MultipartFile file, UUID artistId) throws IOException {
         Artist artist = artistRepository.findById(artistId)
                 .orElseThrow(() -> new ResourceNotFoundException("Artist not found."));
+        catalogCacheService.evictArtist(artist.getSlug());
+        feedService.evictTimeline(artistId);
 
         Set<Genre> genres = new HashSet<>();
         List<Genre> newGenres = new ArrayList<>();
@@ -158,8 +197,7 @@ public class ArtistServiceImpl implements IArtistService {
         }
 
         if (file != null) {
-            String imageUrl = fileUploadService.uploadArtistImageFile(file);
-            artist.setImage(imageUrl);
+            fileUploadService.uploadArtistImageFile(artist, file);
         }
 
         if (!artist.getName().equals(request.getName())) {
@@ -175,7 +213,10 @@ public class ArtistServiceImpl implements IArtistService {
             updateArtistAlbumsCountry(artist,request.getOriginCountry());
         }
 
-        return modelMapper.map(artist, ArtistDto.class);
+        ArtistDto artistDto = dtoMapper.toArtistDto(artist);
+        searchService.indexArtist(artistDto);
+        autocompleteService.indexArtist(artistDto);
+        return artistDto;
     }
 
     private void updateArtistAlbumsCountry(Artist artist,String newCountry){
@@ -195,6 +236,11 @@ public class ArtistServiceImpl implements IArtistService {
         albumRepository.deleteByArtist(artistId);
         albumListRepository.deleteAlbumsByArtistId(artistId);
         artistRepository.delete(artist);
+        catalogCacheService.evictArtist(artist.getSlug());
+        searchService.removeArtist(artistId);
+        autocompleteService.removeArtist(artistId);
+        similarArtistService.removeArtist(artistId);
+        feedService.evictTimeline(artistId);
 
         return new MessageDto("Artist deleted.");
     }
@@ -0,0 +1,632 @@
+package com.example.musify.service.impl;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.AlbumGenreDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.SuggestionDto;
+import com.example.musify.enumeration.ESuggestionType;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.GenreRepository;
+import com.example.musify.service.IAutocompleteService;
+import com.example.musify.util.RebuildableModel;
+import com.example.musify.util.TextUtils;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Prefix index over artist names, album titles and genre names, ranked by follower, rating and album counts.
+// Writes are applied after the surrounding transaction commits and the index is rebuilt from the database on startup.
+@Service
+@RequiredArgsConstructor
+public class AutocompleteServiceImpl implements IAutocompleteService {
+    private static final Logger logger = LoggerFactory.getLogger(AutocompleteServiceImpl.class);
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int MAX_LIMIT = 20;
+
+    private final ArtistRepository artistRepository;
+    private final AlbumRepository albumRepository;
+    private final GenreRepository genreRepository;
+
+    private final RebuildableModel<Catalog> catalog = new RebuildableModel<>(new Catalog());
+
+    @Override
+    public List<SuggestionDto> suggest(String query, ESuggestionType type, int limit) {
+        String prefix = String.join(" ", TextUtils.tokenize(query));
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        int k = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        return catalog.read(catalog -> {
+            Collection<PrefixIndex> indexes = type != null
+                    ? List.of(catalog.index(type))
+                    : catalog.indexes.values();
+            return indexes.stream()
+                    .flatMap(index -> index.top(prefix, k).stream())
+                    .sorted(Suggestion.MOST_POPULAR)
+                    .limit(k)
+                    .map(Suggestion::toDto)
+                    .toList();
+        });
+    }
+
+    @Override
+    public void indexArtist(ArtistDto artist) {
+        List<GenreRef> genres = artist.getArtistGenres() == null ? List.of() : artist.getArtistGenres().stream()
+                .map(genre -> new GenreRef(genre.getId(), genre.getName(), genre.getSlug()))
+                .toList();
+        catalog.writeAfterCommit(catalog -> catalog.putArtist(artist.getId(), artist.getName(), artist.getSlug(), genres));
+    }
+
+    @Override
+    public void indexAlbum(AlbumDto album) {
+        List<GenreRef> genres = album.getGenres() == null ? List.of() : album.getGenres().stream()
+                .map(genre -> new GenreRef(genre.getId(), genre.getName(), genre.getSlug()))
+                .toList();
+        catalog.writeAfterCommit(catalog -> catalog.putAlbum(album.getId(), album.getTitle(), album.getSlug(),
+                album.getArtistSlug(), genres));
+    }
+
+    @Override
+    public void removeArtist(UUID artistId) {
+        catalog.writeAfterCommit(catalog -> catalog.removeArtist(artistId));
+    }
+
+    @Override
+    public void removeAlbum(UUID albumId) {
+        catalog.writeAfterCommit(catalog -> catalog.removeAlbum(albumId));
+    }
+
+    @Override
+    public void adjustPopularity(ESuggestionType type, UUID id, long delta) {
+        // A rebuild running concurrently may have loaded the count with this delta already in it.
+        catalog.writeAfterCommit(catalog -> catalog.adjustPopularity(type, id, delta), (rebuilt, popularity) -> {
+            if (popularity != null) {
+                rebuilt.setPopularity(type, id, popularity);
+            }
+        });
+    }
+
+    @Override
+    public void setPopularity(ESuggestionType type, UUID id, long popularity) {
+        catalog.writeAfterCommit(catalog -> catalog.setPopularity(type, id, popularity));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Catalog rebuilt = catalog.rebuild(() -> {
+            Catalog loaded = new Catalog();
+            loaded.load(loadArtists(), loadAlbums(), genreRepository.findSuggestions());
+            return loaded;
+        });
+        logger.info("Autocomplete index rebuilt with {} artists, {} albums and {} genres.",
+                rebuilt.index(ESuggestionType.ARTIST).size(), rebuilt.index(ESuggestionType.ALBUM).size(),
+                rebuilt.index(ESuggestionType.GENRE).size());
+    }
+
+    private List<Suggestion> loadArtists() {
+        List<Suggestion> artists = new ArrayList<>();
+        Page<SuggestionDto> page;
+        int number = 0;
+        do {
+            page = artistRepository.findSuggestions(PageRequest.of(number++, REBUILD_PAGE_SIZE));
+            page.forEach(artist -> artists.add(Suggestion.of(artist, Suggestion.NO_GENRES)));
+        } while (page.hasNext());
+        return artists;
+    }
+
+    private List<Suggestion> loadAlbums() {
+        List<Suggestion> albums = new ArrayList<>();
+        Page<SuggestionDto> page;
+        int number = 0;
+        do {
+            page = albumRepository.findSuggestions(PageRequest.of(number++, REBUILD_PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            Map<UUID, List<UUID>> genreIds = albumRepository.findGenresByAlbumIdIn(page.map(SuggestionDto::getId)
+                            .getContent()).stream()
+                    .collect(Collectors.groupingBy(AlbumGenreDto::getAlbumId,
+                            Collectors.mapping(AlbumGenreDto::getGenreId, Collectors.toList())));
+            page.forEach(album -> albums.add(Suggestion.of(album,
+                    genreIds.getOrDefault(album.getId(), List.of()).toArray(UUID[]::new))));
+        } while (page.hasNext());
+        return albums;
+    }
+
+    private record GenreRef(UUID id, String name, String slug) {
+    }
+
+    private static final class Catalog {
+        private final Map<ESuggestionType, PrefixIndex> indexes = new EnumMap<>(ESuggestionType.class);
+        private final Map<String, Set<UUID>> albumsByArtistSlug = new HashMap<>();
+
+        Catalog() {
+            for (ESuggestionType type : ESuggestionType.values()) {
+                indexes.put(type, new PrefixIndex());
+            }
+        }
+
+        PrefixIndex index(ESuggestionType type) {
+            return indexes.get(type);
+        }
+
+        void load(List<Suggestion> artists, List<Suggestion> albums, List<SuggestionDto> genres) {
+            index(ESuggestionType.ARTIST).load(artists);
+            index(ESuggestionType.ALBUM).load(albums);
+            index(ESuggestionType.GENRE).load(genres.stream()
+                    .map(genre -> Suggestion.of(genre, Suggestion.NO_GENRES))
+                    .toList());
+            albums.forEach(album -> linkToArtist(album.artistSlug, album.id));
+        }
+
+        void putArtist(UUID id, String name, String slug, List<GenreRef> genres) {
+            genres.forEach(this::putGenre);
+
+            Suggestion previous = index(ESuggestionType.ARTIST).get(id);
+            put(ESuggestionType.ARTIST, id, name, slug, slug, Suggestion.NO_GENRES);
+            if (previous != null && !Objects.equals(previous.slug, slug)) {
+                Set<UUID> albumIds = albumsByArtistSlug.remove(previous.slug);
+                if (albumIds != null) {
+                    albumIds.forEach(albumId -> index(ESuggestionType.ALBUM).get(albumId).artistSlug = slug);
+                    albumsByArtistSlug.put(slug, albumIds);
+                }
+            }
+        }
+
+        void putAlbum(UUID id, String title, String slug, String artistSlug, List<GenreRef> genres) {
+            genres.forEach(this::putGenre);
+            UUID[] genreIds = genres.stream()
+                    .map(GenreRef::id)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toArray(UUID[]::new);
+
+            Suggestion previous = index(ESuggestionType.ALBUM).get(id);
+            if (previous != null) {
+                unlinkFromArtist(previous.artistSlug, id);
+                countAlbumGenres(previous.genreIds, -1);
+            }
+            put(ESuggestionType.ALBUM, id, title, slug, artistSlug, genreIds);
+            linkToArtist(artistSlug, id);
+            countAlbumGenres(genreIds, 1);
+        }
+
+        void removeArtist(UUID id) {
+            Suggestion artist = index(ESuggestionType.ARTIST).remove(id);
+            if (artist != null) {
+                Set<UUID> albumIds = albumsByArtistSlug.remove(artist.slug);
+                if (albumIds != null) {
+                    List.copyOf(albumIds).forEach(this::removeAlbum);
+                }
+            }
+        }
+
+        void removeAlbum(UUID id) {
+            Suggestion album = index(ESuggestionType.ALBUM).remove(id);
+            if (album != null) {
+                unlinkFromArtist(album.artistSlug, id);
+                countAlbumGenres(album.genreIds, -1);
+            }
+        }
+
+        // Returns the new popularity, or null when the suggestion is not indexed.
+        Long adjustPopularity(ESuggestionType type, UUID id, long delta) {
+            Suggestion suggestion = index(type).get(id);
+            if (suggestion == null) {
+                return null;
+            }
+            index(type).setPopularity(suggestion, suggestion.popularity + delta);
+            return suggestion.popularity;
+        }
+
+        void setPopularity(ESuggestionType type, UUID id, long popularity) {
+            Suggestion suggestion = index(type).get(id);
+            if (suggestion != null) {
+                index(type).setPopularity(suggestion, popularity);
+            }
+        }
+
+        private void putGenre(GenreRef genre) {
+            Suggestion previous = genre.id() != null ? index(ESuggestionType.GENRE).get(genre.id()) : null;
+            if (genre.id() != null && (previous == null || !previous.name.equals(genre.name()))) {
+                put(ESuggestionType.GENRE, genre.id(), genre.name(), genre.slug(), null, Suggestion.NO_GENRES);
+            }
+        }
+
+        // Keys only depend on the name, so anything else is updated in place and keeps its slots.
+        private void put(ESuggestionType type, UUID id, String name, String slug, String artistSlug, UUID[] genreIds) {
+            PrefixIndex index = index(type);
+            Suggestion previous = index.get(id);
+            if (previous != null && previous.name.equals(name)) {
+                previous.slug = slug;
+                previous.artistSlug = artistSlug;
+                previous.genreIds = genreIds;
+                return;
+            }
+
+            long popularity = previous != null ? previous.popularity : 0;
+            index.remove(id);
+            index.add(new Suggestion(type, id, name, slug, artistSlug, genreIds, popularity));
+        }
+
+        private void countAlbumGenres(UUID[] genreIds, long delta) {
+            for (UUID genreId : genreIds) {
+                adjustPopularity(ESuggestionType.GENRE, genreId, delta);
+            }
+        }
+
+        private void linkToArtist(String artistSlug, UUID albumId) {
+            albumsByArtistSlug.computeIfAbsent(artistSlug, slug -> new HashSet<>()).add(albumId);
+        }
+
+        private void unlinkFromArtist(String artistSlug, UUID albumId) {
+            Set<UUID> albumIds = albumsByArtistSlug.get(artistSlug);
+            if (albumIds != null) {
+                albumIds.remove(albumId);
+                if (albumIds.isEmpty()) {
+                    albumsByArtistSlug.remove(artistSlug);
+                }
+            }
+        }
+    }
+
+    private static final class Suggestion {
+        static final UUID[] NO_GENRES = new UUID[0];
+        static final Comparator<Suggestion> MOST_POPULAR = Comparator
+                .comparingLong((Suggestion suggestion) -> suggestion.popularity).reversed()
+                .thenComparing(suggestion -> suggestion.name);
+        private static final int MAX_KEYS = 8;
+        private static final int[] NO_POSITIONS = new int[0];
+
+        private final ESuggestionType type;
+        private final UUID id;
+        private final String name;
+        // The whole name and every later word start, so "beat" finds "The Beatles".
+        private final String[] keys;
+        private String slug;
+        private String artistSlug;
+        private UUID[] genreIds;
+        private long popularity;
+        // Where the keys sit when they are in a level rather than the recent buffer.
+        private Level level;
+        private int[] positions = NO_POSITIONS;
+        private boolean removed;
+
+        Suggestion(ESuggestionType type, UUID id, String name, String slug, String artistSlug, UUID[] genreIds,
+                   long popularity) {
+            this.type = type;
+            this.id = id;
+            this.name = name;
+            this.keys = keysOf(name);
+            this.slug = slug;
+            this.artistSlug = artistSlug;
+            this.genreIds = genreIds;
+            this.popularity = Math.max(0, popularity);
+        }
+
+        static Suggestion of(SuggestionDto suggestion, UUID[] genreIds) {
+            return new Suggestion(suggestion.getType(), suggestion.getId(), suggestion.getName(),
+                    suggestion.getSlug(), suggestion.getArtistSlug(), genreIds,
+                    suggestion.getPopularity() != null ? suggestion.getPopularity() : 0);
+        }
+
+        private static String[] keysOf(String name) {
+            List<String> tokens = TextUtils.tokenize(name);
+            String[] keys = new String[Math.min(tokens.size(), MAX_KEYS)];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = String.join(" ", tokens.subList(i, tokens.size()));
+            }
+            return keys;
+        }
+
+        long rank() {
+            return removed ? -1 : popularity;
+        }
+
+        SuggestionDto toDto() {
+            return new SuggestionDto(type, id, name, slug, artistSlug, popularity);
+        }
+    }
+
+    // Keys live in sorted levels, each with a max-popularity segment tree over it, so the top-k for a prefix is a
+    // binary search plus k range-max lookups per level. New keys go to a small sorted buffer that becomes a level
+    // once full, and levels of similar size are merged like a binary counter so only log(n) of them exist.
+    // Removals and popularity changes are point updates on the owning level's tree.
+    private static final class PrefixIndex {
+        private static final int MAX_RECENT_KEYS = 512;
+        // Each level is at least this many times larger than the next, so queries visit few of them.
+        private static final int LEVEL_GROWTH = 4;
+
+        private final Map<UUID, Suggestion> suggestions = new HashMap<>();
+        private final TreeMap<String, List<Suggestion>> recent = new TreeMap<>();
+        // Largest first.
+        private final List<Level> levels = new ArrayList<>();
+        private int recentKeys;
+        private int levelKeys;
+        private int removedKeys;
+
+        int size() {
+            return suggestions.size();
+        }
+
+        Suggestion get(UUID id) {
+            return suggestions.get(id);
+        }
+
+        void load(List<Suggestion> loaded) {
+            loaded.forEach(suggestion -> suggestions.put(suggestion.id, suggestion));
+
+            List<Map.Entry<String, Suggestion>> entries = new ArrayList<>();
+            for (Suggestion suggestion : suggestions.values()) {
+                for (String key : suggestion.keys) {
+                    entries.add(Map.entry(key, suggestion));
+                }
+            }
+            entries.sort(Map.Entry.comparingByKey());
+
+            recent.clear();
+            levels.clear();
+            levels.add(new Level(entries));
+            recentKeys = 0;
+            levelKeys = entries.size();
+            removedKeys = 0;
+        }
+
+        void add(Suggestion suggestion) {
+            suggestions.put(suggestion.id, suggestion);
+            for (String key : suggestion.keys) {
+                recent.computeIfAbsent(key, k -> new ArrayList<>(1)).add(suggestion);
+            }
+            recentKeys += suggestion.keys.length;
+            if (recentKeys > MAX_RECENT_KEYS) {
+                flush();
+            }
+        }
+
+        Suggestion remove(UUID id) {
+            Suggestion suggestion = suggestions.remove(id);
+            if (suggestion == null) {
+                return null;
+            }
+
+            suggestion.removed = true;
+            if (suggestion.level != null) {
+                suggestion.level.update(suggestion);
+                removedKeys += suggestion.keys.length;
+                if (removedKeys > Math.max(MAX_RECENT_KEYS, levelKeys / 2)) {
+                    mergeLevels(0);
+                }
+            } else {
+                for (String key : suggestion.keys) {
+                    List<Suggestion> owners = recent.get(key);
+                    owners.remove(suggestion);
+                    if (owners.isEmpty()) {
+                        recent.remove(key);
+                    }
+                }
+                recentKeys -= suggestion.keys.length;
+            }
+            return suggestion;
+        }
+
+        void setPopularity(Suggestion suggestion, long popularity) {
+            suggestion.popularity = Math.max(0, popularity);
+            if (suggestion.level != null) {
+                suggestion.level.update(suggestion);
+            }
+        }
+
+        List<Suggestion> top(String prefix, int limit) {
+            String end = prefix + Character.MAX_VALUE;
+            Set<Suggestion> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<Suggestion> candidates = new ArrayList<>();
+
+            for (Level level : levels) {
+                level.top(prefix, end, limit, seen, candidates);
+            }
+            for (List<Suggestion> owners : recent.subMap(prefix, true, end, false).values()) {
+                for (Suggestion owner : owners) {
+                    if (seen.add(owner)) {
+                        candidates.add(owner);
+                    }
+                }
+            }
+
+            candidates.sort(Suggestion.MOST_POPULAR);
+            return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+        }
+
+        private void flush() {
+            List<Map.Entry<String, Suggestion>> entries = new ArrayList<>(recentKeys);
+            recent.forEach((key, owners) -> owners.forEach(owner -> entries.add(Map.entry(key, owner))));
+            recent.clear();
+            recentKeys = 0;
+
+            levels.add(new Level(entries));
+            levelKeys += entries.size();
+            int first = levels.size() - 1;
+            int merged = entries.size();
+            while (first > 0 && levels.get(first - 1).size() <= LEVEL_GROWTH * merged) {
+                first--;
+                merged += levels.get(first).size();
+            }
+            mergeLevels(first);
+        }
+
+        // Merges every level from the given index on into one, dropping removed keys along the way.
+        private void mergeLevels(int first) {
+            if (levels.size() - first < 2) {
+                return;
+            }
+
+            Level merged = levels.remove(levels.size() - 1);
+            int before = merged.size();
+            while (levels.size() > first) {
+                Level level = levels.remove(levels.size() - 1);
+                before += level.size();
+                merged = Level.merge(level, merged);
+            }
+            levels.add(merged);
+
+            int dropped = before - merged.size();
+            levelKeys -= dropped;
+            removedKeys -= dropped;
+        }
+    }
+
+    private static final class Level {
+        private final String[] keys;
+        private final Suggestion[] owners;
+        // Best position under each node, with its rank alongside so comparisons never touch the owners.
+        private final int[] tree;
+        private final long[] ranks;
+        private final int leaves;
+
+        // Entries must be sorted by key; claims every owner's positions for this level.
+        Level(List<Map.Entry<String, Suggestion>> entries) {
+            int size = entries.size();
+            keys = new String[size];
+            owners = new Suggestion[size];
+            Map<Suggestion, Integer> filled = new IdentityHashMap<>();
+            for (int i = 0; i < size; i++) {
+                Suggestion owner = entries.get(i).getValue();
+                keys[i] = entries.get(i).getKey();
+                owners[i] = owner;
+                int slot = filled.merge(owner, 1, Integer::sum) - 1;
+                if (slot == 0) {
+                    owner.level = this;
+                    owner.positions = new int[owner.keys.length];
+                }
+                owner.positions[slot] = i;
+            }
+
+            leaves = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+            tree = new int[2 * leaves];
+            ranks = new long[2 * leaves];
+            for (int i = 0; i < leaves; i++) {
+                tree[leaves + i] = i;
+                ranks[leaves + i] = i < size ? owners[i].rank() : Long.MIN_VALUE;
+            }
+            for (int node = leaves - 1; node > 0; node--) {
+                combine(node);
+            }
+        }
+
+        // Both levels are sorted, so a linear merge keeps the result sorted.
+        static Level merge(Level a, Level b) {
+            List<Map.Entry<String, Suggestion>> entries = new ArrayList<>(a.size() + b.size());
+            int i = 0;
+            int j = 0;
+            while (i < a.size() || j < b.size()) {
+                boolean fromA = j == b.size() || (i < a.size() && a.keys[i].compareTo(b.keys[j]) <= 0);
+                Level source = fromA ? a : b;
+                int position = fromA ? i++ : j++;
+                if (!source.owners[position].removed) {
+                    entries.add(Map.entry(source.keys[position], source.owners[position]));
+                }
+            }
+            return new Level(entries);
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        void update(Suggestion owner) {
+            for (int position : owner.positions) {
+                ranks[position + leaves] = owner.rank();
+                for (int node = (position + leaves) >> 1; node > 0; node >>= 1) {
+                    combine(node);
+                }
+            }
+        }
+
+        // Left children hold the earlier positions, so ties go left.
+        private void combine(int node) {
+            int child = ranks[2 * node] >= ranks[2 * node + 1] ? 2 * node : 2 * node + 1;
+            tree[node] = tree[child];
+            ranks[node] = ranks[child];
+        }
+
+        // Adds up to limit owners with keys in [prefix, end), most popular first.
+        void top(String prefix, String end, int limit, Set<Suggestion> seen, List<Suggestion> candidates) {
+            int found = 0;
+            // Each queued range is [from, to) with the position of its most popular key.
+            PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> compare(a[2], b[2]));
+            offer(ranges, lowerBound(prefix), lowerBound(end));
+            while (!ranges.isEmpty() && found < limit) {
+                int[] range = ranges.poll();
+                if (ranks[range[2] + leaves] < 0) {
+                    break;
+                }
+                Suggestion owner = owners[range[2]];
+                if (seen.add(owner)) {
+                    candidates.add(owner);
+                    found++;
+                }
+                offer(ranges, range[0], range[2]);
+                offer(ranges, range[2] + 1, range[1]);
+            }
+        }
+
+        private void offer(PriorityQueue<int[]> ranges, int from, int to) {
+            if (from < to) {
+                ranges.add(new int[]{from, to, rangeMax(from, to)});
+            }
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // Negative when position a ranks first: more popular, then earlier in key order.
+        private int compare(int a, int b) {
+            int byRank = Long.compare(ranks[b + leaves], ranks[a + leaves]);
+            return byRank != 0 ? byRank : Integer.compare(a, b);
+        }
+
+        private int rangeMax(int from, int to) {
+            int best = -1;
+            for (int left = from + leaves, right = to + leaves; left < right; left >>= 1, right >>= 1) {
+                if ((left & 1) == 1) {
+                    best = better(best, left++);
+                }
+                if ((right & 1) == 1) {
+                    best = better(best, --right);
+                }
+            }
+            return tree[best];
+        }
+
+        private int better(int bestNode, int node) {
+            if (bestNode < 0 || ranks[node] > ranks[bestNode]
+                    || (ranks[node] == ranks[bestNode] && tree[node] < tree[bestNode])) {
+                return node;
+            }
+            return bestNode;
+        }
+    }
+}
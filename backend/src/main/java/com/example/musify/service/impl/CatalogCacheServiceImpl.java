@@ -0,0 +1,100 @@
+package com.example.musify.service.impl;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.CacheStatsDto;
+import com.example.musify.service.ICatalogCacheService;
+import com.example.musify.util.CacheUtils;
+import com.example.musify.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Service
+public class CatalogCacheServiceImpl implements ICatalogCacheService {
+    private final AsyncCache<AlbumKey, AlbumDto> albums;
+    private final AsyncCache<String, ArtistDto> artists;
+
+    private record AlbumKey(String artistSlug, String albumSlug) {
+    }
+
+    public CatalogCacheServiceImpl(@Value("${ignacio.app.catalogCacheMaxSize:10000}") long maxSize,
+                                   @Value("${ignacio.app.catalogCacheTtlMs:600000}") long ttlMs) {
+        this.albums = buildCache(maxSize, ttlMs);
+        this.artists = buildCache(maxSize, ttlMs);
+    }
+
+    private static <K, V> AsyncCache<K, V> buildCache(long maxSize, long ttlMs) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public AlbumDto getAlbum(String artistSlug, String albumSlug, Supplier<AlbumDto> loader) {
+        return CacheUtils.getOrLoad(albums, new AlbumKey(artistSlug, albumSlug), loader);
+    }
+
+    @Override
+    public ArtistDto getArtist(String artistSlug, Supplier<ArtistDto> loader) {
+        return CacheUtils.getOrLoad(artists, artistSlug, loader);
+    }
+
+    @Override
+    public void evictAlbum(String artistSlug, String albumSlug) {
+        AlbumKey key = new AlbumKey(artistSlug, albumSlug);
+        evictNowAndAfterCommit(() -> albums.synchronous().invalidate(key));
+    }
+
+    @Override
+    public void evictAlbums(Collection<UUID> albumIds) {
+        if (albumIds.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> ids = new HashSet<>(albumIds);
+        evictNowAndAfterCommit(() -> albums.synchronous().asMap().values().removeIf(album -> ids.contains(album.getId())));
+    }
+
+    @Override
+    public void evictArtist(String artistSlug) {
+        evictNowAndAfterCommit(() -> {
+            artists.synchronous().invalidate(artistSlug);
+            albums.synchronous().asMap().keySet().removeIf(key -> key.artistSlug().equals(artistSlug));
+        });
+    }
+
+    @Override
+    public List<CacheStatsDto> getStats() {
+        return List.of(toStatsDto("albums", albums.synchronous()), toStatsDto("artists", artists.synchronous()));
+    }
+
+    private static CacheStatsDto toStatsDto(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDto(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.evictionCount(), stats.hitRate());
+    }
+
+    // A reader can reload the old row between the eviction and the commit, so evict again once it is visible.
+    private static void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionUtils.afterCommit(eviction);
+        }
+    }
+}
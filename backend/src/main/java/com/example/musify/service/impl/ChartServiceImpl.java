@@ -0,0 +1,465 @@
+package com.example.musify.service.impl;
+
+import com.example.musify.dto.response.AlbumGenreEntryDto;
+import com.example.musify.dto.response.ChartAlbumDto;
+import com.example.musify.dto.response.ChartAlbumEntryDto;
+import com.example.musify.dto.response.RecentRatingEntryDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Genre;
+import com.example.musify.enumeration.EChartWindow;
+import com.example.musify.repository.AlbumRatingRepository;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.service.IChartService;
+import com.example.musify.util.KeysetPages;
+import com.example.musify.util.RebuildableModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Top charts ranked by a Bayesian average, (priorWeight * mean + sum) / (priorWeight + count), so albums with a few
+// high ratings do not outrank well-established ones. Every window keeps one sorted set per bucket (all albums, each
+// genre, each origin country). Rating writes rescore the album after commit, a periodic slide expires ratings that
+// left the week and month windows, and the model is rebuilt on startup and nightly.
+@Service
+public class ChartServiceImpl implements IChartService {
+    private static final Logger logger = LoggerFactory.getLogger(ChartServiceImpl.class);
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    private static final int MAX_LIMIT = 100;
+    private static final Duration WEEK = Duration.ofDays(7);
+    private static final Duration MONTH = Duration.ofDays(30);
+    private static final int WEEK_WINDOW = EChartWindow.WEEK.ordinal();
+    private static final int MONTH_WINDOW = EChartWindow.MONTH.ordinal();
+    private static final int ALL_TIME_WINDOW = EChartWindow.ALL_TIME.ordinal();
+    private static final int WINDOWS = EChartWindow.values().length;
+
+    private final AlbumRepository albumRepository;
+    private final AlbumRatingRepository albumRatingRepository;
+    private final double priorWeight;
+
+    private final RebuildableModel<Model> model;
+
+    public ChartServiceImpl(AlbumRepository albumRepository,
+                            AlbumRatingRepository albumRatingRepository,
+                            @Value("${ignacio.app.chartPriorWeight:10}") double priorWeight) {
+        this.albumRepository = albumRepository;
+        this.albumRatingRepository = albumRatingRepository;
+        this.priorWeight = priorWeight;
+        this.model = new RebuildableModel<>(new Model(priorWeight));
+    }
+
+    @Override
+    public List<ChartAlbumDto> getChart(EChartWindow window, String genre, String country, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<Ranked> ranked = model.read(model -> model.top(window.ordinal(), genre, country, size));
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        // Albums deleted since the model last saw them simply drop out here.
+        Map<UUID, ChartAlbumDto> albums = albumRepository
+                .findChartAlbumsByIdIn(ranked.stream().map(Ranked::albumId).toList()).stream()
+                .collect(Collectors.toMap(ChartAlbumDto::getId, Function.identity()));
+        List<ChartAlbumDto> result = new ArrayList<>(ranked.size());
+        for (Ranked entry : ranked) {
+            ChartAlbumDto album = albums.get(entry.albumId());
+            if (album != null) {
+                album.setScore(entry.score());
+                result.add(album);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void recordRating(Album album, UUID userId, Double rating, boolean added) {
+        AlbumSnapshot snapshot = AlbumSnapshot.of(album);
+        Instant ratedAt = Instant.now();
+        model.writeAfterCommit(model -> model.rate(snapshot, userId, rating, added, ratedAt));
+    }
+
+    @Override
+    public void removeRating(Album album, UUID userId) {
+        AlbumSnapshot snapshot = AlbumSnapshot.of(album);
+        model.writeAfterCommit(model -> model.unrate(snapshot, userId));
+    }
+
+    @Override
+    public void indexAlbum(Album album) {
+        AlbumSnapshot snapshot = AlbumSnapshot.of(album);
+        model.writeAfterCommit(model -> model.index(snapshot));
+    }
+
+    @Override
+    public void removeAlbum(UUID albumId) {
+        model.writeAfterCommit(model -> model.remove(albumId));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${ignacio.app.chartRebuildCron:0 0 5 * * *}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Instant now = Instant.now();
+        Instant since = now.minus(MONTH);
+        Model rebuilt = model.rebuild(() -> {
+            Model loaded = new Model(priorWeight);
+            KeysetPages.forEach(LOAD_PAGE_SIZE, albumRepository::findFirstChartAlbumEntries,
+                    albumRepository::findChartAlbumEntriesAfter, ChartAlbumEntryDto::getId, loaded::loadAlbum);
+            albumRepository.findRatedAlbumGenreEntries().forEach(loaded::loadGenre);
+            List<RecentRatingEntryDto> recent = new ArrayList<>();
+            KeysetPages.forEach(LOAD_PAGE_SIZE,
+                    pageable -> albumRatingRepository.findFirstRecentRatingEntries(since, pageable),
+                    (id, pageable) -> albumRatingRepository.findRecentRatingEntriesAfter(since, id, pageable),
+                    RecentRatingEntryDto::getId, recent::add);
+            loaded.loadRecent(recent, now);
+            loaded.rank();
+            return loaded;
+        });
+        logger.info("Charts rebuilt from {} albums and {} recent ratings in {} ms.",
+                rebuilt.albums.size(), rebuilt.recent.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${ignacio.app.chartSlideDelay:600000}")
+    public void slide() {
+        Instant now = Instant.now();
+        model.writeAfterCommit(model -> model.slide(now));
+    }
+
+    // Read while the entity is still attached, so the model never touches lazy associations after commit.
+    private record AlbumSnapshot(UUID id, String country, Set<String> genres, double ratingSum, long ratingCount) {
+        static AlbumSnapshot of(Album album) {
+            Set<String> genres = album.getAlbumGenres().stream().map(Genre::getSlug).collect(Collectors.toSet());
+            return new AlbumSnapshot(album.getId(), album.getOriginCountry(), genres,
+                    album.getRatingSum(), album.getRatingCount());
+        }
+    }
+
+    private record RatingKey(UUID userId, UUID albumId) {
+    }
+
+    private record Bucket(String genre, String country) {
+        static final Bucket ALL = new Bucket(null, null);
+    }
+
+    // Highest score first.
+    private record Ranked(UUID albumId, double score) implements Comparable<Ranked> {
+        @Override
+        public int compareTo(Ranked other) {
+            int result = Double.compare(other.score, score);
+            return result != 0 ? result : albumId.compareTo(other.albumId);
+        }
+    }
+
+    private static final class AlbumStats {
+        private String country;
+        private Set<String> genres = Set.of();
+        private List<Bucket> buckets = List.of(Bucket.ALL);
+        private final double[] sums = new double[WINDOWS];
+        private final long[] counts = new long[WINDOWS];
+        private final double[] scores = {Double.NaN, Double.NaN, Double.NaN};
+
+        private void add(int window, double rating, long count) {
+            counts[window] += count;
+            sums[window] = counts[window] > 0 ? sums[window] + rating : 0.0;
+        }
+
+        // Every album is in the overall bucket, its country, each of its genres and each genre within its country.
+        private void setMembership(String country, Set<String> genres) {
+            this.country = country;
+            this.genres = genres;
+            List<Bucket> buckets = new ArrayList<>(2 + 2 * genres.size());
+            buckets.add(Bucket.ALL);
+            if (country != null) {
+                buckets.add(new Bucket(null, country));
+            }
+            for (String genre : genres) {
+                buckets.add(new Bucket(genre, null));
+                if (country != null) {
+                    buckets.add(new Bucket(genre, country));
+                }
+            }
+            this.buckets = buckets;
+        }
+    }
+
+    // A rating given inside the month window; inWeek drops once it slides out of the week.
+    private static final class RecentRating {
+        private final RatingKey key;
+        private final Instant createdAt;
+        private double rating;
+        private boolean inWeek;
+        private boolean removed;
+
+        private RecentRating(RatingKey key, double rating, Instant createdAt) {
+            this.key = key;
+            this.rating = rating;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static final class Model {
+        private final double priorWeight;
+        // Bayesian means are fixed at rebuild, so a single rating only ever moves its own album.
+        private final double[] priorMeans = new double[WINDOWS];
+        private final Map<UUID, AlbumStats> albums = new HashMap<>();
+        private final Map<RatingKey, RecentRating> recent = new HashMap<>();
+        // Recent ratings oldest first; removed ratings are skipped when they reach the head.
+        private final ArrayDeque<RecentRating> weekQueue = new ArrayDeque<>();
+        private final ArrayDeque<RecentRating> monthQueue = new ArrayDeque<>();
+        private final List<Map<Bucket, NavigableSet<Ranked>>> rankings = new ArrayList<>(WINDOWS);
+
+        private Model(double priorWeight) {
+            this.priorWeight = priorWeight;
+            for (int window = 0; window < WINDOWS; window++) {
+                rankings.add(new HashMap<>());
+            }
+        }
+
+        private void loadAlbum(ChartAlbumEntryDto entry) {
+            AlbumStats album = new AlbumStats();
+            album.setMembership(entry.getOriginCountry(), Set.of());
+            album.sums[ALL_TIME_WINDOW] = entry.getRatingSum();
+            album.counts[ALL_TIME_WINDOW] = entry.getRatingCount();
+            albums.put(entry.getId(), album);
+        }
+
+        private void loadGenre(AlbumGenreEntryDto entry) {
+            AlbumStats album = albums.get(entry.getAlbumId());
+            if (album != null) {
+                Set<String> genres = new HashSet<>(album.genres);
+                genres.add(entry.getGenreSlug());
+                album.setMembership(album.country, genres);
+            }
+        }
+
+        private void loadRecent(List<RecentRatingEntryDto> entries, Instant now) {
+            Instant weekStart = now.minus(WEEK);
+            entries.sort(Comparator.comparing(RecentRatingEntryDto::getCreatedAt));
+            for (RecentRatingEntryDto entry : entries) {
+                AlbumStats album = albums.get(entry.getAlbumId());
+                if (album == null) {
+                    continue;
+                }
+                RecentRating rating = new RecentRating(new RatingKey(entry.getUserId(), entry.getAlbumId()),
+                        entry.getRating(), entry.getCreatedAt());
+                rating.inWeek = !entry.getCreatedAt().isBefore(weekStart);
+                addRecent(album, rating);
+            }
+        }
+
+        // Sets the Bayesian means from the loaded totals and ranks every album.
+        private void rank() {
+            for (int window = 0; window < WINDOWS; window++) {
+                double sum = 0;
+                long count = 0;
+                for (AlbumStats album : albums.values()) {
+                    sum += album.sums[window];
+                    count += album.counts[window];
+                }
+                priorMeans[window] = count > 0 ? sum / count : 0.0;
+            }
+
+            // Rankings start empty here, so each bucket is built from its sorted entries instead of one insert at a time.
+            for (int window = 0; window < WINDOWS; window++) {
+                Map<Bucket, List<Ranked>> entries = new HashMap<>();
+                for (Map.Entry<UUID, AlbumStats> entry : albums.entrySet()) {
+                    AlbumStats album = entry.getValue();
+                    album.scores[window] = score(window, album);
+                    if (Double.isNaN(album.scores[window])) {
+                        continue;
+                    }
+                    Ranked ranked = new Ranked(entry.getKey(), album.scores[window]);
+                    for (Bucket bucket : album.buckets) {
+                        entries.computeIfAbsent(bucket, b -> new ArrayList<>()).add(ranked);
+                    }
+                }
+                Map<Bucket, NavigableSet<Ranked>> buckets = rankings.get(window);
+                entries.forEach((bucket, ranked) -> {
+                    Collections.sort(ranked);
+                    buckets.put(bucket, new TreeSet<>(ranked));
+                });
+            }
+        }
+
+        private void rate(AlbumSnapshot snapshot, UUID userId, double rating, boolean added, Instant ratedAt) {
+            AlbumStats album = track(snapshot);
+            RatingKey key = new RatingKey(userId, snapshot.id());
+            RecentRating existing = recent.get(key);
+            if (existing != null) {
+                double delta = rating - existing.rating;
+                existing.rating = rating;
+                album.add(MONTH_WINDOW, delta, 0);
+                if (existing.inWeek) {
+                    album.add(WEEK_WINDOW, delta, 0);
+                }
+            } else if (added) {
+                RecentRating recentRating = new RecentRating(key, rating, ratedAt);
+                recentRating.inWeek = true;
+                addRecent(album, recentRating);
+            }
+            rescore(snapshot.id(), album);
+        }
+
+        private void unrate(AlbumSnapshot snapshot, UUID userId) {
+            AlbumStats album = track(snapshot);
+            RecentRating existing = recent.remove(new RatingKey(userId, snapshot.id()));
+            if (existing != null) {
+                expire(album, existing);
+            }
+            rescore(snapshot.id(), album);
+        }
+
+        private void index(AlbumSnapshot snapshot) {
+            AlbumStats album = albums.get(snapshot.id());
+            if (album != null) {
+                rebucket(snapshot.id(), album, snapshot.country(), snapshot.genres());
+                rescore(snapshot.id(), album);
+            }
+        }
+
+        private void remove(UUID albumId) {
+            AlbumStats album = albums.remove(albumId);
+            if (album != null) {
+                unrank(albumId, album);
+            }
+        }
+
+        private void slide(Instant now) {
+            Set<UUID> changed = new HashSet<>();
+            Instant weekStart = now.minus(WEEK);
+            while (!weekQueue.isEmpty() && weekQueue.peekFirst().createdAt.isBefore(weekStart)) {
+                RecentRating rating = weekQueue.pollFirst();
+                AlbumStats album = albums.get(rating.key.albumId());
+                if (!rating.removed && rating.inWeek && album != null) {
+                    rating.inWeek = false;
+                    album.add(WEEK_WINDOW, -rating.rating, -1);
+                    changed.add(rating.key.albumId());
+                }
+            }
+            Instant monthStart = now.minus(MONTH);
+            while (!monthQueue.isEmpty() && monthQueue.peekFirst().createdAt.isBefore(monthStart)) {
+                RecentRating rating = monthQueue.pollFirst();
+                if (!rating.removed) {
+                    recent.remove(rating.key);
+                    AlbumStats album = albums.get(rating.key.albumId());
+                    if (album != null) {
+                        expire(album, rating);
+                        changed.add(rating.key.albumId());
+                    }
+                }
+            }
+            changed.forEach(albumId -> rescore(albumId, albums.get(albumId)));
+        }
+
+        private List<Ranked> top(int window, String genre, String country, int limit) {
+            NavigableSet<Ranked> ranked = rankings.get(window).get(new Bucket(genre, country));
+            if (ranked == null) {
+                return List.of();
+            }
+
+            List<Ranked> top = new ArrayList<>(limit);
+            for (Ranked entry : ranked) {
+                top.add(entry);
+                if (top.size() == limit) {
+                    break;
+                }
+            }
+            return top;
+        }
+
+        private void addRecent(AlbumStats album, RecentRating rating) {
+            recent.put(rating.key, rating);
+            monthQueue.addLast(rating);
+            album.add(MONTH_WINDOW, rating.rating, 1);
+            if (rating.inWeek) {
+                weekQueue.addLast(rating);
+                album.add(WEEK_WINDOW, rating.rating, 1);
+            }
+        }
+
+        private void expire(AlbumStats album, RecentRating rating) {
+            rating.removed = true;
+            album.add(MONTH_WINDOW, -rating.rating, -1);
+            if (rating.inWeek) {
+                rating.inWeek = false;
+                album.add(WEEK_WINDOW, -rating.rating, -1);
+            }
+        }
+
+        // All-time totals come straight from the album row, so replaying a write never double counts it.
+        private AlbumStats track(AlbumSnapshot snapshot) {
+            AlbumStats album = albums.get(snapshot.id());
+            if (album == null) {
+                album = new AlbumStats();
+                album.setMembership(snapshot.country(), snapshot.genres());
+                albums.put(snapshot.id(), album);
+            } else {
+                rebucket(snapshot.id(), album, snapshot.country(), snapshot.genres());
+            }
+            album.sums[ALL_TIME_WINDOW] = snapshot.ratingSum();
+            album.counts[ALL_TIME_WINDOW] = snapshot.ratingCount();
+            return album;
+        }
+
+        private void rebucket(UUID albumId, AlbumStats album, String country, Set<String> genres) {
+            if (Objects.equals(album.country, country) && album.genres.equals(genres)) {
+                return;
+            }
+            unrank(albumId, album);
+            album.setMembership(country, genres);
+        }
+
+        private void rescore(UUID albumId, AlbumStats album) {
+            for (int window = 0; window < WINDOWS; window++) {
+                move(window, albumId, album, score(window, album));
+            }
+        }
+
+        private double score(int window, AlbumStats album) {
+            long count = album.counts[window];
+            return count > 0
+                    ? (priorWeight * priorMeans[window] + album.sums[window]) / (priorWeight + count)
+                    : Double.NaN;
+        }
+
+        private void unrank(UUID albumId, AlbumStats album) {
+            for (int window = 0; window < WINDOWS; window++) {
+                move(window, albumId, album, Double.NaN);
+            }
+        }
+
+        // NaN means unranked in that window.
+        private void move(int window, UUID albumId, AlbumStats album, double score) {
+            double previous = album.scores[window];
+            if (Double.compare(score, previous) == 0) {
+                return;
+            }
+            Map<Bucket, NavigableSet<Ranked>> buckets = rankings.get(window);
+            for (Bucket bucket : album.buckets) {
+                if (!Double.isNaN(previous)) {
+                    NavigableSet<Ranked> ranked = buckets.get(bucket);
+                    ranked.remove(new Ranked(albumId, previous));
+                    if (ranked.isEmpty()) {
+                        buckets.remove(bucket);
+                    }
+                }
+                if (!Double.isNaN(score)) {
+                    buckets.computeIfAbsent(bucket, b -> new TreeSet<>()).add(new Ranked(albumId, score));
+                }
+            }
+            album.scores[window] = score;
+        }
+    }
+}
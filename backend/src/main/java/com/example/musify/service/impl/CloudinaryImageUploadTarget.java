@@ -0,0 +1,25 @@
+package com.example.musify.service.impl;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import com.example.musify.service.IImageUploadTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ignacio.app.imageUploadTarget", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryImageUploadTarget implements IImageUploadTarget {
+    private final Cloudinary cloudinary;
+
+    @Override
+    public String upload(Path file, String folder) throws IOException {
+        return cloudinary.uploader()
+                .upload(file.toFile(), ObjectUtils.asMap("folder", folder))
+                .get("url").toString();
+    }
+}
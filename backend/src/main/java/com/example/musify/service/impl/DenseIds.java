@@ -0,0 +1,39 @@
+package com.example.musify.service.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// Maps UUIDs to dense ints in first-seen order so hot structures can be primitive arrays.
+final class DenseIds {
+    private final Map<UUID, Integer> index = new HashMap<>();
+    private UUID[] values = new UUID[16];
+    private int size;
+
+    int find(UUID id) {
+        Integer position = index.get(id);
+        return position != null ? position : -1;
+    }
+
+    int intern(UUID id) {
+        Integer position = index.get(id);
+        if (position != null) {
+            return position;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = id;
+        index.put(id, size);
+        return size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    UUID get(int position) {
+        return values[position];
+    }
+}
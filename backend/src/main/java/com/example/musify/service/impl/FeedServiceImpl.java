@@ -0,0 +1,249 @@
+package com.example.musify.service.impl;
+
+import com.example.musify.dto.response.CursorPageDto;
+import com.example.musify.dto.response.FeedItemDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Artist;
+import com.example.musify.entity.FeedEvent;
+import com.example.musify.entity.Review;
+import com.example.musify.entity.User;
+import com.example.musify.enumeration.EFeedEventType;
+import com.example.musify.repository.FeedEntryRepository;
+import com.example.musify.repository.FeedEventRepository;
+import com.example.musify.repository.FollowerRepository;
+import com.example.musify.service.IFeedService;
+import com.example.musify.service.IUtilService;
+import com.example.musify.util.CacheUtils;
+import com.example.musify.util.CursorUtils;
+import com.example.musify.util.ThreadUtils;
+import com.example.musify.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Hybrid feed: events from artists below the fan-out threshold are copied into each follower's feed_entries after
+// commit, while events from larger artists stay on the artist's timeline and are merged into the feed on read.
+// The newest events of those timelines are cached, since every follower of a large artist reads the same page.
+@Service
+public class FeedServiceImpl implements IFeedService {
+    private static final Logger logger = LoggerFactory.getLogger(FeedServiceImpl.class);
+
+    // Newest first, with the id tie-break compared the way the database orders UUIDs.
+    private static final Comparator<FeedItemDto> FEED_ORDER = Comparator
+            .comparing(FeedItemDto::getCreatedAt)
+            .thenComparing(FeedItemDto::getId, FeedServiceImpl::compareIds)
+            .reversed();
+
+    private final FeedEventRepository feedEventRepository;
+    private final FeedEntryRepository feedEntryRepository;
+    private final FollowerRepository followerRepository;
+    private final IUtilService utilService;
+    private final long fanOutThreshold;
+    private final int timelineCacheDepth;
+    private final ThreadPoolExecutor executor;
+    private final AsyncCache<UUID, List<FeedItemDto>> timelines;
+    // Artists with at least one event that was not fanned out.
+    private final Set<UUID> pullArtists = ConcurrentHashMap.newKeySet();
+
+    public FeedServiceImpl(FeedEventRepository feedEventRepository,
+                           FeedEntryRepository feedEntryRepository,
+                           FollowerRepository followerRepository,
+                           IUtilService utilService,
+                           @Value("${ignacio.app.feedFanOutThreshold:10000}") long fanOutThreshold,
+                           @Value("${ignacio.app.feedFanOutThreads:2}") int threads,
+                           @Value("${ignacio.app.feedFanOutQueueCapacity:1000}") int queueCapacity,
+                           @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                           @Value("${ignacio.app.feedTimelineCacheDepth:100}") int timelineCacheDepth,
+                           @Value("${ignacio.app.feedTimelineCacheMaxSize:10000}") long timelineCacheMaxSize,
+                           @Value("${ignacio.app.feedTimelineCacheTtlMs:60000}") long timelineCacheTtlMs) {
+        this.feedEventRepository = feedEventRepository;
+        this.feedEntryRepository = feedEntryRepository;
+        this.followerRepository = followerRepository;
+        this.utilService = utilService;
+        this.fanOutThreshold = fanOutThreshold;
+        this.timelineCacheDepth = timelineCacheDepth;
+        // A full queue runs the fan-out on the committing thread, which slows writers down instead of losing events.
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), ThreadUtils.threadFactory("feed-fan-out-", virtualThreads),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        // Edits are evicted explicitly; the TTL bounds staleness from changes that are not, such as renamed users.
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(timelineCacheMaxSize)
+                .expireAfterWrite(timelineCacheTtlMs, TimeUnit.MILLISECONDS)
+                .buildAsync();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPullArtists() {
+        pullArtists.addAll(feedEventRepository.findPullArtistIds());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public CursorPageDto<FeedItemDto> getFeed(String cursor) {
+        User user = utilService.getCurrentUser();
+        CursorUtils.Cursor position = cursor != null ? CursorUtils.decode(cursor) : null;
+        PageRequest pageable = PageRequest.of(0, CursorUtils.PAGE_SIZE + 1);
+
+        List<List<FeedItemDto>> sources = new ArrayList<>();
+        sources.add(position == null
+                ? feedEventRepository.findFirstFeedItems(user.getId(), pageable)
+                : feedEventRepository.findFeedItemsAfter(user.getId(), position.instantValue(), position.id(),
+                pageable));
+        if (!pullArtists.isEmpty()) {
+            for (UUID artistId : followerRepository.findFollowedArtistIds(user.getId())) {
+                if (pullArtists.contains(artistId)) {
+                    sources.add(readTimeline(artistId, position, pageable));
+                }
+            }
+        }
+
+        List<FeedItemDto> items = merge(sources, CursorUtils.PAGE_SIZE + 1);
+        boolean hasNext = items.size() > CursorUtils.PAGE_SIZE;
+        List<FeedItemDto> content = hasNext ? items.subList(0, CursorUtils.PAGE_SIZE) : items;
+        FeedItemDto last = hasNext ? content.get(content.size() - 1) : null;
+        String nextCursor = last != null ? CursorUtils.encode(last.getCreatedAt(), last.getId()) : null;
+        return new CursorPageDto<>(content, nextCursor, hasNext, null);
+    }
+
+    @Override
+    public void publishAlbum(Album album) {
+        publish(EFeedEventType.NEW_ALBUM, album.getArtist(), album, null);
+    }
+
+    @Override
+    public void publishReview(Review review) {
+        publish(EFeedEventType.NEW_REVIEW, review.getAlbum().getArtist(), review.getAlbum(), review);
+    }
+
+    @Override
+    public void removeFollow(UUID userId, UUID artistId) {
+        feedEntryRepository.deleteByUserIdAndArtistId(userId, artistId);
+    }
+
+    @Override
+    public void evictTimeline(UUID artistId) {
+        TransactionUtils.afterCommit(() -> timelines.synchronous().invalidate(artistId));
+    }
+
+    // The fan-out decision is stored on the event, so reads stay correct when an artist crosses the threshold.
+    private void publish(EFeedEventType type, Artist artist, Album album, Review review) {
+        UUID artistId = artist.getId();
+        boolean fanOut = followerRepository.countArtistFollowers(artistId) < fanOutThreshold;
+        FeedEvent event = feedEventRepository.save(FeedEvent.builder()
+                .type(type)
+                .artist(artist)
+                .album(album)
+                .review(review)
+                .fannedOut(fanOut)
+                .createdAt(Instant.now().truncatedTo(ChronoUnit.MICROS))
+                .build());
+
+        UUID eventId = event.getId();
+        Instant createdAt = event.getCreatedAt();
+        TransactionUtils.afterCommit(() -> {
+            if (fanOut) {
+                executor.execute(() -> fanOut(eventId, artistId, createdAt));
+            } else {
+                pullArtists.add(artistId);
+                timelines.synchronous().invalidate(artistId);
+            }
+        });
+    }
+
+    private void fanOut(UUID eventId, UUID artistId, Instant createdAt) {
+        try {
+            List<UUID> followerIds = followerRepository.findFollowerIds(artistId);
+            if (!followerIds.isEmpty()) {
+                feedEntryRepository.insertFeedEntries(eventId, createdAt, followerIds);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Feed fan-out of event {} failed, serving it from the artist's timeline instead.", eventId, e);
+            pull(eventId, artistId);
+        }
+    }
+
+    // Entries already written are dropped before the event turns visible on the timeline, so it is never listed
+    // twice; at worst it is missing until the flip lands.
+    private void pull(UUID eventId, UUID artistId) {
+        try {
+            feedEntryRepository.deleteByEventId(eventId);
+            feedEventRepository.markPulled(eventId);
+            pullArtists.add(artistId);
+            timelines.synchronous().invalidate(artistId);
+        } catch (RuntimeException e) {
+            logger.error("Feed event {} could not be switched to the artist's timeline.", eventId, e);
+        }
+    }
+
+    // Serves the page from the cached head of the timeline when it covers it, otherwise from the database.
+    private List<FeedItemDto> readTimeline(UUID artistId, CursorUtils.Cursor position, PageRequest pageable) {
+        List<FeedItemDto> cached = CacheUtils.getOrLoad(timelines, artistId, () ->
+                feedEventRepository.findFirstTimelineItems(artistId, PageRequest.of(0, timelineCacheDepth)));
+        int from = 0;
+        if (position != null) {
+            FeedItemDto bound = FeedItemDto.builder().createdAt(position.instantValue()).id(position.id()).build();
+            while (from < cached.size() && FEED_ORDER.compare(cached.get(from), bound) <= 0) {
+                from++;
+            }
+        }
+        int to = Math.min(cached.size(), from + pageable.getPageSize());
+        if (to - from == pageable.getPageSize() || cached.size() < timelineCacheDepth) {
+            return cached.subList(from, to);
+        }
+        return position == null
+                ? feedEventRepository.findFirstTimelineItems(artistId, pageable)
+                : feedEventRepository.findTimelineItemsAfter(artistId, position.instantValue(), position.id(), pageable);
+    }
+
+    private static List<FeedItemDto> merge(List<List<FeedItemDto>> sources, int limit) {
+        if (sources.size() == 1) {
+            return sources.get(0);
+        }
+
+        // Heads of each source ordered by their current item; every source is already sorted.
+        PriorityQueue<int[]> heads = new PriorityQueue<>(
+                (a, b) -> FEED_ORDER.compare(sources.get(a[0]).get(a[1]), sources.get(b[0]).get(b[1])));
+        for (int s = 0; s < sources.size(); s++) {
+            if (!sources.get(s).isEmpty()) {
+                heads.add(new int[]{s, 0});
+            }
+        }
+
+        List<FeedItemDto> merged = new ArrayList<>(limit);
+        while (!heads.isEmpty() && merged.size() < limit) {
+            int[] head = heads.poll();
+            List<FeedItemDto> source = sources.get(head[0]);
+            merged.add(source.get(head[1]));
+            if (++head[1] < source.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private static int compareIds(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
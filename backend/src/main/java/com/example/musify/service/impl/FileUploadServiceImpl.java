@@ -1,38 +1,368 @@
 package com.example.musify.service.impl;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
+import com.example.musify.dto.response.UploadStatsDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Artist;
+import com.example.musify.entity.User;
+import com.example.musify.enumeration.EImageStatus;
+import com.example.musify.enumeration.EImageVariant;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.UserRepository;
+import com.example.musify.service.ICatalogCacheService;
 import com.example.musify.service.IFileUploadService;
-import lombok.RequiredArgsConstructor;
+import com.example.musify.service.IImageProcessingService;
+import com.example.musify.service.IImageUploadTarget;
+import com.example.musify.util.ThreadUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 public class FileUploadServiceImpl implements IFileUploadService {
-    private final Cloudinary cloudinary;
+    private static final Logger logger = LoggerFactory.getLogger(FileUploadServiceImpl.class);
 
-    public String uploadUserImageFile(MultipartFile multipartFile) throws IOException {
-        return cloudinary.uploader()
-                .upload(multipartFile.getBytes(),
-                        ObjectUtils.asMap("folder", "/albums/users"))
-                .get("url").toString();
+    private static final Set<EImageVariant> USER_VARIANTS = EnumSet.of(EImageVariant.THUMBNAIL, EImageVariant.FULL);
+    private static final Set<EImageVariant> CATALOG_VARIANTS = EnumSet.allOf(EImageVariant.class);
+    private static final String USER_FOLDER = "/albums/users";
+    private static final String ARTIST_FOLDER = "/albums/artists";
+    private static final String ALBUM_FOLDER = "/albums/albums";
+
+    private final IImageUploadTarget uploadTarget;
+    private final IImageProcessingService imageProcessingService;
+    private final AlbumRepository albumRepository;
+    private final ArtistRepository artistRepository;
+    private final UserRepository userRepository;
+    private final ICatalogCacheService catalogCacheService;
+    private final Path spoolDir;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final ThreadPoolExecutor executor;
+    private final Cache<StoredImageKey, Map<EImageVariant, String>> storedImages;
+    private final LongAdder uploadCount = new LongAdder();
+    private final LongAdder dedupeHitCount = new LongAdder();
+    private final LongAdder bytesAvoided = new LongAdder();
+
+    private record SpooledImage(Path file, String hash, long size) {
+    }
+
+    private record StoredImageKey(String hash, String folder) {
     }
 
-    public String uploadArtistImageFile(MultipartFile multipartFile) throws IOException {
-        return cloudinary.uploader()
-                .upload(multipartFile.getBytes(),
-                        ObjectUtils.asMap("folder", "/albums/artists"))
-                .get("url").toString();
+    // The callbacks only update rows still carrying the job's image hash, so a job that finishes after a newer upload
+    // cannot overwrite it.
+    private record UploadJob(SpooledImage image, String folder, Set<EImageVariant> variants,
+                             Consumer<Map<EImageVariant, String>> onUploaded, Runnable onFailed) {
+    }
+
+    public FileUploadServiceImpl(IImageUploadTarget uploadTarget,
+                                 IImageProcessingService imageProcessingService,
+                                 AlbumRepository albumRepository,
+                                 ArtistRepository artistRepository,
+                                 UserRepository userRepository,
+                                 ICatalogCacheService catalogCacheService,
+                                 @Value("${ignacio.app.imageSpoolDir:${java.io.tmpdir}/musify-spool}") Path spoolDir,
+                                 @Value("${ignacio.app.imageUploadThreads:4}") int threads,
+                                 @Value("${ignacio.app.imageUploadQueueCapacity:100}") int queueCapacity,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                 @Value("${ignacio.app.imageUploadMaxAttempts:3}") int maxAttempts,
+                                 @Value("${ignacio.app.imageUploadRetryBackoffMs:1000}") long retryBackoffMs,
+                                 @Value("${ignacio.app.imageDedupeIndexMaxSize:10000}") long dedupeIndexMaxSize)
+            throws IOException {
+        this.uploadTarget = uploadTarget;
+        this.imageProcessingService = imageProcessingService;
+        this.albumRepository = albumRepository;
+        this.artistRepository = artistRepository;
+        this.userRepository = userRepository;
+        this.catalogCacheService = catalogCacheService;
+        this.spoolDir = Files.createDirectories(spoolDir);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        // A full queue runs the upload on the request thread, which slows callers down instead of dropping images.
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), ThreadUtils.threadFactory("image-upload-", virtualThreads),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.storedImages = Caffeine.newBuilder()
+                .maximumSize(dedupeIndexMaxSize)
+                .build();
     }
 
     @Override
-    public String uploadAlbumImageFile(MultipartFile multipartFile) throws IOException {
-        return cloudinary.uploader()
-                .upload(multipartFile.getBytes(),
-                        ObjectUtils.asMap("folder", "/albums/albums"))
-                .get("url").toString();
+    public void uploadUserImageFile(User user, MultipartFile multipartFile) throws IOException {
+        SpooledImage image = spool(multipartFile);
+        if (isCurrentImage(image, user.getImageHash(), user.getImageStatus())) {
+            return;
+        }
+
+        user.setImageHash(image.hash());
+        Map<EImageVariant, String> stored = findStoredImage(image, USER_FOLDER);
+        if (stored != null) {
+            user.setImageUrl(stored.get(EImageVariant.FULL));
+            user.setImageThumbnailUrl(stored.get(EImageVariant.THUMBNAIL));
+            user.setImageStatus(EImageStatus.READY);
+            return;
+        }
+
+        user.setImageStatus(EImageStatus.PENDING);
+        submitAfterCommit(image, () -> {
+            UUID userId = user.getId();
+            return new UploadJob(image, USER_FOLDER, USER_VARIANTS,
+                    urls -> userRepository.updateImage(userId, image.hash(), urls.get(EImageVariant.FULL),
+                            urls.get(EImageVariant.THUMBNAIL), EImageStatus.READY),
+                    () -> userRepository.updateImageStatus(userId, image.hash(), EImageStatus.FAILED));
+        });
+    }
+
+    @Override
+    public void uploadArtistImageFile(Artist artist, MultipartFile multipartFile) throws IOException {
+        SpooledImage image = spool(multipartFile);
+        if (isCurrentImage(image, artist.getImageHash(), artist.getImageStatus())) {
+            return;
+        }
+
+        artist.setImageHash(image.hash());
+        Map<EImageVariant, String> stored = findStoredImage(image, ARTIST_FOLDER);
+        if (stored != null) {
+            artist.setImage(stored.get(EImageVariant.FULL));
+            artist.setImageThumbnail(stored.get(EImageVariant.THUMBNAIL));
+            artist.setImageCard(stored.get(EImageVariant.CARD));
+            artist.setImageStatus(EImageStatus.READY);
+            return;
+        }
+
+        artist.setImageStatus(EImageStatus.PENDING);
+        submitAfterCommit(image, () -> {
+            UUID artistId = artist.getId();
+            String artistSlug = artist.getSlug();
+            return new UploadJob(image, ARTIST_FOLDER, CATALOG_VARIANTS,
+                    urls -> {
+                        artistRepository.updateImage(artistId, image.hash(), urls.get(EImageVariant.FULL),
+                                urls.get(EImageVariant.THUMBNAIL), urls.get(EImageVariant.CARD), EImageStatus.READY);
+                        catalogCacheService.evictArtist(artistSlug);
+                    },
+                    () -> {
+                        artistRepository.updateImageStatus(artistId, image.hash(), EImageStatus.FAILED);
+                        catalogCacheService.evictArtist(artistSlug);
+                    });
+        });
+    }
+
+    @Override
+    public void uploadAlbumImageFile(Album album, MultipartFile multipartFile) throws IOException {
+        SpooledImage image = spool(multipartFile);
+        if (isCurrentImage(image, album.getImageHash(), album.getImageStatus())) {
+            return;
+        }
+
+        album.setImageHash(image.hash());
+        Map<EImageVariant, String> stored = findStoredImage(image, ALBUM_FOLDER);
+        if (stored != null) {
+            album.setImage(stored.get(EImageVariant.FULL));
+            album.setImageThumbnail(stored.get(EImageVariant.THUMBNAIL));
+            album.setImageCard(stored.get(EImageVariant.CARD));
+            album.setImageStatus(EImageStatus.READY);
+            return;
+        }
+
+        album.setImageStatus(EImageStatus.PENDING);
+        submitAfterCommit(image, () -> {
+            UUID albumId = album.getId();
+            return new UploadJob(image, ALBUM_FOLDER, CATALOG_VARIANTS,
+                    urls -> {
+                        albumRepository.updateImage(albumId, image.hash(), urls.get(EImageVariant.FULL),
+                                urls.get(EImageVariant.THUMBNAIL), urls.get(EImageVariant.CARD), EImageStatus.READY);
+                        catalogCacheService.evictAlbums(List.of(albumId));
+                    },
+                    () -> {
+                        albumRepository.updateImageStatus(albumId, image.hash(), EImageStatus.FAILED);
+                        catalogCacheService.evictAlbums(List.of(albumId));
+                    });
+        });
+    }
+
+    @Override
+    public UploadStatsDto getStats() {
+        long uploads = uploadCount.sum();
+        long hits = dedupeHitCount.sum();
+        return new UploadStatsDto(uploads, hits, uploads == 0 ? 0.0 : (double) hits / uploads,
+                bytesAvoided.sum(), storedImages.estimatedSize(), executor.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // The hash is computed while the body is copied, so the upload is only read once and never held in memory.
+    private SpooledImage spool(MultipartFile multipartFile) throws IOException {
+        String extension = StringUtils.getFilenameExtension(multipartFile.getOriginalFilename());
+        Path file = spoolDir.resolve(UUID.randomUUID() + (extension != null ? "." + extension : ""));
+        MessageDigest digest = sha256();
+
+        long size;
+        try (InputStream input = new DigestInputStream(multipartFile.getInputStream(), digest)) {
+            size = Files.copy(input, file);
+        }
+        uploadCount.increment();
+        return new SpooledImage(file, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    // A failed upload is retried even when the same file is sent again.
+    private boolean isCurrentImage(SpooledImage image, String currentHash, EImageStatus currentStatus) {
+        if (!image.hash().equals(currentHash) || currentStatus == EImageStatus.FAILED) {
+            return false;
+        }
+        recordDedupeHit(image);
+        return true;
+    }
+
+    private Map<EImageVariant, String> findStoredImage(SpooledImage image, String folder) {
+        Map<EImageVariant, String> stored = storedImages.getIfPresent(new StoredImageKey(image.hash(), folder));
+        if (stored != null) {
+            recordDedupeHit(image);
+        }
+        return stored;
+    }
+
+    private void recordDedupeHit(SpooledImage image) {
+        dedupeHitCount.increment();
+        bytesAvoided.add(image.size());
+        deleteSpoolFile(image.file());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    // The job is built after commit so that it sees the generated id and patches a row that is already visible.
+    private void submitAfterCommit(SpooledImage image, Supplier<UploadJob> job) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(job.get());
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    submit(job.get());
+                } else {
+                    deleteSpoolFile(image.file());
+                }
+            }
+        });
+    }
+
+    private void submit(UploadJob job) {
+        executor.execute(() -> upload(job));
+    }
+
+    private void upload(UploadJob job) {
+        Map<EImageVariant, Path> files = Map.of();
+        try {
+            files = createVariants(job);
+            Map<EImageVariant, String> urls = new EnumMap<>(EImageVariant.class);
+            for (Map.Entry<EImageVariant, Path> variant : files.entrySet()) {
+                String url = uploadWithRetry(variant.getValue(), job.folder());
+                if (url == null) {
+                    job.onFailed().run();
+                    return;
+                }
+                urls.put(variant.getKey(), url);
+            }
+
+            if (urls.isEmpty()) {
+                job.onFailed().run();
+            } else {
+                job.onUploaded().accept(urls);
+                storedImages.put(new StoredImageKey(job.image().hash(), job.folder()), urls);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Could not update image status for {}: {}", job.image().file(), e.getMessage());
+            // Leaves the row FAILED instead of PENDING, so the next upload of the same image is not skipped.
+            try {
+                job.onFailed().run();
+            } catch (RuntimeException failedException) {
+                logger.error("Could not mark image {} as failed: {}", job.image().file(),
+                        failedException.getMessage());
+            }
+        } finally {
+            deleteSpoolFile(job.image().file());
+            files.values().forEach(FileUploadServiceImpl::deleteSpoolFile);
+        }
+    }
+
+    // Formats ImageIO cannot decode are uploaded unchanged as the full image and serve every variant.
+    private Map<EImageVariant, Path> createVariants(UploadJob job) {
+        try {
+            Map<EImageVariant, Path> files = imageProcessingService.createVariants(job.image().file(), job.variants());
+            return files.isEmpty() ? Map.of(EImageVariant.FULL, job.image().file()) : files;
+        } catch (IOException e) {
+            logger.error("Could not process image {}: {}", job.image().file(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private String uploadWithRetry(Path file, String folder) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return uploadTarget.upload(file, folder);
+            } catch (IOException | RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    logger.error("Image upload failed after {} attempts: {}", attempt, e.getMessage());
+                    return null;
+                }
+                logger.warn("Image upload attempt {} failed, retrying: {}", attempt, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(retryBackoffMs << (attempt - 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    private static void deleteSpoolFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete spool file {}: {}", file, e.getMessage());
+        }
     }
 }
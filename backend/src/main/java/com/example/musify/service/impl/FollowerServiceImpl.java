@@ -6,15 +6,20 @@ import com.example.musify.dto.response.FollowingArtistDto;
 import com.example.musify.entity.Artist;
 import com.example.musify.entity.Follower;
 import com.example.musify.entity.User;
+import com.example.musify.enumeration.ESuggestionType;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.ArtistRepository;
 import com.example.musify.repository.FollowerRepository;
 import com.example.musify.repository.UserRepository;
+import com.example.musify.service.IAutocompleteService;
+import com.example.musify.service.IFeedService;
 import com.example.musify.service.IFollowerService;
+import com.example.musify.service.IRecommendationService;
+import com.example.musify.service.ISimilarArtistService;
 import com.example.musify.service.IUtilService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -27,7 +32,11 @@ public class FollowerServiceImpl implements IFollowerService {
     private final ArtistRepository artistRepository;
     private final UserRepository userRepository;
     private final IUtilService utilService;
-    private final ModelMapper modelMapper;
+    private final IAutocompleteService autocompleteService;
+    private final IRecommendationService recommendationService;
+    private final ISimilarArtistService similarArtistService;
+    private final IFeedService feedService;
+    private final DtoMapper dtoMapper;
 
     @Override
     public FollowerDto followArtist(UUID artistId) {
@@ -42,8 +51,11 @@ public class FollowerServiceImpl implements IFollowerService {
                 .build();
 
         followerRepository.save(follower);
+        autocompleteService.adjustPopularity(ESuggestionType.ARTIST, artistId, 1L);
+        recommendationService.recordFollow(user.getId(), artistId);
+        similarArtistService.recordFollow(user.getId(), artistId);
 
-        return modelMapper.map(follower, FollowerDto.class);
+        return dtoMapper.toFollowerDto(follower);
     }
 
     @Override
@@ -67,6 +79,10 @@ public class FollowerServiceImpl implements IFollowerService {
 
         followerRepository
                 .deleteByArtistIdAndUserId(artistId, user.getId());
+        autocompleteService.adjustPopularity(ESuggestionType.ARTIST, artistId, -1L);
+        recommendationService.removeFollow(user.getId(), artistId);
+        similarArtistService.removeFollow(user.getId(), artistId);
+        feedService.removeFollow(user.getId(), artistId);
         return new MessageDto("\"" + follower.getArtist().getName() + "\" was unfollowed.");
     }
 
@@ -77,8 +93,7 @@ public class FollowerServiceImpl implements IFollowerService {
 
         List<Follower> artistFollowers = followerRepository.findArtistFollowers(artist);
 
-        return artistFollowers.stream().map(follower ->
-                modelMapper.map(follower, FollowerDto.class)).toList();
+        return artistFollowers.stream().map(dtoMapper::toFollowerDto).toList();
     }
 
     @Override
@@ -89,7 +104,7 @@ public class FollowerServiceImpl implements IFollowerService {
         List<Artist> artistFollowers = followerRepository.findUserFollowingArtists(username);
 
         return artistFollowers.stream()
-                .map(artist -> modelMapper.map(artist, FollowingArtistDto.class)).toList();
+                .map(dtoMapper::toFollowingArtistDto).toList();
 
     }
 
@@ -0,0 +1,146 @@
+package com.example.musify.service.impl;
+
+import com.example.musify.enumeration.EImageVariant;
+import com.example.musify.service.IImageProcessingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+@Service
+public class ImageProcessingServiceImpl implements IImageProcessingService {
+    private final long maxPixels;
+    private final float jpegQuality;
+    private final Semaphore decodePermits;
+
+    public ImageProcessingServiceImpl(@Value("${ignacio.app.imageMaxPixels:50000000}") long maxPixels,
+                                      @Value("${ignacio.app.imageJpegQuality:0.8}") float jpegQuality,
+                                      @Value("${ignacio.app.imageDecodeConcurrency:2}") int decodeConcurrency) {
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+        this.decodePermits = new Semaphore(decodeConcurrency);
+    }
+
+    // Returns an empty map when no ImageIO reader understands the format, so the caller can keep the original.
+    @Override
+    public Map<EImageVariant, Path> createVariants(Path source, Set<EImageVariant> variants) throws IOException {
+        List<EImageVariant> largestFirst = variants.stream()
+                .sorted(Comparator.comparingInt(EImageVariant::getMaxSize).reversed())
+                .toList();
+        if (largestFirst.isEmpty()) {
+            return Map.of();
+        }
+
+        BufferedImage image = decode(source, largestFirst.get(0).getMaxSize());
+        if (image == null) {
+            return Map.of();
+        }
+
+        String baseName = source.getFileName().toString().replaceFirst("\\.[^.]*$", "");
+        Map<EImageVariant, Path> files = new EnumMap<>(EImageVariant.class);
+        try {
+            // Each variant is scaled from the previous, larger one instead of from the decoded original.
+            for (EImageVariant variant : largestFirst) {
+                image = scale(image, variant.getMaxSize());
+                Path file = source.resolveSibling(baseName + "-" + variant.name().toLowerCase() + ".jpg");
+                writeJpeg(image, file);
+                files.put(variant, file);
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path file : files.values()) {
+                Files.deleteIfExists(file);
+            }
+            throw e;
+        }
+        return files;
+    }
+
+    private BufferedImage decode(Path source, int targetSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("Image is too large: " + width + "x" + height + ".");
+                }
+
+                // Subsampling while decoding keeps the raster near the largest variant rather than the upload size.
+                int subsampling = Math.max(1, Math.max(width, height) / targetSize);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                decodePermits.acquireUninterruptibly();
+                try {
+                    return reader.read(0, param);
+                } finally {
+                    decodePermits.release();
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int maxSize) {
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        if (ratio == 1.0 && image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private void writeJpeg(BufferedImage image, Path file) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.musify.service.impl;
+
+import com.example.musify.service.IImageUploadTarget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "ignacio.app.imageUploadTarget", havingValue = "local")
+public class LocalImageUploadTarget implements IImageUploadTarget {
+    private final Path rootDir;
+
+    public LocalImageUploadTarget(@Value("${ignacio.app.localImageDir:${java.io.tmpdir}/musify-images}") Path rootDir) {
+        this.rootDir = rootDir;
+    }
+
+    @Override
+    public String upload(Path file, String folder) throws IOException {
+        Path dir = rootDir.resolve(folder.replaceFirst("^/+", ""));
+        Files.createDirectories(dir);
+
+        Path target = dir.resolve(UUID.randomUUID() + "-" + file.getFileName());
+        Files.copy(file, target);
+        return target.toUri().toString();
+    }
+}
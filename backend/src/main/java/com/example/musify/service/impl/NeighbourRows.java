@@ -0,0 +1,118 @@
+package com.example.musify.service.impl;
+
+import java.util.Arrays;
+
+// Per-row neighbour lists sorted by descending score and capped at a fixed length. Rows are replaced rather than
+// mutated in place, so a reference handed out under a read lock stays consistent.
+final class NeighbourRows {
+    private final int maxNeighbours;
+    private int[][] ids = new int[0][];
+    private float[][] scores = new float[0][];
+
+    NeighbourRows(int maxNeighbours) {
+        this.maxNeighbours = maxNeighbours;
+    }
+
+    void ensureRows(int rows) {
+        if (ids.length >= rows) {
+            return;
+        }
+        int previous = ids.length;
+        int capacity = Math.max(rows, previous * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+        Arrays.fill(ids, previous, capacity, SparseRows.NO_IDS);
+        Arrays.fill(scores, previous, capacity, SparseRows.NO_VALUES);
+    }
+
+    int maxNeighbours() {
+        return maxNeighbours;
+    }
+
+    int[] ids(int row) {
+        return ids[row];
+    }
+
+    float[] scores(int row) {
+        return scores[row];
+    }
+
+    void set(int row, TopK top) {
+        int[] rowIds = new int[top.size()];
+        float[] rowScores = new float[top.size()];
+        top.drainDescending(rowIds, rowScores);
+        ids[row] = rowIds;
+        scores[row] = rowScores;
+    }
+
+    void clear(int row) {
+        ids[row] = SparseRows.NO_IDS;
+        scores[row] = SparseRows.NO_VALUES;
+    }
+
+    // Inserts, moves or (for a non-positive score) drops one neighbour. Returns whether the row changed.
+    boolean patch(int row, int neighbour, float score) {
+        int[] rowIds = ids[row];
+        float[] rowScores = scores[row];
+        int position = indexOf(rowIds, neighbour);
+
+        if (position >= 0 && score <= 0f) {
+            int[] trimmedIds = new int[rowIds.length - 1];
+            float[] trimmedScores = new float[rowIds.length - 1];
+            System.arraycopy(rowIds, 0, trimmedIds, 0, position);
+            System.arraycopy(rowScores, 0, trimmedScores, 0, position);
+            System.arraycopy(rowIds, position + 1, trimmedIds, position, rowIds.length - position - 1);
+            System.arraycopy(rowScores, position + 1, trimmedScores, position, rowIds.length - position - 1);
+            ids[row] = trimmedIds;
+            scores[row] = trimmedScores;
+            return true;
+        }
+        if (position < 0) {
+            if (score <= 0f || (rowIds.length == maxNeighbours && score <= rowScores[rowIds.length - 1])) {
+                return false;
+            }
+            int size = Math.min(rowIds.length + 1, maxNeighbours);
+            rowIds = Arrays.copyOf(rowIds, size);
+            rowScores = Arrays.copyOf(rowScores, size);
+            position = size - 1;
+        } else if (rowScores[position] == score) {
+            return false;
+        } else {
+            rowIds = rowIds.clone();
+            rowScores = rowScores.clone();
+        }
+
+        // Bubble the changed entry into place to keep the row sorted by score.
+        rowIds[position] = neighbour;
+        rowScores[position] = score;
+        while (position > 0 && rowScores[position - 1] < rowScores[position]) {
+            swap(rowIds, rowScores, position, position - 1);
+            position--;
+        }
+        while (position < rowIds.length - 1 && rowScores[position + 1] > rowScores[position]) {
+            swap(rowIds, rowScores, position, position + 1);
+            position++;
+        }
+        ids[row] = rowIds;
+        scores[row] = rowScores;
+        return true;
+    }
+
+    static int indexOf(int[] ids, int id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void swap(int[] ids, float[] scores, int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
@@ -0,0 +1,454 @@
+package com.example.musify.service.impl;
+
+import com.example.musify.dto.response.FollowEntryDto;
+import com.example.musify.dto.response.RatingEntryDto;
+import com.example.musify.dto.response.RecommendedAlbumDto;
+import com.example.musify.entity.User;
+import com.example.musify.repository.AlbumRatingRepository;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.FollowerRepository;
+import com.example.musify.service.IRecommendationService;
+import com.example.musify.service.IUtilService;
+import com.example.musify.util.KeysetPages;
+import com.example.musify.util.RebuildableModel;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// Item-item collaborative filtering over album ratings, with followed artists as an extra signal.
+// Neighbour lists are computed in parallel on startup and nightly; rating and follow writes patch the model after commit.
+@Service
+@RequiredArgsConstructor
+public class RecommendationServiceImpl implements IRecommendationService {
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationServiceImpl.class);
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    private static final int MAX_LIMIT = 50;
+
+    private final AlbumRatingRepository albumRatingRepository;
+    private final FollowerRepository followerRepository;
+    private final AlbumRepository albumRepository;
+    private final IUtilService utilService;
+
+    private final RebuildableModel<Model> model = new RebuildableModel<>(new Model());
+
+    @Override
+    public List<RecommendedAlbumDto> getSimilarAlbums(UUID albumId, int limit) {
+        int k = clampLimit(limit);
+        Map<UUID, Double> scores = model.read(model -> model.similar(albumId, k));
+        return toDtos(scores);
+    }
+
+    @Override
+    public List<RecommendedAlbumDto> getRecommendations(int limit) {
+        User user = utilService.getCurrentUser();
+        int k = clampLimit(limit);
+        Map<UUID, Double> scores = model.read(model -> model.recommend(user.getId(), k));
+        return toDtos(scores);
+    }
+
+    @Override
+    public void recordRating(UUID userId, UUID albumId, UUID artistId, Double rating) {
+        model.writeAfterCommit(model -> model.rate(userId, albumId, artistId, rating.floatValue()));
+    }
+
+    @Override
+    public void removeRating(UUID userId, UUID albumId) {
+        model.writeAfterCommit(model -> model.unrate(userId, albumId));
+    }
+
+    @Override
+    public void recordFollow(UUID userId, UUID artistId) {
+        model.writeAfterCommit(model -> model.follow(userId, artistId));
+    }
+
+    @Override
+    public void removeFollow(UUID userId, UUID artistId) {
+        model.writeAfterCommit(model -> model.unfollow(userId, artistId));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${ignacio.app.recommendationRebuildCron:0 30 4 * * *}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Model rebuilt = model.rebuild(() -> {
+            Model loaded = new Model();
+            KeysetPages.forEach(LOAD_PAGE_SIZE, albumRatingRepository::findFirstRatingEntries,
+                    albumRatingRepository::findRatingEntriesAfter, RatingEntryDto::getId,
+                    rating -> loaded.load(rating.getUserId(), rating.getAlbumId(), rating.getArtistId(),
+                            rating.getRating().floatValue()));
+            KeysetPages.forEach(LOAD_PAGE_SIZE, followerRepository::findFirstFollowEntries,
+                    followerRepository::findFollowEntriesAfter, FollowEntryDto::getId,
+                    follow -> loaded.follow(follow.getUserId(), follow.getArtistId()));
+            loaded.computeNeighbours();
+            return loaded;
+        });
+        logger.info("Recommendation model rebuilt from {} ratings over {} albums in {} ms.",
+                rebuilt.ratingCount, rebuilt.albums.size(), System.currentTimeMillis() - start);
+    }
+
+    private List<RecommendedAlbumDto> toDtos(Map<UUID, Double> scores) {
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        // Albums deleted since the model last saw them simply drop out here.
+        Map<UUID, RecommendedAlbumDto> albums = albumRepository.findRecommendedAlbumsByIdIn(scores.keySet()).stream()
+                .collect(Collectors.toMap(RecommendedAlbumDto::getId, Function.identity()));
+        List<RecommendedAlbumDto> result = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> {
+            RecommendedAlbumDto album = albums.get(id);
+            if (album != null) {
+                album.setScore(score);
+                result.add(album);
+            }
+        });
+        return result;
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    // Users, albums and artists are mapped to dense ints so every hot structure is a primitive array.
+    private static final class Model {
+        private static final int MAX_NEIGHBOURS = 50;
+        // Shrinks similarities backed by few co-ratings, and user means backed by few ratings.
+        private static final float SIMILARITY_SHRINK = 10f;
+        private static final float MEAN_SHRINK = 5f;
+        private static final float PREDICTION_SHRINK = 1f;
+        // Caps the per-user fan-out so a handful of users who rated everything don't dominate build time.
+        private static final int MAX_USER_RATINGS = 500;
+        private static final float FOLLOW_BOOST = 0.5f;
+        private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+        private final DenseIds users = new DenseIds();
+        private final DenseIds albums = new DenseIds();
+        private final DenseIds artists = new DenseIds();
+        private final SparseRows userRatings = new SparseRows();
+        private final SparseRows albumRatings = new SparseRows();
+        private final SparseRows userFollows = new SparseRows();
+        private final SparseRows artistAlbums = new SparseRows();
+        private double[] userSums = new double[0];
+        private int[] userCounts = new int[0];
+        private int[] albumArtists = new int[0];
+        private float[] albumNorms = new float[0];
+        private final NeighbourRows neighbours = new NeighbourRows(MAX_NEIGHBOURS);
+        private double ratingSum;
+        private long ratingCount;
+
+        void load(UUID userId, UUID albumId, UUID artistId, float rating) {
+            int user = users.intern(userId);
+            int album = albums.intern(albumId);
+            ensureCapacity();
+            linkArtist(album, artistId);
+            userRatings.append(user, album, rating);
+            albumRatings.append(album, user, rating);
+            userSums[user] += rating;
+            userCounts[user]++;
+            ratingSum += rating;
+            ratingCount++;
+        }
+
+        void computeNeighbours() {
+            IntStream.range(0, albums.size()).parallel().forEach(album -> albumNorms[album] = norm(album));
+            IntStream.range(0, albums.size()).parallel().forEach(this::computeRow);
+        }
+
+        void rate(UUID userId, UUID albumId, UUID artistId, float rating) {
+            int user = users.intern(userId);
+            int album = albums.intern(albumId);
+            ensureCapacity();
+            linkArtist(album, artistId);
+
+            float previous = userRatings.put(user, album, rating);
+            albumRatings.put(album, user, rating);
+            if (Float.isNaN(previous)) {
+                userSums[user] += rating;
+                userCounts[user]++;
+                ratingSum += rating;
+                ratingCount++;
+            } else {
+                userSums[user] += rating - previous;
+                ratingSum += rating - previous;
+            }
+            refresh(album);
+        }
+
+        void unrate(UUID userId, UUID albumId) {
+            int user = users.find(userId);
+            int album = albums.find(albumId);
+            if (user < 0 || album < 0) {
+                return;
+            }
+
+            float previous = userRatings.remove(user, album);
+            albumRatings.remove(album, user);
+            if (!Float.isNaN(previous)) {
+                userSums[user] -= previous;
+                userCounts[user]--;
+                ratingSum -= previous;
+                ratingCount--;
+                refresh(album);
+            }
+        }
+
+        void follow(UUID userId, UUID artistId) {
+            int user = users.intern(userId);
+            int artist = artists.intern(artistId);
+            ensureCapacity();
+            userFollows.put(user, artist, 1f);
+        }
+
+        void unfollow(UUID userId, UUID artistId) {
+            int user = users.find(userId);
+            int artist = artists.find(artistId);
+            if (user >= 0 && artist >= 0) {
+                userFollows.remove(user, artist);
+            }
+        }
+
+        Map<UUID, Double> similar(UUID albumId, int limit) {
+            int album = albums.find(albumId);
+            Map<UUID, Double> result = new LinkedHashMap<>();
+            if (album < 0) {
+                return result;
+            }
+
+            int[] ids = neighbours.ids(album);
+            float[] scores = neighbours.scores(album);
+            for (int i = 0; i < ids.length && i < limit; i++) {
+                result.put(albums.get(ids[i]), (double) scores[i]);
+            }
+            return result;
+        }
+
+        // Predicts the user's deviation from their own mean for every neighbour of what they rated, then adds a
+        // flat boost for albums by artists they follow. Rated albums are never recommended back.
+        Map<UUID, Double> recommend(UUID userId, int limit) {
+            int user = users.find(userId);
+            Map<UUID, Double> result = new LinkedHashMap<>();
+            if (user < 0) {
+                return result;
+            }
+
+            Scratch scratch = SCRATCH.get();
+            scratch.ensure(albums.size());
+            float[] weighted = scratch.dot;
+            float[] weights = scratch.weight;
+            int[] state = scratch.count;
+            int[] touched = scratch.touched;
+            int touchedCount = 0;
+
+            int[] rated = userRatings.ids(user);
+            float[] ratings = userRatings.values(user);
+            int ratedCount = userRatings.size(user);
+            for (int i = 0; i < ratedCount; i++) {
+                state[rated[i]] = -1;
+            }
+
+            float mean = mean(user);
+            for (int i = 0; i < ratedCount; i++) {
+                float deviation = ratings[i] - mean;
+                int[] ids = neighbours.ids(rated[i]);
+                float[] scores = neighbours.scores(rated[i]);
+                for (int n = 0; n < ids.length; n++) {
+                    int candidate = ids[n];
+                    if (state[candidate] < 0) {
+                        continue;
+                    }
+                    if (state[candidate]++ == 0) {
+                        touched[touchedCount++] = candidate;
+                    }
+                    weighted[candidate] += scores[n] * deviation;
+                    weights[candidate] += scores[n];
+                }
+            }
+
+            TopK top = new TopK(limit);
+            for (int t = 0; t < touchedCount; t++) {
+                int candidate = touched[t];
+                float score = weighted[candidate] / (weights[candidate] + PREDICTION_SHRINK);
+                weighted[candidate] = score;
+                weights[candidate] = 0f;
+            }
+
+            int[] followed = userFollows.ids(user);
+            for (int f = 0, followedCount = userFollows.size(user); f < followedCount; f++) {
+                int[] artistAlbumIds = artistAlbums.ids(followed[f]);
+                for (int a = 0, albumCount = artistAlbums.size(followed[f]); a < albumCount; a++) {
+                    int candidate = artistAlbumIds[a];
+                    if (state[candidate] < 0) {
+                        continue;
+                    }
+                    if (state[candidate]++ == 0) {
+                        touched[touchedCount++] = candidate;
+                    }
+                    weighted[candidate] += FOLLOW_BOOST;
+                }
+            }
+
+            for (int t = 0; t < touchedCount; t++) {
+                int candidate = touched[t];
+                if (weighted[candidate] > 0f) {
+                    top.offer(candidate, weighted[candidate]);
+                }
+                weighted[candidate] = 0f;
+                state[candidate] = 0;
+            }
+            for (int i = 0; i < ratedCount; i++) {
+                state[rated[i]] = 0;
+            }
+
+            int[] ids = new int[top.size()];
+            float[] scores = new float[top.size()];
+            top.drainDescending(ids, scores);
+            for (int i = 0; i < ids.length; i++) {
+                result.put(albums.get(ids[i]), (double) scores[i]);
+            }
+            return result;
+        }
+
+        // Recomputes the touched album's row exactly and patches it into the rows of its old and new neighbours.
+        // Other albums keep slightly stale norms and user means until the next rebuild.
+        private void refresh(int album) {
+            albumNorms[album] = norm(album);
+            int[] previous = neighbours.ids(album);
+            computeRow(album);
+
+            int[] current = neighbours.ids(album);
+            float[] scores = neighbours.scores(album);
+            for (int n = 0; n < current.length; n++) {
+                neighbours.patch(current[n], album, scores[n]);
+            }
+            for (int other : previous) {
+                if (NeighbourRows.indexOf(current, other) < 0) {
+                    neighbours.patch(other, album, 0f);
+                }
+            }
+        }
+
+        // Adjusted cosine similarity against every album that shares a rater, shrunk by the number of co-ratings.
+        private void computeRow(int album) {
+            float norm = albumNorms[album];
+            if (norm == 0f) {
+                neighbours.clear(album);
+                return;
+            }
+
+            Scratch scratch = SCRATCH.get();
+            scratch.ensure(albums.size());
+            float[] dot = scratch.dot;
+            int[] counts = scratch.count;
+            int[] touched = scratch.touched;
+            int touchedCount = 0;
+
+            int[] raters = albumRatings.ids(album);
+            float[] ratings = albumRatings.values(album);
+            for (int r = 0, raterCount = albumRatings.size(album); r < raterCount; r++) {
+                int user = raters[r];
+                float mean = mean(user);
+                float weight = ratings[r] - mean;
+                int[] rated = userRatings.ids(user);
+                float[] userScores = userRatings.values(user);
+                for (int i = 0, count = Math.min(userRatings.size(user), MAX_USER_RATINGS); i < count; i++) {
+                    int other = rated[i];
+                    if (other == album) {
+                        continue;
+                    }
+                    if (counts[other]++ == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                    dot[other] += weight * (userScores[i] - mean);
+                }
+            }
+
+            TopK top = new TopK(MAX_NEIGHBOURS);
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                float otherNorm = albumNorms[other];
+                if (otherNorm > 0f && dot[other] > 0f) {
+                    float similarity = dot[other] / (norm * otherNorm) * counts[other] / (counts[other] + SIMILARITY_SHRINK);
+                    top.offer(other, similarity);
+                }
+                dot[other] = 0f;
+                counts[other] = 0;
+            }
+
+            neighbours.set(album, top);
+        }
+
+        private float norm(int album) {
+            int[] raters = albumRatings.ids(album);
+            float[] ratings = albumRatings.values(album);
+            double sum = 0;
+            for (int r = 0, count = albumRatings.size(album); r < count; r++) {
+                float deviation = ratings[r] - mean(raters[r]);
+                sum += deviation * deviation;
+            }
+            return (float) Math.sqrt(sum);
+        }
+
+        private float mean(int user) {
+            double globalMean = ratingCount > 0 ? ratingSum / ratingCount : 0;
+            return (float) ((userSums[user] + MEAN_SHRINK * globalMean) / (userCounts[user] + MEAN_SHRINK));
+        }
+
+        private void linkArtist(int album, UUID artistId) {
+            if (artistId != null && albumArtists[album] < 0) {
+                int artist = artists.intern(artistId);
+                ensureCapacity();
+                albumArtists[album] = artist;
+                artistAlbums.append(artist, album, 1f);
+            }
+        }
+
+        private void ensureCapacity() {
+            userRatings.ensureRows(users.size());
+            userFollows.ensureRows(users.size());
+            albumRatings.ensureRows(albums.size());
+            artistAlbums.ensureRows(artists.size());
+            if (userSums.length < users.size()) {
+                int capacity = Math.max(users.size(), userSums.length * 2);
+                userSums = Arrays.copyOf(userSums, capacity);
+                userCounts = Arrays.copyOf(userCounts, capacity);
+            }
+            if (albumArtists.length < albums.size()) {
+                int previous = albumArtists.length;
+                int capacity = Math.max(albums.size(), previous * 2);
+                albumArtists = Arrays.copyOf(albumArtists, capacity);
+                Arrays.fill(albumArtists, previous, capacity, -1);
+                albumNorms = Arrays.copyOf(albumNorms, capacity);
+                neighbours.ensureRows(capacity);
+            }
+        }
+    }
+
+    // Per-thread dense accumulators indexed by album, left zeroed after every use.
+    private static final class Scratch {
+        private float[] dot = new float[0];
+        private float[] weight = new float[0];
+        private int[] count = new int[0];
+        private int[] touched = new int[0];
+
+        void ensure(int albums) {
+            if (dot.length < albums) {
+                int capacity = Math.max(albums, dot.length * 2);
+                dot = new float[capacity];
+                weight = new float[capacity];
+                count = new int[capacity];
+                touched = new int[capacity];
+            }
+        }
+    }
+}
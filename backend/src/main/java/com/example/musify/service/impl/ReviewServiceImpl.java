@@ -5,6 +5,7 @@ import com.example.musify.dto.request.CreateReviewDto;
 import com.example.musify.dto.request.UpdateReviewDto;
 import com.example.musify.dto.request.UserIdDto;
 import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.ReviewDto;
 import com.example.musify.entity.Album;
@@ -12,14 +13,17 @@ import com.example.musify.entity.Review;
 import com.example.musify.entity.User;
 import com.example.musify.exception.ResourceAlreadyExistsException;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.AlbumRepository;
 import com.example.musify.repository.ReviewRepository;
 import com.example.musify.repository.UserRepository;
+import com.example.musify.service.IFeedService;
 import com.example.musify.service.IReviewService;
+import com.example.musify.service.ISearchService;
 import com.example.musify.service.IUtilService;
+import com.example.musify.util.CursorUtils;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,7 +40,9 @@ public class ReviewServiceImpl implements IReviewService {
     private final AlbumRepository albumRepository;
     private final UserRepository userRepository;
     private final IUtilService utilService;
-    private final ModelMapper modelMapper;
+    private final ISearchService searchService;
+    private final IFeedService feedService;
+    private final DtoMapper dtoMapper;
 
     @Override
     public PageDto<ReviewDto> getUserReviews(String username, int page) {
@@ -49,25 +55,48 @@ public class ReviewServiceImpl implements IReviewService {
         int totalPages = pageRequest.getTotalPages();
         int currentPage = pageRequest.getNumber() + 1;
         Long totalElements = pageRequest.getTotalElements();
-        List<ReviewDto> content = pageRequest.getContent().stream().map(review ->
-                modelMapper.map(review, ReviewDto.class)).collect(Collectors.toList());
+        List<ReviewDto> content = pageRequest.getContent().stream()
+                .map(dtoMapper::toReviewDto).collect(Collectors.toList());
 
         return new PageDto<>(content, totalPages, currentPage, totalElements);
     }
 
     @Override
     public PageDto<ReviewDto> getReviews(int page) {
-        Page<Review> pageRequest = reviewRepository.findAll(PageRequest.of(page - 1, 20));
+        Page<ReviewDto> pageRequest = reviewRepository.findReviewDtos(PageRequest.of(page - 1, 20));
 
         int totalPages = pageRequest.getTotalPages();
         int currentPage = pageRequest.getNumber() + 1;
         Long totalElements = pageRequest.getTotalElements();
-        List<ReviewDto> content = pageRequest.getContent().stream().
-                map(tutorial -> modelMapper.map(tutorial, ReviewDto.class)).toList();
+        List<ReviewDto> content = pageRequest.getContent();
+        albumRepository.fillGenres(content.stream().map(ReviewDto::getAlbum).toList());
 
         return new PageDto<>(content, totalPages, currentPage, totalElements);
     }
 
+    @Override
+    public CursorPageDto<ReviewDto> getReviewsByCursor(String cursor, boolean includeTotal) {
+        Pageable pageable = PageRequest.of(0, CursorUtils.PAGE_SIZE + 1);
+        List<Review> reviews;
+
+        if (cursor == null) {
+            reviews = reviewRepository.findFirstByCreatedAtCursor(pageable);
+        } else {
+            CursorUtils.Cursor position = CursorUtils.decode(cursor);
+            reviews = reviewRepository.findAfterCreatedAtCursor(position.instantValue(), position.id(), pageable);
+        }
+
+        boolean hasNext = reviews.size() > CursorUtils.PAGE_SIZE;
+        List<Review> pageContent = hasNext ? reviews.subList(0, CursorUtils.PAGE_SIZE) : reviews;
+        Review last = hasNext ? pageContent.get(pageContent.size() - 1) : null;
+        String nextCursor = last != null ? CursorUtils.encode(last.getCreatedAt(), last.getId()) : null;
+        Long totalElements = includeTotal ? reviewRepository.count() : null;
+
+        List<ReviewDto> content = pageContent.stream()
+                .map(dtoMapper::toReviewDto).toList();
+        return new CursorPageDto<>(content, nextCursor, hasNext, totalElements);
+    }
+
     @Override
     public PageDto<ReviewDto> getAlbumReviews(UUID albumId, int page) {
         Album album = albumRepository.findById(albumId)
@@ -79,8 +108,8 @@ public class ReviewServiceImpl implements IReviewService {
         int currentPage = pageRequest.getNumber() + 1;
         Long totalElements = pageRequest.getTotalElements();
 
-        List<ReviewDto> content = pageRequest.getContent().stream().map(review ->
-                modelMapper.map(review, ReviewDto.class)).collect(Collectors.toList());
+        List<ReviewDto> content = pageRequest.getContent().stream()
+                .map(dtoMapper::toReviewDto).collect(Collectors.toList());
 
         return new PageDto<>(content, totalPages, currentPage, totalElements);
     }
@@ -115,8 +144,11 @@ public class ReviewServiceImpl implements IReviewService {
                     .build();
 
             reviewRepository.save(newReview);
+            feedService.publishReview(newReview);
 
-            return modelMapper.map(newReview, ReviewDto.class);
+            ReviewDto reviewDto = dtoMapper.toReviewDto(newReview);
+            searchService.indexReview(reviewDto);
+            return reviewDto;
         }
     }
 
@@ -138,15 +170,21 @@ public class ReviewServiceImpl implements IReviewService {
             review.setRating(request.getRating());
         }
 
-        return modelMapper.map(review, ReviewDto.class);
+        ReviewDto reviewDto = dtoMapper.toReviewDto(review);
+        searchService.indexReview(reviewDto);
+        feedService.evictTimeline(review.getAlbum().getArtist().getId());
+        return reviewDto;
     }
 
     @Override
+    @Transactional
     public MessageDto deleteReview(UUID reviewId, UserIdDto request) {
-        reviewRepository.findById(reviewId)
+        Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found."));
 
         reviewRepository.deleteById(reviewId);
+        searchService.removeReview(reviewId);
+        feedService.evictTimeline(review.getAlbum().getArtist().getId());
 
         return new MessageDto("Review deleted.");
     }
@@ -0,0 +1,608 @@
+package com.example.musify.service.impl;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.ReviewDto;
+import com.example.musify.dto.response.SearchResultDto;
+import com.example.musify.enumeration.ESearchType;
+import com.example.musify.mapper.DtoMapper;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.ReviewRepository;
+import com.example.musify.service.ISearchService;
+import com.example.musify.util.KeysetPages;
+import com.example.musify.util.RebuildableModel;
+import com.example.musify.util.TextUtils;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+
+// In-memory inverted index over albums, artists and reviews. Writes are applied after the surrounding
+// transaction commits and the whole index is rebuilt from the database on startup.
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements ISearchService {
+    private static final Logger logger = LoggerFactory.getLogger(SearchServiceImpl.class);
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_TOKENS = 8;
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float ARTIST_NAME_WEIGHT = 2f;
+    private static final float GENRE_WEIGHT = 1f;
+    private static final float REVIEW_TITLE_WEIGHT = 2f;
+    private static final float REVIEW_CONTENT_WEIGHT = 1f;
+    private static final float REVIEW_ALBUM_WEIGHT = 0.5f;
+
+    private final AlbumRepository albumRepository;
+    private final ArtistRepository artistRepository;
+    private final ReviewRepository reviewRepository;
+    private final DtoMapper dtoMapper;
+
+    private final RebuildableModel<SearchIndex> index = new RebuildableModel<>(new SearchIndex());
+
+    @Override
+    public List<SearchResultDto> search(String query, int limit) {
+        List<String> tokens = TextUtils.tokenize(query).stream()
+                .distinct()
+                .limit(MAX_QUERY_TOKENS)
+                .toList();
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        int k = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return index.read(index -> index.search(tokens, k));
+    }
+
+    @Override
+    public void indexAlbum(AlbumDto album) {
+        Document document = albumDocument(album);
+        index.writeAfterCommit(index -> index.put(document));
+    }
+
+    @Override
+    public void indexArtist(ArtistDto artist) {
+        Document document = artistDocument(artist);
+        index.writeAfterCommit(index -> index.put(document));
+    }
+
+    @Override
+    public void indexReview(ReviewDto review) {
+        Document document = reviewDocument(review);
+        index.writeAfterCommit(index -> index.put(document));
+    }
+
+    @Override
+    public void removeAlbum(UUID albumId) {
+        index.writeAfterCommit(index -> index.remove(new DocumentKey(ESearchType.ALBUM, albumId)));
+    }
+
+    @Override
+    public void removeArtist(UUID artistId) {
+        index.writeAfterCommit(index -> index.remove(new DocumentKey(ESearchType.ARTIST, artistId)));
+    }
+
+    @Override
+    public void removeReview(UUID reviewId) {
+        index.writeAfterCommit(index -> index.remove(new DocumentKey(ESearchType.REVIEW, reviewId)));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        SearchIndex rebuilt = index.rebuild(() -> {
+            SearchIndex loaded = new SearchIndex();
+            KeysetPages.forEachPage(REBUILD_PAGE_SIZE, artistRepository::findFirstIds, artistRepository::findIdsAfter,
+                    Function.identity(), ids -> artistRepository.findWithGenresByIdIn(ids).forEach(artist ->
+                            loaded.put(artistDocument(dtoMapper.toArtistDto(artist)))));
+            KeysetPages.forEachPage(REBUILD_PAGE_SIZE, albumRepository::findFirstAlbumDtos,
+                    albumRepository::findAlbumDtosAfter, AlbumDto::getId, albums -> {
+                        albumRepository.fillGenres(albums);
+                        albums.forEach(album -> loaded.put(albumDocument(album)));
+                    });
+            KeysetPages.forEachPage(REBUILD_PAGE_SIZE, reviewRepository::findFirstReviewDtos,
+                    reviewRepository::findReviewDtosAfter, ReviewDto::getId,
+                    reviews -> reviews.forEach(review -> loaded.put(reviewDocument(review))));
+            return loaded;
+        });
+        logger.info("Search index rebuilt with {} documents.", rebuilt.size());
+    }
+
+    private static Document albumDocument(AlbumDto album) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, album.getTitle(), NAME_WEIGHT);
+        if (album.getGenres() != null) {
+            album.getGenres().forEach(genre -> addTerms(terms, genre.getName(), GENRE_WEIGHT));
+        }
+        return Document.of(ESearchType.ALBUM, album.getId(), album.getArtistId(), album.getTitle(),
+                album.getArtistName(), album.getSlug(), album.getArtistSlug(), terms, album.getArtistName());
+    }
+
+    private static Document artistDocument(ArtistDto artist) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, artist.getName(), NAME_WEIGHT);
+        if (artist.getArtistGenres() != null) {
+            artist.getArtistGenres().forEach(genre -> addTerms(terms, genre.getName(), GENRE_WEIGHT));
+        }
+        return Document.of(ESearchType.ARTIST, artist.getId(), null, artist.getName(), null,
+                artist.getSlug(), artist.getSlug(), terms, null);
+    }
+
+    private static Document reviewDocument(ReviewDto review) {
+        Map<String, Float> terms = new HashMap<>();
+        addTerms(terms, review.getTitle(), REVIEW_TITLE_WEIGHT);
+        addTerms(terms, review.getContent(), REVIEW_CONTENT_WEIGHT);
+        AlbumDto album = review.getAlbum();
+        return album == null
+                ? Document.of(ESearchType.REVIEW, review.getId(), null, review.getTitle(), null, null, null,
+                terms, null)
+                : Document.of(ESearchType.REVIEW, review.getId(), album.getId(), review.getTitle(),
+                album.getTitle(), album.getSlug(), album.getArtistSlug(), terms, album.getTitle());
+    }
+
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String term : TextUtils.tokenize(text)) {
+            terms.merge(term.intern(), weight, Math::max);
+        }
+    }
+
+    private record DocumentKey(ESearchType type, UUID id) {
+    }
+
+    // Own terms are kept apart from the terms inherited from the parent (artist name on albums, album title on
+    // reviews) so a parent rename can re-derive them without reloading the child.
+    private record Document(ESearchType type, UUID id, UUID parentId, String title, String subtitle, String slug,
+                            String artistSlug, String[] terms, float[] weights, String[] parentTerms) {
+        static Document of(ESearchType type, UUID id, UUID parentId, String title, String subtitle, String slug,
+                           String artistSlug, Map<String, Float> terms, String parentText) {
+            String[] names = new String[terms.size()];
+            float[] weights = new float[terms.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> term : terms.entrySet()) {
+                names[i] = term.getKey();
+                weights[i++] = term.getValue();
+            }
+            return new Document(type, id, parentId, title, subtitle, slug, artistSlug, names, weights,
+                    parentTerms(parentText));
+        }
+
+        private static String[] parentTerms(String parentText) {
+            return TextUtils.tokenize(parentText).stream()
+                    .distinct()
+                    .map(String::intern)
+                    .toArray(String[]::new);
+        }
+
+        DocumentKey key() {
+            return new DocumentKey(type, id);
+        }
+
+        float parentWeight() {
+            return type == ESearchType.ALBUM ? ARTIST_NAME_WEIGHT : REVIEW_ALBUM_WEIGHT;
+        }
+
+        float boost() {
+            return switch (type) {
+                case ARTIST -> 1.2f;
+                case ALBUM -> 1.0f;
+                case REVIEW -> 0.6f;
+            };
+        }
+
+        boolean isCurrentFor(Document parent) {
+            return type == ESearchType.ALBUM
+                    ? Objects.equals(subtitle, parent.title) && Objects.equals(artistSlug, parent.slug)
+                    : Objects.equals(subtitle, parent.title) && Objects.equals(slug, parent.slug)
+                    && Objects.equals(artistSlug, parent.artistSlug);
+        }
+
+        Document withParent(Document parent) {
+            return type == ESearchType.ALBUM
+                    ? new Document(type, id, parentId, title, parent.title, slug, parent.slug, terms, weights,
+                    parentTerms(parent.title))
+                    : new Document(type, id, parentId, title, parent.title, parent.slug, parent.artistSlug, terms,
+                    weights, parentTerms(parent.title));
+        }
+
+        SearchResultDto toResult(double score) {
+            return new SearchResultDto(type, id, title, subtitle, slug, artistSlug, score);
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    private static final class SearchIndex {
+        private static final float EXACT_FACTOR = 1.0f;
+        private static final float PREFIX_FACTOR = 0.7f;
+        private static final float FUZZY_FACTOR = 0.5f;
+        private static final int MIN_PREFIX_LENGTH = 2;
+        private static final int MAX_PREFIX_EXPANSIONS = 64;
+        private static final int MIN_FUZZY_LENGTH = 4;
+        private static final int MIN_COMPACTION_TOMBSTONES = 1024;
+        // Every field weight times type boost, highest first. Postings are bucketed by these so a scan can stop
+        // as soon as the remaining buckets cannot beat the current top-k.
+        private static final float[] IMPACTS = {3.6f, 3f, 2f, 1.2f, 1f, 0.6f, 0.3f};
+
+        private static final Comparator<Scored> WEAKEST_FIRST = Comparator.comparingDouble(Scored::score)
+                .thenComparing(Comparator.comparingInt(Scored::order).reversed());
+
+        private final List<Entry> entries = new ArrayList<>();
+        private final Map<DocumentKey, Integer> slots = new HashMap<>();
+        private final Map<UUID, Set<DocumentKey>> children = new HashMap<>();
+        private final TreeMap<String, Posting> postings = new TreeMap<>();
+        // Single-character deletions of each term, so a typo costs one lookup per deletion of the query token.
+        private final Map<String, List<String>> deletes = new HashMap<>();
+        private int nextTermId;
+        private int tombstones;
+
+        int size() {
+            return slots.size();
+        }
+
+        void put(Document document) {
+            replace(document);
+            compactIfNeeded();
+        }
+
+        void remove(DocumentKey key) {
+            removeWithChildren(key);
+            compactIfNeeded();
+        }
+
+        private void replace(Document document) {
+            discard(document.key());
+            add(document);
+
+            Set<DocumentKey> childKeys = children.get(document.id());
+            if (childKeys != null) {
+                for (DocumentKey childKey : List.copyOf(childKeys)) {
+                    Document child = entries.get(slots.get(childKey)).document();
+                    if (!child.isCurrentFor(document)) {
+                        replace(child.withParent(document));
+                    }
+                }
+            }
+        }
+
+        private void removeWithChildren(DocumentKey key) {
+            Document document = discard(key);
+            if (document != null) {
+                Set<DocumentKey> childKeys = children.remove(document.id());
+                if (childKeys != null) {
+                    List.copyOf(childKeys).forEach(this::removeWithChildren);
+                }
+            }
+        }
+
+        private void add(Document document) {
+            Map<String, Float> impacts = new HashMap<>();
+            for (int i = 0; i < document.terms().length; i++) {
+                impacts.put(document.terms()[i], document.weights()[i] * document.boost());
+            }
+            for (String term : document.parentTerms()) {
+                impacts.merge(term, document.parentWeight() * document.boost(), Math::max);
+            }
+
+            int slot = entries.size();
+            int[] termIds = new int[impacts.size()];
+            float[] termImpacts = new float[impacts.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> impact : impacts.entrySet()) {
+                Posting posting = posting(impact.getKey());
+                posting.add(slot, impact.getValue());
+                termIds[i] = posting.id;
+                termImpacts[i++] = impact.getValue();
+            }
+
+            entries.add(new Entry(document, termIds, termImpacts));
+            slots.put(document.key(), slot);
+            if (document.parentId() != null) {
+                children.computeIfAbsent(document.parentId(), id -> new HashSet<>()).add(document.key());
+            }
+        }
+
+        private Document discard(DocumentKey key) {
+            Integer slot = slots.remove(key);
+            if (slot == null) {
+                return null;
+            }
+
+            Document document = entries.set(slot, null).document();
+            tombstones++;
+            if (document.parentId() != null) {
+                Set<DocumentKey> siblings = children.get(document.parentId());
+                if (siblings != null) {
+                    siblings.remove(key);
+                }
+            }
+            return document;
+        }
+
+        private Posting posting(String term) {
+            Posting posting = postings.get(term);
+            if (posting == null) {
+                posting = new Posting(nextTermId++);
+                postings.put(term, posting);
+                if (term.length() >= MIN_FUZZY_LENGTH - 1) {
+                    for (String key : deletionsOf(term)) {
+                        deletes.computeIfAbsent(key, k -> new ArrayList<>(1)).add(term);
+                    }
+                }
+            }
+            return posting;
+        }
+
+        private void compactIfNeeded() {
+            if (tombstones <= Math.max(MIN_COMPACTION_TOMBSTONES, slots.size())) {
+                return;
+            }
+
+            List<Document> live = entries.stream()
+                    .filter(Objects::nonNull)
+                    .map(Entry::document)
+                    .toList();
+            entries.clear();
+            slots.clear();
+            children.clear();
+            postings.clear();
+            deletes.clear();
+            nextTermId = 0;
+            tombstones = 0;
+            live.forEach(this::add);
+        }
+
+        List<SearchResultDto> search(List<String> tokens, int limit) {
+            List<Expansion> expansions = new ArrayList<>();
+            for (int i = 0; i < tokens.size(); i++) {
+                Expansion expansion = expand(tokens.get(i), i == tokens.size() - 1);
+                if (expansion != null) {
+                    expansions.add(expansion);
+                }
+            }
+            if (expansions.isEmpty()) {
+                return List.of();
+            }
+
+            // Every matched token is required, so candidates come from the rarest one.
+            Expansion driver = expansions.stream().min(Comparator.comparingLong(Expansion::size)).get();
+            double othersBound = expansions.stream()
+                    .filter(expansion -> expansion != driver)
+                    .mapToDouble(Expansion::maxContribution)
+                    .sum();
+
+            List<Segment> segments = new ArrayList<>();
+            for (int t = 0; t < driver.postings().length; t++) {
+                IntList[] buckets = driver.postings()[t].buckets;
+                for (int b = 0; b < buckets.length; b++) {
+                    if (buckets[b] != null) {
+                        segments.add(new Segment(buckets[b], driver.values()[t] * IMPACTS[b] + othersBound));
+                    }
+                }
+            }
+            segments.sort(Comparator.comparingDouble(Segment::bound).reversed());
+
+            PriorityQueue<Scored> top = new PriorityQueue<>(limit + 1, WEAKEST_FIRST);
+            BitSet seen = new BitSet(entries.size());
+            int order = 0;
+            scan:
+            for (Segment segment : segments) {
+                for (int i = 0; i < segment.slots().size(); i++) {
+                    // Later candidates score at most the bound and lose ties to earlier ones.
+                    if (top.size() == limit && top.peek().score() >= segment.bound()) {
+                        break scan;
+                    }
+
+                    int slot = segment.slots().get(i);
+                    if (seen.get(slot)) {
+                        continue;
+                    }
+                    seen.set(slot);
+
+                    Entry entry = entries.get(slot);
+                    if (entry == null) {
+                        continue;
+                    }
+                    double score = entry.score(expansions);
+                    if (score == 0) {
+                        continue;
+                    }
+
+                    Scored scored = new Scored(entry.document(), score, order++);
+                    if (top.size() < limit) {
+                        top.add(scored);
+                    } else if (score > top.peek().score()) {
+                        top.poll();
+                        top.add(scored);
+                    }
+                }
+            }
+
+            return top.stream()
+                    .sorted(WEAKEST_FIRST.reversed())
+                    .map(scored -> scored.document().toResult(scored.score()))
+                    .toList();
+        }
+
+        // Collects each dictionary term the token can stand for, valued at its match factor times idf.
+        private Expansion expand(String token, boolean last) {
+            Map<String, Float> factors = new HashMap<>();
+            if (postings.containsKey(token)) {
+                factors.put(token, EXACT_FACTOR);
+            }
+
+            if (last && token.length() >= MIN_PREFIX_LENGTH) {
+                int expansions = 0;
+                for (String term : postings.subMap(token, false, token + Character.MAX_VALUE, false).keySet()) {
+                    if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    factors.putIfAbsent(term, PREFIX_FACTOR);
+                }
+            }
+
+            if (token.length() >= MIN_FUZZY_LENGTH) {
+                for (String key : deletionsOf(token)) {
+                    for (String term : deletes.getOrDefault(key, List.of())) {
+                        if (!factors.containsKey(term) && withinOneEdit(token, term)) {
+                            factors.put(term, FUZZY_FACTOR);
+                        }
+                    }
+                }
+            }
+            if (factors.isEmpty()) {
+                return null;
+            }
+
+            int documentCount = Math.max(1, slots.size());
+            List<Map.Entry<Posting, Float>> matched = factors.entrySet().stream()
+                    .map(factor -> Map.entry(postings.get(factor.getKey()), factor.getValue()))
+                    .sorted(Comparator.comparingInt(factor -> factor.getKey().id))
+                    .toList();
+            Posting[] matchedPostings = new Posting[matched.size()];
+            int[] ids = new int[matched.size()];
+            double[] values = new double[matched.size()];
+            for (int i = 0; i < matched.size(); i++) {
+                Posting posting = matched.get(i).getKey();
+                matchedPostings[i] = posting;
+                ids[i] = posting.id;
+                values[i] = matched.get(i).getValue() * Math.log(1 + (double) documentCount / posting.size);
+            }
+            return new Expansion(matchedPostings, ids, values);
+        }
+
+        private static List<String> deletionsOf(String term) {
+            List<String> keys = new ArrayList<>(term.length() + 1);
+            keys.add(term);
+            if (term.length() >= MIN_FUZZY_LENGTH) {
+                for (int i = 0; i < term.length(); i++) {
+                    keys.add(term.substring(0, i) + term.substring(i + 1));
+                }
+            }
+            return keys;
+        }
+
+        // Optimal string alignment distance <= 1: one insertion, deletion, substitution or adjacent swap.
+        private static boolean withinOneEdit(String a, String b) {
+            int lengthA = a.length();
+            int lengthB = b.length();
+            if (Math.abs(lengthA - lengthB) > 1) {
+                return false;
+            }
+
+            int i = 0;
+            while (i < Math.min(lengthA, lengthB) && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            if (lengthA == lengthB) {
+                return i == lengthA
+                        || a.regionMatches(i + 1, b, i + 1, lengthA - i - 1)
+                        || (i + 1 < lengthA && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                        && a.regionMatches(i + 2, b, i + 2, lengthA - i - 2));
+            }
+            return lengthA > lengthB
+                    ? a.regionMatches(i + 1, b, i, lengthB - i)
+                    : b.regionMatches(i + 1, a, i, lengthA - i);
+        }
+
+        private static final class Posting {
+            private final int id;
+            private final IntList[] buckets = new IntList[IMPACTS.length];
+            private int size;
+
+            Posting(int id) {
+                this.id = id;
+            }
+
+            void add(int slot, float impact) {
+                int bucket = IMPACTS.length - 1;
+                while (bucket > 0 && IMPACTS[bucket] < impact) {
+                    bucket--;
+                }
+                if (buckets[bucket] == null) {
+                    buckets[bucket] = new IntList();
+                }
+                buckets[bucket].add(slot);
+                size++;
+            }
+
+            float maxImpact() {
+                for (int bucket = 0; bucket < buckets.length; bucket++) {
+                    if (buckets[bucket] != null) {
+                        return IMPACTS[bucket];
+                    }
+                }
+                return 0;
+            }
+        }
+
+        private record Entry(Document document, int[] termIds, float[] impacts) {
+            double score(List<Expansion> expansions) {
+                double total = 0;
+                for (Expansion expansion : expansions) {
+                    double best = 0;
+                    for (int i = 0; i < termIds.length; i++) {
+                        int match = Arrays.binarySearch(expansion.ids(), termIds[i]);
+                        if (match >= 0) {
+                            best = Math.max(best, expansion.values()[match] * impacts[i]);
+                        }
+                    }
+                    if (best == 0) {
+                        return 0;
+                    }
+                    total += best;
+                }
+                return total;
+            }
+        }
+
+        private record Expansion(Posting[] postings, int[] ids, double[] values) {
+            long size() {
+                long size = 0;
+                for (Posting posting : postings) {
+                    size += posting.size;
+                }
+                return size;
+            }
+
+            double maxContribution() {
+                double max = 0;
+                for (int i = 0; i < postings.length; i++) {
+                    max = Math.max(max, values[i] * postings[i].maxImpact());
+                }
+                return max;
+            }
+        }
+
+        private record Segment(IntList slots, double bound) {
+        }
+
+        private record Scored(Document document, double score, int order) {
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.example.musify.service.impl;
+
+import com.example.musify.dto.response.ArtistGenreEntryDto;
+import com.example.musify.dto.response.FollowEntryDto;
+import com.example.musify.dto.response.SimilarArtistDto;
+import com.example.musify.dto.response.SimilarArtistEntryDto;
+import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.FollowerRepository;
+import com.example.musify.repository.SimilarArtistRepository;
+import com.example.musify.service.ISimilarArtistService;
+import com.example.musify.util.KeysetPages;
+import com.example.musify.util.RebuildableModel;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+// Similar artists from shared genres (Jaccard) and shared followers (shrunk cosine), computed over an in-memory
+// artist/genre/follower index and materialized into similar_artists, which is what the endpoint reads.
+// The table is fully rewritten on startup and nightly; follows patch the index after commit and the changed rows
+// are flushed in the background.
+@Service
+@RequiredArgsConstructor
+public class SimilarArtistServiceImpl implements ISimilarArtistService {
+    private static final Logger logger = LoggerFactory.getLogger(SimilarArtistServiceImpl.class);
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final ArtistRepository artistRepository;
+    private final FollowerRepository followerRepository;
+    private final SimilarArtistRepository similarArtistRepository;
+
+    // Serializes writes to similar_artists so a full rewrite never lands on top of a newer incremental flush. A lock
+    // rather than a monitor, which would pin a virtual thread's carrier for the whole write.
+    private final Lock persistLock = new ReentrantLock();
+    private final RebuildableModel<Model> model = new RebuildableModel<>(new Model());
+
+    private record DirtyRows(List<UUID> artistIds, List<SimilarArtistEntryDto> entries) {
+    }
+
+    @Override
+    public List<SimilarArtistDto> getSimilarArtists(String artistSlug, int limit) {
+        int size = Math.max(1, Math.min(limit, Model.MAX_SIMILAR));
+        List<SimilarArtistDto> similarArtists = similarArtistRepository
+                .findSimilarArtists(artistSlug, PageRequest.of(0, size));
+        if (similarArtists.isEmpty() && artistRepository.findBySlug(artistSlug).isEmpty()) {
+            throw new ResourceNotFoundException("Artist not found.");
+        }
+        return similarArtists;
+    }
+
+    @Override
+    public void recordFollow(UUID userId, UUID artistId) {
+        model.writeAfterCommit(model -> model.follow(userId, artistId));
+    }
+
+    @Override
+    public void removeFollow(UUID userId, UUID artistId) {
+        model.writeAfterCommit(model -> model.unfollow(userId, artistId));
+    }
+
+    @Override
+    public void removeArtist(UUID artistId) {
+        model.writeAfterCommit(model -> model.removeArtist(artistId));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${ignacio.app.similarArtistRebuildCron:0 45 4 * * *}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Model rebuilt = model.load(() -> {
+            Model loaded = new Model();
+            for (ArtistGenreEntryDto entry : artistRepository.findArtistGenreEntries()) {
+                loaded.loadGenre(entry.getArtistId(), entry.getGenreId());
+            }
+            KeysetPages.forEach(LOAD_PAGE_SIZE, followerRepository::findFirstFollowEntries,
+                    followerRepository::findFollowEntriesAfter, FollowEntryDto::getId,
+                    follow -> loaded.loadFollow(follow.getUserId(), follow.getArtistId()));
+            loaded.computeAll();
+            return loaded;
+        });
+        long computed = System.currentTimeMillis();
+
+        persistLock.lock();
+        try {
+            model.install(rebuilt, installed -> installed.dirty.clear());
+            List<SimilarArtistEntryDto> entries = model.read(model ->
+                    model.entries(IntStream.range(0, model.artists.size())));
+            similarArtistRepository.replaceAllSimilarArtists(entries);
+        } finally {
+            persistLock.unlock();
+        }
+        logger.info("Similar artists rebuilt for {} artists in {} ms and stored in {} ms.",
+                rebuilt.artists.size(), computed - start, System.currentTimeMillis() - computed);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${ignacio.app.similarArtistFlushDelay:10000}")
+    public void flush() {
+        persistLock.lock();
+        try {
+            DirtyRows rows = model.update(model -> {
+                if (model.dirty.isEmpty()) {
+                    return null;
+                }
+                List<UUID> artistIds = model.dirty.stream().mapToObj(model.artists::get).toList();
+                List<SimilarArtistEntryDto> entries = model.entries(model.dirty.stream());
+                model.dirty.clear();
+                return new DirtyRows(artistIds, entries);
+            });
+            if (rows == null) {
+                return;
+            }
+
+            try {
+                similarArtistRepository.replaceSimilarArtists(rows.artistIds(), rows.entries());
+            } catch (RuntimeException e) {
+                model.modify(model ->
+                        rows.artistIds().forEach(artistId -> model.dirty.set(model.artists.find(artistId))));
+                throw e;
+            }
+        } finally {
+            persistLock.unlock();
+        }
+    }
+
+    // Bipartite artist/genre and artist/follower index over dense ints. Artists with exactly the same genres are
+    // grouped, so genre similarity is computed once per pair of groups instead of per pair of artists.
+    private static final class Model {
+        static final int MAX_SIMILAR = 20;
+        private static final float GENRE_WEIGHT = 0.4f;
+        private static final float FOLLOW_WEIGHT = 0.6f;
+        // Shrinks co-follow similarity backed by few shared followers.
+        private static final float CO_FOLLOW_SHRINK = 5f;
+        // Caps the per-user fan-out so a handful of users who follow everyone don't dominate build time.
+        private static final int MAX_USER_FOLLOWS = 500;
+        private static final int MAX_GROUP_NEIGHBOURS = 32;
+        private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+        private final DenseIds artists = new DenseIds();
+        private final DenseIds users = new DenseIds();
+        private final DenseIds genres = new DenseIds();
+        private final SparseRows artistFollowers = new SparseRows();
+        private final SparseRows userFollows = new SparseRows();
+        // Only filled while loading; computeAll freezes it into sorted genresOf rows.
+        private final SparseRows loadedGenres = new SparseRows();
+        private final NeighbourRows similar = new NeighbourRows(MAX_SIMILAR);
+        private final NeighbourRows groupNeighbours = new NeighbourRows(MAX_GROUP_NEIGHBOURS);
+        private final BitSet dirty = new BitSet();
+        private int[][] genresOf = new int[0][];
+        private int[] groupOf = new int[0];
+        private int[][] groupMembers = new int[0][];
+
+        void loadGenre(UUID artistId, UUID genreId) {
+            int artist = artists.intern(artistId);
+            int genre = genres.intern(genreId);
+            ensureCapacity();
+            loadedGenres.append(artist, genre, 1f);
+        }
+
+        void loadFollow(UUID userId, UUID artistId) {
+            int user = users.intern(userId);
+            int artist = artists.intern(artistId);
+            ensureCapacity();
+            userFollows.append(user, artist, 1f);
+            artistFollowers.append(artist, user, 1f);
+        }
+
+        void computeAll() {
+            int artistCount = artists.size();
+            Map<String, Integer> groupIndex = new HashMap<>();
+            List<int[]> groupGenres = new ArrayList<>();
+            int[] groupSizes = new int[artistCount];
+            for (int artist = 0; artist < artistCount; artist++) {
+                int[] artistGenres = Arrays.copyOf(loadedGenres.ids(artist), loadedGenres.size(artist));
+                Arrays.sort(artistGenres);
+                genresOf[artist] = artistGenres;
+                if (artistGenres.length > 0) {
+                    int group = groupIndex.computeIfAbsent(Arrays.toString(artistGenres), key -> {
+                        groupGenres.add(artistGenres);
+                        return groupGenres.size() - 1;
+                    });
+                    groupOf[artist] = group;
+                    groupSizes[group]++;
+                }
+            }
+
+            // Within a group every member scores the same, so the most followed members are offered first.
+            int groupCount = groupGenres.size();
+            groupMembers = new int[groupCount][];
+            for (int group = 0; group < groupCount; group++) {
+                groupMembers[group] = new int[groupSizes[group]];
+                groupSizes[group] = 0;
+            }
+            for (int artist = 0; artist < artistCount; artist++) {
+                int group = groupOf[artist];
+                if (group >= 0) {
+                    groupMembers[group][groupSizes[group]++] = artist;
+                }
+            }
+            IntStream.range(0, groupCount).parallel().forEach(group -> groupMembers[group] =
+                    IntStream.of(groupMembers[group]).boxed()
+                            .sorted(Comparator.comparingInt(artist -> -artistFollowers.size(artist)))
+                            .mapToInt(Integer::intValue)
+                            .toArray());
+
+            int[][] genreGroups = new int[genres.size()][];
+            int[] genreSizes = new int[genres.size()];
+            groupGenres.forEach(genreIds -> Arrays.stream(genreIds).forEach(genre -> genreSizes[genre]++));
+            for (int genre = 0; genre < genreGroups.length; genre++) {
+                genreGroups[genre] = new int[genreSizes[genre]];
+                genreSizes[genre] = 0;
+            }
+            for (int group = 0; group < groupCount; group++) {
+                for (int genre : groupGenres.get(group)) {
+                    genreGroups[genre][genreSizes[genre]++] = group;
+                }
+            }
+
+            groupNeighbours.ensureRows(groupCount);
+            IntStream.range(0, groupCount).parallel()
+                    .forEach(group -> computeGroupNeighbours(group, groupGenres, genreGroups));
+            IntStream.range(0, artistCount).parallel().forEach(artist -> {
+                Scratch scratch = SCRATCH.get();
+                scratch.ensure(artistCount);
+                int touchedCount = accumulate(artist, scratch);
+                computeRow(artist, scratch, touchedCount);
+                scratch.clear(touchedCount);
+            });
+        }
+
+        void follow(UUID userId, UUID artistId) {
+            int user = users.intern(userId);
+            int artist = artists.intern(artistId);
+            ensureCapacity();
+            if (Float.isNaN(userFollows.put(user, artist, 1f))) {
+                artistFollowers.append(artist, user, 1f);
+                refresh(artist, user);
+            }
+        }
+
+        void unfollow(UUID userId, UUID artistId) {
+            int user = users.find(userId);
+            int artist = artists.find(artistId);
+            if (user >= 0 && artist >= 0 && !Float.isNaN(userFollows.remove(user, artist))) {
+                artistFollowers.remove(artist, user);
+                refresh(artist, user);
+            }
+        }
+
+        // The database drops the artist's rows on delete, so its own row is never written again and every row that
+        // listed it is recomputed without it.
+        void removeArtist(UUID artistId) {
+            int artist = artists.find(artistId);
+            if (artist < 0) {
+                return;
+            }
+
+            int[] followers = artistFollowers.ids(artist);
+            for (int f = 0, followerCount = artistFollowers.size(artist); f < followerCount; f++) {
+                userFollows.remove(followers[f], artist);
+            }
+            artistFollowers.clear(artist);
+            int group = groupOf[artist];
+            if (group >= 0) {
+                groupMembers[group] = IntStream.of(groupMembers[group]).filter(member -> member != artist).toArray();
+                groupOf[artist] = -1;
+            }
+            genresOf[artist] = SparseRows.NO_IDS;
+            similar.clear(artist);
+            dirty.clear(artist);
+
+            Scratch scratch = SCRATCH.get();
+            scratch.ensure(artists.size());
+            for (int other = 0; other < artists.size(); other++) {
+                if (NeighbourRows.indexOf(similar.ids(other), artist) >= 0) {
+                    int touchedCount = accumulate(other, scratch);
+                    computeRow(other, scratch, touchedCount);
+                    scratch.clear(touchedCount);
+                    dirty.set(other);
+                }
+            }
+        }
+
+        List<SimilarArtistEntryDto> entries(IntStream artistIds) {
+            List<SimilarArtistEntryDto> entries = new ArrayList<>();
+            artistIds.forEach(artist -> {
+                int[] ids = similar.ids(artist);
+                float[] scores = similar.scores(artist);
+                for (int i = 0; i < ids.length; i++) {
+                    entries.add(new SimilarArtistEntryDto(artists.get(artist), artists.get(ids[i]),
+                            (double) scores[i], i));
+                }
+            });
+            return entries;
+        }
+
+        // Recomputes the followed artist's row exactly. Scores are symmetric, so the same pair scores are patched
+        // into the rows of its old and new neighbours and of the user's other followed artists, whose co-follow
+        // count with it just changed. Other pairs keep slightly stale follower counts until the next rebuild.
+        private void refresh(int artist, int user) {
+            Scratch scratch = SCRATCH.get();
+            scratch.ensure(artists.size());
+            int[] previous = similar.ids(artist);
+            int touchedCount = accumulate(artist, scratch);
+            computeRow(artist, scratch, touchedCount);
+            dirty.set(artist);
+
+            int[] current = similar.ids(artist);
+            float[] scores = similar.scores(artist);
+            for (int n = 0; n < current.length; n++) {
+                patch(current[n], artist, scores[n]);
+            }
+            for (int other : previous) {
+                if (NeighbourRows.indexOf(current, other) < 0) {
+                    patch(other, artist, score(artist, other, scratch.count[other]));
+                }
+            }
+            int[] followed = userFollows.ids(user);
+            for (int i = 0, count = userFollows.size(user); i < count; i++) {
+                int other = followed[i];
+                if (other != artist) {
+                    patch(other, artist, score(artist, other, scratch.count[other]));
+                }
+            }
+            scratch.clear(touchedCount);
+        }
+
+        private void patch(int artist, int neighbour, float score) {
+            if (similar.patch(artist, neighbour, score)) {
+                dirty.set(artist);
+            }
+        }
+
+        // Counts shared followers with every co-followed artist into the scratch space; the caller clears it.
+        private int accumulate(int artist, Scratch scratch) {
+            int[] counts = scratch.count;
+            int[] touched = scratch.touched;
+            int touchedCount = 0;
+            int[] followers = artistFollowers.ids(artist);
+            for (int f = 0, followerCount = artistFollowers.size(artist); f < followerCount; f++) {
+                int user = followers[f];
+                int[] followed = userFollows.ids(user);
+                for (int i = 0, count = Math.min(userFollows.size(user), MAX_USER_FOLLOWS); i < count; i++) {
+                    int other = followed[i];
+                    if (other == artist) {
+                        continue;
+                    }
+                    if (counts[other]++ == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                }
+            }
+            return touchedCount;
+        }
+
+        private void computeRow(int artist, Scratch scratch, int touchedCount) {
+            int[] counts = scratch.count;
+            int[] touched = scratch.touched;
+            TopK top = new TopK(MAX_SIMILAR);
+            for (int t = 0; t < touchedCount; t++) {
+                top.offer(touched[t], score(artist, touched[t], counts[touched[t]]));
+            }
+
+            // Backfill with genre-only matches, walking groups from the most to the least overlapping genres.
+            int group = groupOf[artist];
+            if (group >= 0) {
+                int[] groups = groupNeighbours.ids(group);
+                float[] jaccards = groupNeighbours.scores(group);
+                for (int n = 0; n < groups.length; n++) {
+                    float score = GENRE_WEIGHT * jaccards[n];
+                    if (top.isFull() && score <= top.min()) {
+                        break;
+                    }
+                    int offered = 0;
+                    for (int member : groupMembers[groups[n]]) {
+                        if (offered == MAX_SIMILAR) {
+                            break;
+                        }
+                        if (member != artist && counts[member] == 0) {
+                            top.offer(member, score);
+                            offered++;
+                        }
+                    }
+                }
+            }
+            similar.set(artist, top);
+        }
+
+        private void computeGroupNeighbours(int group, List<int[]> groupGenres, int[][] genreGroups) {
+            Scratch scratch = SCRATCH.get();
+            scratch.ensure(groupGenres.size());
+            int[] shared = scratch.count;
+            int[] touched = scratch.touched;
+            int touchedCount = 0;
+            int[] genreIds = groupGenres.get(group);
+            for (int genre : genreIds) {
+                for (int other : genreGroups[genre]) {
+                    if (shared[other]++ == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                }
+            }
+
+            TopK top = new TopK(MAX_GROUP_NEIGHBOURS);
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                int union = genreIds.length + groupGenres.get(other).length - shared[other];
+                top.offer(other, (float) shared[other] / union);
+            }
+            scratch.clear(touchedCount);
+            groupNeighbours.set(group, top);
+        }
+
+        private float score(int artist, int other, int sharedFollowers) {
+            float score = GENRE_WEIGHT * jaccard(genresOf[artist], genresOf[other]);
+            if (sharedFollowers > 0) {
+                double followers = Math.sqrt((double) artistFollowers.size(artist) * artistFollowers.size(other));
+                score += FOLLOW_WEIGHT * (float) (sharedFollowers / followers)
+                        * sharedFollowers / (sharedFollowers + CO_FOLLOW_SHRINK);
+            }
+            return score;
+        }
+
+        private static float jaccard(int[] a, int[] b) {
+            if (a.length == 0 || b.length == 0) {
+                return 0f;
+            }
+            int shared = 0;
+            for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+                if (a[i] == b[j]) {
+                    shared++;
+                    i++;
+                    j++;
+                } else if (a[i] < b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return (float) shared / (a.length + b.length - shared);
+        }
+
+        private void ensureCapacity() {
+            artistFollowers.ensureRows(artists.size());
+            loadedGenres.ensureRows(artists.size());
+            userFollows.ensureRows(users.size());
+            similar.ensureRows(artists.size());
+            if (groupOf.length < artists.size()) {
+                int previous = groupOf.length;
+                int capacity = Math.max(artists.size(), previous * 2);
+                groupOf = Arrays.copyOf(groupOf, capacity);
+                Arrays.fill(groupOf, previous, capacity, -1);
+                genresOf = Arrays.copyOf(genresOf, capacity);
+                Arrays.fill(genresOf, previous, capacity, SparseRows.NO_IDS);
+            }
+        }
+    }
+
+    // Per-thread dense counters indexed by artist or genre group, left zeroed after every use.
+    private static final class Scratch {
+        private int[] count = new int[0];
+        private int[] touched = new int[0];
+
+        void ensure(int size) {
+            if (count.length < size) {
+                int capacity = Math.max(size, count.length * 2);
+                count = new int[capacity];
+                touched = new int[capacity];
+            }
+        }
+
+        void clear(int touchedCount) {
+            for (int t = 0; t < touchedCount; t++) {
+                count[touched[t]] = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.musify.service.impl;
+
+import java.util.Arrays;
+
+// Sparse rows of (int id, float value) pairs in growable primitive arrays, unsorted within a row.
+final class SparseRows {
+    static final int[] NO_IDS = new int[0];
+    static final float[] NO_VALUES = new float[0];
+    private static final int INITIAL_ROW_CAPACITY = 4;
+
+    private int[][] ids = new int[0][];
+    private float[][] values = new float[0][];
+    private int[] sizes = new int[0];
+
+    void ensureRows(int rows) {
+        if (sizes.length >= rows) {
+            return;
+        }
+        int previous = sizes.length;
+        int capacity = Math.max(rows, previous * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        values = Arrays.copyOf(values, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        Arrays.fill(ids, previous, capacity, NO_IDS);
+        Arrays.fill(values, previous, capacity, NO_VALUES);
+    }
+
+    int size(int row) {
+        return sizes[row];
+    }
+
+    int[] ids(int row) {
+        return ids[row];
+    }
+
+    float[] values(int row) {
+        return values[row];
+    }
+
+    // Appends without looking for an existing entry; only for loads where pairs are known to be unique.
+    void append(int row, int id, float value) {
+        int size = sizes[row];
+        if (size == ids[row].length) {
+            int capacity = Math.max(INITIAL_ROW_CAPACITY, size * 2);
+            ids[row] = Arrays.copyOf(ids[row], capacity);
+            values[row] = Arrays.copyOf(values[row], capacity);
+        }
+        ids[row][size] = id;
+        values[row][size] = value;
+        sizes[row] = size + 1;
+    }
+
+    // Returns the replaced value, or NaN when the entry is new.
+    float put(int row, int id, float value) {
+        int[] rowIds = ids[row];
+        for (int i = 0, size = sizes[row]; i < size; i++) {
+            if (rowIds[i] == id) {
+                float previous = values[row][i];
+                values[row][i] = value;
+                return previous;
+            }
+        }
+        append(row, id, value);
+        return Float.NaN;
+    }
+
+    void clear(int row) {
+        ids[row] = NO_IDS;
+        values[row] = NO_VALUES;
+        sizes[row] = 0;
+    }
+
+    // Returns the removed value, or NaN when there was no entry.
+    float remove(int row, int id) {
+        int[] rowIds = ids[row];
+        float[] rowValues = values[row];
+        for (int i = 0, size = sizes[row]; i < size; i++) {
+            if (rowIds[i] == id) {
+                float previous = rowValues[i];
+                rowIds[i] = rowIds[size - 1];
+                rowValues[i] = rowValues[size - 1];
+                sizes[row] = size - 1;
+                return previous;
+            }
+        }
+        return Float.NaN;
+    }
+}
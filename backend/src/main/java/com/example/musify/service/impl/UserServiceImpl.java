@@ -1,6 +1,7 @@
 package com.example.musify.service.impl;
 
 import com.example.musify.auth.dto.response.MessageDto;
+import com.example.musify.auth.service.TokenRevocationService;
 import com.example.musify.dto.request.UpdatePasswordDto;
 import com.example.musify.dto.request.UpdateUserDto;
 import com.example.musify.dto.request.UserRoleDto;
@@ -10,7 +11,9 @@ import com.example.musify.entity.Role;
 import com.example.musify.entity.User;
 import com.example.musify.enumeration.ERole;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.AlbumListRepository;
+import com.example.musify.repository.AlbumRatingRepository;
 import com.example.musify.repository.RoleRepository;
 import com.example.musify.repository.UserRepository;
 import com.example.musify.service.IFileUploadService;
@@ -18,7 +21,6 @@ import com.example.musify.service.IUserService;
 import com.example.musify.service.IUtilService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -31,25 +33,27 @@ import java.util.*;
 public class UserServiceImpl implements IUserService {
     private final UserRepository userRepository;
     private final AlbumListRepository albumListRepository;
+    private final AlbumRatingRepository albumRatingRepository;
     private final RoleRepository roleRepository;
     private final IFileUploadService fileUploadService;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final DtoMapper dtoMapper;
     private final IUtilService utilService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public UserDto getUser(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found."));
 
-        return modelMapper.map(user, UserDto.class);
+        return dtoMapper.toUserDto(user);
     }
 
     @Override
     public List<UserDto> getUsers() {
         List<User> users = userRepository.findAll();
 
-        return users.stream().map(user -> modelMapper.map(user, UserDto.class)).toList();
+        return users.stream().map(dtoMapper::toUserDto).toList();
     }
 
     @Override
@@ -69,6 +73,7 @@ public class UserServiceImpl implements IUserService {
     }
 
     @Override
+    @Transactional
     public UpdatedUserDto updateUser(UpdateUserDto updateUserDto, MultipartFile file) throws IOException {
         var user = utilService.getCurrentUser();
 
@@ -78,12 +83,12 @@ public class UserServiceImpl implements IUserService {
         }
 
         if (file != null) {
-            String imageUrl = fileUploadService.uploadUserImageFile(file);
-            user.setImageUrl(imageUrl);
+            fileUploadService.uploadUserImageFile(user, file);
         }
 
         userRepository.save(user);
-        return new UpdatedUserDto(user.getUsername(), user.getEmail(), user.getImageUrl());
+        return new UpdatedUserDto(user.getUsername(), user.getEmail(), user.getImageUrl(),
+                user.getImageStatus());
     }
 
     @Override
@@ -101,15 +106,17 @@ public class UserServiceImpl implements IUserService {
             return roleRepository.save(newRole);
         });
 
-        if (addRole) {
-            user.getRoles().add(existingRole);
-        } else {
-            user.getRoles().remove(existingRole);
-        }
+        boolean changed = addRole
+                ? user.getRoles().add(existingRole)
+                : user.getRoles().remove(existingRole);
 
         userRepository.save(user);
+        // Tokens carry the roles they were issued with, so they must not outlive a role change.
+        if (changed) {
+            tokenRevocationService.revokeAllUserTokens(userId);
+        }
 
-        return modelMapper.map(user, UserDto.class);
+        return dtoMapper.toUserDto(user);
     }
 
     @Override
@@ -118,7 +125,9 @@ public class UserServiceImpl implements IUserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found."));
 
+        tokenRevocationService.revokeAllUserTokens(userId);
         albumListRepository.deleteAllAlbumListsByUser(user);
+        albumRatingRepository.removeUserRatingsFromAlbums(userId);
         userRepository.deleteById(userId);
 
         return new MessageDto("User deleted.");
@@ -0,0 +1,52 @@
+package com.example.musify.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public final class CursorUtils {
+    // Items per page for every cursor-paged listing; one more row is read to tell whether a next page exists.
+    public static final int PAGE_SIZE = 20;
+
+    private static final char SEPARATOR = '|';
+
+    private CursorUtils() {
+    }
+
+    public record Cursor(String value, UUID id) {
+        public Double doubleValue() {
+            try {
+                return value != null ? Double.valueOf(value) : null;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+        }
+
+        public Instant instantValue() {
+            try {
+                return value != null ? Instant.parse(value) : null;
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+        }
+    }
+
+    public static String encode(Object value, UUID id) {
+        String raw = (value != null ? value.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            String value = raw.substring(0, separatorIndex);
+            UUID id = UUID.fromString(raw.substring(separatorIndex + 1));
+            return new Cursor(value.isEmpty() ? null : value, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+}
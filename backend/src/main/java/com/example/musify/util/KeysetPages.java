@@ -0,0 +1,38 @@
+package com.example.musify.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Reads a table in pages keyed by id for the RebuildableModel loaders, so rows written while a rebuild runs cannot
+// shift a row past a page boundary the way offset paging would.
+public final class KeysetPages {
+    private KeysetPages() {
+    }
+
+    public interface AfterFinder<T> {
+        List<T> find(UUID id, Pageable pageable);
+    }
+
+    public static <T> void forEachPage(int pageSize, Function<Pageable, List<T>> first, AfterFinder<T> after,
+                                       Function<T, UUID> idOf, Consumer<List<T>> consumer) {
+        Pageable pageable = PageRequest.of(0, pageSize);
+        List<T> page = first.apply(pageable);
+        while (!page.isEmpty()) {
+            consumer.accept(page);
+            if (page.size() < pageSize) {
+                break;
+            }
+            page = after.find(idOf.apply(page.get(page.size() - 1)), pageable);
+        }
+    }
+
+    public static <T> void forEach(int pageSize, Function<Pageable, List<T>> first, AfterFinder<T> after,
+                                   Function<T, UUID> idOf, Consumer<T> action) {
+        forEachPage(pageSize, first, after, idOf, page -> page.forEach(action));
+    }
+}
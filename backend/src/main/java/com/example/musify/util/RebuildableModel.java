@@ -0,0 +1,113 @@
+package com.example.musify.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// An in-memory model behind a read-write lock that is periodically rebuilt from the database. Writes that land while
+// a rebuild is reading are logged and replayed onto the rebuilt model before it replaces the live one. The model itself
+// need not be thread-safe: every access to it goes through this class and its lock.
+public final class RebuildableModel<M> {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private M model;
+    private List<Consumer<M>> rebuildLog;
+
+    public RebuildableModel(M model) {
+        this.model = model;
+    }
+
+    public <R> R read(Function<M, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(model);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Exclusive access that is not logged for replay, for bookkeeping the rebuild resets anyway.
+    public <R> R update(Function<M, R> action) {
+        lock.writeLock().lock();
+        try {
+            return action.apply(model);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // As update, for actions without a result.
+    public void modify(Consumer<M> action) {
+        lock.writeLock().lock();
+        try {
+            action.accept(model);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void write(Consumer<M> write) {
+        lock.writeLock().lock();
+        try {
+            write.accept(model);
+            if (rebuildLog != null) {
+                rebuildLog.add(write);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void writeAfterCommit(Consumer<M> write) {
+        TransactionUtils.afterCommit(() -> write(write));
+    }
+
+    // For writes the rebuild may already have read, such as counter deltas: the rebuilt model gets the write's
+    // result from the live model instead of the write itself, so nothing is applied twice.
+    public <R> void write(Function<M, R> write, BiConsumer<M, R> replay) {
+        lock.writeLock().lock();
+        try {
+            R result = write.apply(model);
+            if (rebuildLog != null) {
+                rebuildLog.add(rebuilt -> replay.accept(rebuilt, result));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public <R> void writeAfterCommit(Function<M, R> write, BiConsumer<M, R> replay) {
+        TransactionUtils.afterCommit(() -> write(write, replay));
+    }
+
+    public M rebuild(Supplier<M> loader) {
+        return install(load(loader), rebuilt -> {
+        });
+    }
+
+    // Starts logging writes and builds the replacement, which is not live until installed.
+    public M load(Supplier<M> loader) {
+        modify(current -> rebuildLog = new ArrayList<>());
+        try {
+            return loader.get();
+        } catch (RuntimeException e) {
+            modify(current -> rebuildLog = null);
+            throw e;
+        }
+    }
+
+    // Replays the logged writes onto the replacement, lets the caller adjust it and makes it the live model.
+    public M install(M rebuilt, Consumer<M> beforeSwap) {
+        return update(current -> {
+            rebuildLog.forEach(write -> write.accept(rebuilt));
+            rebuildLog = null;
+            beforeSwap.accept(rebuilt);
+            model = rebuilt;
+            return rebuilt;
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.musify.util;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+public final class ThreadUtils {
+    private ThreadUtils() {
+    }
+
+    // Worker threads for the bounded background pools. The pool still caps concurrency and queue depth, virtual
+    // workers only stop blocking I/O from holding a platform thread. Like Spring Boot, the virtual thread setting is
+    // ignored before Java 21.
+    public static ThreadFactory threadFactory(String prefix, boolean virtualThreads) {
+        return virtualThreads && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)
+                ? new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory()
+                : new CustomizableThreadFactory(prefix);
+    }
+}
@@ -0,0 +1,8 @@
+-- Running rating totals on albums, kept in step by every rating write and checked by the nightly reconciliation.
+ALTER TABLE albums ADD COLUMN rating_sum double precision NOT NULL DEFAULT 0;
+ALTER TABLE albums ADD COLUMN rating_count bigint NOT NULL DEFAULT 0;
+
+UPDATE albums SET
+    rating_count = (SELECT COUNT(*) FROM album_ratings ar WHERE ar.album_id = albums.id),
+    rating_sum = (SELECT COALESCE(SUM(ar.rating), 0) FROM album_ratings ar WHERE ar.album_id = albums.id),
+    rating = (SELECT AVG(ar.rating) FROM album_ratings ar WHERE ar.album_id = albums.id);
@@ -0,0 +1,10 @@
+-- Tokens are stored as SHA-256 hashes with their expiry. The plaintext rows cannot be hashed in place without keeping
+-- the secrets around, so they are dropped and every session signs in again.
+DELETE FROM tokens;
+ALTER TABLE tokens DROP COLUMN token;
+ALTER TABLE tokens ADD COLUMN token_hash varchar(64) NOT NULL;
+ALTER TABLE tokens ADD CONSTRAINT uk_tokens_token_hash UNIQUE (token_hash);
+ALTER TABLE tokens ADD COLUMN expires_at timestamp(6) with time zone NOT NULL;
+
+CREATE INDEX idx_tokens_user_id ON tokens (user_id);
+CREATE INDEX idx_tokens_expires_at ON tokens (expires_at);
@@ -0,0 +1,4 @@
+-- Token ids and per-user token versions for revoking tokens in memory.
+ALTER TABLE tokens ADD COLUMN jti uuid;
+ALTER TABLE tokens ADD CONSTRAINT uk_tokens_jti UNIQUE (jti);
+ALTER TABLE users ADD COLUMN token_version integer NOT NULL DEFAULT 0;
@@ -0,0 +1,225 @@
+package com.example.musify.auth.filter;
+
+import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.LogoutService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
+import com.example.musify.auth.service.UserDetailsImpl;
+import com.example.musify.auth.service.UserDetailsServiceImpl;
+import com.example.musify.entity.Token;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.util.TokenUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthTokenFilterTests {
+    private static final String JWT = "header.payload.signature";
+
+    @Mock
+    private JwtService jwtService;
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+    @Mock
+    private TokenRepository tokenRepository;
+    @Spy
+    private TokenPrincipalCache tokenPrincipalCache = new TokenPrincipalCache(100, 60000);
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private AuthTokenFilter authTokenFilter;
+
+    private UserDetailsImpl userDetails;
+    private Token token;
+
+    @BeforeEach
+    void setup() {
+        userDetails = new UserDetailsImpl(UUID.randomUUID(), "user", "user@test.com", "password",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        token = Token.builder()
+                .tokenHash(TokenUtils.hash(JWT))
+                .jti(UUID.randomUUID())
+                .expiresAt(Instant.now().plus(1, ChronoUnit.HOURS))
+                .expired(false)
+                .revoked(false)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testDoFilter_WhenPrincipalCached_SkipsLookups() throws Exception {
+        givenValidToken();
+
+        filter();
+        SecurityContextHolder.clearContext();
+        filter();
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(userDetails);
+
+        verify(userDetailsService, times(1)).loadUserByUsername(userDetails.getEmail());
+        verify(tokenRepository, times(1)).findByTokenHash(TokenUtils.hash(JWT));
+    }
+
+    @Test
+    void testDoFilter_WhenTokenRevoked_DoesNotAuthenticate() throws Exception {
+        givenValidToken();
+        token.setRevoked(true);
+
+        filter();
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(tokenPrincipalCache.get(JWT)).isNull();
+    }
+
+    @Test
+    void testDoFilter_AfterLogout_RejectsCachedToken() throws Exception {
+        givenValidToken();
+        filter();
+        SecurityContextHolder.clearContext();
+
+        new LogoutService(tokenRepository, jwtService, tokenPrincipalCache, tokenRevocationService)
+                .logout(request(), new MockHttpServletResponse(), null);
+        filter();
+
+        assertThat(token.isRevoked()).isTrue();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+
+        verify(tokenPrincipalCache, times(1)).evict(JWT);
+        verify(tokenRevocationService, times(1)).revokeToken(token.getJti(), token.getExpiresAt());
+    }
+
+    @Test
+    void testLogout_RevokesRefreshToken() {
+        Token refreshToken = Token.builder()
+                .tokenHash(TokenUtils.hash("refresh"))
+                .jti(UUID.randomUUID())
+                .expiresAt(Instant.now().plus(1, ChronoUnit.DAYS))
+                .build();
+        given(tokenRepository.findByTokenHash(TokenUtils.hash(JWT))).willReturn(Optional.of(token));
+        given(jwtService.extractRefreshTokenId(JWT)).willReturn(refreshToken.getJti());
+        given(tokenRepository.findByJti(refreshToken.getJti())).willReturn(Optional.of(refreshToken));
+
+        new LogoutService(tokenRepository, jwtService, tokenPrincipalCache, tokenRevocationService)
+                .logout(request(), new MockHttpServletResponse(), null);
+
+        assertThat(token.isRevoked()).isTrue();
+        assertThat(refreshToken.isRevoked()).isTrue();
+        verify(tokenRevocationService).revokeToken(refreshToken.getJti(), refreshToken.getExpiresAt());
+    }
+
+    @Test
+    void testDoFilter_WhenRefreshToken_DoesNotAuthenticate() throws Exception {
+        Claims claims = Jwts.claims()
+                .setSubject(userDetails.getEmail())
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+        given(jwtService.parseClaims(JWT)).willReturn(claims);
+        given(jwtService.isAccessToken(claims)).willReturn(false);
+
+        filter();
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService, tokenRepository, tokenRevocationService);
+    }
+
+    @Test
+    void testDoFilter_WhenEvictedDuringValidation_DoesNotCachePrincipal() throws Exception {
+        givenValidToken();
+        given(tokenRepository.findByTokenHash(TokenUtils.hash(JWT))).willAnswer(invocation -> {
+            // Logout lands after the token row was read but before the principal is cached.
+            tokenPrincipalCache.evict(JWT);
+            return Optional.of(token);
+        });
+
+        filter();
+
+        assertThat(tokenPrincipalCache.get(JWT)).isNull();
+    }
+
+    @Test
+    void testDoFilter_InMemoryMode_SkipsDatabase() throws Exception {
+        Claims claims = Jwts.claims()
+                .setSubject(userDetails.getEmail())
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+        given(jwtService.parseClaims(JWT)).willReturn(claims);
+        given(jwtService.isAccessToken(claims)).willReturn(true);
+        given(tokenRevocationService.validatesInMemory()).willReturn(true);
+        given(jwtService.buildUserDetails(claims)).willReturn(userDetails);
+        given(tokenRevocationService.isRevoked(claims)).willReturn(false);
+        given(jwtService.isTokenValid(claims, userDetails)).willReturn(true);
+
+        filter();
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(userDetails);
+        verifyNoInteractions(userDetailsService, tokenRepository);
+    }
+
+    @Test
+    void testDoFilter_InMemoryMode_RejectsRevokedToken() throws Exception {
+        Claims claims = Jwts.claims()
+                .setSubject(userDetails.getEmail())
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+        given(jwtService.parseClaims(JWT)).willReturn(claims);
+        given(jwtService.isAccessToken(claims)).willReturn(true);
+        given(tokenRevocationService.validatesInMemory()).willReturn(true);
+        given(jwtService.buildUserDetails(claims)).willReturn(userDetails);
+        given(tokenRevocationService.isRevoked(claims)).willReturn(true);
+
+        filter();
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService, tokenRepository);
+    }
+
+    private void givenValidToken() {
+        Claims claims = Jwts.claims()
+                .setSubject(userDetails.getEmail())
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+        given(jwtService.parseClaims(JWT)).willReturn(claims);
+        given(jwtService.isAccessToken(claims)).willReturn(true);
+        given(userDetailsService.loadUserByUsername(userDetails.getEmail())).willReturn(userDetails);
+        given(tokenRepository.findByTokenHash(TokenUtils.hash(JWT))).willAnswer(invocation -> Optional.of(token));
+        given(jwtService.isTokenValid(claims, userDetails)).willReturn(true);
+    }
+
+    private void filter() throws Exception {
+        authTokenFilter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/albums");
+        request.setServletPath("/albums");
+        request.addHeader("Authorization", "Bearer " + JWT);
+        return request;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.musify.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JwtServiceTests {
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("test-secret-key-with-at-least-32-bytes".getBytes());
+
+    private JwtService jwtService;
+    private UserDetailsImpl userDetails;
+
+    @BeforeEach
+    void setup() {
+        jwtService = new JwtService(SECRET, 60000L, 120000L);
+        userDetails = new UserDetailsImpl(UUID.randomUUID(), "user", "user@test.com", "password",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Test
+    void testParseClaims_ReturnsSubjectAndExpiration() {
+        String token = jwtService.generateToken(userDetails);
+
+        Claims claims = jwtService.parseClaims(token);
+
+        assertThat(claims.getSubject()).isEqualTo(userDetails.getEmail());
+        assertThat(claims.getExpiration()).isInTheFuture();
+        assertThat(jwtService.isTokenValid(claims, userDetails)).isTrue();
+        assertThat(jwtService.isTokenValid(token, userDetails)).isTrue();
+    }
+
+    @Test
+    void testIsTokenValid_WhenSubjectDiffers_ReturnsFalse() {
+        UserDetailsImpl otherUser = new UserDetailsImpl(UUID.randomUUID(), "other", "other@test.com", "password",
+                List.of());
+
+        Claims claims = jwtService.parseClaims(jwtService.generateToken(userDetails));
+
+        assertThat(jwtService.isTokenValid(claims, otherUser)).isFalse();
+    }
+
+    @Test
+    void testGenerateTokens_SetTokenType() {
+        Claims accessClaims = jwtService.parseClaims(jwtService.generateToken(userDetails));
+        Claims refreshClaims = jwtService.parseClaims(jwtService.generateRefreshToken(userDetails));
+
+        assertThat(jwtService.isAccessToken(accessClaims)).isTrue();
+        assertThat(jwtService.isRefreshToken(accessClaims)).isFalse();
+        assertThat(jwtService.isRefreshToken(refreshClaims)).isTrue();
+        assertThat(jwtService.isAccessToken(refreshClaims)).isFalse();
+    }
+
+    @Test
+    void testExtractRefreshTokenId_WhenAccessTokenExpired_ReturnsRefreshTokenId() {
+        UUID refreshTokenId = UUID.randomUUID();
+        String token = new JwtService(SECRET, -1000L, -1000L)
+                .generateToken(jwtService.sessionClaims(userDetails, 0, refreshTokenId), userDetails);
+
+        assertThat(jwtService.extractRefreshTokenId(token)).isEqualTo(refreshTokenId);
+    }
+
+    @Test
+    void testParseClaims_WhenExpired_ThrowsExpiredJwtException() {
+        String token = new JwtService(SECRET, -1000L, -1000L).generateToken(userDetails);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.parseClaims(token));
+    }
+
+    @Test
+    void testParseClaims_WhenSignedWithOtherKey_ThrowsSignatureException() {
+        String otherSecret = Base64.getEncoder().encodeToString("another-secret-key-with-32-bytes!!".getBytes());
+        String token = new JwtService(otherSecret, 60000L, 120000L).generateToken(userDetails);
+
+        assertThrows(SignatureException.class, () -> jwtService.parseClaims(token));
+    }
+}
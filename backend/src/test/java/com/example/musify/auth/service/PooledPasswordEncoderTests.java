@@ -0,0 +1,92 @@
+package com.example.musify.auth.service;
+
+import com.example.musify.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PooledPasswordEncoderTests {
+    private PooledPasswordEncoder pooledPasswordEncoder;
+
+    @AfterEach
+    void cleanup() {
+        pooledPasswordEncoder.close();
+    }
+
+    @Test
+    void testEncodeAndMatches_DelegateToBCrypt() {
+        pooledPasswordEncoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4);
+
+        String encoded = pooledPasswordEncoder.encode("secret");
+
+        assertThat(encoded).startsWith("$2a$04$");
+        assertThat(pooledPasswordEncoder.matches("secret", encoded)).isTrue();
+        assertThat(pooledPasswordEncoder.matches("other", encoded)).isFalse();
+    }
+
+    @Test
+    void testMatches_FullQueue_FailsFast() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pooledPasswordEncoder = new PooledPasswordEncoder(new BlockingPasswordEncoder(started, release), 1, 1);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() ->
+                pooledPasswordEncoder.matches("a", "a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // The second check is queued once its caller parks waiting for the result.
+        CompletableFuture<Boolean> queued = new CompletableFuture<>();
+        Thread waiting = new Thread(() -> queued.complete(pooledPasswordEncoder.matches("b", "b")));
+        waiting.start();
+        while (waiting.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> pooledPasswordEncoder.matches("c", "c"))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testEncode_DelegateFailure_Propagates() {
+        pooledPasswordEncoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1);
+
+        assertThatThrownBy(() -> pooledPasswordEncoder.encode(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class BlockingPasswordEncoder implements PasswordEncoder {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        private BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.musify.auth.service;
+
+import com.example.musify.repository.TokenRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenPurgeServiceTests {
+    @Mock
+    private TokenRepository tokenRepository;
+
+    private static List<UUID> ids(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+
+    @Test
+    void testPurgeExpiredTokens_DeletesInBatchesUntilShortBatch() {
+        TokenPurgeService tokenPurgeService = new TokenPurgeService(tokenRepository, 100);
+        given(tokenRepository.findExpiredTokenIds(any(Instant.class), eq(PageRequest.of(0, 100))))
+                .willReturn(ids(100), ids(100), ids(42));
+        given(tokenRepository.deleteByIdIn(anyCollection()))
+                .willAnswer(invocation -> invocation.<List<UUID>>getArgument(0).size());
+
+        long purged = tokenPurgeService.purgeExpiredTokens();
+
+        assertThat(purged).isEqualTo(242);
+        verify(tokenRepository, times(3)).deleteByIdIn(anyCollection());
+    }
+
+    @Test
+    void testPurgeExpiredTokens_NothingExpired() {
+        TokenPurgeService tokenPurgeService = new TokenPurgeService(tokenRepository, 100);
+        given(tokenRepository.findExpiredTokenIds(any(Instant.class), eq(PageRequest.of(0, 100))))
+                .willReturn(List.of());
+
+        assertThat(tokenPurgeService.purgeExpiredTokens()).isZero();
+        verify(tokenRepository, never()).deleteByIdIn(anyCollection());
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.musify.auth.service;
+
+import com.example.musify.dto.response.RevokedTokenEntryDto;
+import com.example.musify.dto.response.UserRevocationEntryDto;
+import com.example.musify.enumeration.ETokenRevocationMode;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationServiceTests {
+    @Mock
+    private TokenRepository tokenRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TokenPrincipalCache tokenPrincipalCache;
+
+    private TokenRevocationService tokenRevocationService;
+    private final UUID userId = UUID.randomUUID();
+    private final Instant now = Instant.now();
+
+    @BeforeEach
+    void setup() {
+        tokenRevocationService = service(ETokenRevocationMode.MEMORY, 100);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private TokenRevocationService service(ETokenRevocationMode mode, int capacity) {
+        return new TokenRevocationService(tokenRepository, userRepository, tokenPrincipalCache, mode,
+                3_600_000L, 86_400_000L, capacity);
+    }
+
+    private static Claims claims(UUID userId, UUID jti, int tokenVersion) {
+        Claims claims = Jwts.claims().setId(jti.toString());
+        claims.put(JwtService.USER_ID_CLAIM, userId.toString());
+        claims.put(JwtService.TOKEN_VERSION_CLAIM, tokenVersion);
+        return claims;
+    }
+
+    private void givenLoaded(List<RevokedTokenEntryDto> revokedTokens, List<UserRevocationEntryDto> revokedUsers) {
+        given(tokenRepository.findRevokedTokenEntries(any(Instant.class))).willReturn(revokedTokens);
+        given(tokenRepository.findUserRevocationEntries(any(Instant.class))).willReturn(revokedUsers);
+        tokenRevocationService.load();
+    }
+
+    @Test
+    void testValidatesInMemory_OnlyOnceLoadedInMemoryMode() {
+        assertThat(tokenRevocationService.validatesInMemory()).isFalse();
+
+        givenLoaded(List.of(), List.of());
+
+        assertThat(tokenRevocationService.validatesInMemory()).isTrue();
+        assertThat(service(ETokenRevocationMode.DATABASE, 100).validatesInMemory()).isFalse();
+    }
+
+    @Test
+    void testLoad_RestoresRevokedTokensAndUsers() {
+        UUID revokedJti = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        givenLoaded(List.of(new RevokedTokenEntryDto(revokedJti, now.plus(Duration.ofHours(1)))),
+                List.of(new UserRevocationEntryDto(otherUserId, 3, now.plus(Duration.ofHours(1)))));
+
+        assertThat(tokenRevocationService.isRevoked(claims(userId, revokedJti, 0))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(claims(userId, UUID.randomUUID(), 0))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(claims(otherUserId, UUID.randomUUID(), 2))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(claims(otherUserId, UUID.randomUUID(), 3))).isFalse();
+    }
+
+    @Test
+    void testRevokeToken_BeyondCapacity_KeepsEveryRevocation() {
+        tokenRevocationService = service(ETokenRevocationMode.MEMORY, 4);
+        givenLoaded(List.of(), List.of());
+        List<UUID> jtis = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID());
+
+        jtis.forEach(jti -> tokenRevocationService.revokeToken(jti, now.plus(Duration.ofHours(1))));
+
+        assertThat(jtis).allMatch(jti -> tokenRevocationService.isRevoked(claims(userId, jti, 0)));
+    }
+
+    @Test
+    void testRevokeAllUserTokens_RevokesEarlierVersionsAfterCommit() {
+        given(tokenRepository.findValidTokenHashesByUser(userId)).willReturn(List.of("hash"));
+        given(userRepository.findTokenVersion(userId)).willReturn(5);
+
+        TransactionSynchronizationManager.initSynchronization();
+        int tokenVersion = tokenRevocationService.revokeAllUserTokens(userId);
+
+        assertThat(tokenVersion).isEqualTo(5);
+        assertThat(tokenRevocationService.isRevoked(claims(userId, UUID.randomUUID(), 4))).isFalse();
+        verify(tokenRepository, times(1)).revokeAllByUser(userId);
+        verify(userRepository, times(1)).incrementTokenVersion(userId);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(tokenRevocationService.isRevoked(claims(userId, UUID.randomUUID(), 4))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(claims(userId, UUID.randomUUID(), 5))).isFalse();
+        verify(tokenPrincipalCache, times(1)).evictAllByHash(List.of("hash"));
+    }
+
+    @Test
+    void testRevokeAllUserTokens_WithoutValidTokens_StillBumpsVersion() {
+        given(tokenRepository.findValidTokenHashesByUser(userId)).willReturn(List.of());
+        given(userRepository.findTokenVersion(userId)).willReturn(1);
+
+        assertThat(tokenRevocationService.revokeAllUserTokens(userId)).isEqualTo(1);
+
+        verify(tokenRepository, never()).revokeAllByUser(any());
+        assertThat(tokenRevocationService.isRevoked(claims(userId, UUID.randomUUID(), 0))).isTrue();
+    }
+
+    @Test
+    void testPrune_DropsExpiredRevocations() {
+        UUID expiredJti = UUID.randomUUID();
+        UUID activeJti = UUID.randomUUID();
+        givenLoaded(List.of(), List.of(new UserRevocationEntryDto(userId, 2, now.minusSeconds(1))));
+        tokenRevocationService.revokeToken(expiredJti, now.minusSeconds(1));
+        tokenRevocationService.revokeToken(activeJti, now.plus(Duration.ofHours(1)));
+
+        tokenRevocationService.prune();
+
+        assertThat(tokenRevocationService.isRevoked(claims(userId, expiredJti, 0))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(claims(userId, activeJti, 2))).isTrue();
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.dto.request.ImportAlbumRatingDto;
+import com.example.musify.dto.request.RateAlbumDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.User;
+import com.example.musify.mapper.DtoMapperImpl;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.service.*;
+import com.example.musify.service.impl.AlbumRatingServiceImpl;
+import com.example.musify.service.impl.AlbumServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// Ratings imported per second through AlbumRatingServiceImpl.importAlbumRatings, on the Spring Data repositories and
+// AlbumRatingBatchRepositoryImpl against a real database. "single" sends the same ratings one at a time through
+// AlbumServiceImpl.rateAlbum, which is what an import over the rating endpoint costs. Every import overwrites a fifth
+// of its ratings and adds the rest; the added ones are deleted again between invocations. The caches, search and
+// feed services around the writes are mocks. Run it against PostgreSQL with -jvmArgsAppend "-Dbenchmark.jdbcUrl=...
+// -Dbenchmark.jdbcUser=... -Dbenchmark.jdbcPassword=..."; the tables are created and dropped by Hibernate. The
+// in-memory H2 default has no round trips to save, so the two paths only pull apart against a networked database.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AlbumRatingImportBenchmark {
+    private static final int USERS = 10_000;
+    private static final int ALBUMS = 20_000;
+    private static final int EXISTING_RATINGS = 100_000;
+    private static final int IMPORT_SIZE = 10_000;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Param({"import", "single"})
+    private String path;
+
+    private ConfigurableApplicationContext context;
+    private IAlbumRatingService albumRatingService;
+    private IAlbumService albumService;
+    private JdbcTemplate jdbcTemplate;
+    private List<ImportAlbumRatingDto> existingRatings;
+    private List<ImportAlbumRatingDto> ratings;
+    private final ThreadLocal<User> currentUser = new ThreadLocal<>();
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Album.class)
+    @EnableJpaRepositories(basePackageClasses = AlbumRepository.class)
+    @Import({AlbumRatingServiceImpl.class, AlbumServiceImpl.class, DtoMapperImpl.class})
+    static class ImportContext {
+    }
+
+    @Setup
+    public void setup() {
+        IUtilService utilService = mock(IUtilService.class, withSettings().stubOnly());
+        when(utilService.getCurrentUser()).thenAnswer(invocation -> currentUser.get());
+
+        context = new SpringApplicationBuilder(ImportContext.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "spring.datasource.url=" + System.getProperty("benchmark.jdbcUrl",
+                                "jdbc:h2:mem:ratings;MODE=PostgreSQL"),
+                        "spring.datasource.username=" + System.getProperty("benchmark.jdbcUser", "sa"),
+                        "spring.datasource.password=" + System.getProperty("benchmark.jdbcPassword", ""),
+                        "spring.jpa.hibernate.ddl-auto=create-drop")
+                .initializers(applicationContext -> {
+                    var beanFactory = applicationContext.getBeanFactory();
+                    beanFactory.registerSingleton("utilService", utilService);
+                    for (Class<?> service : List.of(ICatalogCacheService.class, IAutocompleteService.class,
+                            IFileUploadService.class, ISearchService.class, IRecommendationService.class,
+                            IFeedService.class, IChartService.class)) {
+                        beanFactory.registerSingleton(service.getSimpleName(),
+                                mock(service, withSettings().stubOnly()));
+                    }
+                })
+                .run();
+        albumRatingService = context.getBean(IAlbumRatingService.class);
+        albumService = context.getBean(IAlbumService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        insert("INSERT INTO users (id, username, email, password, token_version, created_at) " +
+                "VALUES (?, ?, ?, 'password', 0, ?)", USERS, (ps, x) -> {
+            ps.setObject(1, id(x));
+            ps.setString(2, "user-" + x);
+            ps.setString(3, "user-" + x + "@test.com");
+            ps.setTimestamp(4, now);
+        });
+        jdbcTemplate.update("INSERT INTO artists (id, name, slug, created_at) VALUES (?, 'Artist', 'artist', ?)",
+                id(0), now);
+        insert("INSERT INTO albums (id, artist_id, title, slug, origin_country, rating_sum, rating_count, " +
+                "created_at) VALUES (?, ?, ?, ?, 'country', 0, 0, ?)", ALBUMS, (ps, x) -> {
+            ps.setObject(1, id(x));
+            ps.setObject(2, id(0));
+            ps.setString(3, "Album " + x);
+            ps.setString(4, "album-" + x);
+            ps.setTimestamp(5, now);
+        });
+
+        // The first half of the users has the existing ratings and the second half adds new ones.
+        existingRatings = new ArrayList<>(EXISTING_RATINGS);
+        for (int i = 0; i < EXISTING_RATINGS; i++) {
+            existingRatings.add(randomRating(0));
+        }
+        albumRatingService.importAlbumRatings(existingRatings.stream());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private void insert(String sql, int rows, ParameterizedPreparedStatementSetter<Long> setter) {
+        List<Long> xs = LongStream.range(0, rows).boxed().toList();
+        jdbcTemplate.batchUpdate(sql, xs, INSERT_BATCH_SIZE, setter);
+    }
+
+    private static UUID id(long x) {
+        return UUID.fromString("00000000-0000-0000-0000-%012d".formatted(x));
+    }
+
+    private static ImportAlbumRatingDto randomRating(long firstUser) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new ImportAlbumRatingDto(id(firstUser + random.nextLong(USERS / 2)), id(random.nextLong(ALBUMS)),
+                1 + random.nextInt(9) * 0.5);
+    }
+
+    @Setup(Level.Invocation)
+    public void nextImport() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ratings = new ArrayList<>(IMPORT_SIZE);
+        for (int i = 0; i < IMPORT_SIZE; i++) {
+            if (i % 5 == 0) {
+                ImportAlbumRatingDto existing = existingRatings.get(random.nextInt(existingRatings.size()));
+                ratings.add(new ImportAlbumRatingDto(existing.getUserId(), existing.getAlbumId(),
+                        1 + random.nextInt(9) * 0.5));
+            } else {
+                ratings.add(randomRating(USERS / 2));
+            }
+        }
+    }
+
+    // Keeps the table at its starting size; the overwritten ratings stay as they are.
+    @TearDown(Level.Invocation)
+    public void removeAddedRatings() {
+        jdbcTemplate.update("DELETE FROM album_ratings WHERE user_id >= ?", id(USERS / 2));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IMPORT_SIZE)
+    public long importRatings() {
+        if (path.equals("import")) {
+            return albumRatingService.importAlbumRatings(ratings.stream()).getImported();
+        }
+
+        long imported = 0;
+        for (ImportAlbumRatingDto rating : ratings) {
+            currentUser.set(User.builder().id(rating.getUserId()).build());
+            albumService.rateAlbum(RateAlbumDto.builder().rating(rating.getRating()).build(), rating.getAlbumId());
+            imported++;
+        }
+        return imported;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.auth.filter.AuthTokenFilter;
+import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.UserDetailsImpl;
+import com.example.musify.auth.service.TokenRevocationService;
+import com.example.musify.auth.service.UserDetailsServiceImpl;
+import com.example.musify.dto.response.RevokedTokenEntryDto;
+import com.example.musify.entity.Token;
+import com.example.musify.enumeration.ETokenRevocationMode;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.repository.UserRepository;
+import com.example.musify.util.TokenUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// Repositories are in-memory mocks, so the uncached score excludes the two database round-trips it also saves.
+// The in-memory variant checks the token against 10k revoked tokens instead and makes no repository calls.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthTokenFilterBenchmark {
+    private AuthTokenFilter authTokenFilter;
+    private AuthTokenFilter inMemoryAuthTokenFilter;
+    private TokenPrincipalCache tokenPrincipalCache;
+    private String jwt;
+
+    @Setup
+    public void setup() {
+        JwtService jwtService = new JwtService(
+                Base64.getEncoder().encodeToString("benchmark-secret-key-with-enough-bytes".getBytes()),
+                3_600_000L, 3_600_000L);
+
+        UserDetailsImpl userDetails = new UserDetailsImpl(UUID.randomUUID(), "user", "user@test.com", "password",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        jwt = jwtService.generateToken(jwtService.sessionClaims(userDetails, 0, UUID.randomUUID()), userDetails);
+
+        UserDetailsServiceImpl userDetailsService = mock(UserDetailsServiceImpl.class, withSettings().stubOnly());
+        when(userDetailsService.loadUserByUsername(userDetails.getEmail())).thenReturn(userDetails);
+
+        TokenRepository tokenRepository = mock(TokenRepository.class, withSettings().stubOnly());
+        when(tokenRepository.findByTokenHash(TokenUtils.hash(jwt))).thenReturn(Optional.of(
+                Token.builder().tokenHash(TokenUtils.hash(jwt)).expired(false).revoked(false).build()));
+
+        tokenPrincipalCache = new TokenPrincipalCache(10_000, 60_000);
+        TokenRevocationService databaseRevocations = new TokenRevocationService(tokenRepository,
+                mock(UserRepository.class, withSettings().stubOnly()), tokenPrincipalCache,
+                ETokenRevocationMode.DATABASE, 3_600_000L, 3_600_000L, 100_000);
+        authTokenFilter = new AuthTokenFilter(jwtService, userDetailsService, tokenRepository, tokenPrincipalCache,
+                databaseRevocations);
+
+        List<RevokedTokenEntryDto> revokedTokens = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            revokedTokens.add(new RevokedTokenEntryDto(UUID.randomUUID(), Instant.now().plusSeconds(3600)));
+        }
+        TokenRepository revokedTokenRepository = mock(TokenRepository.class, withSettings().stubOnly());
+        when(revokedTokenRepository.findRevokedTokenEntries(any(Instant.class))).thenReturn(revokedTokens);
+        TokenRevocationService memoryRevocations = new TokenRevocationService(revokedTokenRepository,
+                mock(UserRepository.class, withSettings().stubOnly()), tokenPrincipalCache,
+                ETokenRevocationMode.MEMORY, 3_600_000L, 3_600_000L, 100_000);
+        memoryRevocations.load();
+        inMemoryAuthTokenFilter = new AuthTokenFilter(jwtService, mock(UserDetailsServiceImpl.class),
+                mock(TokenRepository.class), tokenPrincipalCache, memoryRevocations);
+    }
+
+    @Benchmark
+    public Object uncached() throws Exception {
+        tokenPrincipalCache.evict(jwt);
+        return authenticate(authTokenFilter);
+    }
+
+    @Benchmark
+    public Object uncachedInMemory() throws Exception {
+        tokenPrincipalCache.evict(jwt);
+        return authenticate(inMemoryAuthTokenFilter);
+    }
+
+    @Benchmark
+    public Object cached() throws Exception {
+        return authenticate(authTokenFilter);
+    }
+
+    private Object authenticate(AuthTokenFilter authTokenFilter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/albums");
+        request.setServletPath("/albums");
+        request.addHeader("Authorization", "Bearer " + jwt);
+
+        authTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
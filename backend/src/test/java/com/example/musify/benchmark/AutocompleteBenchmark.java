@@ -0,0 +1,114 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.entity.Genre;
+import com.example.musify.enumeration.ESuggestionType;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.GenreRepository;
+import com.example.musify.service.impl.AutocompleteServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+// 1M synthetic albums over 50k artists with skewed popularity, queried by short and longer prefixes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class AutocompleteBenchmark {
+    private static final int ALBUMS = 1_000_000;
+    private static final int ARTISTS = 50_000;
+    private static final int WORDS = 20_000;
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "ra", "ven", "tor", "sil", "na", "de", "qua",
+            "ri", "bel", "mon", "zu", "pha", "li", "ster", "go", "an", "el"};
+
+    private AutocompleteServiceImpl autocompleteService;
+    private String[] shortPrefixes;
+    private String[] longPrefixes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        autocompleteService = new AutocompleteServiceImpl(
+                mock(ArtistRepository.class, withSettings().stubOnly()),
+                mock(AlbumRepository.class, withSettings().stubOnly()),
+                mock(GenreRepository.class, withSettings().stubOnly()));
+
+        Random random = new Random(42);
+        String[] words = new String[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int s = 2 + random.nextInt(2); s > 0; s--) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            words[i] = word.append(i % 97).toString();
+        }
+
+        List<ArtistDto> artists = new ArrayList<>(ARTISTS);
+        for (int i = 0; i < ARTISTS; i++) {
+            String name = words[random.nextInt(WORDS)] + " " + words[random.nextInt(WORDS)];
+            ArtistDto artist = ArtistDto.builder()
+                    .id(UUID.randomUUID())
+                    .name(name)
+                    .slug(name.replace(' ', '-') + "-" + i)
+                    .artistGenres(Set.of())
+                    .build();
+            artists.add(artist);
+            autocompleteService.indexArtist(artist);
+            autocompleteService.setPopularity(ESuggestionType.ARTIST, artist.getId(), random.nextInt(1 + i % 1000));
+        }
+
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < ALBUMS; i++) {
+            ArtistDto artist = artists.get(random.nextInt(ARTISTS));
+            StringBuilder title = new StringBuilder(words[random.nextInt(WORDS)]);
+            for (int w = random.nextInt(3); w > 0; w--) {
+                title.append(' ').append(words[random.nextInt(WORDS)]);
+            }
+            UUID id = UUID.randomUUID();
+            autocompleteService.indexAlbum(AlbumDto.builder()
+                    .id(id)
+                    .title(title.toString())
+                    .slug(title.toString().replace(' ', '-'))
+                    .genres(Set.<Genre>of())
+                    .artistId(artist.getId())
+                    .artistSlug(artist.getSlug())
+                    .build());
+            autocompleteService.setPopularity(ESuggestionType.ALBUM, id, random.nextInt(1 + i % 5000));
+            if (i % 1000 == 0) {
+                titles.add(title.toString());
+            }
+        }
+
+        shortPrefixes = new String[titles.size()];
+        longPrefixes = new String[titles.size()];
+        for (int i = 0; i < titles.size(); i++) {
+            String title = titles.get(i);
+            shortPrefixes[i] = title.substring(0, 2);
+            longPrefixes[i] = title.substring(0, Math.min(title.length(), 6));
+        }
+    }
+
+    @Benchmark
+    public Object shortPrefix() {
+        return autocompleteService.suggest(shortPrefixes[next++ % shortPrefixes.length], null, 10);
+    }
+
+    @Benchmark
+    public Object longPrefix() {
+        return autocompleteService.suggest(longPrefixes[next++ % longPrefixes.length], null, 10);
+    }
+
+    @Benchmark
+    public Object albumsOnly() {
+        return autocompleteService.suggest(shortPrefixes[next++ % shortPrefixes.length], ESuggestionType.ALBUM, 10);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.dto.response.AlbumGenreEntryDto;
+import com.example.musify.dto.response.ChartAlbumEntryDto;
+import com.example.musify.dto.response.RecentRatingEntryDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Genre;
+import com.example.musify.enumeration.EChartWindow;
+import com.example.musify.repository.AlbumRatingRepository;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.service.impl.ChartServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// 200k rated albums over 100 genres and 50 countries with Zipf-like rating counts, plus 500k ratings in the last
+// month. Chart reads skip the album details lookup, which is a single primary key IN query.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class ChartBenchmark {
+    private static final int ALBUMS = 200_000;
+    private static final int RECENT_RATINGS = 500_000;
+    private static final int GENRES = 100;
+    private static final int COUNTRIES = 50;
+    private static final int PAGE_SIZE = 10_000;
+
+    private ChartServiceImpl chartService;
+    private UUID[] albumIds;
+    private Album[] albums;
+    private Random random;
+    private int next;
+
+    @Setup
+    public void setup() {
+        random = new Random(42);
+        albumIds = new UUID[ALBUMS];
+        albums = new Album[ALBUMS];
+        List<ChartAlbumEntryDto> entries = new ArrayList<>(ALBUMS);
+        List<AlbumGenreEntryDto> genres = new ArrayList<>();
+        for (int i = 0; i < ALBUMS; i++) {
+            albumIds[i] = UUID.randomUUID();
+            long count = 1 + (long) (5000 * Math.pow(random.nextDouble(), 8));
+            double average = Math.max(0.5, Math.min(5.0, 3.5 + random.nextGaussian() * 0.7));
+            String country = "country-" + random.nextInt(COUNTRIES);
+            Set<Genre> albumGenres = new HashSet<>();
+            for (int g = 1 + random.nextInt(3); g > 0; g--) {
+                String slug = "genre-" + (int) (GENRES * Math.pow(random.nextDouble(), 2));
+                if (albumGenres.add(Genre.builder().slug(slug).build())) {
+                    genres.add(new AlbumGenreEntryDto(albumIds[i], slug));
+                }
+            }
+            entries.add(new ChartAlbumEntryDto(albumIds[i], country, average * count, count));
+            albums[i] = Album.builder()
+                    .id(albumIds[i])
+                    .originCountry(country)
+                    .albumGenres(albumGenres)
+                    .ratingSum(average * count)
+                    .ratingCount(count)
+                    .build();
+        }
+
+        entries.sort(Comparator.comparing(ChartAlbumEntryDto::getId));
+
+        Instant now = Instant.now();
+        List<RecentRatingEntryDto> recent = new ArrayList<>(RECENT_RATINGS);
+        for (int i = 0; i < RECENT_RATINGS; i++) {
+            int album = (int) (ALBUMS * Math.pow(random.nextDouble(), 3));
+            recent.add(new RecentRatingEntryDto(UUID.randomUUID(), UUID.randomUUID(), albumIds[album],
+                    0.5 + random.nextInt(10) / 2.0, now.minus(Duration.ofSeconds(random.nextInt(30 * 24 * 3600)))));
+        }
+        recent.sort(Comparator.comparing(RecentRatingEntryDto::getId));
+
+        AlbumRepository albumRepository = mock(AlbumRepository.class, withSettings().stubOnly());
+        when(albumRepository.findFirstChartAlbumEntries(any(Pageable.class)))
+                .thenReturn(entries.subList(0, PAGE_SIZE));
+        when(albumRepository.findChartAlbumEntriesAfter(any(UUID.class), any(Pageable.class)))
+                .thenAnswer(invocation -> after(entries, invocation.getArgument(0), ChartAlbumEntryDto::getId));
+        when(albumRepository.findRatedAlbumGenreEntries()).thenReturn(genres);
+        when(albumRepository.findChartAlbumsByIdIn(anyCollection())).thenReturn(List.of());
+        AlbumRatingRepository albumRatingRepository = mock(AlbumRatingRepository.class, withSettings().stubOnly());
+        when(albumRatingRepository.findFirstRecentRatingEntries(any(Instant.class), any(Pageable.class)))
+                .thenReturn(recent.subList(0, PAGE_SIZE));
+        when(albumRatingRepository.findRecentRatingEntriesAfter(any(Instant.class), any(UUID.class),
+                any(Pageable.class))).thenAnswer(invocation ->
+                after(recent, invocation.getArgument(1), RecentRatingEntryDto::getId));
+
+        chartService = new ChartServiceImpl(albumRepository, albumRatingRepository, 10);
+        chartService.rebuild();
+    }
+
+    // Pages are looked up by id the way the keyset queries would, assuming the lists are sorted by id.
+    private static <T> List<T> after(List<T> sorted, UUID id, Function<T, UUID> idOf) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (idOf.apply(sorted.get(mid)).compareTo(id) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return sorted.subList(low, Math.min(sorted.size(), low + PAGE_SIZE));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void rebuild() {
+        chartService.rebuild();
+    }
+
+    @Benchmark
+    public Object globalChart() {
+        return chartService.getChart(EChartWindow.values()[next++ % 3], null, null, 20);
+    }
+
+    @Benchmark
+    public Object genreAndCountryChart() {
+        int i = next++;
+        return chartService.getChart(EChartWindow.MONTH, "genre-" + i % GENRES, "country-" + i % COUNTRIES, 20);
+    }
+
+    @Benchmark
+    public void recordRating() {
+        int album = (int) (ALBUMS * Math.pow(random.nextDouble(), 3));
+        chartService.recordRating(albums[album], UUID.randomUUID(), 0.5 + random.nextInt(10) / 2.0, true);
+    }
+}
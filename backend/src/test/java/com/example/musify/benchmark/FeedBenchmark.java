@@ -0,0 +1,147 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.dto.response.CursorPageDto;
+import com.example.musify.dto.response.FeedItemDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Artist;
+import com.example.musify.entity.FeedEvent;
+import com.example.musify.entity.User;
+import com.example.musify.enumeration.EFeedEventType;
+import com.example.musify.repository.FeedEntryRepository;
+import com.example.musify.repository.FeedEventRepository;
+import com.example.musify.repository.FollowerRepository;
+import com.example.musify.service.IUtilService;
+import com.example.musify.service.impl.FeedServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// One artist with 1M followers publishing into feeds where every follower also follows 50 small artists whose
+// events were fanned out. Publishing for the large artist must not touch its followers, and reading a feed merges
+// the cached timeline of the large artist with the follower's own entries.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class FeedBenchmark {
+    private static final int FOLLOWERS = 1_000_000;
+    private static final int SMALL_ARTISTS = 50;
+    private static final int TIMELINE_EVENTS = 500;
+    private static final int PAGE_SIZE = 21;
+
+    private FeedServiceImpl feedService;
+    private List<UUID> followerIds;
+    private Artist largeArtist;
+    private Album largeAlbum;
+    private String secondPageCursor;
+    private User currentUser;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        Instant now = Instant.parse("2024-03-01T12:00:00Z");
+        largeArtist = Artist.builder().id(UUID.randomUUID()).name("Large").build();
+        largeAlbum = Album.builder().id(UUID.randomUUID()).artist(largeArtist).build();
+        followerIds = new ArrayList<>(FOLLOWERS);
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followerIds.add(UUID.randomUUID());
+        }
+        List<UUID> followedArtistIds = new ArrayList<>();
+        followedArtistIds.add(largeArtist.getId());
+        for (int i = 0; i < SMALL_ARTISTS; i++) {
+            followedArtistIds.add(UUID.randomUUID());
+        }
+
+        // Large artist releases every hour, the follower's own entries arrive every 20 minutes on average.
+        List<FeedItemDto> timeline = new ArrayList<>(TIMELINE_EVENTS);
+        for (int i = 0; i < TIMELINE_EVENTS; i++) {
+            timeline.add(item(largeArtist.getId(), now.minusSeconds(3600L * i)));
+        }
+        List<FeedItemDto> entries = new ArrayList<>();
+        for (int i = 0; i < TIMELINE_EVENTS * 3; i++) {
+            entries.add(item(followedArtistIds.get(1 + random.nextInt(SMALL_ARTISTS)),
+                    now.minusSeconds(1200L * i + random.nextInt(600))));
+        }
+
+        FeedEventRepository feedEventRepository = mock(FeedEventRepository.class, withSettings().stubOnly());
+        when(feedEventRepository.save(any(FeedEvent.class))).thenAnswer(invocation -> {
+            FeedEvent event = invocation.getArgument(0);
+            event.setId(UUID.randomUUID());
+            return event;
+        });
+        when(feedEventRepository.findPullArtistIds()).thenReturn(List.of(largeArtist.getId()));
+        when(feedEventRepository.findFirstTimelineItems(any(UUID.class), any(Pageable.class)))
+                .thenAnswer(invocation -> timeline.subList(0, invocation.<Pageable>getArgument(1).getPageSize()));
+        when(feedEventRepository.findFirstFeedItems(any(UUID.class), any(Pageable.class)))
+                .thenAnswer(invocation -> entries.subList(0, PAGE_SIZE));
+        when(feedEventRepository.findFeedItemsAfter(any(UUID.class), any(Instant.class), any(UUID.class),
+                any(Pageable.class))).thenAnswer(invocation -> after(entries, invocation.getArgument(1)));
+        FollowerRepository followerRepository = mock(FollowerRepository.class, withSettings().stubOnly());
+        when(followerRepository.countArtistFollowers(largeArtist.getId())).thenReturn((long) FOLLOWERS);
+        when(followerRepository.findFollowerIds(largeArtist.getId())).thenReturn(followerIds);
+        when(followerRepository.findFollowedArtistIds(any(UUID.class))).thenReturn(followedArtistIds);
+        FeedEntryRepository feedEntryRepository = mock(FeedEntryRepository.class, withSettings().stubOnly());
+        when(feedEntryRepository.insertFeedEntries(any(), any(), anyList())).thenThrow(
+                new IllegalStateException("Events of the large artist must not be fanned out."));
+        IUtilService utilService = mock(IUtilService.class, withSettings().stubOnly());
+        currentUser = new User();
+        when(utilService.getCurrentUser()).thenAnswer(invocation -> currentUser);
+
+        feedService = new FeedServiceImpl(feedEventRepository, feedEntryRepository, followerRepository,
+                utilService, 10_000, 2, 1000, false, 100, 10_000, 60_000);
+        feedService.loadPullArtists();
+        currentUser.setId(followerIds.get(0));
+        secondPageCursor = feedService.getFeed(null).getNextCursor();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        feedService.shutdown();
+    }
+
+    private static FeedItemDto item(UUID artistId, Instant createdAt) {
+        return FeedItemDto.builder()
+                .id(UUID.randomUUID())
+                .type(EFeedEventType.NEW_ALBUM)
+                .createdAt(createdAt)
+                .artistId(artistId)
+                .build();
+    }
+
+    private static List<FeedItemDto> after(List<FeedItemDto> items, Instant createdAt) {
+        int from = 0;
+        while (from < items.size() && !items.get(from).getCreatedAt().isBefore(createdAt)) {
+            from++;
+        }
+        return items.subList(from, Math.min(items.size(), from + PAGE_SIZE));
+    }
+
+    @Benchmark
+    public void publishLargeArtist() {
+        feedService.publishAlbum(largeAlbum);
+    }
+
+    @Benchmark
+    public CursorPageDto<FeedItemDto> firstPage() {
+        currentUser.setId(followerIds.get(next++ % FOLLOWERS));
+        return feedService.getFeed(null);
+    }
+
+    @Benchmark
+    public CursorPageDto<FeedItemDto> secondPage() {
+        currentUser.setId(followerIds.get(next++ % FOLLOWERS));
+        return feedService.getFeed(secondPageCursor);
+    }
+}
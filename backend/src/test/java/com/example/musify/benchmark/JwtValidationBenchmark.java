@@ -0,0 +1,63 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class JwtValidationBenchmark {
+    private String secretKey;
+    private JwtService jwtService;
+    private UserDetailsImpl userDetails;
+    private String jwt;
+
+    @Setup
+    public void setup() {
+        secretKey = Base64.getEncoder().encodeToString("benchmark-secret-key-with-enough-bytes".getBytes());
+        jwtService = new JwtService(secretKey, 3_600_000L, 3_600_000L);
+        userDetails = new UserDetailsImpl(UUID.randomUUID(), "user", "user@test.com", "password",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        jwt = jwtService.generateToken(userDetails);
+    }
+
+    // The previous per-request path: subject from the filter, then subject and expiration from isTokenValid,
+    // each building its own key and parser.
+    @Benchmark
+    public boolean rebuildParserPerParse() {
+        String username = parseWithNewParser().getSubject();
+        return username.equals(userDetails.getUsername())
+                && parseWithNewParser().getSubject().equals(userDetails.getUsername())
+                && !parseWithNewParser().getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean sharedParserSingleParse() {
+        Claims claims = jwtService.parseClaims(jwt);
+        return jwtService.isTokenValid(claims, userDetails);
+    }
+
+    private Claims parseWithNewParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+}
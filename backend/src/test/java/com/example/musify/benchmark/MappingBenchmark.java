@@ -0,0 +1,138 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.AlbumRatingCollectionDto;
+import com.example.musify.dto.response.ReviewDto;
+import com.example.musify.entity.*;
+import com.example.musify.mapper.DtoMapper;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.Year;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
+
+    private Album album;
+    private Review review;
+    private AlbumRating albumRating;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+
+        TypeMap<Album, AlbumDto> albumTypeMap = modelMapper.createTypeMap(Album.class, AlbumDto.class);
+        albumTypeMap.addMapping(src -> src.getArtist().getId(), AlbumDto::setArtistId);
+        albumTypeMap.addMapping(src -> src.getArtist().getName(), AlbumDto::setArtistName);
+        albumTypeMap.addMapping(src -> src.getArtist().getSlug(), AlbumDto::setArtistSlug);
+
+        TypeMap<AlbumRating, AlbumRatingCollectionDto> albumRatingTypeMap = modelMapper
+                .createTypeMap(AlbumRating.class, AlbumRatingCollectionDto.class);
+        albumRatingTypeMap.addMapping(src -> src.getAlbum().getImage(), AlbumRatingCollectionDto::setAlbumImage);
+        albumRatingTypeMap.addMapping(src -> src.getAlbum().getArtist().getName(), AlbumRatingCollectionDto::setArtistName);
+        albumRatingTypeMap.addMapping(src -> src.getAlbum().getArtist().getSlug(), AlbumRatingCollectionDto::setArtistSlug);
+        albumRatingTypeMap.addMapping(src -> src.getAlbum().getReleaseDate(), AlbumRatingCollectionDto::setReleaseDate);
+        albumRatingTypeMap.addMapping(src -> src.getAlbum().getTitle(), AlbumRatingCollectionDto::setAlbumTitle);
+        albumRatingTypeMap.addMapping(src -> src.getAlbum().getSlug(), AlbumRatingCollectionDto::setAlbumSlug);
+        albumRatingTypeMap.addMapping(AlbumRating::getCreatedAt, AlbumRatingCollectionDto::setRatedDate);
+
+        TypeMap<Review, ReviewDto> reviewTypeMap = modelMapper.createTypeMap(Review.class, ReviewDto.class);
+        reviewTypeMap.addMapping(src -> src.getUser().getId(), ReviewDto::setUserId);
+        reviewTypeMap.addMapping(src -> src.getUser().getUsername(), ReviewDto::setUsername);
+        reviewTypeMap.addMapping(src -> src.getUser().getImageUrl(), ReviewDto::setUserImage);
+
+        dtoMapper = Mappers.getMapper(DtoMapper.class);
+
+        Genre genre = Genre.builder().id(UUID.randomUUID()).name("Rock").slug("rock").build();
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .username("user")
+                .email("user@test.com")
+                .imageUrl("user.png")
+                .build();
+
+        Artist artist = Artist.builder()
+                .id(UUID.randomUUID())
+                .name("Artist")
+                .slug("artist")
+                .originCountry("country")
+                .formedYear(Year.of(1990))
+                .artistGenres(new HashSet<>(Set.of(genre)))
+                .build();
+
+        album = Album.builder()
+                .id(UUID.randomUUID())
+                .title("Album")
+                .slug("album")
+                .image("album.png")
+                .originCountry("country")
+                .releaseDate(Instant.now())
+                .rating(4.5)
+                .artist(artist)
+                .albumGenres(new HashSet<>(Set.of(genre)))
+                .build();
+
+        review = Review.builder()
+                .id(UUID.randomUUID())
+                .title("Review")
+                .content("Content")
+                .rating(4.0)
+                .user(user)
+                .album(album)
+                .createdAt(Instant.now())
+                .build();
+
+        albumRating = AlbumRating.builder()
+                .id(UUID.randomUUID())
+                .album(album)
+                .user(user)
+                .rating(4.0)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    @Benchmark
+    public AlbumDto albumModelMapper() {
+        return modelMapper.map(album, AlbumDto.class);
+    }
+
+    @Benchmark
+    public AlbumDto albumDtoMapper() {
+        return dtoMapper.toAlbumDto(album);
+    }
+
+    @Benchmark
+    public ReviewDto reviewModelMapper() {
+        return modelMapper.map(review, ReviewDto.class);
+    }
+
+    @Benchmark
+    public ReviewDto reviewDtoMapper() {
+        return dtoMapper.toReviewDto(review);
+    }
+
+    @Benchmark
+    public AlbumRatingCollectionDto albumRatingModelMapper() {
+        return modelMapper.map(albumRating, AlbumRatingCollectionDto.class);
+    }
+
+    @Benchmark
+    public AlbumRatingCollectionDto albumRatingDtoMapper() {
+        return dtoMapper.toAlbumRatingCollectionDto(albumRating);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.auth.service.PooledPasswordEncoder;
+import com.example.musify.exception.ServiceUnavailableException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+// Album read latency on a Tomcat-sized worker pool while a login burst keeps 100 logins in flight. With the plain
+// encoder each read competes with a hundred BCrypt workers for the CPU. With the pooled one hashing is capped at one
+// thread per core, the rest of the burst is turned away with a 503 and the reads keep their share of the CPU.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class PasswordHashingBenchmark {
+    private static final int WORKERS = 200;
+    private static final int LOGINS_IN_FLIGHT = 100;
+
+    @Param({"direct", "pooled"})
+    private String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+    private ExecutorService workers;
+    private Thread burst;
+    private volatile boolean running;
+
+    @Setup
+    public void setup() {
+        BCryptPasswordEncoder bCrypt = new BCryptPasswordEncoder(10);
+        encodedPassword = bCrypt.encode("password");
+        passwordEncoder = encoder.equals("pooled")
+                ? new PooledPasswordEncoder(bCrypt, Runtime.getRuntime().availableProcessors(), 16)
+                : bCrypt;
+        workers = Executors.newFixedThreadPool(WORKERS);
+
+        Semaphore inFlight = new Semaphore(LOGINS_IN_FLIGHT);
+        running = true;
+        burst = new Thread(() -> {
+            while (running) {
+                try {
+                    inFlight.acquire();
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                workers.execute(() -> {
+                    try {
+                        passwordEncoder.matches("password", encodedPassword);
+                    } catch (ServiceUnavailableException ignored) {
+                        // The client backs off briefly before retrying, as it would after a 503.
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        });
+        burst.setDaemon(true);
+        burst.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        burst.interrupt();
+        workers.shutdownNow();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+        if (passwordEncoder instanceof PooledPasswordEncoder pooled) {
+            pooled.close();
+        }
+    }
+
+    @Benchmark
+    public void albumRead() throws Exception {
+        workers.submit(() -> Blackhole.consumeCPU(10_000)).get();
+    }
+}
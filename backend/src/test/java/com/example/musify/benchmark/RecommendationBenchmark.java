@@ -0,0 +1,119 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.dto.response.RatingEntryDto;
+import com.example.musify.entity.User;
+import com.example.musify.repository.AlbumRatingRepository;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.FollowerRepository;
+import com.example.musify.service.IUtilService;
+import com.example.musify.service.impl.RecommendationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// 1M synthetic ratings from 100k users over 20k albums. Users mostly rate within one of 50 taste clusters,
+// album popularity is Zipf-like and a few heavy raters have hundreds of ratings.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class RecommendationBenchmark {
+    private static final int RATINGS = 1_000_000;
+    private static final int USERS = 100_000;
+    private static final int ALBUMS = 20_000;
+    private static final int ARTISTS = 2_000;
+    private static final int CLUSTERS = 50;
+    private static final int PAGE_SIZE = 10_000;
+
+    private RecommendationServiceImpl recommendationService;
+    private UUID[] userIds;
+    private UUID[] albumIds;
+    private UUID[] artistIds;
+    private User currentUser;
+    private Random random;
+    private int next;
+
+    @Setup
+    public void setup() {
+        random = new Random(42);
+        userIds = new UUID[USERS];
+        albumIds = new UUID[ALBUMS];
+        artistIds = new UUID[ARTISTS];
+        Arrays.setAll(userIds, i -> UUID.randomUUID());
+        Arrays.setAll(albumIds, i -> UUID.randomUUID());
+        Arrays.setAll(artistIds, i -> UUID.randomUUID());
+
+        List<RatingEntryDto> ratings = new ArrayList<>(RATINGS);
+        Set<Long> rated = new HashSet<>();
+        while (ratings.size() < RATINGS) {
+            // Squaring skews activity towards low user indexes and popularity towards low album indexes.
+            int user = (int) (USERS * Math.pow(random.nextDouble(), 2));
+            int cluster = user % CLUSTERS;
+            boolean inCluster = random.nextDouble() < 0.8;
+            int rank = (int) (ALBUMS / CLUSTERS * Math.pow(random.nextDouble(), 2));
+            int album = inCluster ? rank * CLUSTERS + cluster : (int) (ALBUMS * Math.pow(random.nextDouble(), 2));
+            if (!rated.add((long) user * ALBUMS + album)) {
+                continue;
+            }
+            double rating = Math.max(0.5, Math.min(5.0, (inCluster ? 4.0 : 2.5) + random.nextGaussian()));
+            ratings.add(new RatingEntryDto(UUID.randomUUID(), userIds[user], albumIds[album],
+                    artistIds[album % ARTISTS], Math.round(rating * 2) / 2.0));
+        }
+
+        Map<UUID, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ratings.size(); i++) {
+            positions.put(ratings.get(i).getId(), i);
+        }
+        AlbumRatingRepository albumRatingRepository = mock(AlbumRatingRepository.class, withSettings().stubOnly());
+        when(albumRatingRepository.findFirstRatingEntries(any(Pageable.class)))
+                .thenAnswer(invocation -> ratings.subList(0, PAGE_SIZE));
+        when(albumRatingRepository.findRatingEntriesAfter(any(UUID.class), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    int from = positions.get(invocation.<UUID>getArgument(0)) + 1;
+                    return ratings.subList(from, Math.min(from + PAGE_SIZE, ratings.size()));
+                });
+        FollowerRepository followerRepository = mock(FollowerRepository.class, withSettings().stubOnly());
+        when(followerRepository.findFirstFollowEntries(any(Pageable.class))).thenReturn(List.of());
+        IUtilService utilService = mock(IUtilService.class, withSettings().stubOnly());
+        currentUser = new User();
+        when(utilService.getCurrentUser()).thenAnswer(invocation -> currentUser);
+
+        recommendationService = new RecommendationServiceImpl(albumRatingRepository, followerRepository,
+                mock(AlbumRepository.class, withSettings().stubOnly()), utilService);
+        recommendationService.rebuild();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void rebuild() {
+        recommendationService.rebuild();
+    }
+
+    @Benchmark
+    public Object similarAlbums() {
+        return recommendationService.getSimilarAlbums(albumIds[next++ % 1000], 10);
+    }
+
+    @Benchmark
+    public Object userRecommendations() {
+        currentUser.setId(userIds[next++ % 10_000]);
+        return recommendationService.getRecommendations(20);
+    }
+
+    @Benchmark
+    public void incrementalRating() {
+        int album = (int) (ALBUMS * Math.pow(random.nextDouble(), 2));
+        recommendationService.recordRating(userIds[random.nextInt(USERS)], albumIds[album],
+                artistIds[album % ARTISTS], 0.5 + random.nextInt(10) / 2.0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.GenreDto;
+import com.example.musify.entity.Genre;
+import com.example.musify.mapper.DtoMapper;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.ReviewRepository;
+import com.example.musify.service.impl.SearchServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+// 1M synthetic albums over 50k artists. SampleTime reports the p0.99 latency per query mix.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class SearchBenchmark {
+    private static final int ALBUMS = 1_000_000;
+    private static final int ARTISTS = 50_000;
+    private static final int WORDS = 20_000;
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "ra", "ven", "tor", "sil", "na", "de", "qua",
+            "ri", "bel", "mon", "zu", "pha", "li", "ster", "go", "an", "el"};
+    private static final String[] GENRES = {"Rock", "Jazz", "Techno", "House", "Ambient", "Folk", "Metal", "Soul",
+            "Funk", "Blues", "Punk", "Grunge", "Shoegaze", "Dub", "Trance", "Disco", "Gospel", "Opera",
+            "Reggae", "Trip Hop"};
+
+    private SearchServiceImpl searchService;
+    private String[] exactQueries;
+    private String[] prefixQueries;
+    private String[] typoQueries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        searchService = new SearchServiceImpl(
+                mock(AlbumRepository.class, withSettings().stubOnly()),
+                mock(ArtistRepository.class, withSettings().stubOnly()),
+                mock(ReviewRepository.class, withSettings().stubOnly()),
+                mock(DtoMapper.class, withSettings().stubOnly()));
+
+        Random random = new Random(42);
+        String[] words = new String[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int s = 2 + random.nextInt(2); s > 0; s--) {
+                word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            words[i] = word.append(i % 97).toString();
+        }
+
+        List<ArtistDto> artists = new ArrayList<>(ARTISTS);
+        for (int i = 0; i < ARTISTS; i++) {
+            String name = words[random.nextInt(WORDS)] + " " + words[random.nextInt(WORDS)];
+            ArtistDto artist = ArtistDto.builder()
+                    .id(UUID.randomUUID())
+                    .name(name)
+                    .slug(name.replace(' ', '-'))
+                    .artistGenres(Set.of(GenreDto.builder().name(GENRES[random.nextInt(GENRES.length)]).build()))
+                    .build();
+            artists.add(artist);
+            searchService.indexArtist(artist);
+        }
+
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < ALBUMS; i++) {
+            ArtistDto artist = artists.get(random.nextInt(ARTISTS));
+            StringBuilder title = new StringBuilder(words[random.nextInt(WORDS)]);
+            for (int w = random.nextInt(3); w > 0; w--) {
+                title.append(' ').append(words[random.nextInt(WORDS)]);
+            }
+            searchService.indexAlbum(AlbumDto.builder()
+                    .id(UUID.randomUUID())
+                    .title(title.toString())
+                    .slug(title.toString().replace(' ', '-'))
+                    .genres(Set.of(Genre.builder().name(GENRES[random.nextInt(GENRES.length)]).build(),
+                            Genre.builder().name(GENRES[random.nextInt(GENRES.length)]).build()))
+                    .artistId(artist.getId())
+                    .artistName(artist.getName())
+                    .artistSlug(artist.getSlug())
+                    .build());
+            if (i % 1000 == 0) {
+                titles.add(title.toString());
+            }
+        }
+
+        exactQueries = new String[titles.size()];
+        prefixQueries = new String[titles.size()];
+        typoQueries = new String[titles.size()];
+        for (int i = 0; i < titles.size(); i++) {
+            String title = titles.get(i);
+            String first = title.split(" ")[0];
+            exactQueries[i] = title;
+            prefixQueries[i] = first.substring(0, 3);
+            typoQueries[i] = first.charAt(1) + "" + first.charAt(0) + first.substring(2);
+        }
+    }
+
+    @Benchmark
+    public Object exactTitle() {
+        return searchService.search(exactQueries[next++ % exactQueries.length], 20);
+    }
+
+    @Benchmark
+    public Object shortPrefix() {
+        return searchService.search(prefixQueries[next++ % prefixQueries.length], 20);
+    }
+
+    @Benchmark
+    public Object typo() {
+        return searchService.search(typoQueries[next++ % typoQueries.length], 20);
+    }
+
+    @Benchmark
+    public Object genre() {
+        return searchService.search(GENRES[next++ % GENRES.length], 20);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.dto.response.ArtistGenreEntryDto;
+import com.example.musify.dto.response.FollowEntryDto;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.FollowerRepository;
+import com.example.musify.repository.SimilarArtistRepository;
+import com.example.musify.service.impl.SimilarArtistServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Pageable;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// 100k synthetic artists tagged with one to three of 400 Zipf-distributed genres, and 1M follows from 200k users
+// who mostly follow within one of 100 taste clusters.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class SimilarArtistBenchmark {
+    private static final int ARTISTS = 100_000;
+    private static final int GENRES = 400;
+    private static final int FOLLOWS = 1_000_000;
+    private static final int USERS = 200_000;
+    private static final int CLUSTERS = 100;
+    private static final int PAGE_SIZE = 10_000;
+
+    private SimilarArtistServiceImpl similarArtistService;
+    private UUID[] userIds;
+    private UUID[] artistIds;
+    private Random random;
+
+    @Setup
+    public void setup() {
+        random = new Random(42);
+        userIds = new UUID[USERS];
+        artistIds = new UUID[ARTISTS];
+        UUID[] genreIds = new UUID[GENRES];
+        Arrays.setAll(userIds, i -> UUID.randomUUID());
+        Arrays.setAll(artistIds, i -> UUID.randomUUID());
+        Arrays.setAll(genreIds, i -> UUID.randomUUID());
+
+        List<ArtistGenreEntryDto> genres = new ArrayList<>();
+        for (int artist = 0; artist < ARTISTS; artist++) {
+            Set<Integer> artistGenres = new HashSet<>();
+            for (int g = 1 + random.nextInt(3); g > 0; g--) {
+                artistGenres.add((int) (GENRES * Math.pow(random.nextDouble(), 3)));
+            }
+            for (int genre : artistGenres) {
+                genres.add(new ArtistGenreEntryDto(artistIds[artist], genreIds[genre]));
+            }
+        }
+
+        List<FollowEntryDto> follows = new ArrayList<>(FOLLOWS);
+        Set<Long> followed = new HashSet<>();
+        while (follows.size() < FOLLOWS) {
+            // Squaring skews activity towards low user indexes and popularity towards low artist indexes.
+            int user = (int) (USERS * Math.pow(random.nextDouble(), 2));
+            int rank = (int) (ARTISTS / CLUSTERS * Math.pow(random.nextDouble(), 2));
+            int artist = random.nextDouble() < 0.8 ? rank * CLUSTERS + user % CLUSTERS
+                    : (int) (ARTISTS * Math.pow(random.nextDouble(), 2));
+            if (followed.add((long) user * ARTISTS + artist)) {
+                follows.add(new FollowEntryDto(UUID.randomUUID(), userIds[user], artistIds[artist]));
+            }
+        }
+
+        Map<UUID, Integer> positions = new HashMap<>();
+        for (int i = 0; i < follows.size(); i++) {
+            positions.put(follows.get(i).getId(), i);
+        }
+        ArtistRepository artistRepository = mock(ArtistRepository.class, withSettings().stubOnly());
+        when(artistRepository.findArtistGenreEntries()).thenReturn(genres);
+        FollowerRepository followerRepository = mock(FollowerRepository.class, withSettings().stubOnly());
+        when(followerRepository.findFirstFollowEntries(any(Pageable.class)))
+                .thenAnswer(invocation -> follows.subList(0, PAGE_SIZE));
+        when(followerRepository.findFollowEntriesAfter(any(UUID.class), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    int from = positions.get(invocation.<UUID>getArgument(0)) + 1;
+                    return follows.subList(from, Math.min(from + PAGE_SIZE, follows.size()));
+                });
+
+        similarArtistService = new SimilarArtistServiceImpl(artistRepository, followerRepository,
+                mock(SimilarArtistRepository.class, withSettings().stubOnly()));
+        similarArtistService.rebuild();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void rebuild() {
+        similarArtistService.rebuild();
+    }
+
+    @Benchmark
+    public void followAndUnfollow() {
+        UUID user = userIds[random.nextInt(USERS)];
+        UUID artist = artistIds[(int) (ARTISTS * Math.pow(random.nextDouble(), 2))];
+        similarArtistService.recordFollow(user, artist);
+        similarArtistService.removeFollow(user, artist);
+    }
+}
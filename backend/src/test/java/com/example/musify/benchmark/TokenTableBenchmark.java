@@ -0,0 +1,170 @@
+package com.example.musify.benchmark;
+
+import com.example.musify.util.TokenUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// The tokens table and the statements TokenRepository issues, run over plain JDBC. The table starts with ten tokens
+// per user, a third of them expired. Login and refresh issue the same three statements on it: the user's valid
+// hashes, the bulk revoke and the insert. The 10 million rows are meant for PostgreSQL, selected with -jvmArgsAppend
+// "-Dbenchmark.jdbcUrl=... -Dbenchmark.jdbcUser=... -Dbenchmark.jdbcPassword=...". The in-memory H2 default takes
+// about 500 MB of heap per million rows, so run it with -p rows=1000000.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TokenTableBenchmark {
+    private static final int TOKENS_PER_USER = 10;
+    private static final int PURGE_BATCH_SIZE = 10_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param("10000000")
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement findValidHashes;
+    private PreparedStatement revokeAll;
+    private PreparedStatement insert;
+    private PreparedStatement findByHash;
+    private PreparedStatement findExpiredIds;
+    private List<String> liveTokens;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbcUrl", "jdbc:h2:mem:tokens;MODE=PostgreSQL"),
+                System.getProperty("benchmark.jdbcUser", "sa"),
+                System.getProperty("benchmark.jdbcPassword", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS tokens");
+            statement.execute("""
+                    CREATE TABLE tokens (
+                        expired boolean NOT NULL,
+                        revoked boolean NOT NULL,
+                        expires_at timestamp(6) with time zone NOT NULL,
+                        id uuid NOT NULL PRIMARY KEY,
+                        user_id uuid,
+                        token_hash varchar(64) NOT NULL UNIQUE)""");
+        }
+
+        findValidHashes = connection.prepareStatement(
+                "SELECT token_hash FROM tokens WHERE user_id = ? AND revoked = false");
+        revokeAll = connection.prepareStatement(
+                "UPDATE tokens SET revoked = true, expired = true WHERE user_id = ? AND revoked = false");
+        insert = connection.prepareStatement(
+                "INSERT INTO tokens (expired, revoked, expires_at, id, user_id, token_hash) VALUES (false, false, ?, ?, ?, ?)");
+        findByHash = connection.prepareStatement(
+                "SELECT id, revoked, expired FROM tokens WHERE token_hash = ?");
+        findExpiredIds = connection.prepareStatement(
+                "SELECT id FROM tokens WHERE expires_at < ? FETCH FIRST " + PURGE_BATCH_SIZE + " ROWS ONLY");
+
+        // Token x belongs to user x / 10 and every third token is already expired.
+        Instant now = Instant.now();
+        connection.setAutoCommit(false);
+        for (long x = 1; x <= rows; x++) {
+            insert.setObject(1, Timestamp.from(now.plus(Duration.ofHours(x % 3 == 0 ? -1 : 1))));
+            insert.setObject(2, UUID.randomUUID());
+            insert.setObject(3, userId(x));
+            insert.setString(4, TokenUtils.hash(String.valueOf(x)));
+            insert.addBatch();
+            if (x % INSERT_BATCH_SIZE == 0 || x == rows) {
+                insert.executeBatch();
+                connection.commit();
+            }
+        }
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX tokens_user_id ON tokens (user_id)");
+            statement.execute("CREATE INDEX tokens_expires_at ON tokens (expires_at)");
+            statement.execute("ANALYZE");
+        }
+
+        liveTokens = new ArrayList<>();
+        for (int x = 1; x <= rows && liveTokens.size() < 100_000; x++) {
+            if (x % 3 != 0) {
+                liveTokens.add(String.valueOf(x));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE tokens");
+        }
+        connection.close();
+    }
+
+    private static UUID userId(long x) {
+        return UUID.fromString("00000000-0000-0000-0000-%012d".formatted(x / TOKENS_PER_USER));
+    }
+
+    @Benchmark
+    public int login() throws SQLException {
+        UUID userId = userId(1 + ThreadLocalRandom.current().nextLong(rows));
+        Instant now = Instant.now();
+
+        int valid = 0;
+        findValidHashes.setObject(1, userId);
+        try (ResultSet resultSet = findValidHashes.executeQuery()) {
+            while (resultSet.next()) {
+                valid++;
+            }
+        }
+        if (valid > 0) {
+            revokeAll.setObject(1, userId);
+            revokeAll.executeUpdate();
+        }
+
+        insert.setObject(1, Timestamp.from(now.plus(Duration.ofHours(1))));
+        insert.setObject(2, UUID.randomUUID());
+        insert.setObject(3, userId);
+        insert.setString(4, TokenUtils.hash(UUID.randomUUID().toString()));
+        return insert.executeUpdate() + valid;
+    }
+
+    @Benchmark
+    public boolean authenticate() throws SQLException {
+        String token = liveTokens.get(ThreadLocalRandom.current().nextInt(liveTokens.size()));
+        findByHash.setString(1, TokenUtils.hash(token));
+        try (ResultSet resultSet = findByHash.executeQuery()) {
+            return resultSet.next() && !resultSet.getBoolean(2) && !resultSet.getBoolean(3);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int purgeBatch() throws SQLException {
+        List<UUID> expiredIds = new ArrayList<>(PURGE_BATCH_SIZE);
+        findExpiredIds.setObject(1, Timestamp.from(Instant.now()));
+        try (ResultSet resultSet = findExpiredIds.executeQuery()) {
+            while (resultSet.next()) {
+                expiredIds.add(resultSet.getObject(1, UUID.class));
+            }
+        }
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(expiredIds.size(), "?"));
+        try (PreparedStatement deleteByIds = connection.prepareStatement(
+                "DELETE FROM tokens WHERE id IN (" + placeholders + ")")) {
+            for (int i = 0; i < expiredIds.size(); i++) {
+                deleteByIds.setObject(i + 1, expiredIds.get(i));
+            }
+            return deleteByIds.executeUpdate();
+        }
+    }
+}
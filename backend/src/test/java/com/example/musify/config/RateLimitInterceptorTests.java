@@ -0,0 +1,119 @@
+package com.example.musify.config;
+
+import com.example.musify.enumeration.ERateLimitGroup;
+import com.example.musify.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RateLimitInterceptorTests {
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @RateLimited(ERateLimitGroup.SEARCH)
+    static class SearchHandler {
+        public void search() {
+        }
+
+        @RateLimited(ERateLimitGroup.WRITES)
+        public void save() {
+        }
+    }
+
+    static class OpenHandler {
+        public void get() {
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ignacio.app.rateLimit.search.capacity", "2")
+                .withProperty("ignacio.app.rateLimit.writes.capacity", "1");
+        rateLimitInterceptor = new RateLimitInterceptor(environment, 1000);
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static HandlerMethod handler(Object bean, String method) throws NoSuchMethodException {
+        return new HandlerMethod(bean, method);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        return request;
+    }
+
+    private boolean handle(String remoteAddress, HandlerMethod handler) {
+        return rateLimitInterceptor.preHandle(request(remoteAddress), new MockHttpServletResponse(), handler);
+    }
+
+    @Test
+    void testPreHandle_SetsRateLimitHeaders() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        rateLimitInterceptor.preHandle(request("10.0.0.1"), response, handler(new SearchHandler(), "search"));
+
+        assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("2");
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("1");
+        assertThat(Long.parseLong(response.getHeader("RateLimit-Reset"))).isBetween(1L, 60L);
+        assertThat(response.getHeader("Retry-After")).isNull();
+    }
+
+    @Test
+    void testPreHandle_ExhaustedBucket_Throws() throws Exception {
+        HandlerMethod search = handler(new SearchHandler(), "search");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handle("10.0.0.1", search);
+        handle("10.0.0.1", search);
+
+        assertThatThrownBy(() -> rateLimitInterceptor.preHandle(request("10.0.0.1"), response, search))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(Long.parseLong(response.getHeader("Retry-After"))).isBetween(1L, 30L);
+    }
+
+    @Test
+    void testPreHandle_BucketsPerClientAndGroup() throws Exception {
+        HandlerMethod search = handler(new SearchHandler(), "search");
+        HandlerMethod save = handler(new SearchHandler(), "save");
+        handle("10.0.0.1", search);
+        handle("10.0.0.1", search);
+
+        assertThat(handle("10.0.0.2", search)).isTrue();
+        assertThat(handle("10.0.0.1", save)).isTrue();
+        assertThatThrownBy(() -> handle("10.0.0.1", save)).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void testPreHandle_AuthenticatedUser_KeyedByUsername() throws Exception {
+        HandlerMethod save = handler(new SearchHandler(), "save");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "user", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        handle("10.0.0.1", save);
+
+        assertThatThrownBy(() -> handle("10.0.0.2", save)).isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void testPreHandle_WithoutAnnotation_NotLimited() throws Exception {
+        HandlerMethod get = handler(new OpenHandler(), "get");
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(handle("10.0.0.1", get)).isTrue();
+        }
+    }
+}
@@ -2,12 +2,15 @@ package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
 import com.example.musify.auth.service.UserDetailsServiceImpl;
 import com.example.musify.dto.request.CreateAlbumDto;
 import com.example.musify.dto.request.RateAlbumDto;
 import com.example.musify.dto.request.UpdateAlbumDto;
 import com.example.musify.dto.request.UserIdDto;
 import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.RecentAlbumDto;
 import com.example.musify.exception.ResourceNotFoundException;
@@ -52,6 +55,10 @@ public class AlbumControllerTests {
     @MockBean
     private JwtService jwtService;
     @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
     private IUtilService utilService;
     @MockBean
     private UserDetailsServiceImpl userDetailsService;
@@ -153,6 +160,37 @@ public class AlbumControllerTests {
     }
 
 
+    @Test
+    public void testGetAlbumsByCursor() throws Exception {
+        given(albumService.getAlbumsByCursor(null, false)).willReturn(
+                new CursorPageDto<>(List.of(new AlbumDto()), "next", true, null));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/albums/cursor")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isNotEmpty())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    public void testGetAlbumsByCursor_WhenCursorInvalid_ReturnsBadRequest() throws Exception {
+        given(albumService.getAlbumsByCursor("bad", true))
+                .willThrow(new IllegalArgumentException("Invalid cursor."));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/albums/cursor")
+                .param("cursor", "bad")
+                .param("includeTotal", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testGetAlbumsByArtist() throws Exception {
         given(albumService.getAlbumsByArtist(anyString())).willReturn(List.of(new AlbumDto()));
@@ -361,6 +399,31 @@ public class AlbumControllerTests {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void testDeleteAlbumRating_Success() throws Exception {
+        UUID albumId = UUID.randomUUID();
+
+        given(albumService.deleteAlbumRating(albumId)).willReturn(new AlbumDto());
+
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .delete("/albums/rate/{albumId}", albumId);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testDeleteAlbumRating_WhenAlbumRatingNotFound_ThrowsResourceNotFoundException() throws Exception {
+        given(albumService.deleteAlbumRating(any(UUID.class)))
+                .willThrow(new ResourceNotFoundException("Album rating not found."));
+
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .delete("/albums/rate/{albumId}", UUID.randomUUID());
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testAddAlbumToList_Success() throws Exception {
         UUID listId = UUID.randomUUID();
@@ -2,6 +2,8 @@ package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
 import com.example.musify.auth.service.UserDetailsServiceImpl;
 import com.example.musify.dto.request.AlbumListUserIdDto;
 import com.example.musify.dto.request.CreateAlbumListDto;
@@ -49,6 +51,10 @@ public class AlbumListControllerTests {
     @MockBean
     private JwtService jwtService;
     @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
     private IUtilService utilService;
     @MockBean
     private UserDetailsServiceImpl userDetailsService;
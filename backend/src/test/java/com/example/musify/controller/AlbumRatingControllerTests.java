@@ -1,7 +1,10 @@
 package com.example.musify.controller;
 
 import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
 import com.example.musify.auth.service.UserDetailsServiceImpl;
+import com.example.musify.dto.request.ImportAlbumRatingDto;
 import com.example.musify.dto.response.*;
 import com.example.musify.exception.ResourceNotFoundException;
 import com.example.musify.repository.AlbumRatingRepository;
@@ -24,6 +27,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 
 import static org.mockito.ArgumentMatchers.*;
@@ -43,6 +47,10 @@ public class AlbumRatingControllerTests {
     @MockBean
     private JwtService jwtService;
     @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
     private IUtilService utilService;
     @MockBean
     private UserDetailsServiceImpl userDetailsService;
@@ -162,4 +170,45 @@ public class AlbumRatingControllerTests {
         mockMvc.perform(requestBuilder)
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    public void testImportAlbumRatings_Success() throws Exception {
+        List<ImportAlbumRatingDto> ratings = List.of(
+                new ImportAlbumRatingDto(UUID.randomUUID(), UUID.randomUUID(), 4.5));
+
+        given(albumRatingService.importAlbumRatings(any())).willAnswer(invocation -> {
+            Stream<ImportAlbumRatingDto> stream = invocation.getArgument(0);
+            return new AlbumRatingImportDto(stream.count(), 1, 0, 0, 1);
+        });
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .post("/album-ratings/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ratings));
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(1))
+                .andExpect(jsonPath("$.imported").value(1));
+    }
+
+    @Test
+    public void testImportAlbumRatings_WhenRatingInvalid_ReturnsBadRequest() throws Exception {
+        List<ImportAlbumRatingDto> ratings = List.of(
+                new ImportAlbumRatingDto(UUID.randomUUID(), UUID.randomUUID(), 7.0));
+
+        given(albumRatingService.importAlbumRatings(any())).willAnswer(invocation -> {
+            Stream<ImportAlbumRatingDto> stream = invocation.getArgument(0);
+            return new AlbumRatingImportDto(stream.count(), 0, 0, 0, 0);
+        });
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .post("/album-ratings/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ratings));
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Rating must be at most 5.0"));
+    }
 }
@@ -3,12 +3,16 @@ package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
 import com.example.musify.auth.service.UserDetailsServiceImpl;
 import com.example.musify.dto.request.CreateArtistDto;
 import com.example.musify.dto.request.UpdateArtistDto;
 import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.RecentArtistDto;
+import com.example.musify.dto.response.SimilarArtistDto;
 import com.example.musify.exception.ResourceNotFoundException;
 import com.example.musify.repository.AlbumListRepository;
 import com.example.musify.repository.ArtistRepository;
@@ -17,6 +21,7 @@ import com.example.musify.repository.TokenRepository;
 import com.example.musify.service.IFileUploadService;
 import com.example.musify.service.IUtilService;
 import com.example.musify.service.impl.ArtistServiceImpl;
+import com.example.musify.service.impl.SimilarArtistServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -55,6 +60,10 @@ public class ArtistControllerTests {
     @MockBean
     private JwtService jwtService;
     @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
     private IUtilService utilService;
     @MockBean
     private UserDetailsServiceImpl userDetailsService;
@@ -68,6 +77,24 @@ public class ArtistControllerTests {
     private IFileUploadService fileUploadService;
     @MockBean
     private ArtistServiceImpl artistService;
+    @MockBean
+    private SimilarArtistServiceImpl similarArtistService;
+
+    @Test
+    public void testGetArtistsByCursor() throws Exception {
+        given(artistService.getArtistsByCursor("cursor", false)).willReturn(
+                new CursorPageDto<>(List.of(new ArtistDto()), null, false, null));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/artists/cursor")
+                .param("cursor", "cursor")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isNotEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
 
     @Test
     public void testGetArtists() throws Exception {
@@ -141,6 +168,34 @@ public class ArtistControllerTests {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    public void testGetSimilarArtists_Success() throws Exception {
+        given(similarArtistService.getSimilarArtists("artist", 5)).willReturn(List.of(
+                SimilarArtistDto.builder().name("other").slug("other").score(0.5).build()));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/artists/{artistSlug}/similar", "artist")
+                .param("limit", "5")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].slug").value("other"));
+    }
+
+    @Test
+    public void testGetSimilarArtists_WhenArtistNotFound_ThrowsResourceNotFoundException() throws Exception {
+        given(similarArtistService.getSimilarArtists(anyString(), anyInt()))
+                .willThrow(new ResourceNotFoundException("Artist not found."));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/artists/{artistSlug}/similar", "artist")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testCreateArtistWithFile() throws Exception {
         CreateArtistDto createArtistDto =CreateArtistDto.builder()
@@ -0,0 +1,85 @@
+package com.example.musify.controller;
+
+import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
+import com.example.musify.auth.service.UserDetailsServiceImpl;
+import com.example.musify.dto.response.SuggestionDto;
+import com.example.musify.enumeration.ESuggestionType;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.service.IUtilService;
+import com.example.musify.service.impl.AutocompleteServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AutocompleteController.class)
+@WithMockUser(username = "user", password = "test", roles = {"USER", "ADMIN"})
+@AutoConfigureMockMvc(addFilters = false)
+public class AutocompleteControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private TokenRepository tokenRepository;
+    @MockBean
+    private JwtService jwtService;
+    @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
+    private IUtilService utilService;
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+    @MockBean
+    private AutocompleteServiceImpl autocompleteService;
+
+    @Test
+    public void testSuggest_Success() throws Exception {
+        given(autocompleteService.suggest("bea", ESuggestionType.ARTIST, 5)).willReturn(List.of(new SuggestionDto(
+                ESuggestionType.ARTIST, UUID.randomUUID(), "The Beatles", "the-beatles", "the-beatles", 120L)));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/autocomplete")
+                .param("q", "bea")
+                .param("type", "ARTIST")
+                .param("limit", "5")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("ARTIST"))
+                .andExpect(jsonPath("$[0].name").value("The Beatles"))
+                .andExpect(jsonPath("$[0].popularity").value(120));
+    }
+
+    @Test
+    public void testSuggest_WithoutType_SearchesEveryType() throws Exception {
+        given(autocompleteService.suggest("ro", null, 10)).willReturn(List.of(new SuggestionDto(
+                ESuggestionType.GENRE, UUID.randomUUID(), "Rock", "rock", null, 40L)));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/autocomplete")
+                .param("q", "ro")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("GENRE"))
+                .andExpect(jsonPath("$[0].slug").value("rock"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.musify.controller;
+
+import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
+import com.example.musify.auth.service.UserDetailsServiceImpl;
+import com.example.musify.dto.response.ChartAlbumDto;
+import com.example.musify.enumeration.EChartWindow;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.service.IUtilService;
+import com.example.musify.service.impl.ChartServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ChartController.class)
+@WithMockUser(username = "user", password = "test", roles = {"USER", "ADMIN"})
+@AutoConfigureMockMvc(addFilters = false)
+public class ChartControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private TokenRepository tokenRepository;
+    @MockBean
+    private JwtService jwtService;
+    @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
+    private IUtilService utilService;
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+    @MockBean
+    private ChartServiceImpl chartService;
+
+    private final ChartAlbumDto album = new ChartAlbumDto(UUID.randomUUID(), "Kid A", "kid-a", null,
+            "Radiohead", "radiohead", "UK", 4.5, 120L, 4.41);
+
+    @Test
+    public void testGetChart_DefaultsToAllTime() throws Exception {
+        given(chartService.getChart(EChartWindow.ALL_TIME, null, null, 20)).willReturn(List.of(album));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/charts")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Kid A"))
+                .andExpect(jsonPath("$[0].score").value(4.41));
+    }
+
+    @Test
+    public void testGetChart_ByWindowGenreAndCountry() throws Exception {
+        given(chartService.getChart(EChartWindow.WEEK, "rock", "UK", 5)).willReturn(List.of(album));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/charts")
+                .param("window", "WEEK")
+                .param("genre", "rock")
+                .param("country", "UK")
+                .param("limit", "5")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].originCountry").value("UK"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.musify.controller;
+
+import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
+import com.example.musify.auth.service.UserDetailsServiceImpl;
+import com.example.musify.dto.response.CursorPageDto;
+import com.example.musify.dto.response.FeedItemDto;
+import com.example.musify.enumeration.EFeedEventType;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.service.IUtilService;
+import com.example.musify.service.impl.FeedServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(FeedController.class)
+@WithMockUser(username = "user", password = "test", roles = {"USER", "ADMIN"})
+@AutoConfigureMockMvc(addFilters = false)
+public class FeedControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private TokenRepository tokenRepository;
+    @MockBean
+    private JwtService jwtService;
+    @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
+    private IUtilService utilService;
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+    @MockBean
+    private FeedServiceImpl feedService;
+
+    private final FeedItemDto item = FeedItemDto.builder()
+            .id(UUID.randomUUID())
+            .type(EFeedEventType.NEW_ALBUM)
+            .createdAt(Instant.parse("2024-03-01T12:00:00Z"))
+            .artistName("Radiohead")
+            .albumTitle("Kid A")
+            .build();
+
+    @Test
+    public void testGetFeed_Success() throws Exception {
+        given(feedService.getFeed(null)).willReturn(new CursorPageDto<>(List.of(item), "next", true, null));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/feed")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].type").value("NEW_ALBUM"))
+                .andExpect(jsonPath("$.content[0].albumTitle").value("Kid A"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    public void testGetFeed_WithCursor_Success() throws Exception {
+        given(feedService.getFeed("abc")).willReturn(new CursorPageDto<>(List.of(), null, false, null));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/feed")
+                .param("cursor", "abc")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+}
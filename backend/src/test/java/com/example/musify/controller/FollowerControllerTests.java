@@ -2,6 +2,8 @@ package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
 import com.example.musify.auth.service.UserDetailsServiceImpl;
 import com.example.musify.dto.response.FollowerDto;
 import com.example.musify.dto.response.FollowingArtistDto;
@@ -44,6 +46,10 @@ public class FollowerControllerTests {
     @MockBean
     private JwtService jwtService;
     @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
     private IUtilService utilService;
     @MockBean
     private UserDetailsServiceImpl userDetailsService;
@@ -0,0 +1,81 @@
+package com.example.musify.controller;
+
+import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
+import com.example.musify.auth.service.UserDetailsServiceImpl;
+import com.example.musify.dto.response.RecommendedAlbumDto;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.service.IUtilService;
+import com.example.musify.service.impl.RecommendationServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RecommendationController.class)
+@WithMockUser(username = "user", password = "test", roles = {"USER", "ADMIN"})
+@AutoConfigureMockMvc(addFilters = false)
+public class RecommendationControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private TokenRepository tokenRepository;
+    @MockBean
+    private JwtService jwtService;
+    @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
+    private IUtilService utilService;
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+    @MockBean
+    private RecommendationServiceImpl recommendationService;
+
+    private final RecommendedAlbumDto album = new RecommendedAlbumDto(UUID.randomUUID(), "Kid A", "kid-a", null,
+            "Radiohead", "radiohead", 4.5, 120L, 0.8);
+
+    @Test
+    public void testGetRecommendations_Success() throws Exception {
+        given(recommendationService.getRecommendations(5)).willReturn(List.of(album));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/recommendations")
+                .param("limit", "5")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Kid A"))
+                .andExpect(jsonPath("$[0].score").value(0.8));
+    }
+
+    @Test
+    public void testGetSimilarAlbums_Success() throws Exception {
+        UUID albumId = UUID.randomUUID();
+        given(recommendationService.getSimilarAlbums(albumId, 10)).willReturn(List.of(album));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/recommendations/albums/{albumId}", albumId)
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].artistSlug").value("radiohead"));
+    }
+}
@@ -2,6 +2,8 @@ package com.example.musify.controller;
 
 import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
 import com.example.musify.auth.service.UserDetailsServiceImpl;
 import com.example.musify.dto.request.CreateReviewDto;
 import com.example.musify.dto.request.UpdateReviewDto;
@@ -46,6 +48,10 @@ public class ReviewControllerTests {
     @MockBean
     private JwtService jwtService;
     @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
     private IUtilService utilService;
     @MockBean
     private UserDetailsServiceImpl userDetailsService;
@@ -87,6 +93,21 @@ public class ReviewControllerTests {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void testGetReviewsByCursor() throws Exception {
+        given(reviewService.getReviewsByCursor(null, true)).willReturn(
+                new CursorPageDto<>(List.of(new ReviewDto()), "next", true, 1L));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/reviews/cursor")
+                .param("includeTotal", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
     @Test
     public void testGetAlbumReviews_Success() throws Exception {
         given(reviewService.getAlbumReviews(any(UUID.class), anyInt())).willReturn(
@@ -0,0 +1,91 @@
+package com.example.musify.controller;
+
+import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
+import com.example.musify.auth.service.UserDetailsServiceImpl;
+import com.example.musify.dto.response.SearchResultDto;
+import com.example.musify.enumeration.ESearchType;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.service.IUtilService;
+import com.example.musify.service.impl.SearchServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = SearchController.class, properties = {
+        "ignacio.app.rateLimit.search.capacity=5",
+        "ignacio.app.rateLimit.search.periodMs=3600000"})
+@WithMockUser(username = "user", password = "test", roles = {"USER", "ADMIN"})
+@AutoConfigureMockMvc(addFilters = false)
+public class SearchControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private TokenRepository tokenRepository;
+    @MockBean
+    private JwtService jwtService;
+    @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
+    private IUtilService utilService;
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+    @MockBean
+    private SearchServiceImpl searchService;
+
+    @Test
+    public void testSearch_Success() throws Exception {
+        given(searchService.search("homog", 5)).willReturn(List.of(new SearchResultDto(ESearchType.ALBUM,
+                UUID.randomUUID(), "Homogenic", "Björk", "homogenic", "bjork", 4.2)));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/search")
+                .param("q", "homog")
+                .param("limit", "5")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("ALBUM"))
+                .andExpect(jsonPath("$[0].title").value("Homogenic"))
+                .andExpect(jsonPath("$[0].artistSlug").value("bjork"));
+    }
+
+    @Test
+    @WithMockUser(username = "flooder", roles = "USER")
+    public void testSearch_TooManyRequests() throws Exception {
+        given(searchService.search("homog", 20)).willReturn(List.of());
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/search")
+                .param("q", "homog")
+                .accept(MediaType.APPLICATION_JSON);
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(requestBuilder).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Limit", "5"))
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.message").exists());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.musify.controller;
+
+import com.example.musify.auth.service.JwtService;
+import com.example.musify.auth.service.TokenPrincipalCache;
+import com.example.musify.auth.service.TokenRevocationService;
+import com.example.musify.auth.service.UserDetailsServiceImpl;
+import com.example.musify.dto.response.CacheStatsDto;
+import com.example.musify.dto.response.UploadStatsDto;
+import com.example.musify.repository.TokenRepository;
+import com.example.musify.service.IUtilService;
+import com.example.musify.service.impl.CatalogCacheServiceImpl;
+import com.example.musify.service.impl.FileUploadServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StatsController.class)
+@WithMockUser(username = "user", password = "test", roles = {"USER", "ADMIN"})
+@AutoConfigureMockMvc(addFilters = false)
+public class StatsControllerTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private TokenRepository tokenRepository;
+    @MockBean
+    private JwtService jwtService;
+    @MockBean
+    private TokenPrincipalCache tokenPrincipalCache;
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+    @MockBean
+    private IUtilService utilService;
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+    @MockBean
+    private CatalogCacheServiceImpl catalogCacheService;
+    @MockBean
+    private FileUploadServiceImpl fileUploadService;
+
+    @Test
+    public void testGetCacheStats_Success() throws Exception {
+        given(catalogCacheService.getStats()).willReturn(List.of(
+                new CacheStatsDto("albums", 1, 3, 1, 0, 0.75)));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/stats/caches")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("albums"))
+                .andExpect(jsonPath("$[0].hitCount").value(3));
+    }
+
+    @Test
+    public void testGetUploadStats_Success() throws Exception {
+        given(fileUploadService.getStats()).willReturn(new UploadStatsDto(4, 1, 0.25, 2048, 3, 0));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get("/stats/uploads")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dedupeHitRate").value(0.25))
+                .andExpect(jsonPath("$.bytesAvoided").value(2048));
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.request.ImportAlbumRatingDto;
+import com.example.musify.dto.response.AlbumRatingAggregateDto;
 import com.example.musify.dto.response.GenreAlbumCountDto;
+import com.example.musify.dto.response.RatingEntryDto;
+import com.example.musify.dto.response.RecentRatingEntryDto;
 import com.example.musify.entity.*;
 import com.example.musify.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -113,7 +117,7 @@ public class AlbumRatingRepositoryTests {
         Instant beforeSave = Instant.now();
 
         AlbumRating newAlbumRating = AlbumRating.builder()
-                .user(user1)
+                .user(user2)
                 .createdAt(beforeSave)
                 .album(album1)
                 .rating(5.0)
@@ -183,6 +187,75 @@ public class AlbumRatingRepositoryTests {
         assertThat(averageRating).isEqualTo(5.0);
     }
 
+    @Test
+    void testFindMismatchedRatingAggregates() {
+        albumRepository.incrementRatingAggregate(album1.getId(), 5.0, 1L);
+
+        List<AlbumRatingAggregateDto> mismatches = albumRatingRepository.findMismatchedRatingAggregates();
+
+        assertThat(mismatches).hasSize(1);
+        assertThat(mismatches.get(0).getAlbumId()).isNotEqualTo(album1.getId());
+        assertThat(mismatches.get(0).getRatingCount()).isEqualTo(1L);
+        assertThat(mismatches.get(0).getRatingSum()).isEqualTo(5.0);
+    }
+
+    @Test
+    void testFindMismatchedRatingAggregates_IgnoresRoundingDrift() {
+        albumRepository.incrementRatingAggregate(album1.getId(), 5.0 + 1e-9, 1L);
+
+        List<AlbumRatingAggregateDto> mismatches = albumRatingRepository.findMismatchedRatingAggregates();
+
+        assertThat(mismatches).extracting(AlbumRatingAggregateDto::getAlbumId).doesNotContain(album1.getId());
+    }
+
+    @Test
+    void testRemoveUserRatingsFromAlbums() {
+        albumRatingRepository.save(AlbumRating.builder()
+                .user(user2)
+                .createdAt(Instant.now())
+                .album(album1)
+                .rating(3.0)
+                .build());
+        albumRepository.incrementRatingAggregate(album1.getId(), 8.0, 2L);
+
+        albumRatingRepository.removeUserRatingsFromAlbums(user1.getId());
+
+        Album album = albumRepository.findById(album1.getId()).orElseThrow();
+        assertThat(album.getRatingCount()).isEqualTo(1L);
+        assertThat(album.getRatingSum()).isEqualTo(3.0);
+        assertThat(album.getRating()).isEqualTo(3.0);
+    }
+
+    @Test
+    void testFindRatingEntries_PagesByKeyset() {
+        List<RatingEntryDto> first = albumRatingRepository.findFirstRatingEntries(PageRequest.of(0, 1));
+        List<RatingEntryDto> rest = albumRatingRepository.findRatingEntriesAfter(first.get(0).getId(),
+                PageRequest.of(0, 10));
+
+        assertThat(first).hasSize(1);
+        assertThat(rest).hasSize(1);
+        assertThat(List.of(first.get(0).getAlbumId(), rest.get(0).getAlbumId())).contains(album1.getId());
+        assertThat(rest.get(0).getUserId()).isEqualTo(user1.getId());
+        assertThat(rest.get(0).getArtistId()).isEqualTo(album1.getArtist().getId());
+        assertThat(rest.get(0).getRating()).isEqualTo(5.0);
+    }
+
+    @Test
+    void testFindRecentRatingEntries_OnlySinceGivenInstant() {
+        Instant hourAgo = Instant.now().minusSeconds(3600);
+        List<RecentRatingEntryDto> first = albumRatingRepository.findFirstRecentRatingEntries(hourAgo,
+                PageRequest.of(0, 1));
+        List<RecentRatingEntryDto> rest = albumRatingRepository.findRecentRatingEntriesAfter(hourAgo,
+                first.get(0).getId(), PageRequest.of(0, 10));
+
+        assertThat(first).hasSize(1);
+        assertThat(rest).hasSize(1);
+        assertThat(rest.get(0).getUserId()).isEqualTo(user1.getId());
+        assertThat(rest.get(0).getCreatedAt()).isAfter(hourAgo);
+        assertThat(albumRatingRepository.findFirstRecentRatingEntries(Instant.now().plusSeconds(3600),
+                PageRequest.of(0, 10))).isEmpty();
+    }
+
     @Test
     void testFindByUser() {
         List<AlbumRating> retrievedAlbumRatings = albumRatingRepository.findByUser(user1.getId());
@@ -215,4 +288,17 @@ public class AlbumRatingRepositoryTests {
 
         assertThat(genreOverview).isNotNull();
     }
+
+    @Test
+    void testUpsertRatings() {
+        albumRatingRepository.flush();
+
+        int written = albumRatingRepository.upsertRatings(List.of(
+                new ImportAlbumRatingDto(user1.getId(), album1.getId(), 2.0),
+                new ImportAlbumRatingDto(user2.getId(), album1.getId(), 3.0)));
+
+        assertThat(written).isEqualTo(2);
+        assertThat(albumRatingRepository.findRatingByUserAndAlbum(user1.getId(), album1.getId())).isEqualTo(2.0);
+        assertThat(albumRatingRepository.findRatingByUserAndAlbum(user2.getId(), album1.getId())).isEqualTo(3.0);
+    }
 }
@@ -1,8 +1,14 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.ChartAlbumDto;
+import com.example.musify.dto.response.ChartAlbumEntryDto;
+import com.example.musify.dto.response.RecommendedAlbumDto;
+import com.example.musify.dto.response.SuggestionDto;
 import com.example.musify.entity.Album;
 import com.example.musify.entity.Artist;
 import com.example.musify.entity.Genre;
+import com.example.musify.enumeration.EImageStatus;
+import com.example.musify.enumeration.ESuggestionType;
 import com.example.musify.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -142,6 +148,18 @@ public class AlbumRepositoryTests {
         assertThat(albumsPage.getContent().size()).isGreaterThan(0);
     }
 
+    @Test
+    void testFindByRatingCursor() {
+        Pageable pageable = PageRequest.of(0, 1);
+
+        List<Album> firstPage = albumRepository.findFirstByRatingCursor(pageable);
+        List<Album> secondPage = albumRepository.findAfterRatingCursor(
+                firstPage.get(0).getRating(), firstPage.get(0).getId(), pageable);
+
+        assertThat(firstPage).containsExactly(album1);
+        assertThat(secondPage).containsExactly(album2);
+    }
+
     @Test
     void testFindByArtistSlugAndAlbumSlug() {
         album2.setArtist(artist);
@@ -195,4 +213,89 @@ public class AlbumRepositoryTests {
         assertThat(albumRepository.count()).isEqualTo(albumsCount - 1);
         assertThat(retrievedAlbum).isEmpty();
     }
+
+    @Test
+    void testFindSuggestions() {
+        Page<SuggestionDto> albums = albumRepository.findSuggestions(PageRequest.of(0, 20));
+
+        assertThat(albums.getContent()).extracting(SuggestionDto::getName).contains("Test 1", "Test 2");
+        assertThat(albums.getContent()).allSatisfy(album -> {
+            assertThat(album.getType()).isEqualTo(ESuggestionType.ALBUM);
+            assertThat(album.getArtistSlug()).isEqualTo("artist");
+        });
+    }
+
+    @Test
+    void testFindRecommendedAlbumsByIdIn() {
+        List<RecommendedAlbumDto> albums = albumRepository.findRecommendedAlbumsByIdIn(List.of(album1.getId()));
+
+        assertThat(albums).singleElement().satisfies(album -> {
+            assertThat(album.getTitle()).isEqualTo("Test 1");
+            assertThat(album.getArtistSlug()).isEqualTo("artist");
+            assertThat(album.getScore()).isNull();
+        });
+    }
+
+    @Test
+    void testFindChartAlbumsByIdIn() {
+        List<ChartAlbumDto> albums = albumRepository.findChartAlbumsByIdIn(List.of(album2.getId()));
+
+        assertThat(albums).singleElement().satisfies(album -> {
+            assertThat(album.getTitle()).isEqualTo("Test 2");
+            assertThat(album.getOriginCountry()).isEqualTo("country");
+            assertThat(album.getScore()).isNull();
+        });
+    }
+
+    @Test
+    void testFindChartAlbumEntries_OnlyRatedAlbums() {
+        albumRepository.incrementRatingAggregate(album1.getId(), 4.5, 1L);
+
+        List<ChartAlbumEntryDto> entries = albumRepository.findFirstChartAlbumEntries(PageRequest.of(0, 10));
+
+        assertThat(entries).singleElement().satisfies(entry -> {
+            assertThat(entry.getId()).isEqualTo(album1.getId());
+            assertThat(entry.getRatingSum()).isEqualTo(4.5);
+            assertThat(entry.getRatingCount()).isEqualTo(1L);
+        });
+        assertThat(albumRepository.findChartAlbumEntriesAfter(album1.getId(), PageRequest.of(0, 10))).isEmpty();
+        assertThat(albumRepository.findRatedAlbumGenreEntries()).singleElement().satisfies(entry -> {
+            assertThat(entry.getAlbumId()).isEqualTo(album1.getId());
+            assertThat(entry.getGenreSlug()).isEqualTo("test-genre");
+        });
+    }
+
+    @Test
+    void testFindGenreSuggestions_CountsAlbums() {
+        List<SuggestionDto> genres = genreRepository.findSuggestions();
+
+        assertThat(genres).filteredOn(genre -> genre.getId().equals(genre1.getId()))
+                .singleElement()
+                .satisfies(genre -> {
+                    assertThat(genre.getType()).isEqualTo(ESuggestionType.GENRE);
+                    assertThat(genre.getPopularity()).isEqualTo(2L);
+                });
+    }
+
+    @Test
+    void testUpdateImage_WhenHashIsStale_KeepsNewerImage() {
+        album1.setImageHash("newer");
+        album1.setImageStatus(EImageStatus.PENDING);
+
+        albumRepository.updateImage(album1.getId(), "older", "older.jpg", null, null, EImageStatus.READY);
+        albumRepository.updateImageStatus(album1.getId(), "older", EImageStatus.FAILED);
+        assertThat(albumRepository.findFirstAlbumDtos(PageRequest.of(0, 10)))
+                .filteredOn(album -> album.getId().equals(album1.getId()))
+                .singleElement()
+                .satisfies(album -> assertThat(album.getImageStatus()).isEqualTo(EImageStatus.PENDING));
+
+        albumRepository.updateImage(album1.getId(), "newer", "newer.jpg", null, null, EImageStatus.READY);
+        assertThat(albumRepository.findFirstAlbumDtos(PageRequest.of(0, 10)))
+                .filteredOn(album -> album.getId().equals(album1.getId()))
+                .singleElement()
+                .satisfies(album -> {
+                    assertThat(album.getAlbumImage()).isEqualTo("newer.jpg");
+                    assertThat(album.getImageStatus()).isEqualTo(EImageStatus.READY);
+                });
+    }
 }
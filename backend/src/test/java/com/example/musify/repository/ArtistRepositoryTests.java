@@ -1,5 +1,6 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.ArtistGenreEntryDto;
 import com.example.musify.entity.Artist;
 import com.example.musify.entity.Genre;
 import com.example.musify.exception.ResourceNotFoundException;
@@ -10,6 +11,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
@@ -143,6 +145,27 @@ public class ArtistRepositoryTests {
         assertThat(artistsPage.getContent().size()).isGreaterThan(0);
     }
 
+    @Test
+    void testFindByNameCursor() {
+        Artist artist2 = Artist.builder()
+                .createdAt(Instant.now())
+                .formedYear(Year.of(2001))
+                .originCountry("country")
+                .name("Beta Artist")
+                .slug("beta-artist")
+                .build();
+        artistRepository.save(artist2);
+
+        Pageable pageable = PageRequest.of(0, 1);
+
+        List<Artist> firstPage = artistRepository.findFirstByNameCursor(pageable);
+        List<Artist> secondPage = artistRepository.findAfterNameCursor(
+                firstPage.get(0).getName(), firstPage.get(0).getId(), pageable);
+
+        assertThat(firstPage).containsExactly(artist1);
+        assertThat(secondPage).containsExactly(artist2);
+    }
+
     @Test
     void testFindAllByGenreSlug() {
         PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("formedYear").ascending());
@@ -161,6 +184,16 @@ public class ArtistRepositoryTests {
         assertThat(artistsPage.size()).isGreaterThan(0);
     }
 
+    @Test
+    void testFindArtistGenreEntries() {
+        List<ArtistGenreEntryDto> entries = artistRepository.findArtistGenreEntries();
+
+        assertThat(entries).extracting(ArtistGenreEntryDto::getGenreId)
+                .containsOnly(genre1.getId());
+        assertThat(entries).extracting(ArtistGenreEntryDto::getArtistId)
+                .contains(artist1.getId());
+    }
+
     @Test
     void testDeleteArtist() {
         long artistsCount = artistRepository.count();
@@ -0,0 +1,142 @@
+package com.example.musify.repository;
+
+import com.example.musify.dto.response.FeedItemDto;
+import com.example.musify.entity.*;
+import com.example.musify.enumeration.EFeedEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class FeedEventRepositoryTests {
+    @Autowired
+    private FeedEventRepository feedEventRepository;
+    @Autowired
+    private FeedEntryRepository feedEntryRepository;
+    @Autowired
+    private ArtistRepository artistRepository;
+    @Autowired
+    private AlbumRepository albumRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    private Artist smallArtist;
+    private Artist largeArtist;
+    private User user1;
+    private FeedEvent albumEvent;
+    private FeedEvent reviewEvent;
+    private FeedEvent pullEvent;
+
+    @BeforeEach
+    void setup() {
+        smallArtist = artistRepository.save(artist("Small Artist", "small-artist"));
+        largeArtist = artistRepository.save(artist("Large Artist", "large-artist"));
+        Album smallAlbum = albumRepository.save(album(smallArtist, "Small Album", "small-album"));
+        Album largeAlbum = albumRepository.save(album(largeArtist, "Large Album", "large-album"));
+
+        user1 = userRepository.save(User.builder()
+                .username("feedUser")
+                .email("feeduser@test.com")
+                .password("password")
+                .build());
+        Review review = reviewRepository.save(Review.builder()
+                .title("Review")
+                .content("Content")
+                .album(smallAlbum)
+                .user(user1)
+                .createdAt(now)
+                .rating(4.5)
+                .build());
+
+        albumEvent = feedEventRepository.save(event(EFeedEventType.NEW_ALBUM, smallAlbum, null, true, 2));
+        reviewEvent = feedEventRepository.save(event(EFeedEventType.NEW_REVIEW, smallAlbum, review, true, 1));
+        pullEvent = feedEventRepository.save(event(EFeedEventType.NEW_ALBUM, largeAlbum, null, false, 0));
+        feedEventRepository.flush();
+
+        feedEntryRepository.insertFeedEntries(albumEvent.getId(), albumEvent.getCreatedAt(), List.of(user1.getId()));
+        feedEntryRepository.insertFeedEntries(reviewEvent.getId(), reviewEvent.getCreatedAt(),
+                List.of(user1.getId()));
+    }
+
+    private static Artist artist(String name, String slug) {
+        return Artist.builder()
+                .createdAt(Instant.now())
+                .formedYear(Year.of(1999))
+                .originCountry("country")
+                .name(name)
+                .slug(slug)
+                .build();
+    }
+
+    private static Album album(Artist artist, String title, String slug) {
+        return Album.builder()
+                .title(title)
+                .artist(artist)
+                .slug(slug)
+                .originCountry("country")
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private FeedEvent event(EFeedEventType type, Album album, Review review, boolean fannedOut, int minutesAgo) {
+        return FeedEvent.builder()
+                .type(type)
+                .artist(album.getArtist())
+                .album(album)
+                .review(review)
+                .fannedOut(fannedOut)
+                .createdAt(now.minus(minutesAgo, ChronoUnit.MINUTES))
+                .build();
+    }
+
+    @Test
+    void testFindFeedItems_NewestFirst() {
+        List<FeedItemDto> items = feedEventRepository.findFirstFeedItems(user1.getId(), PageRequest.of(0, 10));
+
+        assertThat(items).extracting(FeedItemDto::getId).containsExactly(reviewEvent.getId(), albumEvent.getId());
+        assertThat(items.get(0).getReviewerUsername()).isEqualTo("feedUser");
+        assertThat(items.get(1).getAlbumSlug()).isEqualTo("small-album");
+        assertThat(items.get(1).getReviewId()).isNull();
+    }
+
+    @Test
+    void testFindFeedItemsAfter_ContinuesFromCursor() {
+        List<FeedItemDto> items = feedEventRepository.findFeedItemsAfter(user1.getId(), reviewEvent.getCreatedAt(),
+                reviewEvent.getId(), PageRequest.of(0, 10));
+
+        assertThat(items).extracting(FeedItemDto::getId).containsExactly(albumEvent.getId());
+    }
+
+    @Test
+    void testFindTimelineItems_OnlyEventsNotFannedOut() {
+        assertThat(feedEventRepository.findFirstTimelineItems(largeArtist.getId(), PageRequest.of(0, 10)))
+                .extracting(FeedItemDto::getId)
+                .containsExactly(pullEvent.getId());
+        assertThat(feedEventRepository.findFirstTimelineItems(smallArtist.getId(), PageRequest.of(0, 10)))
+                .isEmpty();
+        assertThat(feedEventRepository.findTimelineItemsAfter(largeArtist.getId(), pullEvent.getCreatedAt(),
+                pullEvent.getId(), PageRequest.of(0, 10))).isEmpty();
+        assertThat(feedEventRepository.findPullArtistIds()).containsExactly(largeArtist.getId());
+    }
+
+    @Test
+    void testDeleteByUserIdAndArtistId_RemovesEntriesOfUnfollowedArtist() {
+        feedEntryRepository.deleteByUserIdAndArtistId(user1.getId(), smallArtist.getId());
+
+        assertThat(feedEventRepository.findFirstFeedItems(user1.getId(), PageRequest.of(0, 10))).isEmpty();
+    }
+}
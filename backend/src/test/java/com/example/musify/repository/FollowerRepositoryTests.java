@@ -1,5 +1,7 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.FollowEntryDto;
+import com.example.musify.dto.response.SuggestionDto;
 import com.example.musify.entity.Artist;
 import com.example.musify.entity.Follower;
 import com.example.musify.entity.Genre;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.Instant;
 import java.time.Year;
@@ -107,6 +110,12 @@ public class FollowerRepositoryTests {
         assertThat(followersCount).isGreaterThan(0);
     }
 
+    @Test
+    void testFindFollowerAndFollowedArtistIds() {
+        assertThat(followerRepository.findFollowerIds(artist1.getId())).containsExactly(user1.getId());
+        assertThat(followerRepository.findFollowedArtistIds(user1.getId())).containsExactly(artist1.getId());
+    }
+
     @Test
     void testFindByArtistAndUser() {
         Optional<Follower> follower = followerRepository.findByArtistIdAndUserId(artist1.getId(), user1.getId());
@@ -132,4 +141,25 @@ public class FollowerRepositoryTests {
         assertThat(followerRepository.count()).isEqualTo(followersCount - 1);
         assertThat(retrievedFollower).isEmpty();
     }
+
+    @Test
+    void testFindFollowEntries() {
+        List<FollowEntryDto> follows = followerRepository.findFirstFollowEntries(PageRequest.of(0, 10));
+
+        assertThat(follows).singleElement().satisfies(follow -> {
+            assertThat(follow.getUserId()).isEqualTo(user1.getId());
+            assertThat(follow.getArtistId()).isEqualTo(artist1.getId());
+        });
+        assertThat(followerRepository.findFollowEntriesAfter(follows.get(0).getId(), PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+
+    @Test
+    void testFindArtistSuggestions_CountsFollowers() {
+        List<SuggestionDto> artists = artistRepository.findSuggestions(PageRequest.of(0, 20)).getContent();
+
+        assertThat(artists).filteredOn(artist -> artist.getId().equals(artist1.getId()))
+                .singleElement()
+                .satisfies(artist -> assertThat(artist.getPopularity()).isEqualTo(1L));
+    }
 }
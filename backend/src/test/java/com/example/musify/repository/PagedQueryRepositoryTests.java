@@ -0,0 +1,168 @@
+package com.example.musify.repository;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Artist;
+import com.example.musify.entity.Genre;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.example.musify.repository.PagedQueryRepositoryTests$SqlCaptor"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PagedQueryRepositoryTests {
+    private static final int ROWS = 6;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+    @Autowired
+    private ArtistRepository artistRepository;
+    @Autowired
+    private GenreRepository genreRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Genre genre1;
+
+    public static class SqlCaptor implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        genre1 = Genre.builder()
+                .name("Test Genre")
+                .slug("test-genre")
+                .build();
+        genreRepository.save(genre1);
+
+        for (int i = 0; i < ROWS; i++) {
+            Artist artist = Artist.builder()
+                    .createdAt(Instant.now())
+                    .formedYear(Year.of(1990 + i))
+                    .artistGenres(new HashSet<>(Set.of(genre1)))
+                    .name("Artist " + i)
+                    .slug("artist-" + i)
+                    .build();
+            artistRepository.save(artist);
+
+            albumRepository.save(Album.builder()
+                    .title("Album " + i)
+                    .artist(artist)
+                    .albumGenres(new HashSet<>(Set.of(genre1)))
+                    .slug("album-" + i)
+                    .originCountry("country")
+                    .createdAt(Instant.now())
+                    .rating(1.0 + i % 4)
+                    .build());
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics().clear();
+        SqlCaptor.statements.clear();
+    }
+
+    @Test
+    void testFindAllAlbums_PagesInSql() {
+        Page<Album> page = albumRepository.findAll(PageRequest.of(1, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE).doesNotContainNull();
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+        assertThat(page.getContent()).allSatisfy(album ->
+                assertThat(album.getAlbumGenres()).extracting(Genre::getSlug).containsExactly(genre1.getSlug()));
+        assertThat(SqlCaptor.statements).anyMatch(sql -> isPaged(sql, "albums"));
+        assertThat(statistics().getEntityStatistics(Album.class.getName()).getLoadCount()).isLessThanOrEqualTo(PAGE_SIZE);
+    }
+
+    @Test
+    void testFindAllArtists_PagesInSql() {
+        Page<Artist> page = artistRepository.findAll(PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).extracting(Artist::getName).containsExactly("Artist 0", "Artist 1");
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+        assertThat(SqlCaptor.statements).anyMatch(sql -> isPaged(sql, "artists"));
+        assertThat(statistics().getEntityStatistics(Artist.class.getName()).getLoadCount()).isLessThanOrEqualTo(PAGE_SIZE);
+    }
+
+    @Test
+    void testFindArtistsByGenre_PagesInSql() {
+        Page<Artist> page = artistRepository.findByGenre(genre1.getSlug(), PageRequest.of(2, PAGE_SIZE));
+
+        assertThat(page.getContent()).extracting(Artist::getName).containsExactly("Artist 4", "Artist 5");
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+        assertThat(SqlCaptor.statements).anyMatch(sql -> isPaged(sql, "artists"));
+        assertThat(statistics().getEntityStatistics(Artist.class.getName()).getLoadCount()).isLessThanOrEqualTo(PAGE_SIZE);
+    }
+
+    @Test
+    void testFindAlbumDtos_SkipsEntityHydration() {
+        Page<AlbumDto> page = albumRepository.findAlbumDtos(PageRequest.of(0, PAGE_SIZE));
+        albumRepository.fillGenres(page.getContent());
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+        assertThat(page.getContent()).allSatisfy(album -> {
+            assertThat(album.getArtistName()).startsWith("Artist ");
+            assertThat(album.getGenres()).extracting(Genre::getSlug).containsExactly(genre1.getSlug());
+        });
+        assertThat(SqlCaptor.statements).anyMatch(sql -> isPaged(sql, "albums"));
+        assertThat(statistics().getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void testFindAlbumDtosAfter_KeysetPagesCoverEveryAlbumOnce() {
+        List<UUID> ids = new ArrayList<>();
+        List<AlbumDto> page = albumRepository.findFirstAlbumDtos(PageRequest.of(0, PAGE_SIZE));
+        while (!page.isEmpty()) {
+            page.forEach(album -> ids.add(album.getId()));
+            page = albumRepository.findAlbumDtosAfter(page.get(page.size() - 1).getId(), PageRequest.of(0, PAGE_SIZE));
+        }
+
+        assertThat(ids).hasSize(ROWS).doesNotHaveDuplicates();
+        assertThat(statistics().getEntityLoadCount()).isZero();
+    }
+
+    private static boolean isPaged(String sql, String table) {
+        String normalized = sql.toLowerCase();
+        return normalized.contains("from " + table)
+                && (normalized.contains(" limit ") || normalized.contains(" fetch first "));
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -178,6 +178,19 @@ public class ReviewRepositoryTests {
         assertThat(recentReviews.getContent().size()).isGreaterThan(0);
     }
 
+    @Test
+    void testFindByCreatedAtCursor() {
+        Pageable pageable = PageRequest.of(0, 1);
+
+        List<Review> firstPage = reviewRepository.findFirstByCreatedAtCursor(pageable);
+        List<Review> secondPage = reviewRepository.findAfterCreatedAtCursor(
+                firstPage.get(0).getCreatedAt(), firstPage.get(0).getId(), pageable);
+
+        assertThat(firstPage).hasSize(1);
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0)).isNotEqualTo(firstPage.get(0));
+    }
+
     @Test
     void testExistsReviewByAlbumAndUser() {
         Boolean existsReview = reviewRepository.existsReviewByAlbumAndUser(album1, user1);
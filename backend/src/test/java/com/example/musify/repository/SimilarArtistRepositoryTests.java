@@ -0,0 +1,84 @@
+package com.example.musify.repository;
+
+import com.example.musify.dto.response.SimilarArtistDto;
+import com.example.musify.dto.response.SimilarArtistEntryDto;
+import com.example.musify.entity.Artist;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.Year;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class SimilarArtistRepositoryTests {
+    @Autowired
+    private SimilarArtistRepository similarArtistRepository;
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    private Artist artist1;
+    private Artist artist2;
+    private Artist artist3;
+
+    @BeforeEach
+    void setup() {
+        artist1 = artistRepository.save(artist("Artist 1", "artist-1"));
+        artist2 = artistRepository.save(artist("Artist 2", "artist-2"));
+        artist3 = artistRepository.save(artist("Artist 3", "artist-3"));
+        artistRepository.flush();
+
+        similarArtistRepository.replaceAllSimilarArtists(List.of(
+                new SimilarArtistEntryDto(artist1.getId(), artist2.getId(), 0.8, 0),
+                new SimilarArtistEntryDto(artist1.getId(), artist3.getId(), 0.3, 1),
+                new SimilarArtistEntryDto(artist2.getId(), artist1.getId(), 0.8, 0)));
+    }
+
+    private static Artist artist(String name, String slug) {
+        return Artist.builder()
+                .createdAt(Instant.now())
+                .formedYear(Year.of(1999))
+                .originCountry("country")
+                .name(name)
+                .slug(slug)
+                .build();
+    }
+
+    @Test
+    void testFindSimilarArtists_OrderedByPosition() {
+        List<SimilarArtistDto> similarArtists = similarArtistRepository
+                .findSimilarArtists("artist-1", PageRequest.of(0, 10));
+
+        assertThat(similarArtists).extracting(SimilarArtistDto::getSlug)
+                .containsExactly("artist-2", "artist-3");
+        assertThat(similarArtists.get(0).getScore()).isEqualTo(0.8);
+        assertThat(similarArtistRepository.findSimilarArtists("artist-1", PageRequest.of(0, 1))).hasSize(1);
+    }
+
+    @Test
+    void testReplaceSimilarArtists_OnlyTouchesGivenArtists() {
+        similarArtistRepository.replaceSimilarArtists(List.of(artist1.getId()), List.of(
+                new SimilarArtistEntryDto(artist1.getId(), artist3.getId(), 0.9, 0)));
+
+        assertThat(similarArtistRepository.findSimilarArtists("artist-1", PageRequest.of(0, 10)))
+                .extracting(SimilarArtistDto::getSlug)
+                .containsExactly("artist-3");
+        assertThat(similarArtistRepository.findSimilarArtists("artist-2", PageRequest.of(0, 10)))
+                .extracting(SimilarArtistDto::getSlug)
+                .containsExactly("artist-1");
+    }
+
+    @Test
+    void testReplaceAllSimilarArtists_ClearsPreviousRows() {
+        similarArtistRepository.replaceAllSimilarArtists(List.of());
+
+        assertThat(similarArtistRepository.count()).isZero();
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.musify.repository;
 
+import com.example.musify.dto.response.RevokedTokenEntryDto;
+import com.example.musify.dto.response.UserRevocationEntryDto;
 import com.example.musify.entity.Token;
 import com.example.musify.entity.User;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,8 +28,12 @@ public class TokenRepositoryTests {
     private TokenRepository tokenRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     private User user1;
+    private User user2;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
 
     @BeforeEach
     void setup() {
@@ -31,18 +42,29 @@ public class TokenRepositoryTests {
                 .email("user@test.com")
                 .password("password")
                 .build();
+        user2 = User.builder()
+                .username("testuser2")
+                .email("user2@test.com")
+                .password("password")
+                .build();
 
-        userRepository.save(user1);
+        userRepository.saveAll(List.of(user1, user2));
+    }
+
+    private Token token(User user, Instant expiresAt, boolean revoked) {
+        return Token.builder()
+                .tokenHash(UUID.randomUUID().toString().replace("-", "").repeat(2))
+                .jti(UUID.randomUUID())
+                .expiresAt(expiresAt)
+                .expired(revoked)
+                .revoked(revoked)
+                .user(user)
+                .build();
     }
 
     @Test
     void testSaveToken() {
-        Token newToken = Token.builder()
-                .token(UUID.randomUUID().toString())
-                .expired(false)
-                .revoked(false)
-                .user(user1)
-                .build();
+        Token newToken = token(user1, now.plus(Duration.ofHours(1)), false);
 
         tokenRepository.save(newToken);
 
@@ -63,8 +85,8 @@ public class TokenRepositoryTests {
         long tokensCountBeforeSave = tokenRepository.count();
 
         List<Token> tokensToSave = List.of(
-                Token.builder().token(UUID.randomUUID().toString()).expired(false).revoked(false).user(user1).build(),
-                Token.builder().token(UUID.randomUUID().toString()).expired(false).revoked(false).user(user1).build()
+                token(user1, now.plus(Duration.ofHours(1)), false),
+                token(user1, now.plus(Duration.ofHours(1)), false)
         );
 
         tokenRepository.saveAll(tokensToSave);
@@ -76,17 +98,12 @@ public class TokenRepositoryTests {
     }
 
     @Test
-    void testFindByToken() {
-        Token savedToken = Token.builder()
-                .token(UUID.randomUUID().toString())
-                .expired(false)
-                .revoked(false)
-                .user(user1)
-                .build();
+    void testFindByTokenHash() {
+        Token savedToken = token(user1, now.plus(Duration.ofHours(1)), false);
 
         tokenRepository.save(savedToken);
 
-        Optional<Token> optionalToken = tokenRepository.findByToken(savedToken.getToken());
+        Optional<Token> optionalToken = tokenRepository.findByTokenHash(savedToken.getTokenHash());
 
         assertThat(optionalToken).isPresent();
 
@@ -99,18 +116,84 @@ public class TokenRepositoryTests {
     }
 
     @Test
-    void testFindAllValidTokensByUser() {
-        List<Token> tokens = List.of(
-                Token.builder().token(UUID.randomUUID().toString()).expired(false).revoked(false).user(user1).build(),
-                Token.builder().token(UUID.randomUUID().toString()).expired(false).revoked(false).user(user1).build(),
-                Token.builder().token(UUID.randomUUID().toString()).expired(true).revoked(true).user(user1).build()
-        );
+    void testFindValidTokenHashesByUser() {
+        Token valid1 = token(user1, now.plus(Duration.ofHours(1)), false);
+        Token valid2 = token(user1, now.plus(Duration.ofHours(1)), false);
+
+        tokenRepository.saveAll(List.of(valid1, valid2, token(user1, now, true),
+                token(user2, now.plus(Duration.ofHours(1)), false)));
+
+        List<String> tokenHashes = tokenRepository.findValidTokenHashesByUser(user1.getId());
+
+        assertThat(tokenHashes).containsExactlyInAnyOrder(valid1.getTokenHash(), valid2.getTokenHash());
+    }
+
+    @Test
+    void testRevokeAllByUser_RevokesOnlyTokensOfUser() {
+        Token token1 = token(user1, now.plus(Duration.ofHours(1)), false);
+        Token token2 = token(user1, now.plus(Duration.ofHours(1)), false);
+        Token otherToken = token(user2, now.plus(Duration.ofHours(1)), false);
+        tokenRepository.saveAll(List.of(token1, token2, otherToken));
+        tokenRepository.flush();
+
+        int revoked = tokenRepository.revokeAllByUser(user1.getId());
+        entityManager.clear();
+
+        assertThat(revoked).isEqualTo(2);
+        Token revokedToken = tokenRepository.findById(token1.getId()).orElseThrow();
+        assertThat(revokedToken.isRevoked()).isTrue();
+        assertThat(revokedToken.getExpiresAt()).isEqualTo(now.plus(Duration.ofHours(1)));
+        assertThat(tokenRepository.findById(otherToken.getId()).orElseThrow().isRevoked()).isFalse();
+        assertThat(tokenRepository.findValidTokenHashesByUser(user1.getId())).isEmpty();
+    }
+
+    @Test
+    void testFindRevokedTokenEntries_OnlyUnexpired() {
+        Token revoked = token(user1, now.plus(Duration.ofHours(1)), true);
+        tokenRepository.saveAll(List.of(revoked, token(user1, now.minus(Duration.ofHours(1)), true),
+                token(user2, now.plus(Duration.ofHours(1)), false)));
+
+        List<RevokedTokenEntryDto> entries = tokenRepository.findRevokedTokenEntries(now);
+
+        assertThat(entries).extracting(RevokedTokenEntryDto::getJti).containsExactly(revoked.getJti());
+        assertThat(entries.get(0).getExpiresAt()).isEqualTo(revoked.getExpiresAt());
+    }
+
+    @Test
+    void testFindUserRevocationEntries_LatestExpiryAndCurrentVersion() {
+        user1.setTokenVersion(3);
+        userRepository.save(user1);
+        tokenRepository.saveAll(List.of(token(user1, now.plus(Duration.ofHours(1)), true),
+                token(user1, now.plus(Duration.ofHours(2)), true),
+                token(user1, now.plus(Duration.ofHours(5)), false),
+                token(user2, now.minus(Duration.ofHours(1)), true)));
+
+        List<UserRevocationEntryDto> entries = tokenRepository.findUserRevocationEntries(now);
+
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getUserId()).isEqualTo(user1.getId());
+        assertThat(entries.get(0).getTokenVersion()).isEqualTo(3);
+        assertThat(entries.get(0).getExpiresAt()).isEqualTo(now.plus(Duration.ofHours(2)));
+    }
+
+    @Test
+    void testFindExpiredTokenIds_AndDeleteByIdIn() {
+        Token valid = token(user1, now.plus(Duration.ofHours(1)), false);
+        Token expired1 = token(user1, now.minus(Duration.ofHours(1)), false);
+        Token expired2 = token(user1, now.minus(Duration.ofHours(2)), true);
+        Token expired3 = token(user2, now.minus(Duration.ofHours(3)), false);
+        tokenRepository.saveAll(List.of(valid, expired1, expired2, expired3));
+        tokenRepository.flush();
+
+        List<UUID> batch = tokenRepository.findExpiredTokenIds(now, PageRequest.of(0, 2));
 
-        tokenRepository.saveAll(tokens);
+        assertThat(batch).hasSize(2).isSubsetOf(expired1.getId(), expired2.getId(), expired3.getId());
+        assertThat(tokenRepository.findExpiredTokenIds(now, PageRequest.of(0, 10)))
+                .containsExactlyInAnyOrder(expired1.getId(), expired2.getId(), expired3.getId());
 
-        List<Token> userTokens = tokenRepository.findAllValidTokensByUser(user1.getId());
+        assertThat(tokenRepository.deleteByIdIn(batch)).isEqualTo(2);
+        entityManager.clear();
 
-        assertThat(userTokens).isNotNull();
-        assertThat(userTokens.size()).isEqualTo(2);
+        assertThat(tokenRepository.findAll()).hasSize(2).extracting(Token::getId).contains(valid.getId());
     }
 }
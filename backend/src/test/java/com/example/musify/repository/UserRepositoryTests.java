@@ -112,4 +112,14 @@ public class UserRepositoryTests {
         assertThrows(ResourceNotFoundException.class, () -> userRepository.findById(nonExistentId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found.")));
     }
+
+    @Test
+    void testIncrementTokenVersion() {
+        userRepository.flush();
+
+        userRepository.incrementTokenVersion(user1.getId());
+        userRepository.incrementTokenVersion(user1.getId());
+
+        assertThat(userRepository.findTokenVersion(user1.getId())).isEqualTo(2);
+    }
 }
@@ -9,6 +9,7 @@ import com.example.musify.entity.AlbumList;
 import com.example.musify.entity.Artist;
 import com.example.musify.entity.User;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.AlbumListRepository;
 import com.example.musify.repository.AlbumRepository;
 import com.example.musify.repository.ArtistRepository;
@@ -21,7 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 
 import java.time.Instant;
 import java.time.Year;
@@ -48,7 +49,7 @@ public class AlbumListServiceTests {
     @Mock
     private IUtilService utilService;
     @Spy
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper = Mappers.getMapper(DtoMapper.class);
 
     @InjectMocks
     private AlbumListServiceImpl albumListService;
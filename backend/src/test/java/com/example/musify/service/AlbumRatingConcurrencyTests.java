@@ -0,0 +1,147 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.request.RateAlbumDto;
+import com.example.musify.entity.*;
+import com.example.musify.mapper.DtoMapperImpl;
+import com.example.musify.repository.*;
+import com.example.musify.service.impl.AlbumServiceImpl;
+import com.example.musify.service.impl.CatalogCacheServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.Year;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AlbumServiceImpl.class, CatalogCacheServiceImpl.class, DtoMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class AlbumRatingConcurrencyTests {
+    private static final int USERS = 50;
+    private static final int RATINGS_PER_USER = 10;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private IAlbumService albumService;
+    @Autowired
+    private AlbumRepository albumRepository;
+    @Autowired
+    private AlbumRatingRepository albumRatingRepository;
+    @Autowired
+    private ArtistRepository artistRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private IFileUploadService fileUploadService;
+    @MockBean
+    private IUtilService utilService;
+    @MockBean
+    private ISearchService searchService;
+    @MockBean
+    private IAutocompleteService autocompleteService;
+    @MockBean
+    private IRecommendationService recommendationService;
+    @MockBean
+    private IFeedService feedService;
+    @MockBean
+    private IChartService chartService;
+
+    private final ThreadLocal<User> currentUser = new ThreadLocal<>();
+
+    private Album album;
+    private List<User> users;
+
+    @BeforeEach
+    void setup() {
+        Artist artist = artistRepository.save(Artist.builder()
+                .createdAt(Instant.now())
+                .formedYear(Year.of(1999))
+                .name("Concurrency Artist")
+                .slug("concurrency-artist")
+                .build());
+
+        album = albumRepository.save(Album.builder()
+                .title("Concurrency Album")
+                .artist(artist)
+                .slug("concurrency-album")
+                .originCountry("country")
+                .createdAt(Instant.now())
+                .build());
+
+        users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .username("concurrency-user-" + i)
+                    .email("concurrency-user-" + i + "@test.com")
+                    .password("password")
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        given(utilService.getCurrentUser()).willAnswer(invocation -> currentUser.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        albumRatingRepository.deleteAll();
+        albumRepository.deleteAll();
+        artistRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testRateAlbum_WhenRatedConcurrently_KeepsExactAggregates() throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+
+        for (User user : users) {
+            for (int i = 0; i < RATINGS_PER_USER; i++) {
+                double rating = 1.0 + ((user.getUsername().hashCode() & 0x7fffffff) + i) % 5;
+                tasks.add(() -> {
+                    currentUser.set(user);
+                    try {
+                        albumService.rateAlbum(RateAlbumDto.builder().rating(rating).build(), album.getId());
+                    } finally {
+                        currentUser.remove();
+                    }
+                    return null;
+                });
+            }
+        }
+        Collections.shuffle(tasks, new Random(42));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Album result = albumRepository.findById(album.getId()).orElseThrow();
+        double expectedSum = albumRatingRepository.findAll().stream()
+                .mapToDouble(AlbumRating::getRating)
+                .sum();
+
+        assertThat(albumRatingRepository.countAlbumRatingsByAlbum(result)).isEqualTo((long) USERS);
+        assertThat(result.getRatingCount()).isEqualTo((long) USERS);
+        assertThat(result.getRatingSum()).isEqualTo(expectedSum);
+        assertThat(result.getRating()).isCloseTo(expectedSum / USERS, within(1e-9));
+        assertThat(albumRatingRepository.findMismatchedRatingAggregates()).isEmpty();
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.musify.service;
 
+import com.example.musify.dto.request.ImportAlbumRatingDto;
 import com.example.musify.dto.response.*;
 import com.example.musify.entity.*;
+import com.example.musify.enumeration.ESuggestionType;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.*;
 import com.example.musify.service.impl.AlbumRatingServiceImpl;
+import com.example.musify.service.impl.CatalogCacheServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,13 +16,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Pageable;
 
 import java.time.Instant;
 import java.time.Year;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -39,8 +46,12 @@ public class AlbumRatingServiceTests {
     private GenreRepository genreRepository;
     @Mock
     private IUtilService utilService;
+    @Mock
+    private IAutocompleteService autocompleteService;
+    @Spy
+    private ICatalogCacheService catalogCacheService = new CatalogCacheServiceImpl(100, 60000);
     @Spy
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper = Mappers.getMapper(DtoMapper.class);
 
     @InjectMocks
     private AlbumRatingServiceImpl albumRatingService;
@@ -95,9 +106,9 @@ public class AlbumRatingServiceTests {
 
     @Test
     void testGetAlbumRating_Success() {
+        album1.setRatingCount(1L);
+        album1.setRatingSum(4.5);
         given(albumRepository.findById(album1.getId())).willReturn(Optional.of(album1));
-        given(albumRatingRepository.countAlbumRatingsByAlbum(album1)).willReturn(1L);
-        given(albumRatingRepository.averageAlbumRatingByAlbum(album1)).willReturn(album1.getRating());
 
         AlbumRatingStatsDto result = albumRatingService.getAlbumRating(album1.getId());
 
@@ -107,8 +118,8 @@ public class AlbumRatingServiceTests {
         assertThat(result.getTotalRatings()).isEqualTo(1);
 
         verify(albumRepository, times(1)).findById(album1.getId());
-        verify(albumRatingRepository, times(1)).countAlbumRatingsByAlbum(album1);
-        verify(albumRatingRepository, times(1)).averageAlbumRatingByAlbum(album1);
+        verify(albumRatingRepository, never()).countAlbumRatingsByAlbum(album1);
+        verify(albumRatingRepository, never()).averageAlbumRatingByAlbum(album1);
     }
 
     @Test
@@ -125,7 +136,8 @@ public class AlbumRatingServiceTests {
 
     @Test
     void testGetMostRecentAlbumRatings() {
-        given(albumRatingRepository.findMostRecentRatings(any(Pageable.class))).willReturn(List.of(albumRating1));
+        RecentAlbumRatingDto recentRating = dtoMapper.toRecentAlbumRatingDto(albumRating1);
+        given(albumRatingRepository.findMostRecentRatingDtos(any(Pageable.class))).willReturn(List.of(recentRating));
 
         List<RecentAlbumRatingDto> result = albumRatingService.getMostRecentAlbumRatings();
 
@@ -133,12 +145,14 @@ public class AlbumRatingServiceTests {
         assertThat(result.size()).isEqualTo(1);
         assertThat(result.get(0)).isInstanceOf(RecentAlbumRatingDto.class);
 
-        verify(albumRatingRepository, times(1)).findMostRecentRatings(any(Pageable.class));
+        verify(albumRatingRepository, times(1)).findMostRecentRatingDtos(any(Pageable.class));
+        verify(albumRatingRepository, never()).findMostRecentRatings(any(Pageable.class));
     }
 
     @Test
     void testGetAlbumRatingsByUser() {
-        given(albumRatingRepository.findByUser(user1.getId())).willReturn(List.of(albumRating1));
+        AlbumRatingSummaryDto summary = dtoMapper.toAlbumRatingSummaryDto(albumRating1);
+        given(albumRatingRepository.findSummariesByUser(user1.getId())).willReturn(List.of(summary));
 
         List<AlbumRatingSummaryDto> result = albumRatingService.getAlbumRatingsByUser(user1.getId());
 
@@ -146,7 +160,8 @@ public class AlbumRatingServiceTests {
         assertThat(result.size()).isEqualTo(1);
         assertThat(result.get(0)).isInstanceOf(AlbumRatingSummaryDto.class);
 
-        verify(albumRatingRepository, times(1)).findByUser(user1.getId());
+        verify(albumRatingRepository, times(1)).findSummariesByUser(user1.getId());
+        verify(albumRatingRepository, never()).findByUser(user1.getId());
     }
 
     @Test
@@ -204,4 +219,64 @@ public class AlbumRatingServiceTests {
         verify(userRepository, times(1)).findByUsername(user1.getUsername());
         verify(albumRatingRepository, never()).getUserGenreOverview(eq(user1.getUsername()), any(Pageable.class));
     }
+
+    @Test
+    void testReconcileAlbumRatings() {
+        AlbumRatingAggregateDto aggregate = new AlbumRatingAggregateDto(album1.getId(), 2L, 9.0);
+        given(albumRatingRepository.findMismatchedRatingAggregates()).willReturn(List.of(aggregate));
+        given(albumRepository.findSuggestionsByIdIn(Collections.singletonList(album1.getId()))).willReturn(List.of(
+                new SuggestionDto(ESuggestionType.ALBUM, album1.getId(), album1.getTitle(), album1.getSlug(), null, 2L)));
+
+        int result = albumRatingService.reconcileAlbumRatings();
+
+        assertThat(result).isEqualTo(1);
+
+        verify(albumRepository, times(1)).recomputeRatingAggregates(Collections.singletonList(album1.getId()));
+        verify(autocompleteService, times(1)).setPopularity(ESuggestionType.ALBUM, album1.getId(), 2L);
+    }
+
+    @Test
+    void testImportAlbumRatings_DedupesAndSkipsUnknownIds() {
+        UUID userId = UUID.randomUUID();
+        UUID albumId = UUID.randomUUID();
+        UUID unknownAlbumId = UUID.randomUUID();
+
+        ImportAlbumRatingDto firstRating = new ImportAlbumRatingDto(userId, albumId, 3.0);
+        ImportAlbumRatingDto latestRating = new ImportAlbumRatingDto(userId, albumId, 4.5);
+        ImportAlbumRatingDto unknownAlbumRating = new ImportAlbumRatingDto(userId, unknownAlbumId, 2.0);
+
+        given(userRepository.findExistingIds(List.of(userId))).willReturn(List.of(userId));
+        given(albumRepository.findExistingIdsForUpdate(Stream.of(albumId, unknownAlbumId).sorted().toList()))
+                .willReturn(List.of(albumId));
+        given(albumRatingRepository.upsertRatings(List.of(latestRating))).willReturn(1);
+
+        AlbumRatingImportDto result = albumRatingService.importAlbumRatings(
+                Stream.of(firstRating, latestRating, unknownAlbumRating));
+
+        assertThat(result.getReceived()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getAlbumsUpdated()).isEqualTo(1);
+
+        verify(albumRepository, times(1)).recomputeRatingAggregates(List.of(albumId));
+    }
+
+    @Test
+    void testImportAlbumRatings_WhenNothingValid_SkipsWrites() {
+        UUID userId = UUID.randomUUID();
+        UUID albumId = UUID.randomUUID();
+
+        given(userRepository.findExistingIds(List.of(userId))).willReturn(List.of());
+        given(albumRepository.findExistingIdsForUpdate(List.of(albumId))).willReturn(List.of(albumId));
+
+        AlbumRatingImportDto result = albumRatingService.importAlbumRatings(
+                Stream.of(new ImportAlbumRatingDto(userId, albumId, 3.0)));
+
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getSkipped()).isEqualTo(1);
+
+        verify(albumRatingRepository, never()).upsertRatings(any());
+        verify(albumRepository, never()).recomputeRatingAggregates(any());
+    }
 }
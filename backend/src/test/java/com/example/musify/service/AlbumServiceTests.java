@@ -6,12 +6,17 @@ import com.example.musify.dto.request.RateAlbumDto;
 import com.example.musify.dto.request.UpdateAlbumDto;
 import com.example.musify.dto.request.UserIdDto;
 import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.RecentAlbumDto;
 import com.example.musify.entity.*;
+import com.example.musify.exception.ResourceAlreadyExistsException;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.*;
 import com.example.musify.service.impl.AlbumServiceImpl;
+import com.example.musify.service.impl.CatalogCacheServiceImpl;
+import com.example.musify.util.CursorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,7 +24,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,6 +34,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.Year;
 import java.util.*;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -52,8 +59,20 @@ public class AlbumServiceTests {
     private IUtilService utilService;
     @Mock
     private IFileUploadService fileUploadService;
+    @Mock
+    private ISearchService searchService;
+    @Mock
+    private IAutocompleteService autocompleteService;
+    @Mock
+    private IRecommendationService recommendationService;
+    @Mock
+    private IFeedService feedService;
+    @Mock
+    private IChartService chartService;
+    @Spy
+    private ICatalogCacheService catalogCacheService = new CatalogCacheServiceImpl(100, 60000);
     @Spy
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper = Mappers.getMapper(DtoMapper.class);
 
     @InjectMocks
     private AlbumServiceImpl albumService;
@@ -125,7 +144,10 @@ public class AlbumServiceTests {
 
     @Test
     void testGetAlbums() {
-        given(albumRepository.findAll(any(Pageable.class))).willReturn(new PageImpl<>(List.of(album1)));
+        AlbumDto albumDto = new AlbumDto(album1.getId(), album1.getTitle(), album1.getOriginCountry(),
+                album1.getReleaseDate(), album1.getRating(), album1.getImage(), album1.getImageStatus(), album1.getSlug(),
+                artist1.getId(), artist1.getName(), artist1.getSlug());
+        given(albumRepository.findAlbumDtos(any(Pageable.class))).willReturn(new PageImpl<>(List.of(albumDto)));
 
         PageDto<AlbumDto> result = albumService.getAlbums(1);
 
@@ -134,9 +156,48 @@ public class AlbumServiceTests {
         assertThat(result.getTotalPages()).isEqualTo(1);
         assertThat(result.getCurrentPage()).isEqualTo(1);
         assertThat(result.getTotalElements()).isEqualTo(1L);
-        assertThat(result.getContent().get(0)).isInstanceOf(AlbumDto.class);
+        assertThat(result.getContent().get(0).getArtistName()).isEqualTo(artist1.getName());
+
+        verify(albumRepository, times(1)).findAlbumDtos(any(Pageable.class));
+        verify(albumRepository, times(1)).fillGenres(List.of(albumDto));
+        verify(albumRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void testGetAlbumsByCursor_FirstPage() {
+        List<Album> albums = IntStream.range(0, 21)
+                .mapToObj(i -> Album.builder().id(UUID.randomUUID()).title("Album " + i).rating(4.0).build())
+                .toList();
+        given(albumRepository.findFirstByRatingCursor(any(Pageable.class))).willReturn(albums);
 
-        verify(albumRepository, times(1)).findAll(any(Pageable.class));
+        CursorPageDto<AlbumDto> result = albumService.getAlbumsByCursor(null, false);
+
+        assertThat(result.getContent()).hasSize(20);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(CursorUtils.decode(result.getNextCursor()).id()).isEqualTo(albums.get(19).getId());
+
+        verify(albumRepository, never()).count();
+    }
+
+    @Test
+    void testGetAlbumsByCursor_WithCursor() {
+        UUID lastId = UUID.randomUUID();
+        given(albumRepository.findAfterRatingCursor(eq(4.5), eq(lastId), any(Pageable.class)))
+                .willReturn(List.of(album1));
+        given(albumRepository.count()).willReturn(2L);
+
+        CursorPageDto<AlbumDto> result = albumService.getAlbumsByCursor(CursorUtils.encode(4.5, lastId), true);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    void testGetAlbumsByCursor_WhenCursorInvalid_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> albumService.getAlbumsByCursor("not-a-cursor", false));
     }
 
     @Test
@@ -156,6 +217,19 @@ public class AlbumServiceTests {
         verify(albumRepository, times(1)).findByArtistSlugAndAlbumSlug(artist1.getSlug(), album1.getSlug());
     }
 
+    @Test
+    void testGetAlbum_WhenCached_SkipsRepository() {
+        given(albumRepository.findByArtistSlugAndAlbumSlug(artist1.getSlug(), album1.getSlug()))
+                .willReturn(Optional.of(album1));
+
+        AlbumDto first = albumService.getAlbum(artist1.getSlug(), album1.getSlug());
+        AlbumDto second = albumService.getAlbum(artist1.getSlug(), album1.getSlug());
+
+        assertThat(second).isSameAs(first);
+
+        verify(albumRepository, times(1)).findByArtistSlugAndAlbumSlug(artist1.getSlug(), album1.getSlug());
+    }
+
     @Test
     void testGetAlbum_WhenAlbumNotFound_ThrowsResourceNotFoundException() {
         given(albumRepository.findByArtistSlugAndAlbumSlug(artist1.getSlug(), album1.getSlug()))
@@ -250,7 +324,6 @@ public class AlbumServiceTests {
 
         given(artistRepository.findByName(artist1.getName())).willReturn(Optional.of(artist1));
         given(genreRepository.findByNameIn(any())).willReturn(List.of());
-        given(fileUploadService.uploadAlbumImageFile(file)).willReturn("testImageUrl");
         given(albumRepository.save(any(Album.class))).willReturn(album1);
 
         AlbumDto result = albumService.createAlbum(createAlbumDto, file);
@@ -259,7 +332,9 @@ public class AlbumServiceTests {
         assertThat(result).isInstanceOf(AlbumDto.class);
 
         verify(artistRepository, times(1)).findByName(artist1.getName());
-        verify(fileUploadService, times(1)).uploadAlbumImageFile(file);
+        verify(fileUploadService, times(1)).uploadAlbumImageFile(any(Album.class), eq(file));
+        verify(searchService, times(1)).indexAlbum(result);
+        verify(feedService, times(1)).publishAlbum(album1);
     }
 
     @Test
@@ -282,7 +357,7 @@ public class AlbumServiceTests {
         assertThat(result).isInstanceOf(AlbumDto.class);
 
         verify(artistRepository, times(1)).findByName(artist1.getName());
-        verify(fileUploadService, never()).uploadAlbumImageFile(any(MultipartFile.class));
+        verify(fileUploadService, never()).uploadAlbumImageFile(any(Album.class), any(MultipartFile.class));
     }
 
     @Test
@@ -310,22 +385,64 @@ public class AlbumServiceTests {
                 .rating(4.0)
                 .build();
 
+        given(albumRepository.findByIdForUpdate(album1.getId())).willReturn(Optional.of(album1));
         given(albumRepository.findById(album1.getId())).willReturn(Optional.of(album1));
         given(utilService.getCurrentUser()).willReturn(user1);
-        given(albumRatingRepository.findByAlbumAndUser(album1, user1)).willReturn(null);
-        given(albumRatingRepository.averageAlbumRatingByAlbum(album1)).willReturn(rateAlbumDto.getRating());
-        given(albumRepository.save(album1)).willReturn(album1);
+        given(albumRatingRepository.findRatingByUserAndAlbum(user1.getId(), album1.getId())).willReturn(null);
 
         AlbumDto result = albumService.rateAlbum(rateAlbumDto, album1.getId());
 
         assertThat(result).isNotNull();
         assertThat(result).isInstanceOf(AlbumDto.class);
-        assertThat(result.getRating()).isEqualTo(4.0);
 
-        verify(albumRepository, times(1)).findById(album1.getId());
-        verify(albumRatingRepository, times(1)).findByAlbumAndUser(album1, user1);
-        verify(albumRatingRepository, times(1)).averageAlbumRatingByAlbum(album1);
-        verify(albumRepository, times(1)).save(album1);
+        verify(albumRepository, times(1)).findByIdForUpdate(album1.getId());
+        verify(albumRatingRepository, times(1)).insertRating(any(UUID.class), eq(album1.getId()),
+                eq(user1.getId()), eq(4.0));
+        verify(albumRepository, times(1)).incrementRatingAggregate(album1.getId(), 4.0, 1L);
+        verify(albumRatingRepository, never()).averageAlbumRatingByAlbum(album1);
+        verify(recommendationService, times(1)).recordRating(user1.getId(), album1.getId(),
+                album1.getArtist().getId(), 4.0);
+        verify(chartService, times(1)).recordRating(album1, user1.getId(), 4.0, true);
+        verify(albumRepository, never()).save(album1);
+    }
+
+    @Test
+    void testRateAlbum_WhenAlreadyRated_AppliesRatingDelta() {
+        RateAlbumDto rateAlbumDto = RateAlbumDto.builder()
+                .rating(3.0)
+                .build();
+
+        given(albumRepository.findByIdForUpdate(album1.getId())).willReturn(Optional.of(album1));
+        given(albumRepository.findById(album1.getId())).willReturn(Optional.of(album1));
+        given(utilService.getCurrentUser()).willReturn(user1);
+        given(albumRatingRepository.findRatingByUserAndAlbum(user1.getId(), album1.getId())).willReturn(5.0);
+
+        AlbumDto result = albumService.rateAlbum(rateAlbumDto, album1.getId());
+
+        assertThat(result).isNotNull();
+
+        verify(albumRatingRepository, times(1)).updateRating(album1.getId(), user1.getId(), 3.0);
+        verify(albumRepository, times(1)).incrementRatingAggregate(album1.getId(), -2.0, 0L);
+        verify(albumRatingRepository, never()).insertRating(any(), any(), any(), any());
+        verify(chartService, times(1)).recordRating(album1, user1.getId(), 3.0, false);
+    }
+
+    @Test
+    void testRateAlbum_WhenInsertConflicts_ThrowsResourceAlreadyExistsException() {
+        RateAlbumDto rateAlbumDto = RateAlbumDto.builder()
+                .rating(3.0)
+                .build();
+
+        given(albumRepository.findByIdForUpdate(album1.getId())).willReturn(Optional.of(album1));
+        given(utilService.getCurrentUser()).willReturn(user1);
+        given(albumRatingRepository.findRatingByUserAndAlbum(user1.getId(), album1.getId())).willReturn(null);
+        given(albumRatingRepository.insertRating(any(UUID.class), eq(album1.getId()), eq(user1.getId()), eq(3.0)))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThrows(ResourceAlreadyExistsException.class, () ->
+                albumService.rateAlbum(rateAlbumDto, album1.getId()));
+
+        verify(albumRepository, never()).incrementRatingAggregate(any(), any(), any());
     }
 
     @Test
@@ -334,15 +451,44 @@ public class AlbumServiceTests {
                 .rating(4.0)
                 .build();
 
-        given(albumRepository.findById(album1.getId())).willReturn(Optional.empty());
+        given(albumRepository.findByIdForUpdate(album1.getId())).willReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () ->
                 albumService.rateAlbum(rateAlbumDto, album1.getId()));
 
-        verify(albumRepository, times(1)).findById(album1.getId());
+        verify(albumRepository, times(1)).findByIdForUpdate(album1.getId());
         verify(albumRepository, never()).save(album1);
     }
 
+    @Test
+    void testDeleteAlbumRating_Success() {
+        given(albumRepository.findByIdForUpdate(album1.getId())).willReturn(Optional.of(album1));
+        given(albumRepository.findById(album1.getId())).willReturn(Optional.of(album1));
+        given(utilService.getCurrentUser()).willReturn(user1);
+        given(albumRatingRepository.findRatingByUserAndAlbum(user1.getId(), album1.getId())).willReturn(5.0);
+
+        AlbumDto result = albumService.deleteAlbumRating(album1.getId());
+
+        assertThat(result).isNotNull();
+
+        verify(albumRatingRepository, times(1)).deleteRating(album1.getId(), user1.getId());
+        verify(albumRepository, times(1)).incrementRatingAggregate(album1.getId(), -5.0, -1L);
+        verify(chartService, times(1)).removeRating(album1, user1.getId());
+    }
+
+    @Test
+    void testDeleteAlbumRating_WhenRatingNotFound_ThrowsResourceNotFoundException() {
+        given(albumRepository.findByIdForUpdate(album1.getId())).willReturn(Optional.of(album1));
+        given(utilService.getCurrentUser()).willReturn(user1);
+        given(albumRatingRepository.findRatingByUserAndAlbum(user1.getId(), album1.getId())).willReturn(null);
+
+        assertThrows(ResourceNotFoundException.class, () ->
+                albumService.deleteAlbumRating(album1.getId()));
+
+        verify(albumRatingRepository, never()).deleteRating(any(), any());
+        verify(albumRepository, never()).incrementRatingAggregate(any(), any(), any());
+    }
+
     @Test
     void testAddAlbumToList_Success() {
         AlbumList albumList2 = AlbumList.builder()
@@ -482,7 +628,6 @@ public class AlbumServiceTests {
 
         given(albumRepository.findById(album1.getId())).willReturn(Optional.of(album1));
         given(genreRepository.findByName(anyString())).willReturn(Optional.empty());
-        given(fileUploadService.uploadAlbumImageFile(file)).willReturn("testImageUrl");
 
         AlbumDto result = albumService.updateAlbum(updateAlbumDto, file, album1.getId());
 
@@ -493,6 +638,8 @@ public class AlbumServiceTests {
 
         verify(albumRepository,times(1)).findById(album1.getId());
         verify(genreRepository,times(1)).findByName(anyString());
+        verify(fileUploadService, times(1)).uploadAlbumImageFile(album1, file);
+        verify(chartService, times(1)).indexAlbum(album1);
     }
 
     @Test
@@ -518,6 +665,26 @@ public class AlbumServiceTests {
         verify(genreRepository,times(1)).findByName(anyString());
     }
 
+    @Test
+    void testUpdateAlbum_EvictsCachedAlbum() throws IOException {
+        String oldSlug = album1.getSlug();
+        UpdateAlbumDto updateAlbumDto = UpdateAlbumDto.builder()
+                .title("New Title")
+                .slug("new-title")
+                .build();
+
+        given(albumRepository.findByArtistSlugAndAlbumSlug(artist1.getSlug(), oldSlug))
+                .willReturn(Optional.of(album1));
+        given(albumRepository.findById(album1.getId())).willReturn(Optional.of(album1));
+
+        albumService.getAlbum(artist1.getSlug(), oldSlug);
+        albumService.updateAlbum(updateAlbumDto, null, album1.getId());
+        albumService.getAlbum(artist1.getSlug(), oldSlug);
+
+        verify(catalogCacheService, times(1)).evictAlbum(artist1.getSlug(), oldSlug);
+        verify(albumRepository, times(2)).findByArtistSlugAndAlbumSlug(artist1.getSlug(), oldSlug);
+    }
+
     @Test
     void testUpdateAlbum_WhenAlbumNotFound_ThrowsResourceNotFoundException() throws IOException {
         UpdateAlbumDto updateAlbumDto = UpdateAlbumDto.builder()
@@ -548,6 +715,8 @@ public class AlbumServiceTests {
         assertThat(result).isInstanceOf(MessageDto.class);
         assertThat( result.getMessage()).isEqualTo("Album deleted.");
         verify(albumRepository, times(1)).deleteById(album1.getId());
+        verify(searchService, times(1)).removeAlbum(album1.getId());
+        verify(chartService, times(1)).removeAlbum(album1.getId());
     }
 
     @Test
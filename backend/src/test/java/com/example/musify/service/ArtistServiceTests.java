@@ -4,16 +4,20 @@ import com.example.musify.auth.dto.response.MessageDto;
 import com.example.musify.dto.request.CreateArtistDto;
 import com.example.musify.dto.request.UpdateArtistDto;
 import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.RecentArtistDto;
 import com.example.musify.entity.Artist;
 import com.example.musify.entity.Genre;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.AlbumListRepository;
 import com.example.musify.repository.AlbumRepository;
 import com.example.musify.repository.ArtistRepository;
 import com.example.musify.repository.GenreRepository;
 import com.example.musify.service.impl.ArtistServiceImpl;
+import com.example.musify.service.impl.CatalogCacheServiceImpl;
+import com.example.musify.util.CursorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,7 +25,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,6 +36,7 @@ import java.time.Year;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -50,8 +55,18 @@ public class ArtistServiceTests {
     private AlbumRepository albumRepository;
     @Mock
     private IFileUploadService fileUploadService;
+    @Mock
+    private ISearchService searchService;
+    @Mock
+    private IAutocompleteService autocompleteService;
+    @Mock
+    private ISimilarArtistService similarArtistService;
+    @Mock
+    private IFeedService feedService;
+    @Spy
+    private ICatalogCacheService catalogCacheService = new CatalogCacheServiceImpl(100, 60000);
     @Spy
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper = Mappers.getMapper(DtoMapper.class);
 
     @InjectMocks
     private ArtistServiceImpl artistService;
@@ -111,6 +126,18 @@ public class ArtistServiceTests {
         verify(artistRepository, times(1)).findBySlug(artist1.getSlug());
     }
 
+    @Test
+    void testGetArtist_WhenCached_SkipsRepository() {
+        given(artistRepository.findBySlug(artist1.getSlug())).willReturn(Optional.of(artist1));
+
+        ArtistDto first = artistService.getArtist(artist1.getSlug());
+        ArtistDto second = artistService.getArtist(artist1.getSlug());
+
+        assertThat(second).isSameAs(first);
+
+        verify(artistRepository, times(1)).findBySlug(artist1.getSlug());
+    }
+
     @Test
     void testGetArtist_WhenArtistNotFound_ThrowsResourceNotFoundException() {
         given(artistRepository.findBySlug(artist1.getSlug()))
@@ -122,6 +149,20 @@ public class ArtistServiceTests {
         verify(artistRepository, times(1)).findBySlug(artist1.getSlug());
     }
 
+    @Test
+    void testGetArtistsByCursor_WithCursor() {
+        UUID lastId = UUID.randomUUID();
+        given(artistRepository.findAfterNameCursor(eq("Artist|With|Pipes"), eq(lastId), any(Pageable.class)))
+                .willReturn(List.of(artist1));
+
+        CursorPageDto<ArtistDto> result = artistService.getArtistsByCursor(
+                CursorUtils.encode("Artist|With|Pipes", lastId), false);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
     @Test
     void testGetMostRecentArtists() {
         given(artistRepository.findMostRecentArtists(any(Pageable.class))).willReturn(List.of(artist1));
@@ -164,7 +205,6 @@ public class ArtistServiceTests {
 
         MultipartFile file = mock(MultipartFile.class);
 
-        given(fileUploadService.uploadArtistImageFile(file)).willReturn("testImageUrl");
         given(artistRepository.save(any(Artist.class))).willReturn(artist1);
 
         ArtistDto result = artistService.createArtist(createArtistDto, file);
@@ -172,7 +212,7 @@ public class ArtistServiceTests {
         assertThat(result).isNotNull();
         assertThat(result).isInstanceOf(ArtistDto.class);
 
-        verify(fileUploadService, times(1)).uploadArtistImageFile(file);
+        verify(fileUploadService, times(1)).uploadArtistImageFile(any(Artist.class), eq(file));
     }
 
     @Test
@@ -203,7 +243,6 @@ public class ArtistServiceTests {
         MultipartFile file = mock(MultipartFile.class);
 
         given(artistRepository.findById(artist1.getId())).willReturn(Optional.of(artist1));
-        given(fileUploadService.uploadArtistImageFile(file)).willReturn("testImageUrl");
 
         ArtistDto result = artistService.updateArtist(updateArtistDto, file, artist1.getId());
 
@@ -214,6 +253,8 @@ public class ArtistServiceTests {
         assertThat(result.getFormedYear()).isEqualTo(updateArtistDto.getFormedYear());
 
         verify(artistRepository, times(1)).findById(artist1.getId());
+        verify(fileUploadService, times(1)).uploadArtistImageFile(artist1, file);
+        verify(searchService, times(1)).indexArtist(result);
     }
 
     @Test
@@ -237,6 +278,27 @@ public class ArtistServiceTests {
         verify(artistRepository, times(1)).findById(artist1.getId());
     }
 
+    @Test
+    void testUpdateArtist_EvictsCachedArtist() throws IOException {
+        UpdateArtistDto updateArtistDto = UpdateArtistDto.builder()
+                .name("New Name")
+                .originCountry("New Country")
+                .formedYear(Year.of(2007))
+                .build();
+
+        given(artistRepository.findBySlug(artist1.getSlug())).willReturn(Optional.of(artist1));
+        given(artistRepository.findById(artist1.getId())).willReturn(Optional.of(artist1));
+
+        artistService.getArtist(artist1.getSlug());
+        artistService.updateArtist(updateArtistDto, null, artist1.getId());
+        ArtistDto result = artistService.getArtist(artist1.getSlug());
+
+        assertThat(result.getName()).isEqualTo(updateArtistDto.getName());
+
+        verify(catalogCacheService, times(1)).evictArtist(artist1.getSlug());
+        verify(artistRepository, times(2)).findBySlug(artist1.getSlug());
+    }
+
     @Test
     void testUpdateAlbum_WhenAlbumNotFound_ThrowsResourceNotFoundException() throws IOException {
         UpdateArtistDto updateArtistDto = UpdateArtistDto.builder()
@@ -266,6 +328,7 @@ public class ArtistServiceTests {
 
         verify(albumListRepository, times(1)).deleteAlbumsByArtistId(artist1.getId());
         verify(artistRepository, times(1)).delete(artist1);
+        verify(similarArtistService, times(1)).removeArtist(artist1.getId());
     }
 
     @Test
@@ -0,0 +1,261 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.AlbumGenreDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.GenreDto;
+import com.example.musify.dto.response.SuggestionDto;
+import com.example.musify.entity.Genre;
+import com.example.musify.enumeration.ESuggestionType;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.GenreRepository;
+import com.example.musify.service.impl.AutocompleteServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class AutocompleteServiceTests {
+    @Mock
+    private ArtistRepository artistRepository;
+    @Mock
+    private AlbumRepository albumRepository;
+    @Mock
+    private GenreRepository genreRepository;
+
+    @InjectMocks
+    private AutocompleteServiceImpl autocompleteService;
+
+    private Genre rock;
+    private ArtistDto beatles;
+    private ArtistDto beach;
+    private AlbumDto abbeyRoad;
+    private AlbumDto petSounds;
+
+    @BeforeEach
+    void setup() {
+        rock = Genre.builder().id(UUID.randomUUID()).name("Rock").slug("rock").build();
+
+        beatles = ArtistDto.builder()
+                .id(UUID.randomUUID())
+                .name("The Beatles")
+                .slug("the-beatles")
+                .artistGenres(Set.of(GenreDto.builder().id(rock.getId()).name("Rock").slug("rock").build()))
+                .build();
+        beach = ArtistDto.builder()
+                .id(UUID.randomUUID())
+                .name("The Beach Boys")
+                .slug("the-beach-boys")
+                .artistGenres(Set.of())
+                .build();
+
+        abbeyRoad = AlbumDto.builder()
+                .id(UUID.randomUUID())
+                .title("Abbey Road")
+                .slug("abbey-road")
+                .genres(Set.of(rock))
+                .artistId(beatles.getId())
+                .artistSlug("the-beatles")
+                .build();
+        petSounds = AlbumDto.builder()
+                .id(UUID.randomUUID())
+                .title("Pet Sounds")
+                .slug("pet-sounds")
+                .genres(Set.of(rock))
+                .artistId(beach.getId())
+                .artistSlug("the-beach-boys")
+                .build();
+
+        autocompleteService.indexArtist(beatles);
+        autocompleteService.indexArtist(beach);
+        autocompleteService.indexAlbum(abbeyRoad);
+        autocompleteService.indexAlbum(petSounds);
+        autocompleteService.adjustPopularity(ESuggestionType.ARTIST, beatles.getId(), 10);
+        autocompleteService.adjustPopularity(ESuggestionType.ARTIST, beach.getId(), 4);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testSuggest_MatchesAnyWordStart_MostPopularFirst() {
+        List<SuggestionDto> result = autocompleteService.suggest("bea", ESuggestionType.ARTIST, 10);
+
+        assertThat(result).extracting(SuggestionDto::getName).containsExactly("The Beatles", "The Beach Boys");
+        assertThat(result.get(0).getPopularity()).isEqualTo(10L);
+    }
+
+    @Test
+    void testSuggest_IgnoresCaseAndDiacritics() {
+        assertThat(autocompleteService.suggest("ÁBBEY", ESuggestionType.ALBUM, 10))
+                .extracting(SuggestionDto::getId).containsExactly(abbeyRoad.getId());
+    }
+
+    @Test
+    void testSuggest_WithoutType_MergesEveryType() {
+        List<SuggestionDto> result = autocompleteService.suggest("r", null, 10);
+
+        assertThat(result).extracting(SuggestionDto::getType)
+                .containsExactly(ESuggestionType.GENRE, ESuggestionType.ALBUM);
+        assertThat(result.get(0).getPopularity()).isEqualTo(2L);
+    }
+
+    @Test
+    void testSuggest_HonoursLimitAndBlankQuery() {
+        assertThat(autocompleteService.suggest("the", ESuggestionType.ARTIST, 1))
+                .extracting(SuggestionDto::getId).containsExactly(beatles.getId());
+        assertThat(autocompleteService.suggest("  ", null, 10)).isEmpty();
+        assertThat(autocompleteService.suggest(null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void testAdjustPopularity_ReordersSuggestions() {
+        autocompleteService.adjustPopularity(ESuggestionType.ARTIST, beach.getId(), 7);
+
+        assertThat(autocompleteService.suggest("the", ESuggestionType.ARTIST, 10))
+                .extracting(SuggestionDto::getId).containsExactly(beach.getId(), beatles.getId());
+    }
+
+    @Test
+    void testIndexArtist_WhenRenamed_KeepsPopularityAndMovesAlbums() {
+        beatles.setName("Fab Four");
+        beatles.setSlug("fab-four");
+
+        autocompleteService.indexArtist(beatles);
+
+        assertThat(autocompleteService.suggest("beatles", null, 10)).isEmpty();
+        assertThat(autocompleteService.suggest("fab", null, 10)).extracting(SuggestionDto::getPopularity)
+                .containsExactly(10L);
+        assertThat(autocompleteService.suggest("abbey", null, 10).get(0).getArtistSlug()).isEqualTo("fab-four");
+    }
+
+    @Test
+    void testIndexAlbum_WhenGenresChange_UpdatesGenreCounts() {
+        abbeyRoad.setGenres(Set.of());
+
+        autocompleteService.indexAlbum(abbeyRoad);
+
+        assertThat(autocompleteService.suggest("rock", ESuggestionType.GENRE, 10))
+                .extracting(SuggestionDto::getPopularity).containsExactly(1L);
+    }
+
+    @Test
+    void testRemoveArtist_RemovesItsAlbums() {
+        autocompleteService.removeArtist(beatles.getId());
+
+        assertThat(autocompleteService.suggest("beatles", null, 10)).isEmpty();
+        assertThat(autocompleteService.suggest("abbey", null, 10)).isEmpty();
+        assertThat(autocompleteService.suggest("pet", null, 10)).extracting(SuggestionDto::getId)
+                .containsExactly(petSounds.getId());
+        assertThat(autocompleteService.suggest("rock", null, 10)).extracting(SuggestionDto::getPopularity)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void testIndexAlbum_InsideTransaction_AppliesAfterCommit() {
+        AlbumDto album = AlbumDto.builder()
+                .id(UUID.randomUUID())
+                .title("Revolver")
+                .slug("revolver")
+                .genres(Set.of())
+                .artistSlug("the-beatles")
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        autocompleteService.indexAlbum(album);
+
+        assertThat(autocompleteService.suggest("revolver", null, 10)).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(autocompleteService.suggest("revolver", null, 10)).extracting(SuggestionDto::getId)
+                .containsExactly(album.getId());
+    }
+
+    @Test
+    void testIndexAlbum_ManyWrites_StayRankedAcrossCompaction() {
+        for (int i = 0; i < 5000; i++) {
+            AlbumDto album = AlbumDto.builder()
+                    .id(UUID.randomUUID())
+                    .title("Session " + i)
+                    .slug("session-" + i)
+                    .genres(Set.of())
+                    .artistSlug("the-beatles")
+                    .build();
+            autocompleteService.indexAlbum(album);
+            autocompleteService.setPopularity(ESuggestionType.ALBUM, album.getId(), i);
+            if (i % 2 == 0) {
+                autocompleteService.removeAlbum(album.getId());
+            }
+        }
+
+        assertThat(autocompleteService.suggest("session", ESuggestionType.ALBUM, 3))
+                .extracting(SuggestionDto::getName).containsExactly("Session 4999", "Session 4997", "Session 4995");
+        assertThat(autocompleteService.suggest("abbey", ESuggestionType.ALBUM, 3))
+                .extracting(SuggestionDto::getId).containsExactly(abbeyRoad.getId());
+    }
+
+    @Test
+    void testRebuild_LoadsEverySuggestionFromRepositories() {
+        UUID artistId = UUID.randomUUID();
+        UUID albumId = UUID.randomUUID();
+        given(artistRepository.findSuggestions(any(Pageable.class))).willReturn(new PageImpl<>(List.of(
+                new SuggestionDto(ESuggestionType.ARTIST, artistId, "Radiohead", "radiohead", "radiohead", 30L))));
+        given(albumRepository.findSuggestions(any(Pageable.class))).willReturn(new PageImpl<>(List.of(
+                new SuggestionDto(ESuggestionType.ALBUM, albumId, "Kid A", "kid-a", "radiohead", 12L))));
+        given(albumRepository.findGenresByAlbumIdIn(anyCollection())).willReturn(List.of(
+                new AlbumGenreDto(albumId, rock.getId(), "Rock", "rock")));
+        given(genreRepository.findSuggestions()).willReturn(List.of(
+                new SuggestionDto(ESuggestionType.GENRE, rock.getId(), "Rock", "rock", null, 1L)));
+
+        autocompleteService.rebuild();
+
+        assertThat(autocompleteService.suggest("ra", null, 10)).extracting(SuggestionDto::getId)
+                .containsExactly(artistId);
+        assertThat(autocompleteService.suggest("abbey", null, 10)).isEmpty();
+
+        autocompleteService.removeAlbum(albumId);
+
+        assertThat(autocompleteService.suggest("rock", null, 10)).extracting(SuggestionDto::getPopularity)
+                .containsExactly(0L);
+    }
+
+    @Test
+    void testRebuild_DeltaAlreadyLoaded_IsNotCountedTwice() {
+        given(artistRepository.findSuggestions(any(Pageable.class))).willAnswer(invocation -> {
+            // The follow commits while the rebuild runs and the page it reads already counts it.
+            autocompleteService.adjustPopularity(ESuggestionType.ARTIST, beatles.getId(), 1);
+            return new PageImpl<>(List.of(new SuggestionDto(ESuggestionType.ARTIST, beatles.getId(), "The Beatles",
+                    "the-beatles", "the-beatles", 11L)));
+        });
+        given(albumRepository.findSuggestions(any(Pageable.class))).willReturn(new PageImpl<>(List.of()));
+        given(genreRepository.findSuggestions()).willReturn(List.of());
+
+        autocompleteService.rebuild();
+
+        assertThat(autocompleteService.suggest("beatles", ESuggestionType.ARTIST, 1))
+                .extracting(SuggestionDto::getPopularity).containsExactly(11L);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.CacheStatsDto;
+import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.service.impl.CatalogCacheServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CatalogCacheServiceTests {
+    private CatalogCacheServiceImpl catalogCacheService;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        catalogCacheService = new CatalogCacheServiceImpl(100, 60000);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGetAlbum_LoadsOnceThenHits() {
+        AlbumDto album = album("artist", "album");
+
+        catalogCacheService.getAlbum("artist", "album", loader(album));
+        AlbumDto result = catalogCacheService.getAlbum("artist", "album", loader(album));
+
+        assertThat(result).isSameAs(album);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetAlbum_WhenLoaderThrows_DoesNotCache() {
+        Supplier<AlbumDto> failing = () -> {
+            loads.incrementAndGet();
+            throw new ResourceNotFoundException("Album not found.");
+        };
+
+        assertThrows(ResourceNotFoundException.class, () -> catalogCacheService.getAlbum("artist", "album", failing));
+        assertThrows(ResourceNotFoundException.class, () -> catalogCacheService.getAlbum("artist", "album", failing));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetAlbum_ConcurrentCallers_ShareLoadOnCallingThread() throws Exception {
+        AlbumDto album = album("artist", "album");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> loaderThread = new AtomicReference<>();
+        Thread first = new Thread(() -> catalogCacheService.getAlbum("artist", "album", () -> {
+            loaderThread.set(Thread.currentThread());
+            loading.countDown();
+            awaitQuietly(release);
+            return loader(album).get();
+        }));
+        first.start();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<AlbumDto> second = CompletableFuture.supplyAsync(() ->
+                catalogCacheService.getAlbum("artist", "album", loader(album)));
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(album);
+        first.join();
+        assertThat(loaderThread.get()).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testEvictAlbum_OnlyEvictsThatAlbum() {
+        catalogCacheService.getAlbum("artist", "album-1", loader(album("artist", "album-1")));
+        catalogCacheService.getAlbum("artist", "album-2", loader(album("artist", "album-2")));
+
+        catalogCacheService.evictAlbum("artist", "album-1");
+        catalogCacheService.getAlbum("artist", "album-1", loader(album("artist", "album-1")));
+        catalogCacheService.getAlbum("artist", "album-2", loader(album("artist", "album-2")));
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testEvictAlbums_EvictsById() {
+        AlbumDto album = album("artist", "album");
+        catalogCacheService.getAlbum("artist", "album", loader(album));
+
+        catalogCacheService.evictAlbums(List.of(album.getId()));
+        catalogCacheService.getAlbum("artist", "album", loader(album));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testEvictArtist_EvictsArtistAndItsAlbums() {
+        ArtistDto artist = ArtistDto.builder().id(UUID.randomUUID()).slug("artist").build();
+        catalogCacheService.getArtist("artist", loader(artist));
+        catalogCacheService.getAlbum("artist", "album", loader(album("artist", "album")));
+        catalogCacheService.getAlbum("other", "album", loader(album("other", "album")));
+
+        catalogCacheService.evictArtist("artist");
+        catalogCacheService.getArtist("artist", loader(artist));
+        catalogCacheService.getAlbum("artist", "album", loader(album("artist", "album")));
+        catalogCacheService.getAlbum("other", "album", loader(album("other", "album")));
+
+        assertThat(loads.get()).isEqualTo(5);
+    }
+
+    @Test
+    void testGetStats_CountsHitsAndMisses() {
+        AlbumDto album = album("artist", "album");
+        catalogCacheService.getAlbum("artist", "album", loader(album));
+        catalogCacheService.getAlbum("artist", "album", loader(album));
+
+        CacheStatsDto albumStats = catalogCacheService.getStats().stream()
+                .filter(stats -> stats.getName().equals("albums"))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(albumStats.getSize()).isEqualTo(1);
+        assertThat(albumStats.getHitCount()).isEqualTo(1);
+        assertThat(albumStats.getMissCount()).isEqualTo(1);
+        assertThat(albumStats.getHitRate()).isEqualTo(0.5);
+    }
+
+    private <T> Supplier<T> loader(T value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    private static AlbumDto album(String artistSlug, String albumSlug) {
+        return AlbumDto.builder()
+                .id(UUID.randomUUID())
+                .slug(albumSlug)
+                .artistSlug(artistSlug)
+                .build();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
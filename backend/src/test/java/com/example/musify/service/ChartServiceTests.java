@@ -0,0 +1,222 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.AlbumGenreEntryDto;
+import com.example.musify.dto.response.ChartAlbumDto;
+import com.example.musify.dto.response.ChartAlbumEntryDto;
+import com.example.musify.dto.response.RecentRatingEntryDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Genre;
+import com.example.musify.enumeration.EChartWindow;
+import com.example.musify.repository.AlbumRatingRepository;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.service.impl.ChartServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChartServiceTests {
+    private static final double PRIOR_WEIGHT = 10.0;
+
+    @Mock
+    private AlbumRepository albumRepository;
+    @Mock
+    private AlbumRatingRepository albumRatingRepository;
+
+    private ChartServiceImpl chartService;
+
+    private final UUID albumA = UUID.randomUUID();
+    private final UUID albumB = UUID.randomUUID();
+    private final UUID albumC = UUID.randomUUID();
+    private final UUID user1 = UUID.randomUUID();
+    private final UUID user2 = UUID.randomUUID();
+    private final UUID user3 = UUID.randomUUID();
+    private final Instant now = Instant.now();
+
+    // A has one perfect rating, B fifty slightly lower ones and C one poor one. Only C was rated this week and A was
+    // rated this month; the third recent rating is already older than the month window.
+    @BeforeEach
+    void setup() {
+        chartService = new ChartServiceImpl(albumRepository, albumRatingRepository, PRIOR_WEIGHT);
+
+        given(albumRepository.findFirstChartAlbumEntries(any(Pageable.class))).willReturn(List.of(
+                new ChartAlbumEntryDto(albumA, "UK", 5.0, 1L),
+                new ChartAlbumEntryDto(albumB, "US", 241.0, 50L),
+                new ChartAlbumEntryDto(albumC, "US", 2.0, 1L)));
+        given(albumRepository.findRatedAlbumGenreEntries()).willReturn(List.of(
+                new AlbumGenreEntryDto(albumA, "rock"),
+                new AlbumGenreEntryDto(albumB, "jazz"),
+                new AlbumGenreEntryDto(albumC, "rock")));
+        given(albumRatingRepository.findFirstRecentRatingEntries(any(Instant.class), any(Pageable.class)))
+                .willReturn(new ArrayList<>(List.of(
+                        new RecentRatingEntryDto(UUID.randomUUID(), user1, albumC, 5.0, now.minus(Duration.ofDays(2))),
+                        new RecentRatingEntryDto(UUID.randomUUID(), user2, albumA, 1.0, now.minus(Duration.ofDays(20))),
+                        new RecentRatingEntryDto(UUID.randomUUID(), user3, albumB, 4.0, now.minus(Duration.ofDays(31))))));
+        chartService.rebuild();
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void givenAlbumDetails() {
+        given(albumRepository.findChartAlbumsByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> new ChartAlbumDto(id, "Album", "album", null, "Artist", "artist", null, 4.0, 1L, null))
+                    .toList();
+        });
+    }
+
+    private List<UUID> chart(EChartWindow window, String genre, String country) {
+        return chartService.getChart(window, genre, country, 10).stream().map(ChartAlbumDto::getId).toList();
+    }
+
+    private static Album album(UUID id, String country, String genre, double ratingSum, long ratingCount) {
+        return Album.builder()
+                .id(id)
+                .originCountry(country)
+                .albumGenres(new HashSet<>(Set.of(Genre.builder().slug(genre).build())))
+                .ratingSum(ratingSum)
+                .ratingCount(ratingCount)
+                .build();
+    }
+
+    private static double allTimeScore(double ratingSum, long ratingCount) {
+        return (PRIOR_WEIGHT * 248.0 / 52 + ratingSum) / (PRIOR_WEIGHT + ratingCount);
+    }
+
+    private double score(EChartWindow window, UUID albumId) {
+        return chartService.getChart(window, null, null, 10).stream()
+                .filter(album -> album.getId().equals(albumId))
+                .findFirst()
+                .orElseThrow()
+                .getScore();
+    }
+
+    @Test
+    void testGetChart_AllTime_WeighsAverageByRatingCount() {
+        givenAlbumDetails();
+
+        List<ChartAlbumDto> result = chartService.getChart(EChartWindow.ALL_TIME, null, null, 10);
+
+        assertThat(result).extracting(ChartAlbumDto::getId).containsExactly(albumB, albumA, albumC);
+        assertThat(result.get(0).getScore()).isCloseTo(allTimeScore(241.0, 50), offset(1e-9));
+    }
+
+    @Test
+    void testGetChart_ByGenreAndCountry() {
+        givenAlbumDetails();
+
+        assertThat(chart(EChartWindow.ALL_TIME, "rock", null)).containsExactly(albumA, albumC);
+        assertThat(chart(EChartWindow.ALL_TIME, null, "US")).containsExactly(albumB, albumC);
+        assertThat(chart(EChartWindow.ALL_TIME, "rock", "US")).containsExactly(albumC);
+        assertThat(chart(EChartWindow.ALL_TIME, "pop", null)).isEmpty();
+    }
+
+    @Test
+    void testGetChart_Windows_OnlyCountRecentRatings() {
+        givenAlbumDetails();
+
+        assertThat(chart(EChartWindow.WEEK, null, null)).containsExactly(albumC);
+        assertThat(chart(EChartWindow.MONTH, null, null)).containsExactly(albumC, albumB, albumA);
+    }
+
+    @Test
+    void testSlide_ExpiresRatingsOlderThanWindow() {
+        givenAlbumDetails();
+
+        chartService.slide();
+
+        assertThat(chart(EChartWindow.MONTH, null, null)).containsExactly(albumC, albumA);
+        assertThat(chart(EChartWindow.ALL_TIME, null, null)).containsExactly(albumB, albumA, albumC);
+    }
+
+    @Test
+    void testRecordRating_NewRating_EntersWindows() {
+        givenAlbumDetails();
+
+        chartService.recordRating(album(albumA, "UK", "rock", 10.0, 2L), user1, 5.0, true);
+
+        assertThat(chart(EChartWindow.WEEK, null, null)).containsExactlyInAnyOrder(albumA, albumC);
+        assertThat(score(EChartWindow.ALL_TIME, albumA)).isCloseTo(allTimeScore(10.0, 2), offset(1e-9));
+    }
+
+    @Test
+    void testRecordRating_ChangedOldRating_OnlyMovesAllTime() {
+        givenAlbumDetails();
+        List<ChartAlbumDto> monthBefore = chartService.getChart(EChartWindow.MONTH, null, null, 10);
+
+        chartService.recordRating(album(albumC, "US", "rock", 4.5, 1L), user2, 4.5, false);
+
+        assertThat(chartService.getChart(EChartWindow.MONTH, null, null, 10))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(monthBefore);
+        assertThat(score(EChartWindow.ALL_TIME, albumC)).isCloseTo(allTimeScore(4.5, 1), offset(1e-9));
+    }
+
+    @Test
+    void testRemoveRating_DropsAlbumWithoutRatings() {
+        givenAlbumDetails();
+
+        chartService.removeRating(album(albumC, "US", "rock", 0.0, 0L), user1);
+
+        assertThat(chart(EChartWindow.WEEK, null, null)).isEmpty();
+        assertThat(chart(EChartWindow.ALL_TIME, "rock", null)).containsExactly(albumA);
+    }
+
+    @Test
+    void testIndexAlbum_MovesAlbumBetweenBuckets() {
+        givenAlbumDetails();
+
+        chartService.indexAlbum(album(albumA, "UK", "jazz", 5.0, 1L));
+
+        assertThat(chart(EChartWindow.ALL_TIME, "rock", null)).containsExactly(albumC);
+        assertThat(chart(EChartWindow.ALL_TIME, "jazz", null)).containsExactly(albumB, albumA);
+    }
+
+    @Test
+    void testRemoveAlbum_DropsAlbumWithoutQueryingIt() {
+        chartService.removeAlbum(albumA);
+        chartService.removeAlbum(albumB);
+        chartService.removeAlbum(albumC);
+
+        assertThat(chartService.getChart(EChartWindow.ALL_TIME, null, null, 10)).isEmpty();
+        verify(albumRepository, never()).findChartAlbumsByIdIn(any());
+    }
+
+    @Test
+    void testRecordRating_InsideTransaction_AppliesAfterCommit() {
+        givenAlbumDetails();
+
+        TransactionSynchronizationManager.initSynchronization();
+        chartService.recordRating(album(albumB, "US", "jazz", 245.0, 51L), user1, 5.0, true);
+
+        assertThat(chart(EChartWindow.WEEK, null, null)).containsExactly(albumC);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(chart(EChartWindow.WEEK, null, null)).contains(albumB);
+    }
+}
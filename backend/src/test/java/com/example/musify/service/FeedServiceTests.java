@@ -0,0 +1,272 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.CursorPageDto;
+import com.example.musify.dto.response.FeedItemDto;
+import com.example.musify.entity.Album;
+import com.example.musify.entity.Artist;
+import com.example.musify.entity.FeedEvent;
+import com.example.musify.entity.Review;
+import com.example.musify.entity.User;
+import com.example.musify.enumeration.EFeedEventType;
+import com.example.musify.repository.FeedEntryRepository;
+import com.example.musify.repository.FeedEventRepository;
+import com.example.musify.repository.FollowerRepository;
+import com.example.musify.service.impl.FeedServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FeedServiceTests {
+    private static final long FAN_OUT_THRESHOLD = 3;
+    private static final int TIMELINE_CACHE_DEPTH = 30;
+
+    @Mock
+    private FeedEventRepository feedEventRepository;
+    @Mock
+    private FeedEntryRepository feedEntryRepository;
+    @Mock
+    private FollowerRepository followerRepository;
+    @Mock
+    private IUtilService utilService;
+
+    private FeedServiceImpl feedService;
+    private final User user1 = User.builder().id(UUID.randomUUID()).username("user1").build();
+    private final Artist smallArtist = Artist.builder().id(UUID.randomUUID()).name("Small").build();
+    private final Artist largeArtist = Artist.builder().id(UUID.randomUUID()).name("Large").build();
+    private final Instant now = Instant.parse("2024-03-01T12:00:00Z");
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (feedService != null) {
+            feedService.shutdown();
+        }
+    }
+
+    private FeedServiceImpl service(int timelineCacheDepth) {
+        return new FeedServiceImpl(feedEventRepository, feedEntryRepository, followerRepository, utilService,
+                FAN_OUT_THRESHOLD, 1, 10, false, timelineCacheDepth, 100, 60_000);
+    }
+
+    private void givenSavedEvents() {
+        given(feedEventRepository.save(any(FeedEvent.class))).willAnswer(invocation -> {
+            FeedEvent event = invocation.getArgument(0);
+            event.setId(UUID.randomUUID());
+            return event;
+        });
+    }
+
+    private FeedItemDto item(Artist artist, int secondsAgo) {
+        return FeedItemDto.builder()
+                .id(UUID.randomUUID())
+                .type(EFeedEventType.NEW_ALBUM)
+                .createdAt(now.minusSeconds(secondsAgo))
+                .artistId(artist.getId())
+                .build();
+    }
+
+    private List<FeedItemDto> items(Artist artist, int count, int offset) {
+        List<FeedItemDto> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(item(artist, offset + i * 2));
+        }
+        return items;
+    }
+
+    @Test
+    void testPublishAlbum_SmallArtist_FansOutToFollowers() throws InterruptedException {
+        feedService = service(TIMELINE_CACHE_DEPTH);
+        givenSavedEvents();
+        List<UUID> followerIds = List.of(user1.getId(), UUID.randomUUID());
+        given(followerRepository.countArtistFollowers(smallArtist.getId())).willReturn(2L);
+        given(followerRepository.findFollowerIds(smallArtist.getId())).willReturn(followerIds);
+        Album album = Album.builder().id(UUID.randomUUID()).artist(smallArtist).build();
+
+        feedService.publishAlbum(album);
+        feedService.shutdown();
+
+        ArgumentCaptor<FeedEvent> event = ArgumentCaptor.forClass(FeedEvent.class);
+        verify(feedEventRepository, times(1)).save(event.capture());
+        assertThat(event.getValue().isFannedOut()).isTrue();
+        assertThat(event.getValue().getType()).isEqualTo(EFeedEventType.NEW_ALBUM);
+        verify(feedEntryRepository, times(1)).insertFeedEntries(event.getValue().getId(),
+                event.getValue().getCreatedAt(), followerIds);
+    }
+
+    @Test
+    void testPublishReview_LargeArtist_MergedIntoFeedOnRead() throws InterruptedException {
+        feedService = service(TIMELINE_CACHE_DEPTH);
+        givenSavedEvents();
+        given(followerRepository.countArtistFollowers(largeArtist.getId())).willReturn(FAN_OUT_THRESHOLD);
+        Album album = Album.builder().id(UUID.randomUUID()).artist(largeArtist).build();
+
+        feedService.publishReview(Review.builder().id(UUID.randomUUID()).album(album).build());
+        feedService.shutdown();
+
+        verify(followerRepository, never()).findFollowerIds(any());
+        verify(feedEntryRepository, never()).insertFeedEntries(any(), any(), anyList());
+
+        FeedItemDto pushed = item(smallArtist, 10);
+        FeedItemDto pulled = item(largeArtist, 5);
+        given(utilService.getCurrentUser()).willReturn(user1);
+        given(feedEventRepository.findFirstFeedItems(eq(user1.getId()), any(Pageable.class)))
+                .willReturn(List.of(pushed));
+        given(followerRepository.findFollowedArtistIds(user1.getId()))
+                .willReturn(List.of(smallArtist.getId(), largeArtist.getId()));
+        given(feedEventRepository.findFirstTimelineItems(eq(largeArtist.getId()), any(Pageable.class)))
+                .willReturn(List.of(pulled));
+
+        CursorPageDto<FeedItemDto> page = feedService.getFeed(null);
+
+        assertThat(page.getContent()).containsExactly(pulled, pushed);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void testPublishAlbum_InsideTransaction_FansOutAfterCommit() throws InterruptedException {
+        feedService = service(TIMELINE_CACHE_DEPTH);
+        givenSavedEvents();
+        given(followerRepository.countArtistFollowers(smallArtist.getId())).willReturn(1L);
+        given(followerRepository.findFollowerIds(smallArtist.getId())).willReturn(List.of(user1.getId()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        feedService.publishAlbum(Album.builder().id(UUID.randomUUID()).artist(smallArtist).build());
+
+        verify(followerRepository, never()).findFollowerIds(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        feedService.shutdown();
+
+        verify(feedEntryRepository, times(1)).insertFeedEntries(any(), any(), eq(List.of(user1.getId())));
+    }
+
+    @Test
+    void testPublishAlbum_FanOutFails_MovesEventToTimeline() throws InterruptedException {
+        feedService = service(TIMELINE_CACHE_DEPTH);
+        givenSavedEvents();
+        given(followerRepository.countArtistFollowers(smallArtist.getId())).willReturn(1L);
+        given(followerRepository.findFollowerIds(smallArtist.getId())).willReturn(List.of(user1.getId()));
+        given(feedEntryRepository.insertFeedEntries(any(), any(), anyList()))
+                .willThrow(new IllegalStateException("Connection lost."));
+
+        feedService.publishAlbum(Album.builder().id(UUID.randomUUID()).artist(smallArtist).build());
+        feedService.shutdown();
+
+        ArgumentCaptor<FeedEvent> event = ArgumentCaptor.forClass(FeedEvent.class);
+        verify(feedEventRepository, times(1)).save(event.capture());
+        verify(feedEntryRepository, times(1)).deleteByEventId(event.getValue().getId());
+        verify(feedEventRepository, times(1)).markPulled(event.getValue().getId());
+
+        FeedItemDto pulled = item(smallArtist, 5);
+        given(utilService.getCurrentUser()).willReturn(user1);
+        given(feedEventRepository.findFirstFeedItems(eq(user1.getId()), any(Pageable.class))).willReturn(List.of());
+        given(followerRepository.findFollowedArtistIds(user1.getId())).willReturn(List.of(smallArtist.getId()));
+        given(feedEventRepository.findFirstTimelineItems(eq(smallArtist.getId()), any(Pageable.class)))
+                .willReturn(List.of(pulled));
+
+        assertThat(feedService.getFeed(null).getContent()).containsExactly(pulled);
+    }
+
+    @Test
+    void testGetFeed_WithoutPullArtists_ReadsOnlyOwnEntries() {
+        feedService = service(TIMELINE_CACHE_DEPTH);
+        List<FeedItemDto> pushed = items(smallArtist, 21, 0);
+        given(utilService.getCurrentUser()).willReturn(user1);
+        given(feedEventRepository.findFirstFeedItems(eq(user1.getId()), any(Pageable.class))).willReturn(pushed);
+
+        CursorPageDto<FeedItemDto> page = feedService.getFeed(null);
+
+        assertThat(page.getContent()).containsExactlyElementsOf(pushed.subList(0, 20));
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isNotNull();
+        verify(followerRepository, never()).findFollowedArtistIds(any());
+    }
+
+    @Test
+    void testGetFeed_NextPage_ContinuesBothSourcesFromCursor() {
+        feedService = service(TIMELINE_CACHE_DEPTH);
+        List<FeedItemDto> pushed = items(smallArtist, 15, 0);
+        List<FeedItemDto> pulled = items(largeArtist, 15, 1);
+        given(feedEventRepository.findPullArtistIds()).willReturn(List.of(largeArtist.getId()));
+        feedService.loadPullArtists();
+        given(utilService.getCurrentUser()).willReturn(user1);
+        given(followerRepository.findFollowedArtistIds(user1.getId())).willReturn(List.of(largeArtist.getId()));
+        given(feedEventRepository.findFirstFeedItems(eq(user1.getId()), any(Pageable.class))).willReturn(pushed);
+        given(feedEventRepository.findFirstTimelineItems(eq(largeArtist.getId()), any(Pageable.class)))
+                .willReturn(pulled);
+
+        CursorPageDto<FeedItemDto> first = feedService.getFeed(null);
+
+        assertThat(first.getContent()).hasSize(20);
+        assertThat(first.getContent().get(0)).isEqualTo(pushed.get(0));
+        assertThat(first.getContent().get(1)).isEqualTo(pulled.get(0));
+        FeedItemDto last = first.getContent().get(19);
+        assertThat(last).isEqualTo(pulled.get(9));
+
+        given(feedEventRepository.findFeedItemsAfter(user1.getId(), last.getCreatedAt(), last.getId(),
+                Pageable.ofSize(21))).willReturn(pushed.subList(10, 15));
+
+        CursorPageDto<FeedItemDto> second = feedService.getFeed(first.getNextCursor());
+
+        List<FeedItemDto> expected = new ArrayList<>();
+        for (int i = 10; i < 15; i++) {
+            expected.add(pushed.get(i));
+            expected.add(pulled.get(i));
+        }
+        assertThat(second.getContent()).containsExactlyElementsOf(expected);
+        assertThat(second.isHasNext()).isFalse();
+        // The second timeline page came from the cached head loaded for the first page.
+        verify(feedEventRepository, times(1)).findFirstTimelineItems(eq(largeArtist.getId()), any(Pageable.class));
+        verify(feedEventRepository, never()).findTimelineItemsAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetFeed_BeyondCachedTimeline_ReadsFromDatabase() {
+        feedService = service(2);
+        List<FeedItemDto> pulled = items(largeArtist, 3, 0);
+        given(feedEventRepository.findPullArtistIds()).willReturn(List.of(largeArtist.getId()));
+        feedService.loadPullArtists();
+        given(utilService.getCurrentUser()).willReturn(user1);
+        given(followerRepository.findFollowedArtistIds(user1.getId())).willReturn(List.of(largeArtist.getId()));
+        given(feedEventRepository.findFirstFeedItems(eq(user1.getId()), any(Pageable.class))).willReturn(List.of());
+        given(feedEventRepository.findFirstTimelineItems(eq(largeArtist.getId()), any(Pageable.class)))
+                .willAnswer(invocation -> pulled.subList(0,
+                        Math.min(pulled.size(), invocation.<Pageable>getArgument(1).getPageSize())));
+
+        CursorPageDto<FeedItemDto> page = feedService.getFeed(null);
+
+        assertThat(page.getContent()).containsExactlyElementsOf(pulled);
+        verify(feedEventRepository, times(2)).findFirstTimelineItems(eq(largeArtist.getId()), any(Pageable.class));
+    }
+
+    @Test
+    void testRemoveFollow_DeletesEntriesOfArtist() {
+        feedService = service(TIMELINE_CACHE_DEPTH);
+
+        feedService.removeFollow(user1.getId(), smallArtist.getId());
+
+        verify(feedEntryRepository, times(1)).deleteByUserIdAndArtistId(user1.getId(), smallArtist.getId());
+    }
+}
@@ -0,0 +1,307 @@
+package com.example.musify.service;
+
+import com.example.musify.entity.Album;
+import com.example.musify.entity.User;
+import com.example.musify.enumeration.EImageStatus;
+import com.example.musify.enumeration.EImageVariant;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.UserRepository;
+import com.example.musify.service.impl.FileUploadServiceImpl;
+import com.example.musify.service.impl.ImageProcessingServiceImpl;
+import com.example.musify.service.impl.LocalImageUploadTarget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class FileUploadServiceTests {
+    private static final byte[] CONTENT = "image-bytes".getBytes();
+
+    @Mock
+    private AlbumRepository albumRepository;
+    @Mock
+    private ArtistRepository artistRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ICatalogCacheService catalogCacheService;
+
+    @TempDir
+    private Path tempDir;
+
+    private FileUploadServiceImpl fileUploadService;
+    private Path spoolDir;
+    private MockMultipartFile file;
+
+    @BeforeEach
+    void setup() {
+        spoolDir = tempDir.resolve("spool");
+        file = new MockMultipartFile("file", "cover.png", "image/png", CONTENT);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (fileUploadService != null) {
+            fileUploadService.shutdown();
+        }
+    }
+
+    @Test
+    void testUploadAlbumImageFile_UploadsVariantsAndPatchesAlbum() throws IOException {
+        fileUploadService = service(new LocalImageUploadTarget(tempDir.resolve("images")), 3);
+        Album album = Album.builder().id(UUID.randomUUID()).build();
+
+        fileUploadService.uploadAlbumImageFile(album, png(2000, 1000));
+
+        assertThat(album.getImageStatus()).isEqualTo(EImageStatus.PENDING);
+
+        ArgumentCaptor<String> full = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> thumbnail = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> card = ArgumentCaptor.forClass(String.class);
+        verify(albumRepository, timeout(5000)).updateImage(eq(album.getId()), eq(album.getImageHash()),
+                full.capture(), thumbnail.capture(), card.capture(), eq(EImageStatus.READY));
+        verify(catalogCacheService, timeout(5000)).evictAlbums(List.of(album.getId()));
+
+        assertThat(width(full.getValue())).isEqualTo(EImageVariant.FULL.getMaxSize());
+        assertThat(width(card.getValue())).isEqualTo(EImageVariant.CARD.getMaxSize());
+        assertThat(width(thumbnail.getValue())).isEqualTo(EImageVariant.THUMBNAIL.getMaxSize());
+        assertThat(full.getValue()).contains("albums/albums").endsWith(".jpg");
+        assertSpoolEmptied();
+    }
+
+    @Test
+    void testUploadAlbumImageFile_WhenFormatUnsupported_StoresOriginalAsFull() throws IOException {
+        fileUploadService = service(new LocalImageUploadTarget(tempDir.resolve("images")), 3);
+        Album album = Album.builder().id(UUID.randomUUID()).build();
+
+        fileUploadService.uploadAlbumImageFile(album, file);
+
+        ArgumentCaptor<String> url = ArgumentCaptor.forClass(String.class);
+        verify(albumRepository, timeout(5000)).updateImage(eq(album.getId()), eq(album.getImageHash()),
+                url.capture(), isNull(), isNull(), eq(EImageStatus.READY));
+        verify(catalogCacheService, timeout(5000)).evictAlbums(List.of(album.getId()));
+
+        assertThat(Files.readAllBytes(Path.of(URI.create(url.getValue())))).isEqualTo(CONTENT);
+        assertThat(url.getValue()).contains("albums/albums").endsWith(".png");
+        assertSpoolEmptied();
+    }
+
+    @Test
+    void testUploadUserImageFile_RetriesUntilTargetSucceeds() throws IOException {
+        AtomicInteger attempts = new AtomicInteger();
+        fileUploadService = service((path, folder) -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("Upload target unavailable.");
+            }
+            return "https://images.test/" + path.getFileName();
+        }, 3);
+        User user = User.builder().id(UUID.randomUUID()).build();
+
+        fileUploadService.uploadUserImageFile(user, file);
+
+        verify(userRepository, timeout(5000)).updateImage(eq(user.getId()), eq(user.getImageHash()),
+                startsWith("https://images.test/"), isNull(), eq(EImageStatus.READY));
+        assertThat(attempts.get()).isEqualTo(3);
+        assertSpoolEmptied();
+    }
+
+    @Test
+    void testUploadUserImageFile_WhenAttemptsExhausted_MarksFailed() throws IOException {
+        fileUploadService = service((path, folder) -> {
+            throw new IOException("Upload target unavailable.");
+        }, 2);
+        User user = User.builder().id(UUID.randomUUID()).build();
+
+        fileUploadService.uploadUserImageFile(user, file);
+
+        verify(userRepository, timeout(5000)).updateImageStatus(user.getId(), user.getImageHash(), EImageStatus.FAILED);
+        verify(userRepository, never()).updateImage(any(), any(), any(), any(), any());
+        assertSpoolEmptied();
+    }
+
+    @Test
+    void testUploadUserImageFile_WhenUpdatingImageFails_MarksFailed() throws IOException {
+        fileUploadService = service((path, folder) -> "https://images.test/" + path.getFileName(), 1);
+        User user = User.builder().id(UUID.randomUUID()).build();
+        doThrow(new IllegalStateException("Database unavailable."))
+                .when(userRepository).updateImage(any(), any(), any(), any(), any());
+
+        fileUploadService.uploadUserImageFile(user, file);
+
+        verify(userRepository, timeout(5000)).updateImageStatus(user.getId(), user.getImageHash(), EImageStatus.FAILED);
+        assertSpoolEmptied();
+    }
+
+    @Test
+    void testUploadAlbumImageFile_InTransaction_WaitsForCommitAndUsesGeneratedId() throws IOException {
+        fileUploadService = service(new LocalImageUploadTarget(tempDir.resolve("images")), 3);
+        Album album = new Album();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            fileUploadService.uploadAlbumImageFile(album, file);
+            album.setId(UUID.randomUUID());
+
+            verify(albumRepository, after(100).never()).updateImage(any(), any(), any(), any(), any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(albumRepository, timeout(5000)).updateImage(eq(album.getId()), eq(album.getImageHash()),
+                anyString(), any(), any(), eq(EImageStatus.READY));
+    }
+
+    @Test
+    void testUploadAlbumImageFile_OnRollback_DeletesSpoolFile() throws IOException {
+        fileUploadService = service(new LocalImageUploadTarget(tempDir.resolve("images")), 3);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            fileUploadService.uploadAlbumImageFile(new Album(), file);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertSpoolEmptied();
+        verifyNoInteractions(albumRepository);
+    }
+
+    @Test
+    void testUploadAlbumImageFile_WhenSameContentAsCurrentImage_SkipsUpload() throws IOException {
+        AtomicInteger uploads = new AtomicInteger();
+        fileUploadService = service(countingTarget(uploads), 3);
+        Album album = Album.builder().id(UUID.randomUUID()).build();
+
+        fileUploadService.uploadAlbumImageFile(album, file);
+        verify(albumRepository, timeout(5000)).updateImage(eq(album.getId()), eq(album.getImageHash()),
+                anyString(), any(), any(), eq(EImageStatus.READY));
+        album.setImageStatus(EImageStatus.READY);
+
+        fileUploadService.uploadAlbumImageFile(album, file);
+
+        assertSpoolEmptied();
+        assertThat(uploads.get()).isEqualTo(1);
+        assertThat(fileUploadService.getStats()).satisfies(stats -> {
+            assertThat(stats.getUploadCount()).isEqualTo(2);
+            assertThat(stats.getDedupeHitCount()).isEqualTo(1);
+            assertThat(stats.getDedupeHitRate()).isEqualTo(0.5);
+            assertThat(stats.getBytesAvoided()).isEqualTo(CONTENT.length);
+        });
+    }
+
+    @Test
+    void testUploadAlbumImageFile_WhenContentAlreadyStored_ReusesUrlsWithoutUpload() throws IOException {
+        AtomicInteger uploads = new AtomicInteger();
+        fileUploadService = service(countingTarget(uploads), 3);
+        Album first = Album.builder().id(UUID.randomUUID()).build();
+        Album second = Album.builder().id(UUID.randomUUID()).build();
+
+        fileUploadService.uploadAlbumImageFile(first, file);
+        ArgumentCaptor<String> url = ArgumentCaptor.forClass(String.class);
+        verify(albumRepository, timeout(5000)).updateImage(eq(first.getId()), eq(first.getImageHash()),
+                url.capture(), any(), any(), eq(EImageStatus.READY));
+
+        fileUploadService.uploadAlbumImageFile(second, file);
+
+        assertThat(second.getImage()).isEqualTo(url.getValue());
+        assertThat(second.getImageStatus()).isEqualTo(EImageStatus.READY);
+        assertThat(second.getImageHash()).isEqualTo(first.getImageHash());
+        assertThat(uploads.get()).isEqualTo(1);
+        verify(albumRepository, after(100).never()).updateImage(eq(second.getId()), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testUploadAlbumImageFile_WhenCurrentImageFailed_UploadsAgain() throws IOException {
+        AtomicInteger attempts = new AtomicInteger();
+        fileUploadService = service((path, folder) -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IOException("Upload target unavailable.");
+            }
+            return "https://images.test/" + path.getFileName();
+        }, 1);
+        Album album = Album.builder().id(UUID.randomUUID()).build();
+
+        fileUploadService.uploadAlbumImageFile(album, file);
+        verify(albumRepository, timeout(5000)).updateImageStatus(album.getId(), album.getImageHash(),
+                EImageStatus.FAILED); album.setImageStatus(EImageStatus.FAILED);
+
+        fileUploadService.uploadAlbumImageFile(album, file);
+
+        assertThat(album.getImageStatus()).isEqualTo(EImageStatus.PENDING);
+        verify(albumRepository, timeout(5000)).updateImage(eq(album.getId()), eq(album.getImageHash()),
+                anyString(), any(), any(), eq(EImageStatus.READY));
+        assertThat(fileUploadService.getStats().getDedupeHitCount()).isZero();
+    }
+
+    private static IImageUploadTarget countingTarget(AtomicInteger uploads) {
+        return (path, folder) -> "https://images.test/" + folder + "/" + uploads.incrementAndGet();
+    }
+
+    private FileUploadServiceImpl service(IImageUploadTarget uploadTarget, int maxAttempts) {
+        try {
+            return new FileUploadServiceImpl(uploadTarget, new ImageProcessingServiceImpl(50_000_000, 0.8f, 1),
+                    albumRepository, artistRepository, userRepository, catalogCacheService, spoolDir, 1, 10, false,
+                    maxAttempts, 1, 100);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockMultipartFile png(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+        return new MockMultipartFile("file", "cover.png", "image/png", output.toByteArray());
+    }
+
+    private static int width(String url) throws IOException {
+        return ImageIO.read(Path.of(URI.create(url)).toFile()).getWidth();
+    }
+
+    // The spool file is deleted after the repository patch, so poll briefly instead of asserting right away.
+    private void assertSpoolEmptied() throws IOException {
+        for (int i = 0; i < 500 && listSpool().size() > 0; i++) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        assertThat(listSpool()).isEmpty();
+    }
+
+    private List<Path> listSpool() throws IOException {
+        try (var files = Files.list(spoolDir)) {
+            return files.toList();
+        }
+    }
+}
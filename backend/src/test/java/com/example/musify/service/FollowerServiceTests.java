@@ -6,7 +6,9 @@ import com.example.musify.dto.response.FollowingArtistDto;
 import com.example.musify.entity.Artist;
 import com.example.musify.entity.Follower;
 import com.example.musify.entity.User;
+import com.example.musify.enumeration.ESuggestionType;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.ArtistRepository;
 import com.example.musify.repository.FollowerRepository;
 import com.example.musify.repository.UserRepository;
@@ -18,7 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 
 import java.time.Instant;
 import java.time.Year;
@@ -41,8 +43,16 @@ public class FollowerServiceTests {
     private UserRepository userRepository;
     @Mock
     private IUtilService utilService;
+    @Mock
+    private IAutocompleteService autocompleteService;
+    @Mock
+    private IRecommendationService recommendationService;
+    @Mock
+    private ISimilarArtistService similarArtistService;
+    @Mock
+    private IFeedService feedService;
     @Spy
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper = Mappers.getMapper(DtoMapper.class);
 
     @InjectMocks
     private FollowerServiceImpl followerService;
@@ -78,6 +88,9 @@ public class FollowerServiceTests {
 
         assertThat(result).isNotNull();
         verify(artistRepository, times(1)).findById(artist1.getId());
+        verify(autocompleteService, times(1)).adjustPopularity(ESuggestionType.ARTIST, artist1.getId(), 1L);
+        verify(recommendationService, times(1)).recordFollow(user1.getId(), artist1.getId());
+        verify(similarArtistService, times(1)).recordFollow(user1.getId(), artist1.getId());
     }
 
     @Test
@@ -106,6 +119,10 @@ public class FollowerServiceTests {
         assertThat(result.getMessage()).isEqualTo("\"" + artist1.getName() + "\" was unfollowed.");
         verify(followerRepository,times(1)).findByArtistIdAndUserId(artist1.getId(),user1.getId());
         verify(followerRepository, times(1)).deleteByArtistIdAndUserId(artist1.getId(), user1.getId());
+        verify(autocompleteService, times(1)).adjustPopularity(ESuggestionType.ARTIST, artist1.getId(), -1L);
+        verify(recommendationService, times(1)).removeFollow(user1.getId(), artist1.getId());
+        verify(similarArtistService, times(1)).removeFollow(user1.getId(), artist1.getId());
+        verify(feedService, times(1)).removeFollow(user1.getId(), artist1.getId());
     }
 
     @Test
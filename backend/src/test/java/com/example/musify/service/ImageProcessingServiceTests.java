@@ -0,0 +1,84 @@
+package com.example.musify.service;
+
+import com.example.musify.enumeration.EImageVariant;
+import com.example.musify.service.impl.ImageProcessingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ImageProcessingServiceTests {
+    @TempDir
+    private Path tempDir;
+
+    private ImageProcessingServiceImpl imageProcessingService;
+
+    @BeforeEach
+    void setup() {
+        imageProcessingService = new ImageProcessingServiceImpl(10_000_000, 0.8f, 1);
+    }
+
+    @Test
+    void testCreateVariants_ScalesEachVariantToItsMaxSize() throws IOException {
+        Path source = png("cover.png", 3200, 1600);
+
+        Map<EImageVariant, Path> variants = imageProcessingService.createVariants(source,
+                EnumSet.allOf(EImageVariant.class));
+
+        assertThat(variants).containsOnlyKeys(EImageVariant.values());
+        assertThat(read(variants.get(EImageVariant.FULL))).satisfies(image -> {
+            assertThat(image.getWidth()).isEqualTo(1600);
+            assertThat(image.getHeight()).isEqualTo(800);
+        });
+        assertThat(read(variants.get(EImageVariant.CARD)).getWidth()).isEqualTo(480);
+        assertThat(read(variants.get(EImageVariant.THUMBNAIL)).getWidth()).isEqualTo(160);
+        assertThat(variants.get(EImageVariant.CARD).getFileName().toString()).isEqualTo("cover-card.jpg");
+    }
+
+    @Test
+    void testCreateVariants_DoesNotUpscaleSmallImages() throws IOException {
+        Path source = png("avatar.png", 100, 50);
+
+        Map<EImageVariant, Path> variants = imageProcessingService.createVariants(source,
+                EnumSet.of(EImageVariant.THUMBNAIL, EImageVariant.FULL));
+
+        assertThat(variants).containsOnlyKeys(EImageVariant.THUMBNAIL, EImageVariant.FULL);
+        assertThat(read(variants.get(EImageVariant.FULL)).getWidth()).isEqualTo(100);
+        assertThat(read(variants.get(EImageVariant.THUMBNAIL)).getWidth()).isEqualTo(100);
+    }
+
+    @Test
+    void testCreateVariants_WhenFormatUnsupported_ReturnsEmpty() throws IOException {
+        Path source = Files.write(tempDir.resolve("cover.webp"), "not-an-image".getBytes());
+
+        assertThat(imageProcessingService.createVariants(source, EnumSet.allOf(EImageVariant.class))).isEmpty();
+    }
+
+    @Test
+    void testCreateVariants_WhenTooManyPixels_Throws() throws IOException {
+        Path source = png("huge.png", 4000, 3000);
+
+        assertThrows(IOException.class, () ->
+                imageProcessingService.createVariants(source, EnumSet.allOf(EImageVariant.class)));
+    }
+
+    private Path png(String name, int width, int height) throws IOException {
+        Path file = tempDir.resolve(name);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", file.toFile());
+        return file;
+    }
+
+    private static BufferedImage read(Path file) throws IOException {
+        return ImageIO.read(file.toFile());
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.musify.service;
+
+import com.example.musify.entity.*;
+import com.example.musify.mapper.DtoMapperImpl;
+import com.example.musify.repository.*;
+import com.example.musify.service.impl.AlbumRatingServiceImpl;
+import com.example.musify.service.impl.AlbumServiceImpl;
+import com.example.musify.service.impl.ArtistServiceImpl;
+import com.example.musify.service.impl.CatalogCacheServiceImpl;
+import com.example.musify.service.impl.ReviewServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.time.Year;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AlbumServiceImpl.class, ArtistServiceImpl.class, ReviewServiceImpl.class,
+        AlbumRatingServiceImpl.class, CatalogCacheServiceImpl.class, DtoMapperImpl.class})
+public class QueryCountTests {
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private IAlbumService albumService;
+    @Autowired
+    private IArtistService artistService;
+    @Autowired
+    private IReviewService reviewService;
+    @Autowired
+    private IAlbumRatingService albumRatingService;
+    @Autowired
+    private GenreRepository genreRepository;
+    @Autowired
+    private ArtistRepository artistRepository;
+    @Autowired
+    private AlbumRepository albumRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private AlbumRatingRepository albumRatingRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private IFileUploadService fileUploadService;
+    @MockBean
+    private IUtilService utilService;
+    @MockBean
+    private ISearchService searchService;
+    @MockBean
+    private IAutocompleteService autocompleteService;
+    @MockBean
+    private IRecommendationService recommendationService;
+    @MockBean
+    private IFeedService feedService;
+    @MockBean
+    private IChartService chartService;
+
+    private Genre genre1;
+    private User user1;
+
+    @BeforeEach
+    void setup() {
+        genre1 = genreRepository.save(Genre.builder().name("Rock").slug("rock").build());
+        Genre genre2 = genreRepository.save(Genre.builder().name("Jazz").slug("jazz").build());
+
+        user1 = userRepository.save(User.builder()
+                .username("queryUser")
+                .email("queryuser@test.com")
+                .password("password")
+                .build());
+
+        for (int i = 0; i < PAGE_SIZE + 5; i++) {
+            Artist artist = artistRepository.save(Artist.builder()
+                    .createdAt(Instant.now())
+                    .formedYear(Year.of(1990 + i))
+                    .artistGenres(new HashSet<>(Set.of(genre1, genre2)))
+                    .name("Artist " + i)
+                    .slug("artist-" + i)
+                    .build());
+
+            Album album = albumRepository.save(Album.builder()
+                    .title("Album " + i)
+                    .artist(artist)
+                    .albumGenres(new HashSet<>(Set.of(genre1, genre2)))
+                    .slug("album-" + i)
+                    .originCountry("country")
+                    .createdAt(Instant.now())
+                    .rating(1.0 + i % 5)
+                    .build());
+
+            reviewRepository.save(Review.builder()
+                    .title("Review " + i)
+                    .content("Content " + i)
+                    .rating(4.0)
+                    .album(album)
+                    .user(user1)
+                    .build());
+
+            albumRatingRepository.save(AlbumRating.builder()
+                    .album(album)
+                    .user(user1)
+                    .rating(4.0)
+                    .build());
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics().clear();
+    }
+
+    @Test
+    void testGetAlbums_QueryCount() {
+        assertThat(albumService.getAlbums(1).getContent()).hasSize(PAGE_SIZE);
+        assertMaxQueries(3);
+    }
+
+    @Test
+    void testGetAlbumsByCursor_QueryCount() {
+        assertThat(albumService.getAlbumsByCursor(null, false).getContent()).hasSize(PAGE_SIZE);
+        assertMaxQueries(3);
+    }
+
+    @Test
+    void testGetAlbumsByGenre_QueryCount() {
+        assertThat(albumService.getAlbumsByGenre(genre1.getSlug(), 1).getContent()).hasSize(6);
+        assertMaxQueries(4);
+    }
+
+    @Test
+    void testGetArtists_QueryCount() {
+        assertThat(artistService.getArtists(1).getContent()).hasSize(PAGE_SIZE);
+        assertMaxQueries(3);
+    }
+
+    @Test
+    void testGetArtistsByGenre_QueryCount() {
+        assertThat(artistService.getArtistsByGenre(genre1.getSlug(), 1).getContent()).hasSize(PAGE_SIZE);
+        assertMaxQueries(3);
+    }
+
+    @Test
+    void testGetReviews_QueryCount() {
+        assertThat(reviewService.getReviews(1).getContent()).hasSize(PAGE_SIZE);
+        assertMaxQueries(3);
+    }
+
+    @Test
+    void testGetAlbumRatingsByUser_QueryCount() {
+        assertThat(albumRatingService.getAlbumRatingsByUser(user1.getId())).hasSize(PAGE_SIZE + 5);
+        assertMaxQueries(1);
+    }
+
+    @Test
+    void testGetMostRecentAlbumRatings_QueryCount() {
+        assertThat(albumRatingService.getMostRecentAlbumRatings()).isNotEmpty();
+        assertMaxQueries(1);
+    }
+
+    private void assertMaxQueries(long maxQueries) {
+        assertThat(statistics().getPrepareStatementCount()).isLessThanOrEqualTo(maxQueries);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
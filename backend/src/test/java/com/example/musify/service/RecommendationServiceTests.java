@@ -0,0 +1,196 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.RatingEntryDto;
+import com.example.musify.dto.response.RecommendedAlbumDto;
+import com.example.musify.entity.User;
+import com.example.musify.repository.AlbumRatingRepository;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.FollowerRepository;
+import com.example.musify.service.impl.RecommendationServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RecommendationServiceTests {
+    @Mock
+    private AlbumRatingRepository albumRatingRepository;
+    @Mock
+    private FollowerRepository followerRepository;
+    @Mock
+    private AlbumRepository albumRepository;
+    @Mock
+    private IUtilService utilService;
+
+    @InjectMocks
+    private RecommendationServiceImpl recommendationService;
+
+    private final UUID artistX = UUID.randomUUID();
+    private final UUID artistY = UUID.randomUUID();
+    private final UUID artistZ = UUID.randomUUID();
+    private final UUID albumA = UUID.randomUUID();
+    private final UUID albumB = UUID.randomUUID();
+    private final UUID albumC = UUID.randomUUID();
+    private final UUID albumD = UUID.randomUUID();
+    private final Map<UUID, UUID> artists = Map.of(albumA, artistX, albumB, artistX, albumC, artistY, albumD, artistZ);
+    private final List<User> users = new ArrayList<>();
+    private final List<RatingEntryDto> ratings = new ArrayList<>();
+
+    // A and B are liked together, C is disliked by A's fans, and D shares a single lukewarm rater with B.
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < 4; i++) {
+            users.add(User.builder().id(UUID.randomUUID()).username("user" + i).build());
+        }
+        rate(0, albumA, 5.0);
+        rate(0, albumB, 5.0);
+        rate(0, albumC, 1.0);
+        rate(1, albumA, 5.0);
+        rate(1, albumB, 4.0);
+        rate(1, albumC, 2.0);
+        rate(2, albumA, 4.0);
+        rate(2, albumB, 5.0);
+        rate(2, albumD, 3.0);
+        rate(3, albumA, 5.0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void rate(int user, UUID album, double rating) {
+        ratings.add(new RatingEntryDto(UUID.randomUUID(), users.get(user).getId(), album, artists.get(album), rating));
+        recommendationService.recordRating(users.get(user).getId(), album, artists.get(album), rating);
+    }
+
+    private void givenAlbumDetails() {
+        given(albumRepository.findRecommendedAlbumsByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> new RecommendedAlbumDto(id, "Album", "album", null, "Artist", "artist", 4.0, 3L, null))
+                    .toList();
+        });
+    }
+
+    @Test
+    void testGetSimilarAlbums_OnlyPositivelyCorrelated() {
+        givenAlbumDetails();
+
+        List<RecommendedAlbumDto> result = recommendationService.getSimilarAlbums(albumA, 10);
+
+        assertThat(result).extracting(RecommendedAlbumDto::getId).containsExactly(albumB);
+        assertThat(result.get(0).getScore()).isPositive();
+    }
+
+    @Test
+    void testGetRecommendations_FromSimilarAlbums_ExcludesRated() {
+        givenAlbumDetails();
+        given(utilService.getCurrentUser()).willReturn(users.get(3));
+
+        List<RecommendedAlbumDto> result = recommendationService.getRecommendations(10);
+
+        assertThat(result).extracting(RecommendedAlbumDto::getId).containsExactly(albumB);
+    }
+
+    @Test
+    void testGetRecommendations_BoostsFollowedArtists() {
+        givenAlbumDetails();
+        given(utilService.getCurrentUser()).willReturn(users.get(3));
+
+        recommendationService.recordFollow(users.get(3).getId(), artistY);
+
+        assertThat(recommendationService.getRecommendations(10)).extracting(RecommendedAlbumDto::getId)
+                .containsExactly(albumC, albumB);
+
+        recommendationService.removeFollow(users.get(3).getId(), artistY);
+
+        assertThat(recommendationService.getRecommendations(10)).extracting(RecommendedAlbumDto::getId)
+                .containsExactly(albumB);
+    }
+
+    @Test
+    void testRecordRating_RemovesAlbumFromRecommendations() {
+        given(utilService.getCurrentUser()).willReturn(users.get(3));
+
+        recommendationService.recordRating(users.get(3).getId(), albumB, artistX, 5.0);
+
+        assertThat(recommendationService.getRecommendations(10)).isEmpty();
+        verify(albumRepository, never()).findRecommendedAlbumsByIdIn(any());
+    }
+
+    @Test
+    void testRemoveRating_UpdatesNeighbours() {
+        recommendationService.removeRating(users.get(0).getId(), albumB);
+        recommendationService.removeRating(users.get(1).getId(), albumB);
+        recommendationService.removeRating(users.get(2).getId(), albumB);
+
+        assertThat(recommendationService.getSimilarAlbums(albumA, 10)).isEmpty();
+    }
+
+    @Test
+    void testGetRecommendations_WhenUserUnknown_ReturnsEmpty() {
+        given(utilService.getCurrentUser()).willReturn(User.builder().id(UUID.randomUUID()).build());
+
+        assertThat(recommendationService.getRecommendations(10)).isEmpty();
+    }
+
+    @Test
+    void testGetSimilarAlbums_SkipsDeletedAlbums() {
+        given(albumRepository.findRecommendedAlbumsByIdIn(anyCollection())).willReturn(List.of());
+
+        assertThat(recommendationService.getSimilarAlbums(albumA, 10)).isEmpty();
+    }
+
+    @Test
+    void testRecordRating_InsideTransaction_AppliesAfterCommit() {
+        givenAlbumDetails();
+        UUID albumE = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        recommendationService.recordRating(users.get(0).getId(), albumE, artistZ, 5.0);
+        recommendationService.recordRating(users.get(1).getId(), albumE, artistZ, 5.0);
+
+        assertThat(recommendationService.getSimilarAlbums(albumE, 10)).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(recommendationService.getSimilarAlbums(albumE, 10)).extracting(RecommendedAlbumDto::getId)
+                .contains(albumA);
+    }
+
+    @Test
+    void testRebuild_MatchesIncrementalModel() {
+        givenAlbumDetails();
+        given(albumRatingRepository.findFirstRatingEntries(any(Pageable.class))).willReturn(ratings);
+        given(followerRepository.findFirstFollowEntries(any(Pageable.class))).willReturn(List.of());
+
+        List<RecommendedAlbumDto> incremental = recommendationService.getSimilarAlbums(albumA, 10);
+        recommendationService.rebuild();
+        List<RecommendedAlbumDto> rebuilt = recommendationService.getSimilarAlbums(albumA, 10);
+
+        assertThat(rebuilt).extracting(RecommendedAlbumDto::getId)
+                .containsExactlyElementsOf(incremental.stream().map(RecommendedAlbumDto::getId).toList());
+        assertThat(rebuilt.get(0).getScore()).isCloseTo(incremental.get(0).getScore(),
+                offset(0.05));
+    }
+}
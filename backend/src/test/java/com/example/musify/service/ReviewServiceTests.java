@@ -2,13 +2,16 @@ package com.example.musify.service;
 
 import com.example.musify.dto.request.CreateReviewDto;
 import com.example.musify.dto.request.UpdateReviewDto;
+import com.example.musify.dto.response.CursorPageDto;
 import com.example.musify.dto.response.PageDto;
 import com.example.musify.dto.response.ReviewDto;
 import com.example.musify.entity.*;
 import com.example.musify.exception.ResourceAlreadyExistsException;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.*;
 import com.example.musify.service.impl.ReviewServiceImpl;
+import com.example.musify.util.CursorUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,7 +19,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +29,8 @@ import java.time.Year;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -46,8 +51,12 @@ public class ReviewServiceTests {
     private ReviewRepository reviewRepository;
     @Mock
     private IUtilService utilService;
+    @Mock
+    private ISearchService searchService;
+    @Mock
+    private IFeedService feedService;
     @Spy
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper = Mappers.getMapper(DtoMapper.class);
 
     @InjectMocks
     private ReviewServiceImpl reviewService;
@@ -130,15 +139,39 @@ public class ReviewServiceTests {
 
     @Test
     void testGetReviews() {
-        given(reviewRepository.findAll(any(Pageable.class))).willReturn(
-                new PageImpl<>(List.of(review1)));
+        ReviewDto reviewDto = dtoMapper.toReviewDto(review1);
+        given(reviewRepository.findReviewDtos(any(Pageable.class))).willReturn(
+                new PageImpl<>(List.of(reviewDto)));
 
         PageDto<ReviewDto> result = reviewService.getReviews(1);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent().size()).isEqualTo(1);
 
-        verify(reviewRepository, times(1)).findAll(any(Pageable.class));
+        verify(reviewRepository, times(1)).findReviewDtos(any(Pageable.class));
+        verify(albumRepository, times(1)).fillGenres(List.of(reviewDto.getAlbum()));
+        verify(reviewRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void testGetReviewsByCursor_FirstPage() {
+        List<Review> reviews = IntStream.range(0, 21)
+                .mapToObj(i -> Review.builder()
+                        .id(UUID.randomUUID())
+                        .title("Review " + i)
+                        .createdAt(Instant.now().minusSeconds(i))
+                        .build())
+                .toList();
+        given(reviewRepository.findFirstByCreatedAtCursor(any(Pageable.class))).willReturn(reviews);
+        given(reviewRepository.count()).willReturn(21L);
+
+        CursorPageDto<ReviewDto> result = reviewService.getReviewsByCursor(null, true);
+
+        assertThat(result.getContent()).hasSize(20);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isEqualTo(21L);
+        assertThat(CursorUtils.decode(result.getNextCursor()).instantValue())
+                .isEqualTo(reviews.get(19).getCreatedAt());
     }
 
     @Test
@@ -227,6 +260,7 @@ public class ReviewServiceTests {
 
         verify(albumRepository, times(1)).findById(album1.getId());
         verify(reviewRepository, times(1)).existsReviewByAlbumAndUser(album1, user1);
+        verify(feedService, times(1)).publishReview(any(Review.class));
     }
 
     @Test
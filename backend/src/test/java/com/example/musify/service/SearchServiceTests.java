@@ -0,0 +1,250 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.AlbumDto;
+import com.example.musify.dto.response.ArtistDto;
+import com.example.musify.dto.response.GenreDto;
+import com.example.musify.dto.response.ReviewDto;
+import com.example.musify.dto.response.SearchResultDto;
+import com.example.musify.entity.Artist;
+import com.example.musify.entity.Genre;
+import com.example.musify.enumeration.ESearchType;
+import com.example.musify.mapper.DtoMapper;
+import com.example.musify.repository.AlbumRepository;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.ReviewRepository;
+import com.example.musify.service.impl.SearchServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Year;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceTests {
+    @Mock
+    private AlbumRepository albumRepository;
+    @Mock
+    private ArtistRepository artistRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Spy
+    private DtoMapper dtoMapper = Mappers.getMapper(DtoMapper.class);
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    private ArtistDto artist1;
+    private AlbumDto album1;
+    private AlbumDto album2;
+    private ReviewDto review1;
+
+    @BeforeEach
+    void setup() {
+        artist1 = ArtistDto.builder()
+                .id(UUID.randomUUID())
+                .name("Björk")
+                .slug("bjork")
+                .artistGenres(Set.of(GenreDto.builder().name("Electronic").build()))
+                .build();
+
+        album1 = AlbumDto.builder()
+                .id(UUID.randomUUID())
+                .title("Homogenic")
+                .slug("homogenic")
+                .genres(Set.of(Genre.builder().name("Trip Hop").build()))
+                .artistId(artist1.getId())
+                .artistName(artist1.getName())
+                .artistSlug(artist1.getSlug())
+                .build();
+
+        album2 = AlbumDto.builder()
+                .id(UUID.randomUUID())
+                .title("Homework")
+                .slug("homework")
+                .genres(Set.of(Genre.builder().name("House").build()))
+                .artistId(UUID.randomUUID())
+                .artistName("Daft Punk")
+                .artistSlug("daft-punk")
+                .build();
+
+        review1 = ReviewDto.builder()
+                .id(UUID.randomUUID())
+                .title("Icelandic strings")
+                .content("Jóga is the best opener of the decade.")
+                .album(album1)
+                .build();
+
+        searchService.indexArtist(artist1);
+        searchService.indexAlbum(album1);
+        searchService.indexAlbum(album2);
+        searchService.indexReview(review1);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testSearch_ExactTitle_RanksAlbumAboveItsReviews() {
+        List<SearchResultDto> result = searchService.search("homogenic", 10);
+
+        assertThat(result).extracting(SearchResultDto::getId).containsExactly(album1.getId(), review1.getId());
+        assertThat(result.get(0).getType()).isEqualTo(ESearchType.ALBUM);
+        assertThat(result.get(0).getSubtitle()).isEqualTo("Björk");
+        assertThat(result.get(0).getArtistSlug()).isEqualTo("bjork");
+    }
+
+    @Test
+    void testSearch_MatchesLastTokenAsPrefix() {
+        List<SearchResultDto> result = searchService.search("hom", 10);
+
+        assertThat(result).extracting(SearchResultDto::getId)
+                .containsExactlyInAnyOrder(album1.getId(), album2.getId(), review1.getId());
+    }
+
+    @Test
+    void testSearch_ToleratesOneTypoPerToken() {
+        assertThat(searchService.search("homogneic", 10)).extracting(SearchResultDto::getId)
+                .containsExactly(album1.getId(), review1.getId());
+        assertThat(searchService.search("dafr punk", 10)).extracting(SearchResultDto::getId)
+                .containsExactly(album2.getId());
+    }
+
+    @Test
+    void testSearch_IgnoresCaseAndDiacritics() {
+        List<SearchResultDto> result = searchService.search("BJORK", 10);
+
+        assertThat(result).extracting(SearchResultDto::getType)
+                .containsExactly(ESearchType.ARTIST, ESearchType.ALBUM);
+    }
+
+    @Test
+    void testSearch_RequiresEveryMatchedToken() {
+        List<SearchResultDto> result = searchService.search("bjork homework", 10);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void testSearch_FindsReviewsByContentAndLinksToAlbum() {
+        List<SearchResultDto> result = searchService.search("joga opener", 10);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getType()).isEqualTo(ESearchType.REVIEW);
+        assertThat(result.get(0).getSlug()).isEqualTo("homogenic");
+        assertThat(result.get(0).getArtistSlug()).isEqualTo("bjork");
+    }
+
+    @Test
+    void testSearch_WhenQueryBlank_ReturnsEmpty() {
+        assertThat(searchService.search("  ", 10)).isEmpty();
+        assertThat(searchService.search(null, 10)).isEmpty();
+    }
+
+    @Test
+    void testIndexAlbum_WhenUpdated_ReplacesOldTerms() {
+        album1.setTitle("Vespertine");
+
+        searchService.indexAlbum(album1);
+
+        assertThat(searchService.search("homogenic", 10)).isEmpty();
+        assertThat(searchService.search("vespertine", 10)).extracting(SearchResultDto::getId)
+                .containsExactly(album1.getId(), review1.getId());
+    }
+
+    @Test
+    void testIndexArtist_WhenRenamed_UpdatesAlbumsAndReviews() {
+        artist1.setName("Bjork Gudmundsdottir");
+        artist1.setSlug("bjork-gudmundsdottir");
+
+        searchService.indexArtist(artist1);
+
+        List<SearchResultDto> albums = searchService.search("gudmundsdottir homogenic", 10);
+        assertThat(albums).extracting(SearchResultDto::getId).containsExactly(album1.getId());
+        assertThat(albums.get(0).getArtistSlug()).isEqualTo("bjork-gudmundsdottir");
+        assertThat(searchService.search("joga", 10).get(0).getArtistSlug()).isEqualTo("bjork-gudmundsdottir");
+    }
+
+    @Test
+    void testRemoveArtist_RemovesItsAlbumsAndReviews() {
+        searchService.removeArtist(artist1.getId());
+
+        assertThat(searchService.search("bjork", 10)).isEmpty();
+        assertThat(searchService.search("joga", 10)).isEmpty();
+        assertThat(searchService.search("homework", 10)).extracting(SearchResultDto::getId)
+                .containsExactly(album2.getId());
+    }
+
+    @Test
+    void testIndexAlbum_InsideTransaction_AppliesAfterCommit() {
+        AlbumDto album = AlbumDto.builder()
+                .id(UUID.randomUUID())
+                .title("Discovery")
+                .slug("discovery")
+                .genres(new HashSet<>())
+                .artistId(album2.getArtistId())
+                .artistName("Daft Punk")
+                .artistSlug("daft-punk")
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        searchService.indexAlbum(album);
+
+        assertThat(searchService.search("discovery", 10)).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(searchService.search("discovery", 10)).extracting(SearchResultDto::getId)
+                .containsExactly(album.getId());
+    }
+
+    @Test
+    void testRebuild_LoadsEveryDocumentFromRepositories() {
+        Artist artist = Artist.builder()
+                .id(UUID.randomUUID())
+                .name("Radiohead")
+                .slug("radiohead")
+                .formedYear(Year.of(1985))
+                .artistGenres(new HashSet<>())
+                .build();
+        AlbumDto album = AlbumDto.builder()
+                .id(UUID.randomUUID())
+                .title("Kid A")
+                .slug("kid-a")
+                .genres(new HashSet<>())
+                .artistId(artist.getId())
+                .artistName("Radiohead")
+                .artistSlug("radiohead")
+                .build();
+        given(artistRepository.findFirstIds(any(Pageable.class))).willReturn(List.of(artist.getId()));
+        given(artistRepository.findWithGenresByIdIn(List.of(artist.getId()))).willReturn(List.of(artist));
+        given(albumRepository.findFirstAlbumDtos(any(Pageable.class))).willReturn(List.of(album));
+        given(reviewRepository.findFirstReviewDtos(any(Pageable.class))).willReturn(List.of());
+
+        searchService.rebuild();
+
+        assertThat(searchService.search("radiohead", 10)).extracting(SearchResultDto::getId)
+                .containsExactly(artist.getId(), album.getId());
+        assertThat(searchService.search("homogenic", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.musify.service;
+
+import com.example.musify.dto.response.ArtistGenreEntryDto;
+import com.example.musify.dto.response.FollowEntryDto;
+import com.example.musify.dto.response.SimilarArtistDto;
+import com.example.musify.dto.response.SimilarArtistEntryDto;
+import com.example.musify.entity.Artist;
+import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.repository.ArtistRepository;
+import com.example.musify.repository.FollowerRepository;
+import com.example.musify.repository.SimilarArtistRepository;
+import com.example.musify.service.impl.SimilarArtistServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SimilarArtistServiceTests {
+    @Mock
+    private ArtistRepository artistRepository;
+    @Mock
+    private FollowerRepository followerRepository;
+    @Mock
+    private SimilarArtistRepository similarArtistRepository;
+
+    @InjectMocks
+    private SimilarArtistServiceImpl similarArtistService;
+
+    private final UUID rock = UUID.randomUUID();
+    private final UUID jazz = UUID.randomUUID();
+    private final UUID pop = UUID.randomUUID();
+    private final UUID artistA = UUID.randomUUID();
+    private final UUID artistB = UUID.randomUUID();
+    private final UUID artistC = UUID.randomUUID();
+    private final UUID artistD = UUID.randomUUID();
+    private final UUID artistE = UUID.randomUUID();
+    private final List<UUID> users = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            UUID.randomUUID());
+    private final List<FollowEntryDto> follows = new ArrayList<>();
+
+    // A and B are both rock, E is rock and jazz, C is jazz and D is pop. D shares two followers with A, B shares one.
+    @BeforeEach
+    void setup() {
+        follow(0, artistA);
+        follow(0, artistD);
+        follow(1, artistA);
+        follow(1, artistD);
+        follow(2, artistA);
+        follow(2, artistB);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void follow(int user, UUID artist) {
+        follows.add(new FollowEntryDto(UUID.randomUUID(), users.get(user), artist));
+    }
+
+    private Map<UUID, List<UUID>> rebuild() {
+        given(artistRepository.findArtistGenreEntries()).willReturn(List.of(
+                new ArtistGenreEntryDto(artistA, rock),
+                new ArtistGenreEntryDto(artistB, rock),
+                new ArtistGenreEntryDto(artistC, jazz),
+                new ArtistGenreEntryDto(artistD, pop),
+                new ArtistGenreEntryDto(artistE, rock),
+                new ArtistGenreEntryDto(artistE, jazz)));
+        given(followerRepository.findFirstFollowEntries(any(Pageable.class))).willReturn(List.copyOf(follows));
+        clearInvocations(similarArtistRepository);
+        similarArtistService.rebuild();
+
+        ArgumentCaptor<List<SimilarArtistEntryDto>> entries = ArgumentCaptor.captor();
+        verify(similarArtistRepository).replaceAllSimilarArtists(entries.capture());
+        return rows(entries.getValue());
+    }
+
+    private Map<UUID, List<UUID>> flush() {
+        clearInvocations(similarArtistRepository);
+        similarArtistService.flush();
+
+        ArgumentCaptor<Collection<UUID>> artistIds = ArgumentCaptor.captor();
+        ArgumentCaptor<List<SimilarArtistEntryDto>> entries = ArgumentCaptor.captor();
+        verify(similarArtistRepository).replaceSimilarArtists(artistIds.capture(), entries.capture());
+        Map<UUID, List<UUID>> rows = rows(entries.getValue());
+        artistIds.getValue().forEach(artistId -> rows.putIfAbsent(artistId, List.of()));
+        return rows;
+    }
+
+    private static Map<UUID, List<UUID>> rows(List<SimilarArtistEntryDto> entries) {
+        return entries.stream()
+                .sorted(Comparator.comparing(SimilarArtistEntryDto::getPosition))
+                .collect(Collectors.groupingBy(SimilarArtistEntryDto::getArtistId, LinkedHashMap::new,
+                        Collectors.mapping(SimilarArtistEntryDto::getSimilarArtistId, Collectors.toList())));
+    }
+
+    @Test
+    void testRebuild_CombinesGenreOverlapAndCoFollows() {
+        Map<UUID, List<UUID>> rows = rebuild();
+
+        // B shares the genre and a follower, E only half the genres, D only followers; C shares neither.
+        assertThat(rows.get(artistA)).containsExactly(artistB, artistE, artistD);
+        assertThat(rows.get(artistD)).containsExactly(artistA);
+        assertThat(rows.get(artistC)).containsExactly(artistE);
+    }
+
+    @Test
+    void testRecordFollow_PatchesBothArtistsAndFlushesOnlyChangedRows() {
+        rebuild();
+
+        similarArtistService.recordFollow(users.get(3), artistC);
+        similarArtistService.recordFollow(users.get(3), artistA);
+        Map<UUID, List<UUID>> rows = flush();
+
+        assertThat(rows.get(artistA)).containsExactly(artistB, artistE, artistD, artistC);
+        assertThat(rows.get(artistC)).containsExactly(artistE, artistA);
+        // E only scores against A on genres, so its row is not rewritten.
+        assertThat(rows).doesNotContainKey(artistE);
+    }
+
+    @Test
+    void testRemoveFollow_DropsFollowOnlyNeighbour() {
+        rebuild();
+
+        similarArtistService.removeFollow(users.get(0), artistD);
+        similarArtistService.removeFollow(users.get(1), artistD);
+        Map<UUID, List<UUID>> rows = flush();
+
+        assertThat(rows.get(artistA)).containsExactly(artistB, artistE);
+        assertThat(rows.get(artistD)).isEmpty();
+    }
+
+    @Test
+    void testRemoveArtist_DropsItFromEveryRow() {
+        rebuild();
+
+        similarArtistService.removeArtist(artistB);
+        Map<UUID, List<UUID>> rows = flush();
+
+        assertThat(rows.get(artistA)).containsExactly(artistE, artistD);
+        assertThat(rows).doesNotContainKey(artistB);
+        assertThat(rows.values()).allSatisfy(row -> assertThat(row).doesNotContain(artistB));
+    }
+
+    @Test
+    void testRecordFollow_MatchesRebuild() {
+        rebuild();
+        similarArtistService.recordFollow(users.get(3), artistC);
+        similarArtistService.recordFollow(users.get(3), artistA);
+        similarArtistService.recordFollow(users.get(3), artistD);
+        Map<UUID, List<UUID>> incremental = flush();
+
+        follow(3, artistC);
+        follow(3, artistA);
+        follow(3, artistD);
+        Map<UUID, List<UUID>> rebuilt = rebuild();
+
+        assertThat(incremental.get(artistA)).containsExactlyElementsOf(rebuilt.get(artistA));
+        assertThat(incremental.get(artistC)).containsExactlyElementsOf(rebuilt.get(artistC));
+    }
+
+    @Test
+    void testRecordFollow_InsideTransaction_AppliesAfterCommit() {
+        rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        similarArtistService.recordFollow(users.get(3), artistC);
+        similarArtistService.flush();
+
+        verify(similarArtistRepository, never()).replaceSimilarArtists(anyCollection(), anyList());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(flush()).containsKey(artistC);
+    }
+
+    @Test
+    void testFlush_WhenWriteFails_RetriesOnNextFlush() {
+        rebuild();
+        similarArtistService.recordFollow(users.get(3), artistC);
+        willThrow(new DataAccessResourceFailureException("down"))
+                .given(similarArtistRepository).replaceSimilarArtists(anyCollection(), anyList());
+
+        assertThrows(DataAccessResourceFailureException.class, () -> similarArtistService.flush());
+
+        willDoNothing().given(similarArtistRepository).replaceSimilarArtists(anyCollection(), anyList());
+        assertThat(flush()).containsKey(artistC);
+    }
+
+    @Test
+    void testGetSimilarArtists_ClampsLimit() {
+        List<SimilarArtistDto> similarArtists = List.of(SimilarArtistDto.builder().slug("artist-b").build());
+        given(similarArtistRepository.findSimilarArtists("artist-a", PageRequest.of(0, 20)))
+                .willReturn(similarArtists);
+
+        assertThat(similarArtistService.getSimilarArtists("artist-a", 500)).isEqualTo(similarArtists);
+        verify(artistRepository, never()).findBySlug(any());
+    }
+
+    @Test
+    void testGetSimilarArtists_WhenNoneComputed_ReturnsEmpty() {
+        given(similarArtistRepository.findSimilarArtists("artist-a", PageRequest.of(0, 10))).willReturn(List.of());
+        given(artistRepository.findBySlug("artist-a")).willReturn(Optional.of(new Artist()));
+
+        assertThat(similarArtistService.getSimilarArtists("artist-a", 10)).isEmpty();
+    }
+
+    @Test
+    void testGetSimilarArtists_WhenArtistNotFound_ThrowsResourceNotFoundException() {
+        given(similarArtistRepository.findSimilarArtists("missing", PageRequest.of(0, 10))).willReturn(List.of());
+        given(artistRepository.findBySlug("missing")).willReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> similarArtistService.getSimilarArtists("missing", 10));
+    }
+}
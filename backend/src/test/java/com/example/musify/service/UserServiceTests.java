@@ -1,6 +1,7 @@
 package com.example.musify.service;
 
 import com.example.musify.auth.dto.response.MessageDto;
+import com.example.musify.auth.service.TokenRevocationService;
 import com.example.musify.dto.request.UpdatePasswordDto;
 import com.example.musify.dto.request.UpdateUserDto;
 import com.example.musify.dto.request.UserRoleDto;
@@ -10,7 +11,9 @@ import com.example.musify.entity.Role;
 import com.example.musify.entity.User;
 import com.example.musify.enumeration.ERole;
 import com.example.musify.exception.ResourceNotFoundException;
+import com.example.musify.mapper.DtoMapper;
 import com.example.musify.repository.AlbumListRepository;
+import com.example.musify.repository.AlbumRatingRepository;
 import com.example.musify.repository.RoleRepository;
 import com.example.musify.repository.UserRepository;
 import com.example.musify.service.impl.UserServiceImpl;
@@ -21,7 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.factory.Mappers;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -49,10 +52,14 @@ public class UserServiceTests {
     @Mock
     private AlbumListRepository albumListRepository;
     @Mock
+    private AlbumRatingRepository albumRatingRepository;
+    @Mock
     private IUtilService utilService;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
 
     @Spy
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper = Mappers.getMapper(DtoMapper.class);
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -172,13 +179,14 @@ public class UserServiceTests {
         MultipartFile file = mock(MultipartFile.class);
 
         given(utilService.getCurrentUser()).willReturn(user1);
-        given(fileUploadService.uploadUserImageFile(file)).willReturn("testImageUrl");
 
         UpdatedUserDto result = userService.updateUser(updateUserDto, file);
 
         assertThat(result).isNotNull();
         assertThat(result.getUsername()).isEqualTo(updateUserDto.getUsername());
-        assertThat(result.getImageUrl()).isEqualTo("testImageUrl");
+        assertThat(result.getImageUrl()).isEqualTo(user1.getImageUrl());
+
+        verify(fileUploadService, times(1)).uploadUserImageFile(user1, file);
     }
 
     @Test
@@ -211,6 +219,7 @@ public class UserServiceTests {
 
         verify(userRepository, times(1)).findById(user1.getId());
         verify(roleRepository, times(1)).findByName(ERole.ROLE_ADMIN);
+        verify(tokenRevocationService, times(1)).revokeAllUserTokens(user1.getId());
     }
 
     @Test
@@ -236,6 +245,7 @@ public class UserServiceTests {
 
         verify(userRepository, times(1)).findById(user1.getId());
         verify(roleRepository, times(1)).findByName(ERole.ROLE_ADMIN);
+        verify(tokenRevocationService, times(1)).revokeAllUserTokens(user1.getId());
     }
 
     @Test
@@ -262,6 +272,8 @@ public class UserServiceTests {
         assertThat(result.getMessage()).isEqualTo("User deleted.");
 
         verify(userRepository, times(1)).findById(user1.getId());
+        verify(albumRatingRepository, times(1)).removeUserRatingsFromAlbums(user1.getId());
+        verify(tokenRevocationService, times(1)).revokeAllUserTokens(user1.getId());
     }
 
     @Test